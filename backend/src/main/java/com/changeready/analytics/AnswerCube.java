@@ -0,0 +1,390 @@
+package com.changeready.analytics;
+
+import com.changeready.entity.Department;
+import com.changeready.entity.SurveyInstance;
+import com.changeready.template.TemplateIndex;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Spaltenbasierter In-Memory-Speicher aller abgegebenen Antworten einer Company.
+ *
+ * Jede Antwort ist eine Zeile über parallele primitive Arrays (Wert, Frage-Slot, Department, ParticipantType,
+ * Abgabetag als Epoch-Day, Instanz-ID, Template). Auswertungen laufen als einfache Schleifen über diese Arrays
+ * statt über SurveyAnswer-Entity-Graphen. Die Zeilen einer Instanz liegen zusammenhängend; gelöschte Instanzen
+ * werden als Tombstone markiert und bei Bedarf kompaktiert.
+ *
+ * Frage-Slots beziehen sich auf den {@link TemplateIndex}, mit dem die Zeilen aufgenommen wurden.
+ * Abfragen mit einer anderen Template-Version liefern null (Cube ist veraltet und muss neu geladen werden).
+ */
+public final class AnswerCube {
+
+	/**
+	 * Maske für "alle Departments" bzw. "alle ParticipantTypes"
+	 */
+	public static final int ALL = -1;
+
+	/**
+	 * Frage-Slot für Antworten, deren Frage-ID im Template nicht (mehr) existiert
+	 */
+	private static final int UNKNOWN_SLOT = -1;
+	private static final short TOMBSTONE = -1;
+	private static final int INITIAL_CAPACITY = 256;
+	private static final int BYTES_PER_ROW = Byte.BYTES + Integer.BYTES + Byte.BYTES + Byte.BYTES
+		+ Integer.BYTES + Integer.BYTES + Short.BYTES;
+
+	private final Long companyId;
+	private final LocalDateTime createdAt = LocalDateTime.now();
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private byte[] values = new byte[INITIAL_CAPACITY];
+	private int[] questionSlots = new int[INITIAL_CAPACITY];
+	private byte[] departments = new byte[INITIAL_CAPACITY];
+	private byte[] participantTypes = new byte[INITIAL_CAPACITY];
+	private int[] epochDays = new int[INITIAL_CAPACITY];
+	private int[] instanceIds = new int[INITIAL_CAPACITY];
+	private short[] templates = new short[INITIAL_CAPACITY];
+	private final BitSet reverseRows = new BitSet();
+	private int size;
+	private int deletedRows;
+
+	private final List<TemplateIndex> templateIndexes = new ArrayList<>();
+	private final Map<Long, Integer> templateOrdinals = new HashMap<>();
+	private final Map<Integer, int[]> rowRangeByInstance = new HashMap<>();
+	private boolean stale;
+
+	public AnswerCube(Long companyId) {
+		this.companyId = companyId;
+	}
+
+	/**
+	 * @return Maske für ein einzelnes Department (null = alle)
+	 */
+	public static int departmentMask(Department department) {
+		return department == null ? ALL : 1 << department.ordinal();
+	}
+
+	/**
+	 * @return Maske für einen einzelnen ParticipantType (null = alle)
+	 */
+	public static int participantTypeMask(SurveyInstance.ParticipantType participantType) {
+		return participantType == null ? ALL : 1 << participantType.ordinal();
+	}
+
+	/**
+	 * Nimmt alle Antworten einer abgegebenen Instanz auf.
+	 * Bereits enthaltene Instanzen werden ignoriert (idempotent für Live-Updates während des Ladens).
+	 * @param valuesByQuestionId Antwort-Werte pro Frage-ID
+	 * @return true wenn die Instanz neu aufgenommen wurde
+	 */
+	public boolean appendInstance(
+		long instanceId,
+		TemplateIndex index,
+		Department department,
+		SurveyInstance.ParticipantType participantType,
+		LocalDate submittedOn,
+		Map<String, Integer> valuesByQuestionId
+	) {
+		int instance = Math.toIntExact(instanceId);
+		lock.writeLock().lock();
+		try {
+			if (rowRangeByInstance.containsKey(instance)) {
+				return false;
+			}
+			short template = templateOrdinal(index);
+			int start = size;
+			ensureCapacity(size + valuesByQuestionId.size());
+			byte departmentOrdinal = (byte) department.ordinal();
+			byte participantTypeOrdinal = (byte) participantType.ordinal();
+			int epochDay = (int) submittedOn.toEpochDay();
+			for (Map.Entry<String, Integer> answer : valuesByQuestionId.entrySet()) {
+				if (answer.getValue() == null) {
+					continue;
+				}
+				int slot = index.slotOf(answer.getKey());
+				values[size] = answer.getValue().byteValue();
+				questionSlots[size] = slot;
+				reverseRows.set(size, slot != UNKNOWN_SLOT && index.isReverse(slot));
+				departments[size] = departmentOrdinal;
+				participantTypes[size] = participantTypeOrdinal;
+				epochDays[size] = epochDay;
+				instanceIds[size] = instance;
+				templates[size] = template;
+				size++;
+			}
+			rowRangeByInstance.put(instance, new int[] { start, size });
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Entfernt alle Antworten einer Instanz (Tombstone, Kompaktierung sobald mehr als die Hälfte gelöscht ist)
+	 * @return true wenn die Instanz enthalten war
+	 */
+	public boolean removeInstance(long instanceId) {
+		lock.writeLock().lock();
+		try {
+			int[] range = rowRangeByInstance.remove(Math.toIntExact(instanceId));
+			if (range == null) {
+				return false;
+			}
+			Arrays.fill(templates, range[0], range[1], TOMBSTONE);
+			deletedRows += range[1] - range[0];
+			if (deletedRows > size / 2) {
+				compact();
+			}
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public boolean containsInstance(long instanceId) {
+		lock.readLock().lock();
+		try {
+			return rowRangeByInstance.containsKey(Math.toIntExact(instanceId));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Summe/Anzahl pro Frage-Slot eines Templates für einen beliebigen Ausschnitt
+	 * @param index Aktueller Template-Index
+	 * @param departmentMask Bitmaske der Departments ({@link #ALL} für alle)
+	 * @param participantTypeMask Bitmaske der ParticipantTypes ({@link #ALL} für alle)
+	 * @param fromEpochDay Erster Abgabetag (inklusive)
+	 * @param toEpochDay Letzter Abgabetag (inklusive)
+	 * @return Roh-Summen pro Slot (Reverse-Items nicht invertiert) oder null wenn der Cube eine andere Template-Version enthält
+	 */
+	public SlotTotals aggregateBySlot(
+		TemplateIndex index,
+		int departmentMask,
+		int participantTypeMask,
+		int fromEpochDay,
+		int toEpochDay
+	) {
+		lock.readLock().lock();
+		try {
+			SlotTotals totals = new SlotTotals(index.getQuestionCount());
+			Integer ordinal = templateOrdinals.get(index.getTemplateId());
+			if (ordinal == null) {
+				return totals;
+			}
+			if (!isSameVersion(templateIndexes.get(ordinal), index)) {
+				return null;
+			}
+			short template = ordinal.shortValue();
+			for (int row = 0; row < size; row++) {
+				int slot = questionSlots[row];
+				if (templates[row] != template || slot == UNKNOWN_SLOT
+					|| (departmentMask & (1 << departments[row])) == 0
+					|| (participantTypeMask & (1 << participantTypes[row])) == 0
+					|| epochDays[row] < fromEpochDay || epochDays[row] > toEpochDay) {
+					continue;
+				}
+				totals.add(slot, values[row], 1);
+			}
+			return totals;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Summe/Anzahl pro Department und Frage-Slot eines Templates in einem Durchlauf
+	 * @return Array indiziert nach Department-Ordinal oder null wenn der Cube eine andere Template-Version enthält
+	 */
+	public SlotTotals[] aggregateByDepartmentAndSlot(TemplateIndex index, int fromEpochDay, int toEpochDay) {
+		lock.readLock().lock();
+		try {
+			SlotTotals[] totals = new SlotTotals[Department.values().length];
+			for (int d = 0; d < totals.length; d++) {
+				totals[d] = new SlotTotals(index.getQuestionCount());
+			}
+			Integer ordinal = templateOrdinals.get(index.getTemplateId());
+			if (ordinal == null) {
+				return totals;
+			}
+			if (!isSameVersion(templateIndexes.get(ordinal), index)) {
+				return null;
+			}
+			short template = ordinal.shortValue();
+			for (int row = 0; row < size; row++) {
+				int slot = questionSlots[row];
+				if (templates[row] != template || slot == UNKNOWN_SLOT
+					|| epochDays[row] < fromEpochDay || epochDays[row] > toEpochDay) {
+					continue;
+				}
+				totals[departments[row]].add(slot, values[row], 1);
+			}
+			return totals;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Gewertete Antwort-Werte (über alle Templates, Reverse-Items invertiert) für einen Ausschnitt
+	 * @return Akkumulator mit Summe, Anzahl und Histogramm
+	 */
+	public ReadinessAccumulator aggregateTotals(int departmentMask, int participantTypeMask, int fromEpochDay, int toEpochDay) {
+		lock.readLock().lock();
+		try {
+			ReadinessAccumulator accumulator = new ReadinessAccumulator();
+			for (int row = 0; row < size; row++) {
+				if (templates[row] == TOMBSTONE
+					|| (departmentMask & (1 << departments[row])) == 0
+					|| (participantTypeMask & (1 << participantTypes[row])) == 0
+					|| epochDays[row] < fromEpochDay || epochDays[row] > toEpochDay) {
+					continue;
+				}
+				accumulator.add(values[row], reverseRows.get(row));
+			}
+			return accumulator;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return true wenn eine Instanz mit einer neueren Template-Version aufgenommen werden sollte
+	 */
+	public boolean isStale() {
+		lock.readLock().lock();
+		try {
+			return stale;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public Long getCompanyId() {
+		return companyId;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public int getInstanceCount() {
+		lock.readLock().lock();
+		try {
+			return rowRangeByInstance.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return Anzahl belegter Zeilen (inkl. Tombstones)
+	 */
+	public int getRowCount() {
+		lock.readLock().lock();
+		try {
+			return size;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return Anzahl gültiger Antwort-Zeilen
+	 */
+	public int getLiveRowCount() {
+		lock.readLock().lock();
+		try {
+			return size - deletedRows;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Geschätzter Speicherverbrauch der Spalten (allokierte Kapazität) plus Instanz-Index
+	 */
+	public long getEstimatedBytes() {
+		lock.readLock().lock();
+		try {
+			// HashMap-Eintrag + Integer-Key + int[2] ≈ 80 Bytes pro Instanz
+			return (long) values.length * BYTES_PER_ROW + rowRangeByInstance.size() * 80L;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private short templateOrdinal(TemplateIndex index) {
+		Integer ordinal = templateOrdinals.get(index.getTemplateId());
+		if (ordinal != null) {
+			if (!isSameVersion(templateIndexes.get(ordinal), index)) {
+				stale = true;
+			}
+			return ordinal.shortValue();
+		}
+		if (templateIndexes.size() >= Short.MAX_VALUE) {
+			throw new IllegalStateException("Too many templates in answer cube for company " + companyId);
+		}
+		templateIndexes.add(index);
+		templateOrdinals.put(index.getTemplateId(), templateIndexes.size() - 1);
+		return (short) (templateIndexes.size() - 1);
+	}
+
+	private static boolean isSameVersion(TemplateIndex cached, TemplateIndex current) {
+		return cached == current || Objects.equals(cached.getUpdatedAt(), current.getUpdatedAt());
+	}
+
+	private void ensureCapacity(int required) {
+		if (required <= values.length) {
+			return;
+		}
+		int capacity = Math.max(required, values.length + (values.length >> 1));
+		values = Arrays.copyOf(values, capacity);
+		questionSlots = Arrays.copyOf(questionSlots, capacity);
+		departments = Arrays.copyOf(departments, capacity);
+		participantTypes = Arrays.copyOf(participantTypes, capacity);
+		epochDays = Arrays.copyOf(epochDays, capacity);
+		instanceIds = Arrays.copyOf(instanceIds, capacity);
+		templates = Arrays.copyOf(templates, capacity);
+	}
+
+	/**
+	 * Entfernt Tombstones und baut den Instanz-Index neu auf (Zeilen einer Instanz bleiben zusammenhängend)
+	 */
+	private void compact() {
+		int target = 0;
+		rowRangeByInstance.clear();
+		for (int row = 0; row < size; row++) {
+			if (templates[row] == TOMBSTONE) {
+				continue;
+			}
+			values[target] = values[row];
+			questionSlots[target] = questionSlots[row];
+			departments[target] = departments[row];
+			participantTypes[target] = participantTypes[row];
+			epochDays[target] = epochDays[row];
+			instanceIds[target] = instanceIds[row];
+			templates[target] = templates[row];
+			reverseRows.set(target, reverseRows.get(row));
+			int[] range = rowRangeByInstance.computeIfAbsent(instanceIds[target], k -> new int[2]);
+			if (range[1] == 0) {
+				range[0] = target;
+			}
+			range[1] = target + 1;
+			target++;
+		}
+		reverseRows.clear(target, size);
+		size = target;
+		deletedRows = 0;
+	}
+}
@@ -0,0 +1,258 @@
+package com.changeready.analytics;
+
+import com.changeready.dto.analytics.AnswerCubeStatsResponse;
+import com.changeready.entity.Department;
+import com.changeready.entity.SurveyAnswer;
+import com.changeready.entity.SurveyInstance;
+import com.changeready.entity.SurveyTemplate;
+import com.changeready.repository.SurveyAnswerRepository;
+import com.changeready.repository.SurveyTemplateRepository;
+import com.changeready.repository.projection.CubeAnswerRow;
+import com.changeready.template.TemplateIndex;
+import com.changeready.template.TemplateIndexCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Verwaltet die {@link AnswerCube}s pro Company (optional, per app.analytics.cube.enabled aktivierbar).
+ *
+ * - Lazy Loading: ein Cube wird beim ersten Zugriff einer Company in einer Abfrage geladen.
+ * - Live-Updates: Abgaben und Löschungen werden nach dem Commit in geladene Cubes übernommen.
+ * - Eviction: Cubes ohne Zugriff innerhalb von app.analytics.cube.idle-timeout werden verworfen.
+ */
+@Component
+public class AnswerCubeManager {
+
+	private static final Logger logger = LoggerFactory.getLogger(AnswerCubeManager.class);
+
+	private final SurveyAnswerRepository answerRepository;
+	private final SurveyTemplateRepository templateRepository;
+	private final TemplateIndexCache templateIndexCache;
+	private final boolean enabled;
+	private final Duration idleTimeout;
+	private final Map<Long, CubeEntry> cubes = new ConcurrentHashMap<>();
+
+	public AnswerCubeManager(
+		SurveyAnswerRepository answerRepository,
+		SurveyTemplateRepository templateRepository,
+		TemplateIndexCache templateIndexCache,
+		@Value("${app.analytics.cube.enabled:false}") boolean enabled,
+		@Value("${app.analytics.cube.idle-timeout:PT30M}") Duration idleTimeout
+	) {
+		this.answerRepository = answerRepository;
+		this.templateRepository = templateRepository;
+		this.templateIndexCache = templateIndexCache;
+		this.enabled = enabled;
+		this.idleTimeout = idleTimeout;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Liefert den (ggf. frisch geladenen) Cube einer Company
+	 * @return Cube oder empty wenn die Cube-Engine deaktiviert ist
+	 */
+	public Optional<AnswerCube> getCube(Long companyId) {
+		if (!enabled || companyId == null) {
+			return Optional.empty();
+		}
+		CubeEntry entry = cubes.computeIfAbsent(companyId, CubeEntry::new);
+		if (entry.cube.isStale()) {
+			// Template-Struktur hat sich geändert: Cube mit neuen Frage-Slots neu aufbauen
+			cubes.remove(companyId, entry);
+			entry = cubes.computeIfAbsent(companyId, CubeEntry::new);
+		}
+		entry.ensureLoaded();
+		entry.lastAccess = Instant.now();
+		return Optional.of(entry.cube);
+	}
+
+	/**
+	 * Übernimmt eine abgegebene Instanz nach dem Commit in den Cube der Company (falls geladen)
+	 */
+	public void onSubmitted(SurveyInstance instance, List<SurveyAnswer> answers) {
+		if (!enabled) {
+			return;
+		}
+		Long companyId = instance.getCompany().getId();
+		Map<String, Integer> valuesByQuestionId = new LinkedHashMap<>();
+		for (SurveyAnswer answer : answers) {
+			valuesByQuestionId.put(answer.getQuestionId(), answer.getValue());
+		}
+		TemplateIndex index = templateIndexCache.get(instance.getTemplate());
+		long instanceId = instance.getId();
+		Department department = instance.getDepartment();
+		SurveyInstance.ParticipantType participantType = instance.getParticipantType();
+		LocalDate submittedOn = instance.getSubmittedAt().toLocalDate();
+		afterCommit(() -> {
+			CubeEntry entry = cubes.get(companyId);
+			if (entry != null) {
+				entry.cube.appendInstance(instanceId, index, department, participantType, submittedOn, valuesByQuestionId);
+			}
+		});
+	}
+
+	/**
+	 * Entfernt eine gelöschte Instanz nach dem Commit aus dem Cube der Company (falls geladen)
+	 */
+	public void onDeleted(SurveyInstance instance) {
+		if (!enabled) {
+			return;
+		}
+		Long companyId = instance.getCompany().getId();
+		long instanceId = instance.getId();
+		afterCommit(() -> {
+			CubeEntry entry = cubes.get(companyId);
+			if (entry != null) {
+				entry.remove(instanceId);
+			}
+		});
+	}
+
+	/**
+	 * Verwirft den Cube einer Company (wird beim nächsten Zugriff neu geladen)
+	 */
+	public void evict(Long companyId) {
+		cubes.remove(companyId);
+	}
+
+	/**
+	 * Verwirft Cubes von Companies ohne Zugriff innerhalb des Idle-Timeouts
+	 */
+	@Scheduled(fixedDelayString = "${app.analytics.cube.eviction-interval:PT5M}")
+	public void evictIdle() {
+		if (!enabled) {
+			return;
+		}
+		Instant threshold = Instant.now().minus(idleTimeout);
+		cubes.entrySet().removeIf(e -> {
+			boolean idle = e.getValue().lastAccess.isBefore(threshold);
+			if (idle) {
+				logger.info("Evicting idle answer cube for company {} ({} bytes)", e.getKey(), e.getValue().cube.getEstimatedBytes());
+			}
+			return idle;
+		});
+	}
+
+	/**
+	 * Speicherverbrauch und Größe aller geladenen Cubes (pro Tenant)
+	 */
+	public List<AnswerCubeStatsResponse> getStats() {
+		List<AnswerCubeStatsResponse> stats = new ArrayList<>();
+		for (CubeEntry entry : cubes.values()) {
+			AnswerCube cube = entry.cube;
+			AnswerCubeStatsResponse response = new AnswerCubeStatsResponse();
+			response.setCompanyId(cube.getCompanyId());
+			response.setLoaded(entry.loaded);
+			response.setInstanceCount(cube.getInstanceCount());
+			response.setAnswerCount(cube.getLiveRowCount());
+			response.setRowCount(cube.getRowCount());
+			response.setEstimatedBytes(cube.getEstimatedBytes());
+			response.setCreatedAt(cube.getCreatedAt());
+			response.setLastAccessAt(LocalDateTime.ofInstant(entry.lastAccess, ZoneId.systemDefault()));
+			stats.add(response);
+		}
+		stats.sort(Comparator.comparingLong(AnswerCubeStatsResponse::getEstimatedBytes).reversed());
+		return stats;
+	}
+
+	private void load(AnswerCube cube) {
+		long started = System.currentTimeMillis();
+		List<CubeAnswerRow> rows = answerRepository.findCubeRows(cube.getCompanyId(), SurveyInstance.SurveyInstanceStatus.SUBMITTED);
+
+		Set<Long> templateIds = rows.stream().map(CubeAnswerRow::getTemplateId).collect(Collectors.toSet());
+		Map<Long, TemplateIndex> indexByTemplateId = new HashMap<>();
+		for (SurveyTemplate template : templateRepository.findAllById(templateIds)) {
+			indexByTemplateId.put(template.getId(), templateIndexCache.get(template));
+		}
+
+		// Zeilen sind nach Instanz sortiert: pro Instanz sammeln und am Stück übernehmen
+		int i = 0;
+		while (i < rows.size()) {
+			CubeAnswerRow first = rows.get(i);
+			Map<String, Integer> valuesByQuestionId = new LinkedHashMap<>();
+			while (i < rows.size() && rows.get(i).getInstanceId().equals(first.getInstanceId())) {
+				valuesByQuestionId.put(rows.get(i).getQuestionId(), rows.get(i).getValue());
+				i++;
+			}
+			TemplateIndex index = indexByTemplateId.get(first.getTemplateId());
+			if (index != null) {
+				cube.appendInstance(first.getInstanceId(), index, first.getDepartment(), first.getParticipantType(),
+					first.getSubmittedAt().toLocalDate(), valuesByQuestionId);
+			}
+		}
+		logger.info("Loaded answer cube for company {}: {} instances, {} answers, ~{} bytes in {} ms",
+			cube.getCompanyId(), cube.getInstanceCount(), cube.getLiveRowCount(), cube.getEstimatedBytes(),
+			System.currentTimeMillis() - started);
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+	/**
+	 * Cube einer Company inkl. Lade-Zustand. Der Cube ist sofort registriert, damit Live-Updates
+	 * während des initialen Ladens nicht verloren gehen: Abgaben sind idempotent, Löschungen warten auf das Laden.
+	 */
+	private final class CubeEntry {
+
+		private final AnswerCube cube;
+		private volatile boolean loaded;
+		private volatile Instant lastAccess = Instant.now();
+
+		private CubeEntry(Long companyId) {
+			this.cube = new AnswerCube(companyId);
+		}
+
+		private void ensureLoaded() {
+			if (loaded) {
+				return;
+			}
+			synchronized (this) {
+				if (!loaded) {
+					load(cube);
+					loaded = true;
+				}
+			}
+		}
+
+		private void remove(long instanceId) {
+			// Läuft gerade das Laden, könnte die Instanz noch im gelesenen Snapshot enthalten sein
+			synchronized (this) {
+				cube.removeInstance(instanceId);
+			}
+		}
+	}
+}
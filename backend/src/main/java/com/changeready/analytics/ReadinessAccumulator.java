@@ -0,0 +1,126 @@
+package com.changeready.analytics;
+
+import com.changeready.entity.ReadinessAggregate;
+
+import java.util.BitSet;
+
+/**
+ * Zusammenführbarer Akkumulator für Readiness-Werte (Summe, Anzahl, Histogramm der Werte 1-5).
+ *
+ * Reverse-Items werden beim Hinzufügen invertiert (1 ↔ 5, 2 ↔ 4), sodass alle Werte "je höher, desto bereiter"
+ * bedeuten. Teilergebnisse (z.B. pro Segment oder Thread) werden per {@link #merge} ohne erneuten Durchlauf kombiniert.
+ * Nicht threadsicher: pro Thread einen eigenen Akkumulator verwenden und anschließend mergen.
+ */
+public final class ReadinessAccumulator {
+
+	public static final int MIN_VALUE = 1;
+	public static final int MAX_VALUE = 5;
+
+	private long valueSum;
+	private long count;
+	private final long[] histogram = new long[MAX_VALUE - MIN_VALUE + 1];
+
+	/**
+	 * @return Wert aus Readiness-Sicht (Reverse-Items invertiert: 6 - value)
+	 */
+	public static int score(int value, boolean reverse) {
+		return reverse ? MIN_VALUE + MAX_VALUE - value : value;
+	}
+
+	/**
+	 * Fügt eine einzelne Antwort hinzu
+	 */
+	public void add(int value, boolean reverse) {
+		add(score(value, reverse), 1);
+	}
+
+	/**
+	 * Fügt count Antworten mit dem gleichen (bereits gewerteten) Wert hinzu
+	 */
+	public void add(int value, long count) {
+		if (count == 0) {
+			return;
+		}
+		this.valueSum += value * count;
+		this.count += count;
+		if (value >= MIN_VALUE && value <= MAX_VALUE) {
+			histogram[value - MIN_VALUE] += count;
+		}
+	}
+
+	/**
+	 * Fügt vorab aggregierte Summen hinzu (z.B. aus SQL), das Histogramm bleibt dabei unverändert
+	 */
+	public void addTotals(long valueSum, long count) {
+		this.valueSum += valueSum;
+		this.count += count;
+	}
+
+	/**
+	 * Fügt einen Readiness-Aggregat-Bucket über dessen Histogramm hinzu (Werte sind bereits gewertet)
+	 */
+	public void add(ReadinessAggregate aggregate) {
+		add(1, aggregate.getValueCount1());
+		add(2, aggregate.getValueCount2());
+		add(3, aggregate.getValueCount3());
+		add(4, aggregate.getValueCount4());
+		add(5, aggregate.getValueCount5());
+		// Werte außerhalb 1-5 sind nur in Summe/Anzahl enthalten
+		long histogramCount = aggregate.getValueCount1() + aggregate.getValueCount2() + aggregate.getValueCount3()
+			+ aggregate.getValueCount4() + aggregate.getValueCount5();
+		long histogramSum = aggregate.getValueCount1() + 2 * aggregate.getValueCount2() + 3 * aggregate.getValueCount3()
+			+ 4 * aggregate.getValueCount4() + 5 * aggregate.getValueCount5();
+		addTotals(aggregate.getValueSum() - histogramSum, aggregate.getAnswerCount() - histogramCount);
+	}
+
+	/**
+	 * Fügt die Roh-Summen der Frage-Slots [fromSlot, toSlot) hinzu und invertiert Reverse-Slots
+	 * (Summe eines Reverse-Slots: count * 6 - sum)
+	 */
+	public void addSlots(SlotTotals totals, BitSet reverseSlots, int fromSlot, int toSlot) {
+		for (int slot = fromSlot; slot < toSlot; slot++) {
+			long slotCount = totals.answerCount(slot);
+			long slotSum = totals.valueSum(slot);
+			addTotals(reverseSlots.get(slot) ? slotCount * (MIN_VALUE + MAX_VALUE) - slotSum : slotSum, slotCount);
+		}
+	}
+
+	/**
+	 * Übernimmt ein Teilergebnis
+	 * @return this (für Reduktionen)
+	 */
+	public ReadinessAccumulator merge(ReadinessAccumulator other) {
+		valueSum += other.valueSum;
+		count += other.count;
+		for (int i = 0; i < histogram.length; i++) {
+			histogram[i] += other.histogram[i];
+		}
+		return this;
+	}
+
+	public long getValueSum() {
+		return valueSum;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public boolean isEmpty() {
+		return count <= 0;
+	}
+
+	/**
+	 * @return Anzahl der Antworten mit (gewertetem) Wert value (1-5)
+	 */
+	public long getHistogram(int value) {
+		return histogram[value - MIN_VALUE];
+	}
+
+	/**
+	 * @return Durchschnitt der gewerteten Antworten, 0 wenn leer
+	 */
+	public double getAverage() {
+		return count > 0 ? (double) valueSum / count : 0.0;
+	}
+}
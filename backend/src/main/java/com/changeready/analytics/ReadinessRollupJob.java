@@ -0,0 +1,54 @@
+package com.changeready.analytics;
+
+import com.changeready.entity.Company;
+import com.changeready.repository.CompanyRepository;
+import com.changeready.service.ReadinessRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gleicht die Tages-Rollups regelmäßig mit den abgegebenen Antworten ab.
+ *
+ * Abgaben und Löschungen schreiben die Rollups bereits inkrementell fort; der Abgleich baut sie pro Company neu auf
+ * und korrigiert damit Abweichungen (z.B. nachträglich umklassifizierte Reverse-Items oder manuelle Datenkorrekturen).
+ */
+@Component
+public class ReadinessRollupJob {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReadinessRollupJob.class);
+
+	private final CompanyRepository companyRepository;
+	private final ReadinessRollupService readinessRollupService;
+	private final boolean enabled;
+
+	public ReadinessRollupJob(
+		CompanyRepository companyRepository,
+		ReadinessRollupService readinessRollupService,
+		@Value("${app.readiness.rollups.job.enabled:true}") boolean enabled
+	) {
+		this.companyRepository = companyRepository;
+		this.readinessRollupService = readinessRollupService;
+		this.enabled = enabled;
+	}
+
+	@Scheduled(cron = "${app.readiness.rollups.job.cron:0 30 2 * * *}")
+	public void rebuildAll() {
+		if (!enabled) {
+			return;
+		}
+		long started = System.currentTimeMillis();
+		int written = 0;
+		for (Company company : companyRepository.findAll()) {
+			try {
+				written += readinessRollupService.rebuild(company.getId());
+			} catch (Exception e) {
+				// Eine fehlerhafte Company soll den Abgleich der übrigen nicht verhindern
+				logger.error("Failed to rebuild readiness rollups for company {}. Reason: {}", company.getId(), e.getMessage(), e);
+			}
+		}
+		logger.info("Rebuilt {} readiness rollup rows in {} ms", written, System.currentTimeMillis() - started);
+	}
+}
@@ -0,0 +1,95 @@
+package com.changeready.analytics;
+
+import com.changeready.template.TemplateIndex;
+
+/**
+ * Ergebnis-Matrix Zeile × Subcategory (z.B. Department × Subcategory) eines Templates.
+ *
+ * Summe/Anzahl der gewerteten Antworten liegen in zwei flachen Arrays [row * subcategoryCount + subcategory].
+ * Antwort-Summen pro Frage-Slot werden in einem Durchlauf über den Slot-Index der Subcategory zugeordnet,
+ * Reverse-Items dabei invertiert (Summe eines Reverse-Slots: count * 6 - sum).
+ */
+public final class ResultMatrix {
+
+	private final TemplateIndex index;
+	private final int rowCount;
+	private final int subcategoryCount;
+	private final long[] valueSums;
+	private final long[] answerCounts;
+
+	public ResultMatrix(TemplateIndex index, int rowCount) {
+		this.index = index;
+		this.rowCount = rowCount;
+		this.subcategoryCount = index.getSubcategoryCount();
+		this.valueSums = new long[rowCount * subcategoryCount];
+		this.answerCounts = new long[rowCount * subcategoryCount];
+	}
+
+	/**
+	 * Baut die Matrix aus Roh-Summen pro Zeile und Frage-Slot (z.B. aus dem Answer-Cube)
+	 */
+	public static ResultMatrix of(TemplateIndex index, SlotTotals[] totalsByRow) {
+		ResultMatrix matrix = new ResultMatrix(index, totalsByRow.length);
+		for (int row = 0; row < totalsByRow.length; row++) {
+			SlotTotals totals = totalsByRow[row];
+			for (int slot = 0; slot < totals.getSlotCount(); slot++) {
+				matrix.add(row, slot, totals.valueSum(slot), totals.answerCount(slot));
+			}
+		}
+		return matrix;
+	}
+
+	/**
+	 * Addiert Roh-Summe/Anzahl eines Frage-Slots (Reverse-Items werden über den TemplateIndex invertiert)
+	 */
+	public void add(int row, int slot, long rawValueSum, long count) {
+		if (count == 0) {
+			return;
+		}
+		int cell = row * subcategoryCount + index.subcategoryOf(slot);
+		valueSums[cell] += index.isReverse(slot)
+			? count * (ReadinessAccumulator.MIN_VALUE + ReadinessAccumulator.MAX_VALUE) - rawValueSum
+			: rawValueSum;
+		answerCounts[cell] += count;
+	}
+
+	public TemplateIndex getIndex() {
+		return index;
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	public int getSubcategoryCount() {
+		return subcategoryCount;
+	}
+
+	public long valueSum(int row, int subcategory) {
+		return valueSums[row * subcategoryCount + subcategory];
+	}
+
+	public long answerCount(int row, int subcategory) {
+		return answerCounts[row * subcategoryCount + subcategory];
+	}
+
+	/**
+	 * @return Durchschnitt der gewerteten Antworten einer Zelle, 0 wenn leer
+	 */
+	public double average(int row, int subcategory) {
+		long count = answerCount(row, subcategory);
+		return count > 0 ? (double) valueSum(row, subcategory) / count : 0.0;
+	}
+
+	/**
+	 * @return true wenn die Zeile mindestens eine Antwort enthält
+	 */
+	public boolean hasAnswers(int row) {
+		for (int subcategory = 0; subcategory < subcategoryCount; subcategory++) {
+			if (answerCount(row, subcategory) > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
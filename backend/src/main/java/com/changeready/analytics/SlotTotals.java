@@ -0,0 +1,35 @@
+package com.changeready.analytics;
+
+/**
+ * Summe und Anzahl der Antwort-Werte pro Frage-Slot eines {@link com.changeready.template.TemplateIndex}
+ */
+public final class SlotTotals {
+
+	private final long[] valueSums;
+	private final long[] answerCounts;
+
+	public SlotTotals(int slotCount) {
+		this.valueSums = new long[slotCount];
+		this.answerCounts = new long[slotCount];
+	}
+
+	/**
+	 * Addiert count Antworten mit der Wert-Summe valueSum auf einen Slot
+	 */
+	public void add(int slot, long valueSum, long count) {
+		valueSums[slot] += valueSum;
+		answerCounts[slot] += count;
+	}
+
+	public long valueSum(int slot) {
+		return valueSums[slot];
+	}
+
+	public long answerCount(int slot) {
+		return answerCounts[slot];
+	}
+
+	public int getSlotCount() {
+		return valueSums.length;
+	}
+}
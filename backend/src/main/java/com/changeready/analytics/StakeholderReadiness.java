@@ -0,0 +1,90 @@
+package com.changeready.analytics;
+
+import com.changeready.entity.StakeholderPerson;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Readiness-Totals einer Menge von Stakeholder-Personen, in konstant vielen Abfragen aufgelöst
+ * (siehe {@link com.changeready.service.StakeholderReadinessResolver}).
+ *
+ * Personen werden über ihre persistierte User-Verknüpfung (stakeholder_persons.user_id) zugeordnet; unverknüpfte
+ * Personen tragen nichts bei. Mehrere Personen desselben Users zählen (wie bei der Abfrage per "in :userIds") nur einmal.
+ */
+public final class StakeholderReadiness {
+
+	private final Map<Long, ReadinessAccumulator> currentByUser;
+	private final Map<Long, ReadinessAccumulator> previousByUser;
+
+	public StakeholderReadiness(
+		Map<Long, ReadinessAccumulator> currentByUser,
+		Map<Long, ReadinessAccumulator> previousByUser
+	) {
+		this.currentByUser = currentByUser;
+		this.previousByUser = previousByUser != null ? previousByUser : Collections.emptyMap();
+	}
+
+	/**
+	 * @return User-ID der Person oder null wenn sie keinem User zugeordnet werden kann
+	 */
+	public static Long userId(StakeholderPerson person) {
+		// Lazy-Proxy: getId() lädt den User nicht
+		return person.getUser() != null ? person.getUser().getId() : null;
+	}
+
+	/**
+	 * @return User-IDs der Personen (ohne Duplikate, in Personen-Reihenfolge)
+	 */
+	public List<Long> userIds(Collection<StakeholderPerson> persons) {
+		return new ArrayList<>(distinctUserIds(persons));
+	}
+
+	/**
+	 * @return Aktuelle Totals (alle SUBMITTED Antworten) einer Person
+	 */
+	public ReadinessAccumulator current(StakeholderPerson person) {
+		return current(List.of(person));
+	}
+
+	/**
+	 * @return Aktuelle Totals (alle SUBMITTED Antworten) der Personen
+	 */
+	public ReadinessAccumulator current(Collection<StakeholderPerson> persons) {
+		return sum(currentByUser, distinctUserIds(persons));
+	}
+
+	/**
+	 * @return Totals zum Vergleichs-Stichtag (nur wenn beim Auflösen ein Stichtag angegeben wurde, sonst leer)
+	 */
+	public ReadinessAccumulator previous(Collection<StakeholderPerson> persons) {
+		return sum(previousByUser, distinctUserIds(persons));
+	}
+
+	private Set<Long> distinctUserIds(Collection<StakeholderPerson> persons) {
+		Set<Long> userIds = new LinkedHashSet<>();
+		for (StakeholderPerson person : persons) {
+			Long userId = userId(person);
+			if (userId != null) {
+				userIds.add(userId);
+			}
+		}
+		return userIds;
+	}
+
+	private static ReadinessAccumulator sum(Map<Long, ReadinessAccumulator> totalsByUser, Set<Long> userIds) {
+		ReadinessAccumulator totals = new ReadinessAccumulator();
+		for (Long userId : userIds) {
+			ReadinessAccumulator userTotals = totalsByUser.get(userId);
+			if (userTotals != null) {
+				totals.merge(userTotals);
+			}
+		}
+		return totals;
+	}
+}
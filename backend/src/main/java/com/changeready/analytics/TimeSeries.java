@@ -0,0 +1,120 @@
+package com.changeready.analytics;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Hilfsfunktionen für Readiness-Zeitreihen: Verdichtung vorberechneter Tages-Buckets auf Wochen/Monate und
+ * Downsampling per Largest-Triangle-Three-Buckets (LTTB), das die Form der Kurve (Spitzen, Einbrüche) erhält.
+ */
+public final class TimeSeries {
+
+	/**
+	 * Bucket-Größe einer Zeitreihe. Ein Bucket wird durch seinen ersten Tag identifiziert.
+	 */
+	public enum Granularity {
+		DAY,
+		WEEK, // ISO-Woche, beginnt Montag
+		MONTH;
+
+		public LocalDate bucketStart(LocalDate date) {
+			return switch (this) {
+				case DAY -> date;
+				case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+				case MONTH -> date.withDayOfMonth(1);
+			};
+		}
+	}
+
+	private TimeSeries() {
+	}
+
+	/**
+	 * Fasst Tages-Totals zu Buckets der gewünschten Granularität zusammen (Summe/Anzahl werden gemergt,
+	 * nicht gemittelt, sodass jeder Bucket exakt gewichtet bleibt)
+	 * @param daily Totals pro Tag
+	 * @param granularity Ziel-Granularität
+	 * @return Totals pro Bucket-Start, aufsteigend sortiert
+	 */
+	public static SortedMap<LocalDate, ReadinessAccumulator> rollUp(
+		Map<LocalDate, ReadinessAccumulator> daily,
+		Granularity granularity
+	) {
+		SortedMap<LocalDate, ReadinessAccumulator> buckets = new TreeMap<>();
+		for (Map.Entry<LocalDate, ReadinessAccumulator> entry : daily.entrySet()) {
+			buckets.computeIfAbsent(granularity.bucketStart(entry.getKey()), k -> new ReadinessAccumulator())
+				.merge(entry.getValue());
+		}
+		return buckets;
+	}
+
+	/**
+	 * Reduziert eine nach x sortierte Punktfolge per LTTB auf höchstens maxPoints Punkte.
+	 * Erster und letzter Punkt bleiben immer erhalten.
+	 * @param points Punkte, aufsteigend nach x sortiert
+	 * @param maxPoints Maximale Punktanzahl (Werte unter 3 oder >= Punktanzahl liefern die Eingabe unverändert)
+	 * @param x x-Koordinate (z.B. Epoch-Day)
+	 * @param y y-Koordinate (z.B. Readiness)
+	 * @return Ausgewählte Punkte in Eingabe-Reihenfolge
+	 */
+	public static <T> List<T> largestTriangleThreeBuckets(
+		List<T> points,
+		int maxPoints,
+		ToDoubleFunction<T> x,
+		ToDoubleFunction<T> y
+	) {
+		int size = points.size();
+		if (maxPoints < 3 || maxPoints >= size) {
+			return points;
+		}
+
+		List<T> sampled = new ArrayList<>(maxPoints);
+		sampled.add(points.get(0));
+
+		// Innere Punkte auf maxPoints - 2 gleich große Buckets verteilen
+		double bucketSize = (double) (size - 2) / (maxPoints - 2);
+		int selected = 0;
+		for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+			// Durchschnitt des nächsten Buckets (beim letzten Bucket: der letzte Punkt)
+			int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+			int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+			double averageX = 0;
+			double averageY = 0;
+			for (int i = nextStart; i < nextEnd; i++) {
+				averageX += x.applyAsDouble(points.get(i));
+				averageY += y.applyAsDouble(points.get(i));
+			}
+			averageX /= nextEnd - nextStart;
+			averageY /= nextEnd - nextStart;
+
+			// Punkt des aktuellen Buckets mit der größten Dreiecksfläche zum zuletzt gewählten Punkt und dem Durchschnitt
+			int start = (int) Math.floor(bucket * bucketSize) + 1;
+			int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+			double selectedX = x.applyAsDouble(points.get(selected));
+			double selectedY = y.applyAsDouble(points.get(selected));
+			double maxArea = -1;
+			int next = start;
+			for (int i = start; i < end; i++) {
+				double pointX = x.applyAsDouble(points.get(i));
+				double pointY = y.applyAsDouble(points.get(i));
+				double area = Math.abs((selectedX - averageX) * (pointY - selectedY) - (selectedX - pointX) * (averageY - selectedY));
+				if (area > maxArea) {
+					maxArea = area;
+					next = i;
+				}
+			}
+			sampled.add(points.get(next));
+			selected = next;
+		}
+
+		sampled.add(points.get(size - 1));
+		return sampled;
+	}
+}
@@ -0,0 +1,67 @@
+package com.changeready.analytics;
+
+import com.changeready.exception.ValidationException;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Zeitraum, Granularität und maximale Punktanzahl einer angefragten Zeitreihe.
+ * Als Record auch als Schlüssel im ReadinessResultCache verwendbar.
+ * @param from Erster Tag (inklusiv), null = ab dem ersten Datenpunkt
+ * @param to Letzter Tag (inklusiv), null = bis heute
+ * @param granularity Bucket-Größe
+ * @param maxPoints Maximale Punktanzahl (LTTB-Downsampling), null = alle Buckets
+ */
+public record TimeSeriesQuery(LocalDate from, LocalDate to, TimeSeries.Granularity granularity, Integer maxPoints) {
+
+	public static final int MIN_POINTS = 3;
+	public static final int MAX_POINTS = 5000;
+
+	/**
+	 * Gesamter Zeitraum in Tagesauflösung (bisheriges Verhalten des Dashboard-Trends)
+	 */
+	public static final TimeSeriesQuery ALL = new TimeSeriesQuery(null, null, TimeSeries.Granularity.DAY, null);
+
+	/**
+	 * Letzte n Tage (inkl. heute) in Tagesauflösung
+	 */
+	public static TimeSeriesQuery lastDays(int days) {
+		return new TimeSeriesQuery(LocalDate.now().minusDays(days), null, TimeSeries.Granularity.DAY, null);
+	}
+
+	/**
+	 * Erstellt eine Abfrage aus Request-Parametern
+	 * @param from Erster Tag oder null
+	 * @param to Letzter Tag oder null
+	 * @param granularity "day", "week" oder "month" (null = day)
+	 * @param maxPoints Maximale Punktanzahl oder null
+	 * @param defaultFrom Erster Tag, falls from nicht angegeben ist (null = gesamter Zeitraum)
+	 * @throws ValidationException bei ungültigen Parametern
+	 */
+	public static TimeSeriesQuery of(LocalDate from, LocalDate to, String granularity, Integer maxPoints, LocalDate defaultFrom) {
+		TimeSeries.Granularity parsedGranularity = TimeSeries.Granularity.DAY;
+		if (granularity != null && !granularity.isBlank()) {
+			try {
+				parsedGranularity = TimeSeries.Granularity.valueOf(granularity.trim().toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				throw new ValidationException("Invalid granularity '" + granularity + "' (expected day, week or month)");
+			}
+		}
+		LocalDate effectiveFrom = from != null ? from : defaultFrom;
+		if (effectiveFrom != null && to != null && effectiveFrom.isAfter(to)) {
+			throw new ValidationException("'from' must not be after 'to'");
+		}
+		if (maxPoints != null && (maxPoints < MIN_POINTS || maxPoints > MAX_POINTS)) {
+			throw new ValidationException("maxPoints must be between " + MIN_POINTS + " and " + MAX_POINTS);
+		}
+		return new TimeSeriesQuery(effectiveFrom, to, parsedGranularity, maxPoints);
+	}
+
+	/**
+	 * @return true wenn der Tag im angefragten Zeitraum liegt
+	 */
+	public boolean contains(LocalDate date) {
+		return (from == null || !date.isBefore(from)) && (to == null || !date.isAfter(to));
+	}
+}
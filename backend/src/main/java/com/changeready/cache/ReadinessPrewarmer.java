@@ -0,0 +1,114 @@
+package com.changeready.cache;
+
+import com.changeready.event.CompanyDataChangedEvent;
+import com.changeready.security.UserPrincipal;
+import com.changeready.service.DashboardService;
+import com.changeready.service.ReportingService;
+import com.changeready.service.StakeholderService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Berechnet die Dashboard-Ansichten einer Company nach Survey-Änderungen im Hintergrund neu und legt sie im
+ * {@link ReadinessResultCache} ab, damit der nächste Aufruf sofort bedient wird.
+ *
+ * - Debounce pro Company: alle Änderungen innerhalb von app.readiness.prewarm.debounce lösen eine Neuberechnung aus.
+ * - Eigener, begrenzter Worker-Pool (app.readiness.prewarm.pool-size), damit Request-Threads nicht verdrängt werden.
+ * - Die Neuberechnung läuft über die Services, d.h. über Cache und Single-Flight: ein paralleler Request wartet auf
+ *   die laufende Vorberechnung statt selbst zu rechnen.
+ */
+@Component
+public class ReadinessPrewarmer implements DisposableBean {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReadinessPrewarmer.class);
+
+	private final DashboardService dashboardService;
+	private final ReportingService reportingService;
+	private final StakeholderService stakeholderService;
+	private final boolean enabled;
+	private final Duration debounce;
+	private final ThreadPoolTaskScheduler scheduler;
+	private final Map<Long, ScheduledFuture<?>> pending = new ConcurrentHashMap<>();
+	private final Counter scheduled;
+	private final Counter coalesced;
+
+	public ReadinessPrewarmer(
+		DashboardService dashboardService,
+		ReportingService reportingService,
+		StakeholderService stakeholderService,
+		MeterRegistry meterRegistry,
+		@Value("${app.readiness.prewarm.enabled:true}") boolean enabled,
+		@Value("${app.readiness.prewarm.debounce:PT5S}") Duration debounce,
+		@Value("${app.readiness.prewarm.pool-size:2}") int poolSize
+	) {
+		this.dashboardService = dashboardService;
+		this.reportingService = reportingService;
+		this.stakeholderService = stakeholderService;
+		this.enabled = enabled;
+		this.debounce = debounce;
+		this.scheduler = new ThreadPoolTaskScheduler();
+		this.scheduler.setPoolSize(poolSize);
+		this.scheduler.setThreadNamePrefix("prewarm-");
+		this.scheduler.setDaemon(true);
+		this.scheduler.initialize();
+		this.scheduled = Counter.builder("readiness.prewarm.requests").tag("result", "scheduled").register(meterRegistry);
+		this.coalesced = Counter.builder("readiness.prewarm.requests").tag("result", "coalesced").register(meterRegistry);
+	}
+
+	/**
+	 * Plant nach dem Commit einer Survey-Änderung die Vorberechnung der Company (oder hängt sich an eine geplante an)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCompanyDataChanged(CompanyDataChangedEvent event) {
+		if (!enabled || event.companyId() == null || !event.scopes().contains(CompanyDataChangedEvent.Scope.SURVEYS)) {
+			return;
+		}
+		Long companyId = event.companyId();
+		pending.compute(companyId, (id, existing) -> {
+			if (existing != null && !existing.isDone()) {
+				coalesced.increment();
+				return existing;
+			}
+			scheduled.increment();
+			return scheduler.schedule(() -> prewarm(id), Instant.now().plus(debounce));
+		});
+	}
+
+	private void prewarm(Long companyId) {
+		// Vor der Berechnung freigeben: Änderungen während der Berechnung planen einen neuen Lauf
+		pending.remove(companyId);
+		long started = System.currentTimeMillis();
+		UserPrincipal principal = UserPrincipal.forCompany(companyId);
+		try {
+			dashboardService.getKpis(principal);
+			dashboardService.getTrendData(principal);
+			reportingService.getManagementSummary(principal);
+			reportingService.getDepartmentReadiness(principal);
+			stakeholderService.getGroups(principal);
+			stakeholderService.getKpis(principal);
+			logger.debug("Prewarmed readiness views for company {} in {} ms", companyId, System.currentTimeMillis() - started);
+		} catch (RuntimeException e) {
+			// Nicht kritisch: der nächste Request berechnet selbst
+			logger.warn("Failed to prewarm readiness views for company {}. Reason: {}", companyId, e.getMessage());
+		}
+	}
+
+	@Override
+	public void destroy() {
+		scheduler.shutdown();
+	}
+}
@@ -0,0 +1,183 @@
+package com.changeready.cache;
+
+import com.changeready.event.CompanyDataChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Begrenzter LRU/TTL-Cache für berechnete Readiness-Ergebnisse (Dashboard, Reporting, Stakeholder) pro Company.
+ *
+ * - Schlüssel: (Company, Ergebnis-Name, Argumente, Tag) – der Tag gehört dazu, weil Vergleiche relativ zu "heute" sind.
+ * - Jeder Eintrag kennt die Datenbereiche, von denen er abhängt; ein {@link CompanyDataChangedEvent} entfernt nach dem
+ *   Commit genau die Einträge der Company, deren Bereiche betroffen sind.
+ * - Generation pro Company: ein Ergebnis, dessen Berechnung vor einer Invalidierung begonnen hat, wird nicht abgelegt.
+ * - Gleichzeitige Misses desselben Schlüssels werden per {@link SingleFlight} zu einer Berechnung gebündelt
+ *   (auch bei deaktiviertem Cache), damit z.B. viele parallel geöffnete Dashboards den Connection-Pool nicht sättigen.
+ * - Hit/Miss/Eviction-Zähler und die Größe sind als Micrometer-Metriken (actuator/metrics) sichtbar.
+ *
+ * Abgelegte Werte werden zwischen Requests geteilt und dürfen von Aufrufern nicht verändert werden.
+ */
+@Component
+public class ReadinessResultCache {
+
+	// Häufig genutzte Abhängigkeiten
+	public static final Set<CompanyDataChangedEvent.Scope> SURVEYS = Collections.unmodifiableSet(
+		EnumSet.of(CompanyDataChangedEvent.Scope.SURVEYS));
+	public static final Set<CompanyDataChangedEvent.Scope> SURVEYS_AND_STAKEHOLDERS = Collections.unmodifiableSet(
+		EnumSet.of(CompanyDataChangedEvent.Scope.SURVEYS, CompanyDataChangedEvent.Scope.STAKEHOLDERS));
+	public static final Set<CompanyDataChangedEvent.Scope> ALL = Collections.unmodifiableSet(
+		EnumSet.allOf(CompanyDataChangedEvent.Scope.class));
+
+	private final boolean enabled;
+	private final int maxSize;
+	private final long ttlMillis;
+	private final Clock clock;
+
+	private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+	private final Map<Long, Long> generations = new HashMap<>();
+
+	private final Counter hits;
+	private final Counter misses;
+	private final Counter sizeEvictions;
+	private final Counter expirations;
+	private final Counter invalidations;
+	private final SingleFlight singleFlight;
+
+	@Autowired
+	public ReadinessResultCache(
+		@Value("${app.readiness.cache.enabled:true}") boolean enabled,
+		@Value("${app.readiness.cache.max-size:2000}") int maxSize,
+		@Value("${app.readiness.cache.ttl:PT10M}") Duration ttl,
+		MeterRegistry meterRegistry
+	) {
+		this(enabled, maxSize, ttl, meterRegistry, Clock.systemDefaultZone());
+	}
+
+	ReadinessResultCache(boolean enabled, int maxSize, Duration ttl, MeterRegistry meterRegistry, Clock clock) {
+		this.enabled = enabled;
+		this.maxSize = maxSize;
+		this.ttlMillis = ttl.toMillis();
+		this.clock = clock;
+		this.hits = Counter.builder("readiness.cache.requests").tag("result", "hit").register(meterRegistry);
+		this.misses = Counter.builder("readiness.cache.requests").tag("result", "miss").register(meterRegistry);
+		this.sizeEvictions = Counter.builder("readiness.cache.evictions").tag("cause", "size").register(meterRegistry);
+		this.expirations = Counter.builder("readiness.cache.evictions").tag("cause", "ttl").register(meterRegistry);
+		this.invalidations = Counter.builder("readiness.cache.evictions").tag("cause", "invalidation").register(meterRegistry);
+		Gauge.builder("readiness.cache.size", this, ReadinessResultCache::size).register(meterRegistry);
+		this.singleFlight = new SingleFlight("readiness.cache.single-flight", meterRegistry);
+	}
+
+	/**
+	 * Liefert ein gecachtes Ergebnis oder berechnet es (Berechnung außerhalb des Locks, gleichzeitige Misses gebündelt)
+	 * @param companyId Company des Ergebnisses
+	 * @param name Ergebnis-Name (z.B. "dashboard.kpis")
+	 * @param argument zusätzliches Schlüssel-Argument (z.B. Template-ID) oder null
+	 * @param dependsOn Datenbereiche, deren Änderung das Ergebnis ungültig macht
+	 * @param loader Berechnung bei Cache-Miss
+	 */
+	public <T> T get(Long companyId, String name, Object argument, Set<CompanyDataChangedEvent.Scope> dependsOn, Supplier<T> loader) {
+		if (companyId == null) {
+			return loader.get();
+		}
+
+		Key key = new Key(companyId, name, argument, LocalDate.now(clock));
+		if (!enabled) {
+			return singleFlight.execute(key, loader);
+		}
+		long now = clock.millis();
+		long generation;
+		synchronized (this) {
+			Entry entry = entries.get(key);
+			if (entry != null) {
+				if (now - entry.createdAt() < ttlMillis) {
+					hits.increment();
+					@SuppressWarnings("unchecked")
+					T value = (T) entry.value();
+					return value;
+				}
+				entries.remove(key);
+				expirations.increment();
+			}
+			generation = generations.getOrDefault(companyId, 0L);
+		}
+
+		misses.increment();
+		T value = singleFlight.execute(key, loader);
+
+		synchronized (this) {
+			// Zwischenzeitlich invalidiert: Ergebnis könnte veraltete Daten enthalten
+			if (generations.getOrDefault(companyId, 0L) == generation) {
+				entries.put(key, new Entry(value, now, EnumSet.copyOf(dependsOn)));
+				evictOverflow();
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Invalidiert nach dem Commit alle Einträge der Company, die von den geänderten Datenbereichen abhängen
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCompanyDataChanged(CompanyDataChangedEvent event) {
+		invalidate(event.companyId(), event.scopes());
+	}
+
+	public synchronized void invalidate(Long companyId, Set<CompanyDataChangedEvent.Scope> scopes) {
+		generations.merge(companyId, 1L, Long::sum);
+		Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<Key, Entry> entry = iterator.next();
+			if (entry.getKey().companyId().equals(companyId) && !Collections.disjoint(entry.getValue().dependsOn(), scopes)) {
+				iterator.remove();
+				invalidations.increment();
+			}
+		}
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	private void evictOverflow() {
+		Iterator<Key> eldest = entries.keySet().iterator();
+		while (entries.size() > maxSize && eldest.hasNext()) {
+			eldest.next();
+			eldest.remove();
+			sizeEvictions.increment();
+		}
+	}
+
+	private record Key(Long companyId, String name, Object argument, LocalDate day) {
+
+		private Key {
+			Objects.requireNonNull(companyId);
+			Objects.requireNonNull(name);
+		}
+	}
+
+	private record Entry(Object value, long createdAt, Set<CompanyDataChangedEvent.Scope> dependsOn) {
+	}
+}
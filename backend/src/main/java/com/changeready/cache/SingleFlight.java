@@ -0,0 +1,72 @@
+package com.changeready.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Bündelt gleichzeitige, identische Berechnungen (Single-Flight).
+ *
+ * Der erste Aufrufer eines Schlüssels berechnet, alle weiteren Aufrufer mit demselben Schlüssel warten auf diese
+ * Berechnung und erhalten dasselbe Ergebnis bzw. dieselbe Exception. Nach Abschluss wird der Schlüssel sofort
+ * freigegeben, d.h. es wird nichts über die laufende Berechnung hinaus zwischengespeichert.
+ */
+public final class SingleFlight {
+
+	private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+	private final Counter leaders;
+	private final Counter collapsed;
+
+	public SingleFlight(String metricPrefix, MeterRegistry meterRegistry) {
+		this.leaders = Counter.builder(metricPrefix + ".calls").tag("result", "executed").register(meterRegistry);
+		this.collapsed = Counter.builder(metricPrefix + ".calls").tag("result", "collapsed").register(meterRegistry);
+		Gauge.builder(metricPrefix + ".in-flight", inFlight, Map::size).register(meterRegistry);
+	}
+
+	/**
+	 * Führt loader aus oder wartet auf eine bereits laufende Berechnung mit gleichem Schlüssel
+	 * @param key Schlüssel der Berechnung (equals/hashCode), z.B. (Company, Operation, Parameter)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T execute(Object key, Supplier<T> loader) {
+		CompletableFuture<Object> own = new CompletableFuture<>();
+		CompletableFuture<Object> running = inFlight.putIfAbsent(key, own);
+		if (running != null) {
+			collapsed.increment();
+			return (T) await(running);
+		}
+
+		leaders.increment();
+		try {
+			T value = loader.get();
+			own.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			own.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, own);
+		}
+	}
+
+	private static Object await(CompletableFuture<Object> running) {
+		try {
+			return running.join();
+		} catch (CompletionException e) {
+			// Exception der gemeinsamen Berechnung unverändert an alle Wartenden weitergeben
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package com.changeready.concurrent;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Überträgt SecurityContext und Request-Attribute des aufrufenden Threads auf den ausführenden Thread
+ * (z.B. für @PreAuthorize-geschützte Services und den Request-Snapshot in parallelen Report-Abschnitten).
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+	@Override
+	public Runnable decorate(Runnable runnable) {
+		SecurityContext securityContext = SecurityContextHolder.getContext();
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		return () -> {
+			SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+			RequestAttributes previousRequestAttributes = RequestContextHolder.getRequestAttributes();
+			SecurityContextHolder.setContext(securityContext);
+			RequestContextHolder.setRequestAttributes(requestAttributes);
+			try {
+				runnable.run();
+			} finally {
+				SecurityContextHolder.setContext(previousSecurityContext);
+				RequestContextHolder.setRequestAttributes(previousRequestAttributes);
+			}
+		};
+	}
+}
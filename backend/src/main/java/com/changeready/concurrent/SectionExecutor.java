@@ -0,0 +1,123 @@
+package com.changeready.concurrent;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+/**
+ * Führt unabhängige Abschnitte einer Antwort (z.B. Summary, Departments, Trend) parallel aus.
+ *
+ * - Ein Virtual Thread pro Abschnitt (blockierende JDBC-Aufrufe belegen keine Plattform-Threads).
+ * - Begrenzt über app.sections.max-concurrency, damit parallele Abschnitte den Connection-Pool nicht erschöpfen.
+ *   Auf einen freien Platz wartet der Abschnitt selbst (nicht der aufrufende Request-Thread), die Wartezeit zählt
+ *   zum Timeout des Abschnitts.
+ * - SecurityContext und Request-Attribute werden an die Abschnitte weitergegeben.
+ * - Jeder Abschnitt hat ein eigenes Timeout; die Gesamtlatenz entspricht damit ungefähr der des
+ *   langsamsten Abschnitts statt der Summe aller Abschnitte. Nach Ablauf wird der Abschnitt abgebrochen (Interrupt).
+ */
+@Component
+public class SectionExecutor implements DisposableBean {
+
+	private final SimpleAsyncTaskExecutor executor;
+	private final Semaphore permits;
+	private final Duration sectionTimeout;
+
+	public SectionExecutor(
+		@Value("${app.sections.max-concurrency:8}") int maxConcurrency,
+		@Value("${app.sections.timeout:PT10S}") Duration sectionTimeout
+	) {
+		this.executor = new SimpleAsyncTaskExecutor("section-");
+		this.executor.setVirtualThreads(true);
+		this.executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+		this.permits = new Semaphore(maxConcurrency, true);
+		this.sectionTimeout = sectionTimeout;
+	}
+
+	@Override
+	public void destroy() {
+		executor.close();
+	}
+
+	/**
+	 * Startet einen Abschnitt mit dem Standard-Timeout
+	 */
+	public <T> Section<T> submit(String name, Supplier<T> task) {
+		return submit(name, task, sectionTimeout);
+	}
+
+	/**
+	 * Startet einen Abschnitt mit eigenem Timeout (inkl. Wartezeit auf einen freien Platz)
+	 */
+	public <T> Section<T> submit(String name, Supplier<T> task, Duration timeout) {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		Future<T> future = executor.submit(() -> {
+			if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+				throw new TimeoutException();
+			}
+			try {
+				return task.get();
+			} finally {
+				permits.release();
+			}
+		});
+		return new Section<>(name, future, deadline);
+	}
+
+	/**
+	 * Laufender Abschnitt; {@link #join()} liefert das Ergebnis oder die ursprüngliche Exception
+	 */
+	public static final class Section<T> {
+
+		private final String name;
+		private final Future<T> future;
+		private final long deadline;
+
+		private Section(String name, Future<T> future, long deadline) {
+			this.name = name;
+			this.future = future;
+			this.deadline = deadline;
+		}
+
+		public T join() {
+			try {
+				return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				// Abschnitt abbrechen, damit er keine Connection über das Timeout hinaus belegt
+				future.cancel(true);
+				throw timeout();
+			} catch (InterruptedException e) {
+				future.cancel(true);
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for section '" + name + "'", e);
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof TimeoutException) {
+					throw timeout();
+				}
+				if (cause instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				if (cause instanceof Error error) {
+					throw error;
+				}
+				throw new RuntimeException("Section '" + name + "' failed", cause);
+			}
+		}
+
+		private ResponseStatusException timeout() {
+			return new ResponseStatusException(SERVICE_UNAVAILABLE, "Section '" + name + "' timed out");
+		}
+	}
+}
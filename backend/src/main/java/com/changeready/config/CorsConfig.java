@@ -35,11 +35,12 @@ public class CorsConfig {
 			"Content-Type", 
 			"X-Requested-With", 
 			"Accept", 
-			"Origin"
+			"Origin",
+			"If-None-Match"
 		));
 		
 		// Exposed headers (visible to client)
-		configuration.setExposedHeaders(Arrays.asList("Authorization", "X-Total-Count"));
+		configuration.setExposedHeaders(Arrays.asList("Authorization", "X-Total-Count", "ETag"));
 		
 		// Allow credentials (cookies, auth headers)
 		configuration.setAllowCredentials(true);
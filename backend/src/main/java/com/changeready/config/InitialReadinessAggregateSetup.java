@@ -0,0 +1,65 @@
+package com.changeready.config;
+
+import com.changeready.entity.Company;
+import com.changeready.repository.CompanyRepository;
+import com.changeready.repository.ReadinessAggregateRepository;
+import com.changeready.service.ReadinessAggregateService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backfills the readiness_aggregates table from existing SUBMITTED survey instances.
+ *
+ * Safe behavior:
+ * - Does nothing if the aggregate table already contains data (aggregates are maintained on submit/delete from then on).
+ * - Can be disabled via app.readiness.aggregates.backfill.enabled=false.
+ */
+@Component
+public class InitialReadinessAggregateSetup implements CommandLineRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(InitialReadinessAggregateSetup.class);
+
+	private final ReadinessAggregateRepository aggregateRepository;
+	private final CompanyRepository companyRepository;
+	private final ReadinessAggregateService readinessAggregateService;
+
+	@Value("${app.readiness.aggregates.backfill.enabled:true}")
+	private boolean enabled;
+
+	public InitialReadinessAggregateSetup(
+		ReadinessAggregateRepository aggregateRepository,
+		CompanyRepository companyRepository,
+		ReadinessAggregateService readinessAggregateService
+	) {
+		this.aggregateRepository = aggregateRepository;
+		this.companyRepository = companyRepository;
+		this.readinessAggregateService = readinessAggregateService;
+	}
+
+	@Override
+	public void run(String... args) {
+		if (!enabled) {
+			logger.info("Readiness aggregate backfill disabled (app.readiness.aggregates.backfill.enabled=false).");
+			return;
+		}
+
+		try {
+			if (aggregateRepository.count() > 0) {
+				logger.info("Readiness aggregates already present. Skipping backfill.");
+				return;
+			}
+
+			int writtenBuckets = 0;
+			for (Company company : companyRepository.findAll()) {
+				writtenBuckets += readinessAggregateService.rebuild(company.getId());
+			}
+			logger.info("Backfilled {} readiness aggregate buckets from submitted survey instances.", writtenBuckets);
+		} catch (Exception e) {
+			// Do not crash startup; reporting simply shows empty aggregates until the next backfill.
+			logger.error("Failed to backfill readiness aggregates. Reason: {}", e.getMessage(), e);
+		}
+	}
+}
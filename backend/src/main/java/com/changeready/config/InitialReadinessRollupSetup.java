@@ -0,0 +1,66 @@
+package com.changeready.config;
+
+import com.changeready.entity.Company;
+import com.changeready.repository.CompanyRepository;
+import com.changeready.repository.ReadinessRollupRepository;
+import com.changeready.service.ReadinessRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backfills the readiness_rollups table (daily totals + prefix sums) from existing SUBMITTED survey instances.
+ *
+ * Safe behavior:
+ * - Does nothing if the rollup table already contains data (rollups are maintained on submit/delete and
+ *   reconciled by {@link com.changeready.analytics.ReadinessRollupJob} from then on).
+ * - Can be disabled via app.readiness.rollups.backfill.enabled=false.
+ */
+@Component
+public class InitialReadinessRollupSetup implements CommandLineRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(InitialReadinessRollupSetup.class);
+
+	private final ReadinessRollupRepository rollupRepository;
+	private final CompanyRepository companyRepository;
+	private final ReadinessRollupService readinessRollupService;
+
+	@Value("${app.readiness.rollups.backfill.enabled:true}")
+	private boolean enabled;
+
+	public InitialReadinessRollupSetup(
+		ReadinessRollupRepository rollupRepository,
+		CompanyRepository companyRepository,
+		ReadinessRollupService readinessRollupService
+	) {
+		this.rollupRepository = rollupRepository;
+		this.companyRepository = companyRepository;
+		this.readinessRollupService = readinessRollupService;
+	}
+
+	@Override
+	public void run(String... args) {
+		if (!enabled) {
+			logger.info("Readiness rollup backfill disabled (app.readiness.rollups.backfill.enabled=false).");
+			return;
+		}
+
+		try {
+			if (rollupRepository.count() > 0) {
+				logger.info("Readiness rollups already present. Skipping backfill.");
+				return;
+			}
+
+			int writtenRows = 0;
+			for (Company company : companyRepository.findAll()) {
+				writtenRows += readinessRollupService.rebuild(company.getId());
+			}
+			logger.info("Backfilled {} readiness rollup rows from submitted survey instances.", writtenRows);
+		} catch (Exception e) {
+			// Do not crash startup; point-in-time comparisons show no history until the next backfill/job run.
+			logger.error("Failed to backfill readiness rollups. Reason: {}", e.getMessage(), e);
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.changeready.config;
+
+import com.changeready.entity.Company;
+import com.changeready.entity.SurveyTemplate;
+import com.changeready.repository.CompanyRepository;
+import com.changeready.repository.ReadinessAggregateRepository;
+import com.changeready.repository.SurveyAnswerRepository;
+import com.changeready.repository.SurveyTemplateRepository;
+import com.changeready.service.ReadinessAggregateService;
+import com.changeready.template.TemplateIndexCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Classifies existing survey answers as reverse/regular items (survey_answers.reverse_item) from their template.
+ *
+ * New answers get the flag when they are saved. Answers stored before the flag existed are classified once here;
+ * if any were classified and readiness aggregates already exist, the aggregates are rebuilt so that reverse items
+ * are counted inverted everywhere. Runs before {@link InitialReadinessAggregateSetup}.
+ */
+@Component
+@Order(0)
+public class InitialReverseItemSetup implements CommandLineRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(InitialReverseItemSetup.class);
+
+	private final SurveyTemplateRepository templateRepository;
+	private final SurveyAnswerRepository answerRepository;
+	private final ReadinessAggregateRepository aggregateRepository;
+	private final CompanyRepository companyRepository;
+	private final ReadinessAggregateService readinessAggregateService;
+	private final TemplateIndexCache templateIndexCache;
+
+	public InitialReverseItemSetup(
+		SurveyTemplateRepository templateRepository,
+		SurveyAnswerRepository answerRepository,
+		ReadinessAggregateRepository aggregateRepository,
+		CompanyRepository companyRepository,
+		ReadinessAggregateService readinessAggregateService,
+		TemplateIndexCache templateIndexCache
+	) {
+		this.templateRepository = templateRepository;
+		this.answerRepository = answerRepository;
+		this.aggregateRepository = aggregateRepository;
+		this.companyRepository = companyRepository;
+		this.readinessAggregateService = readinessAggregateService;
+		this.templateIndexCache = templateIndexCache;
+	}
+
+	@Override
+	@Transactional
+	public void run(String... args) {
+		try {
+			int classified = 0;
+			for (SurveyTemplate template : templateRepository.findAll()) {
+				List<String> reverseQuestionIds = templateIndexCache.get(template).reverseQuestionIds();
+				if (!reverseQuestionIds.isEmpty()) {
+					classified += answerRepository.markReverseItems(template.getId(), reverseQuestionIds);
+				}
+				classified += answerRepository.markRegularItems(template.getId());
+			}
+
+			if (classified == 0) {
+				return;
+			}
+			logger.info("Classified {} existing survey answers as reverse/regular items.", classified);
+
+			// Aggregates built before the classification contain raw values for reverse items
+			if (aggregateRepository.count() > 0) {
+				int writtenBuckets = 0;
+				for (Company company : companyRepository.findAll()) {
+					writtenBuckets += readinessAggregateService.rebuild(company.getId());
+				}
+				logger.info("Rebuilt {} readiness aggregate buckets with reverse item scoring.", writtenBuckets);
+			}
+		} catch (Exception e) {
+			// Do not crash startup; unclassified answers are scored as regular items until the next run.
+			logger.error("Failed to classify reverse items. Reason: {}", e.getMessage(), e);
+		}
+	}
+}
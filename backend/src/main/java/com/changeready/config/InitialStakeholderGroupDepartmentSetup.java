@@ -0,0 +1,79 @@
+package com.changeready.config;
+
+import com.changeready.entity.SetupMarker;
+import com.changeready.entity.StakeholderGroup;
+import com.changeready.repository.SetupMarkerRepository;
+import com.changeready.repository.StakeholderGroupRepository;
+import com.changeready.service.StakeholderGroupReadinessService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Backfills stakeholder_groups.department from the group name (former per-request name heuristic).
+ *
+ * Safe behavior:
+ * - Runs once: a setup marker is stored after the backfill, later startups skip it. A department cleared afterwards
+ *   (request with "department": null) is therefore never re-derived from the name.
+ * - Only touches groups without a department; explicitly mapped groups are never changed.
+ * - Groups whose name matches no department stay unmapped (evaluated via their linked persons).
+ * - Can be disabled via app.stakeholders.group-department.backfill.enabled=false.
+ */
+@Component
+public class InitialStakeholderGroupDepartmentSetup implements CommandLineRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(InitialStakeholderGroupDepartmentSetup.class);
+
+	private static final String MARKER = "stakeholder-group-department-backfill";
+
+	private final StakeholderGroupRepository groupRepository;
+	private final StakeholderGroupReadinessService groupReadinessService;
+	private final SetupMarkerRepository setupMarkerRepository;
+
+	@Value("${app.stakeholders.group-department.backfill.enabled:true}")
+	private boolean enabled;
+
+	public InitialStakeholderGroupDepartmentSetup(
+		StakeholderGroupRepository groupRepository,
+		StakeholderGroupReadinessService groupReadinessService,
+		SetupMarkerRepository setupMarkerRepository
+	) {
+		this.groupRepository = groupRepository;
+		this.groupReadinessService = groupReadinessService;
+		this.setupMarkerRepository = setupMarkerRepository;
+	}
+
+	@Override
+	public void run(String... args) {
+		if (!enabled) {
+			logger.info("Stakeholder group department backfill disabled (app.stakeholders.group-department.backfill.enabled=false).");
+			return;
+		}
+
+		try {
+			if (setupMarkerRepository.existsById(MARKER)) {
+				logger.info("Stakeholder group department backfill already applied. Skipping backfill.");
+				return;
+			}
+
+			List<StakeholderGroup> mapped = new ArrayList<>();
+			for (StakeholderGroup group : groupRepository.findByDepartmentIsNull()) {
+				groupReadinessService.suggestDepartment(group.getName()).ifPresent(department -> {
+					group.setDepartment(department);
+					mapped.add(group);
+				});
+			}
+			groupRepository.saveAll(mapped);
+			setupMarkerRepository.save(new SetupMarker(MARKER));
+			logger.info("Backfilled department mapping for {} stakeholder groups.", mapped.size());
+		} catch (Exception e) {
+			// Do not crash startup; the marker is not stored, so the next startup retries.
+			logger.error("Failed to backfill stakeholder group departments. Reason: {}", e.getMessage(), e);
+		}
+	}
+}
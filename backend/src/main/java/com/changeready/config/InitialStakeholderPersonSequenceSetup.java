@@ -0,0 +1,69 @@
+package com.changeready.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Aligns stakeholder_persons_seq with existing rows after switching StakeholderPerson ids from IDENTITY to a
+ * pooled sequence (required for JDBC insert batching).
+ *
+ * Safe behavior:
+ * - Only runs on PostgreSQL; other databases (H2 in tests) start with an empty table and are skipped.
+ * - Never moves the sequence backwards (greatest of current value and max(id) + allocation size).
+ * - Can be disabled via app.stakeholders.person-sequence.align.enabled=false.
+ */
+@Component
+public class InitialStakeholderPersonSequenceSetup implements CommandLineRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(InitialStakeholderPersonSequenceSetup.class);
+
+	/**
+	 * Must match allocationSize of the @SequenceGenerator on StakeholderPerson
+	 */
+	private static final int ALLOCATION_SIZE = 50;
+
+	private final DataSource dataSource;
+
+	@Value("${app.stakeholders.person-sequence.align.enabled:true}")
+	private boolean enabled;
+
+	public InitialStakeholderPersonSequenceSetup(DataSource dataSource) {
+		this.dataSource = dataSource;
+	}
+
+	@Override
+	public void run(String... args) {
+		if (!enabled) {
+			logger.info("Stakeholder person sequence alignment disabled (app.stakeholders.person-sequence.align.enabled=false).");
+			return;
+		}
+
+		try (Connection connection = dataSource.getConnection()) {
+			String product = connection.getMetaData().getDatabaseProductName();
+			if (!"PostgreSQL".equalsIgnoreCase(product)) {
+				logger.info("Stakeholder person sequence alignment skipped for database {}.", product);
+				return;
+			}
+			try (Statement statement = connection.createStatement();
+				 ResultSet resultSet = statement.executeQuery(
+					 "select setval('stakeholder_persons_seq', greatest("
+						 + "(select coalesce(max(id), 0) from stakeholder_persons) + " + ALLOCATION_SIZE + ", "
+						 + "(select last_value from stakeholder_persons_seq)))")) {
+				if (resultSet.next()) {
+					logger.info("Aligned stakeholder_persons_seq to {}.", resultSet.getLong(1));
+				}
+			}
+		} catch (Exception e) {
+			// Do not crash startup; inserts fail with duplicate keys until the sequence is aligned (manually or on next start).
+			logger.error("Failed to align stakeholder person sequence. Reason: {}", e.getMessage(), e);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.changeready.config;
+
+import com.changeready.entity.Company;
+import com.changeready.entity.SetupMarker;
+import com.changeready.repository.CompanyRepository;
+import com.changeready.repository.SetupMarkerRepository;
+import com.changeready.service.StakeholderUserLinkService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backfills stakeholder_persons.user_id from matching user emails (per company).
+ *
+ * Safe behavior:
+ * - Runs once: a setup marker is stored after the backfill, later startups skip it (links are maintained on
+ *   person/user creation and reconciled nightly by {@link com.changeready.service.StakeholderUserLinkReconciler}).
+ * - Persons whose email matches no user of their company stay unlinked; the nightly reconcile checks them again.
+ * - Can be disabled via app.stakeholders.user-link.backfill.enabled=false.
+ */
+@Component
+public class InitialStakeholderUserLinkSetup implements CommandLineRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(InitialStakeholderUserLinkSetup.class);
+
+	private static final String MARKER = "stakeholder-user-link-backfill";
+
+	private final CompanyRepository companyRepository;
+	private final StakeholderUserLinkService stakeholderUserLinkService;
+	private final SetupMarkerRepository setupMarkerRepository;
+
+	@Value("${app.stakeholders.user-link.backfill.enabled:true}")
+	private boolean enabled;
+
+	public InitialStakeholderUserLinkSetup(
+		CompanyRepository companyRepository,
+		StakeholderUserLinkService stakeholderUserLinkService,
+		SetupMarkerRepository setupMarkerRepository
+	) {
+		this.companyRepository = companyRepository;
+		this.stakeholderUserLinkService = stakeholderUserLinkService;
+		this.setupMarkerRepository = setupMarkerRepository;
+	}
+
+	@Override
+	public void run(String... args) {
+		if (!enabled) {
+			logger.info("Stakeholder user link backfill disabled (app.stakeholders.user-link.backfill.enabled=false).");
+			return;
+		}
+
+		try {
+			if (setupMarkerRepository.existsById(MARKER)) {
+				logger.info("Stakeholder user link backfill already applied. Skipping backfill.");
+				return;
+			}
+
+			int linked = 0;
+			for (Company company : companyRepository.findAll()) {
+				linked += stakeholderUserLinkService.reconcile(company.getId());
+			}
+			setupMarkerRepository.save(new SetupMarker(MARKER));
+			logger.info("Backfilled {} stakeholder person user links.", linked);
+		} catch (Exception e) {
+			// Do not crash startup; the marker is not stored, so the next startup retries.
+			logger.error("Failed to backfill stakeholder user links. Reason: {}", e.getMessage(), e);
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package com.changeready.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (e.g. idle eviction of analytics caches).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
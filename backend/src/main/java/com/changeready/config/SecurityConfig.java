@@ -3,6 +3,7 @@ package com.changeready.config;
 import com.changeready.security.JwtAccessDeniedHandler;
 import com.changeready.security.JwtAuthenticationEntryPoint;
 import com.changeready.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -67,6 +68,7 @@ public class SecurityConfig {
 			
 			// Authorization rules
 			.authorizeHttpRequests(auth -> auth
+				.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // Async-Dispatch (z.B. Ende eines SSE-Streams) wurde beim Request bereits autorisiert
 				.requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/index.html").permitAll() // Swagger UI - muss zuerst kommen
 				.requestMatchers("/api/v1/auth/login", "/api/v1/auth/logout").permitAll() // Öffentliche Auth-Endpoints
 				.requestMatchers("/api/v1/debug/**").authenticated() // Debug-Endpoints (nur für Diagnose; zusätzlich durch @PreAuthorize geschützt)
@@ -78,6 +80,8 @@ public class SecurityConfig {
 				.requestMatchers("/api/v1/reporting/**").authenticated() // Reporting-Endpoints
 				.requestMatchers("/api/v1/measures/**").authenticated() // Measures-Endpoints
 				.requestMatchers("/api/v1/surveys/**").authenticated() // Survey-Endpoints
+				.requestMatchers("/actuator/health").permitAll() // Health-Check (Load Balancer / Docker)
+				.requestMatchers("/actuator/**").hasRole("SYSTEM_ADMIN") // Metriken (u.a. Readiness-Cache) nur für System-Admins
 				.anyRequest().permitAll()
 			)
 			
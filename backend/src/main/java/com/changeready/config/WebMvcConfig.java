@@ -0,0 +1,24 @@
+package com.changeready.config;
+
+import com.changeready.web.DataVersionETagInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring-MVC-Konfiguration: Conditional GET (ETag / 304) für Company-Daten-Endpoints
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+	private final DataVersionETagInterceptor dataVersionETagInterceptor;
+
+	public WebMvcConfig(DataVersionETagInterceptor dataVersionETagInterceptor) {
+		this.dataVersionETagInterceptor = dataVersionETagInterceptor;
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(dataVersionETagInterceptor).addPathPatterns("/api/v1/**");
+	}
+}
@@ -0,0 +1,53 @@
+package com.changeready.controller;
+
+import com.changeready.analytics.AnswerCubeManager;
+import com.changeready.dto.analytics.AnswerCubeStatsResponse;
+import com.changeready.service.ReadinessRollupService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/analytics")
+@PreAuthorize("hasRole('SYSTEM_ADMIN')")
+public class AnalyticsController {
+
+	private final AnswerCubeManager answerCubeManager;
+	private final ReadinessRollupService readinessRollupService;
+
+	public AnalyticsController(AnswerCubeManager answerCubeManager, ReadinessRollupService readinessRollupService) {
+		this.answerCubeManager = answerCubeManager;
+		this.readinessRollupService = readinessRollupService;
+	}
+
+	/**
+	 * GET /api/v1/admin/analytics/cubes
+	 * Speicherverbrauch der geladenen Answer-Cubes pro Company
+	 */
+	@GetMapping("/cubes")
+	public ResponseEntity<List<AnswerCubeStatsResponse>> getCubeStats() {
+		return ResponseEntity.ok(answerCubeManager.getStats());
+	}
+
+	/**
+	 * DELETE /api/v1/admin/analytics/cubes/{companyId}
+	 * Verwirft den Cube einer Company (wird beim nächsten Zugriff neu geladen)
+	 */
+	@DeleteMapping("/cubes/{companyId}")
+	public ResponseEntity<Void> evictCube(@PathVariable Long companyId) {
+		answerCubeManager.evict(companyId);
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * POST /api/v1/admin/analytics/rollups/{companyId}/rebuild
+	 * Baut die Tages-Rollups einer Company neu auf
+	 * @return Anzahl geschriebener Rollup-Zeilen
+	 */
+	@PostMapping("/rollups/{companyId}/rebuild")
+	public ResponseEntity<Integer> rebuildRollups(@PathVariable Long companyId) {
+		return ResponseEntity.ok(readinessRollupService.rebuild(companyId));
+	}
+}
@@ -1,20 +1,27 @@
 package com.changeready.controller;
 
+import com.changeready.analytics.TimeSeriesQuery;
 import com.changeready.dto.dashboard.DashboardKpisResponse;
 import com.changeready.dto.dashboard.TrendDataResponse;
 import com.changeready.security.UserPrincipal;
 import com.changeready.service.DashboardService;
+import com.changeready.web.DataVersionETag;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/api/v1/dashboard")
 @PreAuthorize("hasAnyRole('SYSTEM_ADMIN', 'COMPANY_ADMIN', 'COMPANY_USER')")
+@DataVersionETag
 public class DashboardController {
 
 	private final DashboardService dashboardService;
@@ -32,12 +39,22 @@ public class DashboardController {
 		return ResponseEntity.ok(kpis);
 	}
 
+	/**
+	 * GET /api/v1/dashboard/trends?from=&to=&granularity=day|week|month&maxPoints=
+	 * Ohne Parameter: ein Datenpunkt pro Abgabetag über den gesamten Zeitraum
+	 */
 	@GetMapping("/trends")
-	public ResponseEntity<TrendDataResponse> getTrendData() {
+	public ResponseEntity<TrendDataResponse> getTrendData(
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+		@RequestParam(required = false) String granularity,
+		@RequestParam(required = false) Integer maxPoints
+	) {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
 		
-		TrendDataResponse trendData = dashboardService.getTrendData(userPrincipal);
+		TrendDataResponse trendData = dashboardService.getTrendData(userPrincipal,
+			TimeSeriesQuery.of(from, to, granularity, maxPoints, null));
 		return ResponseEntity.ok(trendData);
 	}
 }
@@ -0,0 +1,40 @@
+package com.changeready.controller;
+
+import com.changeready.security.UserPrincipal;
+import com.changeready.stream.DashboardStreamHub;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Live-Dashboard (Server-Sent Events) als Alternative zum Polling von /kpis und /reporting/departments.
+ * Bewusst ohne @DataVersionETag: der Stream ist kein Conditional GET.
+ */
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@PreAuthorize("hasAnyRole('SYSTEM_ADMIN', 'COMPANY_ADMIN', 'COMPANY_USER')")
+public class DashboardStreamController {
+
+	private final DashboardStreamHub dashboardStreamHub;
+
+	public DashboardStreamController(DashboardStreamHub dashboardStreamHub) {
+		this.dashboardStreamHub = dashboardStreamHub;
+	}
+
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter stream(HttpServletResponse response) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+
+		// Reverse Proxies (nginx) dürfen den Stream nicht puffern
+		response.setHeader("X-Accel-Buffering", "no");
+		response.setHeader("Cache-Control", "no-cache");
+		return dashboardStreamHub.subscribe(userPrincipal);
+	}
+}
@@ -1,13 +1,17 @@
 package com.changeready.controller;
 
+import com.changeready.analytics.TimeSeriesQuery;
 import com.changeready.dto.dashboard.TrendDataResponse;
 import com.changeready.dto.reporting.DepartmentReadinessResponse;
 import com.changeready.dto.reporting.ManagementSummaryResponse;
 import com.changeready.dto.reporting.ReportingDataResponse;
 import com.changeready.dto.reporting.SurveyResultResponse;
+import com.changeready.dto.reporting.TemplateDepartmentHeatmapResponse;
 import com.changeready.dto.reporting.TemplateDepartmentResultResponse;
 import com.changeready.security.UserPrincipal;
 import com.changeready.service.ReportingService;
+import com.changeready.web.DataVersionETag;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -15,13 +19,16 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/reporting")
 @PreAuthorize("hasAnyRole('SYSTEM_ADMIN', 'COMPANY_ADMIN', 'COMPANY_USER')")
+@DataVersionETag
 public class ReportingController {
 
 	private final ReportingService reportingService;
@@ -57,12 +64,22 @@ public class ReportingController {
 		return ResponseEntity.ok(departments);
 	}
 
+	/**
+	 * GET /api/v1/reporting/trends?from=&to=&granularity=day|week|month&maxPoints=
+	 * Ohne Parameter: ein Datenpunkt pro Abgabetag über den gesamten Zeitraum
+	 */
 	@GetMapping("/trends")
-	public ResponseEntity<TrendDataResponse> getTrendData() {
+	public ResponseEntity<TrendDataResponse> getTrendData(
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+		@RequestParam(required = false) String granularity,
+		@RequestParam(required = false) Integer maxPoints
+	) {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
 		
-		TrendDataResponse trendData = reportingService.getTrendData(userPrincipal);
+		TrendDataResponse trendData = reportingService.getTrendData(userPrincipal,
+			TimeSeriesQuery.of(from, to, granularity, maxPoints, null));
 		return ResponseEntity.ok(trendData);
 	}
 
@@ -91,5 +108,17 @@ public class ReportingController {
 		List<TemplateDepartmentResultResponse> results = reportingService.getTemplateDepartmentResults(id, userPrincipal);
 		return ResponseEntity.ok(results);
 	}
-}
 
+	/**
+	 * GET /api/v1/reporting/templates/{id}/results/departments/heatmap
+	 * Lädt Template-spezifische Department-Results als kompakte Heatmap (parallele Arrays)
+	 */
+	@GetMapping("/templates/{id}/results/departments/heatmap")
+	public ResponseEntity<TemplateDepartmentHeatmapResponse> getTemplateDepartmentHeatmap(@PathVariable Long id) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+		
+		TemplateDepartmentHeatmapResponse heatmap = reportingService.getTemplateDepartmentHeatmap(id, userPrincipal);
+		return ResponseEntity.ok(heatmap);
+	}
+}
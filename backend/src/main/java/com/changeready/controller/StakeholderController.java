@@ -1,32 +1,48 @@
 package com.changeready.controller;
 
+import com.changeready.analytics.TimeSeriesQuery;
+import com.changeready.dto.stakeholder.ReadinessHistoryPointResponse;
 import com.changeready.dto.stakeholder.StakeholderGroupCreateRequest;
 import com.changeready.dto.stakeholder.StakeholderGroupDetailResponse;
 import com.changeready.dto.stakeholder.StakeholderGroupResponse;
 import com.changeready.dto.stakeholder.StakeholderGroupUpdateRequest;
 import com.changeready.dto.stakeholder.StakeholderKpisResponse;
 import com.changeready.dto.stakeholder.StakeholderPersonCreateRequest;
+import com.changeready.dto.stakeholder.StakeholderPersonImportResponse;
+import com.changeready.dto.stakeholder.StakeholderPersonImportRow;
 import com.changeready.dto.stakeholder.StakeholderPersonResponse;
 import com.changeready.security.UserPrincipal;
+import com.changeready.service.StakeholderPersonCsvParser;
+import com.changeready.service.StakeholderPersonImportService;
 import com.changeready.service.StakeholderService;
+import com.changeready.web.DataVersionETag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/stakeholder")
 @PreAuthorize("hasAnyRole('SYSTEM_ADMIN', 'COMPANY_ADMIN', 'COMPANY_USER')")
+@DataVersionETag
 public class StakeholderController {
 
 	private final StakeholderService stakeholderService;
+	private final StakeholderPersonImportService personImportService;
 
-	public StakeholderController(StakeholderService stakeholderService) {
+	public StakeholderController(
+		StakeholderService stakeholderService,
+		StakeholderPersonImportService personImportService
+	) {
 		this.stakeholderService = stakeholderService;
+		this.personImportService = personImportService;
 	}
 
 	@GetMapping("/groups")
@@ -56,6 +72,27 @@ public class StakeholderController {
 		return ResponseEntity.ok(detail);
 	}
 
+	/**
+	 * GET /api/v1/stakeholder/groups/{id}/history?from=&to=&granularity=day|week|month&maxPoints=
+	 * Readiness-Historie einer Gruppe; ohne from die letzten 30 Tage (wie in der Detailansicht)
+	 */
+	@GetMapping("/groups/{id}/history")
+	public ResponseEntity<List<ReadinessHistoryPointResponse>> getGroupHistory(
+		@PathVariable Long id,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+		@RequestParam(required = false) String granularity,
+		@RequestParam(required = false) Integer maxPoints
+	) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+
+		TimeSeriesQuery query = TimeSeriesQuery.of(from, to, granularity, maxPoints,
+			LocalDate.now().minusDays(StakeholderService.HISTORY_DAYS));
+		List<ReadinessHistoryPointResponse> history = stakeholderService.getGroupHistory(id, query, userPrincipal);
+		return ResponseEntity.ok(history);
+	}
+
 	@GetMapping("/groups/{id}/persons")
 	public ResponseEntity<List<StakeholderPersonResponse>> getGroupPersons(@PathVariable Long id) {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -130,5 +167,35 @@ public class StakeholderController {
 		StakeholderPersonResponse person = stakeholderService.addPerson(id, request, userPrincipal);
 		return ResponseEntity.ok(person);
 	}
-}
 
+	/**
+	 * POST /api/v1/stakeholder/persons/import (application/json)
+	 * Importiert Personen gruppenübergreifend aus einem JSON-Array; Ergebnis pro Zeile
+	 * SYSTEM_ADMIN und COMPANY_ADMIN dürfen Personen importieren
+	 */
+	@PostMapping(value = "/persons/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+	@PreAuthorize("hasAnyRole('SYSTEM_ADMIN', 'COMPANY_ADMIN')")
+	public ResponseEntity<StakeholderPersonImportResponse> importPersons(@RequestBody List<StakeholderPersonImportRow> rows) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+
+		StakeholderPersonImportResponse response = personImportService.importPersons(rows, userPrincipal);
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * POST /api/v1/stakeholder/persons/import (text/csv)
+	 * Importiert Personen aus CSV (Header: groupId und/oder group, name, role, email; Trennzeichen , oder ;)
+	 * SYSTEM_ADMIN und COMPANY_ADMIN dürfen Personen importieren
+	 */
+	@PostMapping(value = "/persons/import", consumes = "text/csv")
+	@PreAuthorize("hasAnyRole('SYSTEM_ADMIN', 'COMPANY_ADMIN')")
+	public ResponseEntity<StakeholderPersonImportResponse> importPersonsCsv(@RequestBody String csv) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+
+		StakeholderPersonImportResponse response = personImportService.importPersons(
+			StakeholderPersonCsvParser.parse(csv), userPrincipal);
+		return ResponseEntity.ok(response);
+	}
+}
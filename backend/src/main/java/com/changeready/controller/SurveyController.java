@@ -1,13 +1,19 @@
 package com.changeready.controller;
 
+import com.changeready.dto.survey.SurveyAnswerSaveResponse;
 import com.changeready.dto.survey.SurveyAnswerUpdateRequest;
 import com.changeready.dto.survey.SurveyInstanceCreateRequest;
 import com.changeready.dto.survey.SurveyInstanceDetailResponse;
 import com.changeready.dto.survey.SurveyInstanceResponse;
 import com.changeready.dto.survey.SurveyTemplateResponse;
+import com.changeready.dto.survey.SurveyTemplateSummaryResponse;
 import com.changeready.security.UserPrincipal;
 import com.changeready.service.SurveyService;
+import com.changeready.template.TemplateStructurePayload;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -15,6 +21,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/v1/surveys")
@@ -40,6 +47,52 @@ public class SurveyController {
 		return ResponseEntity.ok(templates);
 	}
 
+	/**
+	 * GET /api/v1/surveys/templates/summaries
+	 * Lädt alle aktiven Survey-Templates ohne Kategorien-Struktur (Metadaten + Content-Hash)
+	 */
+	@GetMapping("/templates/summaries")
+	public ResponseEntity<List<SurveyTemplateSummaryResponse>> getTemplateSummaries() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+		
+		return ResponseEntity.ok(surveyService.getTemplateSummaries(userPrincipal));
+	}
+
+	/**
+	 * GET /api/v1/surveys/templates/{templateId}/structure?hash={contentHash}
+	 * Liefert die Kategorien-Struktur als vorab serialisierte (und bei Accept-Encoding: gzip komprimierte) Bytes.
+	 * Passt hash zum aktuellen Inhalt, ist die Antwort unveränderlich cachebar; sonst nur per ETag revalidierbar.
+	 */
+	@GetMapping("/templates/{templateId}/structure")
+	public ResponseEntity<byte[]> getTemplateStructure(
+		@PathVariable Long templateId,
+		@RequestParam(required = false) String hash,
+		@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+	) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+		
+		TemplateStructurePayload payload = surveyService.getTemplateStructure(templateId, userPrincipal);
+		boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+		
+		// Immutable nur für die hash-adressierte URL: ändert sich das Template, ändert sich auch die URL
+		CacheControl cacheControl = payload.getContentHash().equals(hash)
+			? CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable()
+			: CacheControl.noCache().cachePrivate();
+		
+		// Eigenes ETag pro Encoding; bei passendem If-None-Match antwortet Spring mit 304
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+			.eTag("\"" + payload.getContentHash() + (gzip ? "-gzip" : "") + "\"")
+			.cacheControl(cacheControl)
+			.varyBy(HttpHeaders.ACCEPT_ENCODING)
+			.contentType(MediaType.APPLICATION_JSON);
+		if (gzip) {
+			return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.getGzip());
+		}
+		return builder.body(payload.getJson());
+	}
+
 	/**
 	 * POST /api/v1/surveys/instances
 	 * Erstellt eine neue Survey-Instanz
@@ -69,30 +122,35 @@ public class SurveyController {
 	/**
 	 * GET /api/v1/surveys/instances/{id}
 	 * Lädt eine spezifische Survey-Instanz mit Template und Antworten
+	 * Mit ?sinceVersion=n nur die seit Version n geänderten Antworten (Delta, ohne Template)
 	 */
 	@GetMapping("/instances/{id}")
-	public ResponseEntity<SurveyInstanceDetailResponse> getInstance(@PathVariable Long id) {
+	public ResponseEntity<SurveyInstanceDetailResponse> getInstance(
+		@PathVariable Long id,
+		@RequestParam(required = false) Long sinceVersion
+	) {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
 		
-		SurveyInstanceDetailResponse instance = surveyService.getInstance(id, userPrincipal);
+		SurveyInstanceDetailResponse instance = surveyService.getInstance(id, sinceVersion, userPrincipal);
 		return ResponseEntity.ok(instance);
 	}
 
 	/**
 	 * PUT /api/v1/surveys/instances/{id}/answers
 	 * Speichert oder aktualisiert Antworten einer Survey-Instanz (Autosave)
+	 * Mit baseVersion: 409 und Delta seit baseVersion, falls zwischenzeitlich anders gespeichert wurde
 	 */
 	@PutMapping("/instances/{id}/answers")
-	public ResponseEntity<Void> saveAnswers(
+	public ResponseEntity<SurveyAnswerSaveResponse> saveAnswers(
 		@PathVariable Long id,
 		@Valid @RequestBody SurveyAnswerUpdateRequest request
 	) {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
 		
-		surveyService.saveAnswers(id, request, userPrincipal);
-		return ResponseEntity.ok().build();
+		SurveyAnswerSaveResponse response = surveyService.saveAnswers(id, request, userPrincipal);
+		return ResponseEntity.ok(response);
 	}
 
 	/**
@@ -0,0 +1,24 @@
+package com.changeready.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerCubeStatsResponse {
+
+	private Long companyId;
+	private boolean loaded;
+	private int instanceCount;
+	private int answerCount;
+	private int rowCount;
+	private long estimatedBytes;
+	private LocalDateTime createdAt;
+	private LocalDateTime lastAccessAt;
+}
@@ -0,0 +1,28 @@
+package com.changeready.dto.dashboard;
+
+import com.changeready.dto.reporting.DepartmentReadinessResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Live-Update des Dashboards (SSE-Event "dashboard")
+ * Bei full = false enthält departments nur Abteilungen, deren Readiness sich seit dem letzten Event geändert hat.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardStreamEvent {
+
+	private Long version; // Fortlaufende Nummer pro Company (Lücken = übersprungene Zwischenstände)
+	private Boolean full; // true: vollständiger Stand (z.B. beim Verbindungsaufbau)
+	private Integer totalSurveys;
+	private Integer completedSurveys;
+	private Integer openSurveys;
+	private Double overallReadiness;
+	private List<DepartmentReadinessResponse> departments;
+}
@@ -0,0 +1,29 @@
+package com.changeready.dto.reporting;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Kompakte Response für die Department-Vergleichsansicht eines Templates (Heatmap)
+ * Spalten = Subcategories (categories/subcategories parallel), Zeilen = Departments (departments/departmentNames/
+ * participantCounts parallel), Zellen in averages/answeredCounts als [Zeile][Spalte]
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TemplateDepartmentHeatmapResponse {
+
+	private Long templateId;
+	private List<String> categories; // Kategorie-Name pro Spalte
+	private List<String> subcategories; // Subkategorie-Name pro Spalte
+	private List<String> departments; // Department enum name pro Zeile
+	private List<String> departmentNames; // Display-Name pro Zeile
+	private List<Integer> participantCounts; // Anzahl Teilnehmer pro Zeile
+	private List<Double[]> averages; // Durchschnitt (1-5) pro Zelle, null wenn keine Antworten
+	private List<int[]> answeredCounts; // Anzahl beantworteter Fragen pro Zelle
+}
@@ -1,9 +1,11 @@
 package com.changeready.dto.stakeholder;
 
+import com.changeready.entity.Department;
 import com.changeready.entity.StakeholderGroup;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -11,7 +13,6 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 public class StakeholderGroupCreateRequest {
 	@NotBlank(message = "Name is required")
 	private String name;
@@ -22,5 +23,23 @@ public class StakeholderGroupCreateRequest {
 	private StakeholderGroup.Impact impact;
 
 	private String description;
+
+	/**
+	 * Optional: Department-Zuordnung. Ohne Angabe wird sie aus dem Gruppennamen abgeleitet (z.B. "Einkauf" -> EINKAUF),
+	 * null oder "" legt die Gruppe bewusst ohne Zuordnung an (Auswertung über ihre Personen)
+	 */
+	@Setter(AccessLevel.NONE)
+	private Department department;
+	/**
+	 * true, wenn "department" im Request enthalten ist
+	 */
+	@JsonIgnore
+	@Setter(AccessLevel.NONE)
+	private boolean departmentSet;
+
+	public void setDepartment(String department) {
+		this.departmentSet = true;
+		this.department = department == null || department.isBlank() ? null : Department.valueOf(department.trim());
+	}
 }
 
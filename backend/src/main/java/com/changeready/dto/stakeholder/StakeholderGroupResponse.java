@@ -22,5 +22,6 @@ public class StakeholderGroupResponse {
 	private Integer critics;
 	private String status; // "ready", "attention", "critical"
 	private String impact; // "Niedrig", "Mittel", "Hoch", "Sehr hoch", "Strategisch"
+	private String department; // Department enum name (z.B. "EINKAUF") oder null wenn personenbasiert
 }
 
@@ -1,7 +1,9 @@
 package com.changeready.dto.stakeholder;
 
+import com.changeready.entity.Department;
 import com.changeready.entity.StakeholderGroup;
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -9,7 +11,6 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 public class StakeholderGroupUpdateRequest {
 	/**
 	 * Alle Felder sind optional für Update
@@ -18,5 +19,17 @@ public class StakeholderGroupUpdateRequest {
 	private String icon;
 	private StakeholderGroup.Impact impact;
 	private String description;
-}
+	@Setter(AccessLevel.NONE)
+	private Department department;
+	/**
+	 * true, wenn "department" im Request enthalten ist; null oder "" entfernt die Zuordnung
+	 */
+	@JsonIgnore
+	@Setter(AccessLevel.NONE)
+	private boolean departmentSet;
 
+	public void setDepartment(String department) {
+		this.departmentSet = true;
+		this.department = department == null || department.isBlank() ? null : Department.valueOf(department.trim());
+	}
+}
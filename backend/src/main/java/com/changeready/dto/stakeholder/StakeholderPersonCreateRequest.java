@@ -2,6 +2,7 @@ package com.changeready.dto.stakeholder;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,11 +14,14 @@ import lombok.Setter;
 @AllArgsConstructor
 public class StakeholderPersonCreateRequest {
 	@NotBlank(message = "Name is required")
+	@Size(max = 255, message = "Name must not exceed 255 characters")
 	private String name;
 
+	@Size(max = 100, message = "Role must not exceed 100 characters")
 	private String role;
 
 	@Email(message = "Email must be valid")
+	@Size(max = 255, message = "Email must not exceed 255 characters")
 	private String email;
 }
 
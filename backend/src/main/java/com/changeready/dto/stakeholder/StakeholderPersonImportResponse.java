@@ -0,0 +1,21 @@
+package com.changeready.dto.stakeholder;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StakeholderPersonImportResponse {
+
+	private Integer total;
+	private Integer created;
+	private Integer duplicates;
+	private Integer invalid;
+	private List<StakeholderPersonImportResult> results; // in Eingabe-Reihenfolge
+}
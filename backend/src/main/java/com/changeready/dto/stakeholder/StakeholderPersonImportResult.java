@@ -0,0 +1,23 @@
+package com.changeready.dto.stakeholder;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Ergebnis einer Import-Zeile
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StakeholderPersonImportResult {
+
+	private Integer row; // 1-basiert (CSV: Datenzeile ohne Header)
+	private String status; // "created", "duplicate", "invalid"
+	private Long personId; // nur bei "created"
+	private Long groupId;
+	private String email;
+	private String message; // Grund bei "duplicate"/"invalid"
+}
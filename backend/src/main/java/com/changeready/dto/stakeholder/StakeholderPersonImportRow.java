@@ -0,0 +1,29 @@
+package com.changeready.dto.stakeholder;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Eine Zeile des Personen-Imports (JSON-Array oder CSV-Zeile)
+ * Die Gruppe wird über groupId oder (falls nicht gesetzt) über den Gruppennamen der Company bestimmt.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StakeholderPersonImportRow {
+
+	private Long groupId;
+	private String groupName;
+	private String name;
+	private String role;
+	private String email;
+	/**
+	 * Fehler beim Einlesen der Zeile (z.B. ungültige groupId in der CSV), wird pro Zeile als "invalid" gemeldet
+	 */
+	@JsonIgnore
+	private String error;
+}
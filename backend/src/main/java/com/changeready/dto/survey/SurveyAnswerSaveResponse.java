@@ -0,0 +1,14 @@
+package com.changeready.dto.survey;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SurveyAnswerSaveResponse {
+	private Long answersVersion; // Basis-Version für das nächste Autosave
+}
@@ -16,6 +16,12 @@ import java.util.List;
 public class SurveyAnswerUpdateRequest {
 	@NotEmpty(message = "Answers list cannot be empty")
 	@Valid
-	private List<SurveyAnswerItem> answers;
+	private List<SurveyAnswerItem> answers; // nur geänderte Fragen nötig
+
+	/**
+	 * Optional: zuletzt gesehene Antwort-Version. Weicht sie von der aktuellen ab, wird mit 409 und dem Delta
+	 * seit dieser Version abgelehnt. Ohne Basis-Version wird bedingungslos geschrieben.
+	 */
+	private Long baseVersion;
 }
 
@@ -16,11 +16,14 @@ import java.util.List;
 @AllArgsConstructor
 public class SurveyInstanceDetailResponse {
 	private Long id;
-	private SurveyTemplateResponse template;
+	private SurveyTemplateResponse template; // null bei Delta-Antworten (sinceVersion)
 	private SurveyInstance.ParticipantType participantType;
 	private Department department;
 	private SurveyInstance.SurveyInstanceStatus status;
-	private List<SurveyAnswerResponse> answers;
+	private List<SurveyAnswerResponse> answers; // bei Delta-Antworten nur die seit sinceVersion geänderten
+	private Long answersVersion;
+	private Long sinceVersion; // null = vollständige Antwort
+	private List<String> answeredQuestionIds; // nur bei Delta-Antworten: alle aktuell beantworteten Fragen (erkennt Löschungen)
 	private LocalDateTime createdAt;
 	private LocalDateTime updatedAt;
 	private LocalDateTime submittedAt;
@@ -22,6 +22,10 @@ public class SurveyTemplateResponse {
 	 * Wird vom Frontend geparst
 	 */
 	private String categoriesJson;
+	/**
+	 * SHA-256 der Kategorien-Struktur (identisch mit /templates/{id}/structure)
+	 */
+	private String contentHash;
 	private LocalDateTime createdAt;
 	private LocalDateTime updatedAt;
 }
@@ -0,0 +1,27 @@
+package com.changeready.dto.survey;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Template-Metadaten ohne Kategorien-Struktur
+ * Die Struktur wird separat über /templates/{id}/structure?hash={contentHash} geladen (unveränderlich cachebar)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SurveyTemplateSummaryResponse {
+	private Long id;
+	private String name;
+	private String description;
+	private String version;
+	private Boolean active;
+	private String contentHash; // SHA-256 der Kategorien-Struktur
+	private LocalDateTime createdAt;
+	private LocalDateTime updatedAt;
+}
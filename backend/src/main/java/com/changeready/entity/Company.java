@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -28,6 +29,14 @@ public class Company {
 	@Column(nullable = false)
 	private Boolean active = true;
 
+	/**
+	 * Monoton steigende Datenversion der Company (Survey-Abgaben, Stakeholder-Änderungen, ...).
+	 * Wird ausschließlich per Update-Query hochgezählt (updatable = false), damit Entity-Updates sie nie zurücksetzen.
+	 */
+	@ColumnDefault("0")
+	@Column(name = "data_version", nullable = false, updatable = false)
+	private long dataVersion;
+
 	@Column(name = "created_at", nullable = false, updatable = false)
 	private LocalDateTime createdAt;
 
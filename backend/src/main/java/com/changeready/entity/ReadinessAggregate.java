@@ -0,0 +1,117 @@
+package com.changeready.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Vorberechnete Readiness-Aggregate pro (Company, Template, Department, ParticipantType, Tag).
+ * Wird beim Absenden/Löschen von Survey-Instanzen in derselben Transaktion gepflegt,
+ * damit Dashboard und Reporting nicht mehr jede einzelne Antwort laden müssen.
+ */
+@Entity
+@Table(name = "readiness_aggregates", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_readiness_aggregate_bucket",
+		columnNames = {"company_id", "template_id", "department", "participant_type", "bucket_date"})
+}, indexes = {
+	@Index(name = "idx_readiness_aggregate_company_date", columnList = "company_id, bucket_date")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadinessAggregate {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "company_id", nullable = false, foreignKey = @ForeignKey(name = "fk_readiness_aggregate_company"))
+	private Company company;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "template_id", nullable = false, foreignKey = @ForeignKey(name = "fk_readiness_aggregate_template"))
+	private SurveyTemplate template;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private Department department;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "participant_type", nullable = false)
+	private SurveyInstance.ParticipantType participantType;
+
+	/**
+	 * Tag der Abgabe (submittedAt als Datum)
+	 */
+	@Column(name = "bucket_date", nullable = false)
+	private LocalDate bucketDate;
+
+	/**
+	 * Summe aller gewerteten Antwort-Werte (1-5, Reverse-Items invertiert) in diesem Bucket
+	 */
+	@Column(name = "value_sum", nullable = false)
+	private long valueSum;
+
+	/**
+	 * Anzahl aller Antworten in diesem Bucket
+	 */
+	@Column(name = "answer_count", nullable = false)
+	private long answerCount;
+
+	/**
+	 * Histogramm der gewerteten Antwort-Werte 1-5
+	 */
+	@Column(name = "value_count_1", nullable = false)
+	private long valueCount1;
+
+	@Column(name = "value_count_2", nullable = false)
+	private long valueCount2;
+
+	@Column(name = "value_count_3", nullable = false)
+	private long valueCount3;
+
+	@Column(name = "value_count_4", nullable = false)
+	private long valueCount4;
+
+	@Column(name = "value_count_5", nullable = false)
+	private long valueCount5;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+
+	@PrePersist
+	@PreUpdate
+	protected void onUpdate() {
+		updatedAt = LocalDateTime.now();
+	}
+
+	/**
+	 * Addiert (sign = 1) oder subtrahiert (sign = -1) einen einzelnen Antwort-Wert
+	 */
+	public void apply(int value, int sign) {
+		add(value, sign);
+	}
+
+	/**
+	 * Addiert count Antworten mit dem gleichen Wert (negativ zum Entfernen)
+	 */
+	public void add(int value, long count) {
+		valueSum += count * value;
+		answerCount += count;
+		switch (value) {
+			case 1 -> valueCount1 += count;
+			case 2 -> valueCount2 += count;
+			case 3 -> valueCount3 += count;
+			case 4 -> valueCount4 += count;
+			case 5 -> valueCount5 += count;
+			default -> { }
+		}
+	}
+}
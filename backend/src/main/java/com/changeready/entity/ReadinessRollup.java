@@ -0,0 +1,98 @@
+package com.changeready.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Tägliche Readiness-Rollups pro (Company, Segment, Tag) inkl. kumulierter Präfix-Summen.
+ *
+ * Eine Zeile existiert nur für Tage mit Abgaben. Die Readiness "Stand Tag X" ist die kumulierte Summe der
+ * letzten Zeile vor X (Index-Seek über company_id, segment_type, segment_key, rollup_date), die Differenz
+ * zweier Stichtage ergibt die Readiness der dazwischen abgegebenen Antworten.
+ */
+@Entity
+@Table(name = "readiness_rollups", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_readiness_rollup_day",
+		columnNames = {"company_id", "segment_type", "segment_key", "rollup_date"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadinessRollup {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "company_id", nullable = false, foreignKey = @ForeignKey(name = "fk_readiness_rollup_company"))
+	private Company company;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "segment_type", nullable = false, length = 20)
+	private SegmentType segmentType;
+
+	/**
+	 * Schlüssel innerhalb des Segment-Typs: "" (COMPANY), Department-Name (DEPARTMENT) oder User-ID (USER)
+	 */
+	@Column(name = "segment_key", nullable = false, length = 50)
+	private String segmentKey;
+
+	@Column(name = "rollup_date", nullable = false)
+	private LocalDate rollupDate;
+
+	/**
+	 * Summe/Anzahl der gewerteten Antworten dieses Tages
+	 */
+	@Column(name = "day_value_sum", nullable = false)
+	private long dayValueSum;
+
+	@Column(name = "day_answer_count", nullable = false)
+	private long dayAnswerCount;
+
+	/**
+	 * Kumulierte Summe/Anzahl aller gewerteten Antworten bis einschließlich rollupDate
+	 */
+	@Column(name = "cumulative_value_sum", nullable = false)
+	private long cumulativeValueSum;
+
+	@Column(name = "cumulative_answer_count", nullable = false)
+	private long cumulativeAnswerCount;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+
+	@PrePersist
+	@PreUpdate
+	protected void onUpdate() {
+		updatedAt = LocalDateTime.now();
+	}
+
+	/**
+	 * Segment-Schlüssel der gesamten Company
+	 */
+	public static String companyKey() {
+		return "";
+	}
+
+	public static String departmentKey(Department department) {
+		return department.name();
+	}
+
+	public static String userKey(Long userId) {
+		return String.valueOf(userId);
+	}
+
+	public enum SegmentType {
+		COMPANY,
+		DEPARTMENT,
+		USER
+	}
+}
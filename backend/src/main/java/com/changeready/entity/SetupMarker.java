@@ -0,0 +1,37 @@
+package com.changeready.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Markiert einmalige Daten-Backfills beim Start als ausgeführt (ein Eintrag pro Backfill, danach nie wieder).
+ */
+@Entity
+@Table(name = "setup_markers")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SetupMarker {
+
+	@Id
+	@Column(length = 100)
+	private String name;
+
+	@Column(name = "applied_at", nullable = false, updatable = false)
+	private LocalDateTime appliedAt;
+
+	public SetupMarker(String name) {
+		this.name = name;
+	}
+
+	@PrePersist
+	protected void onCreate() {
+		appliedAt = LocalDateTime.now();
+	}
+}
@@ -9,7 +9,9 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "stakeholder_groups")
+@Table(name = "stakeholder_groups", indexes = {
+	@Index(name = "idx_stakeholder_group_company_department", columnList = "company_id, department")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,6 +42,13 @@ public class StakeholderGroup {
 	@Column(columnDefinition = "TEXT")
 	private String description;
 
+	/**
+	 * Optional: Department, über dessen Abgaben die Gruppe bewertet wird (statt über die verknüpften Personen)
+	 */
+	@Enumerated(EnumType.STRING)
+	@Column(length = 50)
+	private Department department;
+
 	@Column(name = "created_at", nullable = false, updatable = false)
 	private LocalDateTime createdAt;
 
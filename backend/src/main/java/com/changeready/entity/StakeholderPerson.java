@@ -9,15 +9,22 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "stakeholder_persons")
+@Table(name = "stakeholder_persons", indexes = {
+	@Index(name = "idx_stakeholder_person_user", columnList = "user_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class StakeholderPerson {
 
+	/**
+	 * Sequence statt IDENTITY: IDs werden in Blöcken vorab reserviert, damit Hibernate Inserts per JDBC-Batch
+	 * schreiben kann (Bulk-Import). Bestehende Tabellen gleicht InitialStakeholderPersonSequenceSetup ab.
+	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stakeholder_person_seq")
+	@SequenceGenerator(name = "stakeholder_person_seq", sequenceName = "stakeholder_persons_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -36,6 +43,14 @@ public class StakeholderPerson {
 	@Column(length = 255)
 	private String email;
 
+	/**
+	 * Verknüpfter User (gleiche E-Mail innerhalb der Company), gepflegt vom StakeholderUserLinkService.
+	 * Ersetzt das String-Matching über die E-Mail bei Readiness-Auswertungen.
+	 */
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", foreignKey = @ForeignKey(name = "fk_stakeholder_person_user"))
+	private User user;
+
 	@Column(name = "created_at", nullable = false, updatable = false)
 	private LocalDateTime createdAt;
 
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -41,6 +42,21 @@ public class SurveyAnswer {
 	@Column(nullable = false)
 	private Integer value;
 
+	/**
+	 * Reverse-Item laut Template: Wert fließt invertiert (6 - value) in die Readiness ein
+	 * Wird beim Speichern aus dem Template übernommen, damit SQL-Aggregationen direkt invertieren können
+	 */
+	@Column(name = "reverse_item")
+	private Boolean reverseItem;
+
+	/**
+	 * Antwort-Version der Instanz (SurveyInstance.answersVersion), mit der die Antwort zuletzt geschrieben wurde.
+	 * Grundlage für Delta-Abfragen ("alle Antworten seit Version n").
+	 */
+	@ColumnDefault("0")
+	@Column(name = "changed_version", nullable = false)
+	private long changedVersion;
+
 	@Column(name = "created_at", nullable = false, updatable = false)
 	private LocalDateTime createdAt;
 
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -47,6 +48,14 @@ public class SurveyInstance {
 	@Column(name = "submitted_at")
 	private LocalDateTime submittedAt;
 
+	/**
+	 * Version der Antworten (optimistisches Locking für Autosave): wird bei jedem Speichern von Antworten erhöht.
+	 * Nur per Bulk-Update (SurveyInstanceRepository.incrementAnswersVersion) geändert, nie über die Entity.
+	 */
+	@ColumnDefault("0")
+	@Column(name = "answers_version", nullable = false, updatable = false)
+	private long answersVersion;
+
 	@Column(name = "created_at", nullable = false, updatable = false)
 	private LocalDateTime createdAt;
 
@@ -0,0 +1,39 @@
+package com.changeready.event;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Wird veröffentlicht, wenn sich auswertungsrelevante Daten einer Company ändern.
+ *
+ * Listener reagieren transaktionsgebunden: die Datenversion wird vor dem Commit hochgezählt,
+ * Ergebnis-Caches werden erst nach dem Commit invalidiert.
+ *
+ * @param companyId betroffene Company
+ * @param scopes geänderte Datenbereiche (für gezielte Invalidierung)
+ */
+public record CompanyDataChangedEvent(Long companyId, Set<Scope> scopes) {
+
+	public CompanyDataChangedEvent {
+		scopes = scopes.isEmpty() ? EnumSet.noneOf(Scope.class) : EnumSet.copyOf(scopes);
+	}
+
+	public static CompanyDataChangedEvent of(Long companyId, Scope scope, Scope... more) {
+		return new CompanyDataChangedEvent(companyId, EnumSet.of(scope, more));
+	}
+
+	public enum Scope {
+		/**
+		 * Survey-Instanzen und Antworten (Readiness, Trends, Template-Results, offene Surveys)
+		 */
+		SURVEYS,
+		/**
+		 * Stakeholder-Gruppen und -Personen
+		 */
+		STAKEHOLDERS,
+		/**
+		 * Maßnahmen
+		 */
+		MEASURES
+	}
+}
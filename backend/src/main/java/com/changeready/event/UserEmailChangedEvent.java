@@ -0,0 +1,11 @@
+package com.changeready.event;
+
+/**
+ * Wird veröffentlicht, wenn sich die E-Mail eines Users ändert.
+ * Die Verknüpfung von Stakeholder-Personen wird daraufhin nach dem Commit im Hintergrund abgeglichen.
+ *
+ * @param companyId Company des Users
+ * @param userId betroffener User
+ */
+public record UserEmailChangedEvent(Long companyId, Long userId) {
+}
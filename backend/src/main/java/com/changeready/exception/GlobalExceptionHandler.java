@@ -1,6 +1,7 @@
 package com.changeready.exception;
 
 import com.changeready.dto.error.ErrorResponse;
+import com.changeready.dto.survey.SurveyInstanceDetailResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -43,6 +44,12 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
 	}
 
+	@ExceptionHandler(StaleAnswersException.class)
+	public ResponseEntity<SurveyInstanceDetailResponse> handleStaleAnswersException(StaleAnswersException ex) {
+		// 409 with the answers changed since the client's base version, so it can merge without a full reload
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getCurrent());
+	}
+
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex) {
 		Map<String, String> errors = new HashMap<>();
@@ -0,0 +1,20 @@
+package com.changeready.exception;
+
+import com.changeready.dto.survey.SurveyInstanceDetailResponse;
+
+/**
+ * Autosave auf Basis einer veralteten Antwort-Version; trägt das Delta seit dieser Version für den Client
+ */
+public class StaleAnswersException extends RuntimeException {
+
+	private final SurveyInstanceDetailResponse current;
+
+	public StaleAnswersException(String message, SurveyInstanceDetailResponse current) {
+		super(message);
+		this.current = current;
+	}
+
+	public SurveyInstanceDetailResponse getCurrent() {
+		return current;
+	}
+}
@@ -2,6 +2,9 @@ package com.changeready.repository;
 
 import com.changeready.entity.Company;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,5 +12,18 @@ import java.util.Optional;
 @Repository
 public interface CompanyRepository extends JpaRepository<Company, Long> {
 	Optional<Company> findByName(String name);
+
+	/**
+	 * Aktuelle Datenversion einer Company (ohne die Entity zu laden)
+	 */
+	@Query("select c.dataVersion from Company c where c.id = :companyId")
+	Optional<Long> findDataVersionById(@Param("companyId") Long companyId);
+
+	/**
+	 * Zählt die Datenversion einer Company atomar hoch
+	 */
+	@Modifying
+	@Query("update Company c set c.dataVersion = c.dataVersion + 1 where c.id = :companyId")
+	int incrementDataVersion(@Param("companyId") Long companyId);
 }
 
@@ -0,0 +1,17 @@
+package com.changeready.repository;
+
+import com.changeready.entity.ReadinessAggregate;
+
+/**
+ * Atomarer Schreibpfad für Aggregat-Buckets (parallele Erst-Abgaben in denselben Bucket)
+ */
+public interface ReadinessAggregateBulkRepository {
+
+	/**
+	 * Addiert die Werte eines Deltas auf seinen Bucket oder legt den Bucket an (Schlüssel: uk_readiness_aggregate_bucket).
+	 * Auf PostgreSQL ein einziges INSERT ... ON CONFLICT DO UPDATE, sonst gesperrtes Laden plus JPA-Write.
+	 * @param delta Nicht persistiertes Aggregat mit Bucket-Schlüssel (Company, Template, Department,
+	 *              ParticipantType, Tag) und den zu addierenden Summen/Anzahlen
+	 */
+	void addToBucket(ReadinessAggregate delta);
+}
@@ -0,0 +1,99 @@
+package com.changeready.repository;
+
+import com.changeready.entity.ReadinessAggregate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementierung des Fragments {@link ReadinessAggregateBulkRepository} (von Spring Data über das Suffix "Impl" gefunden)
+ */
+class ReadinessAggregateBulkRepositoryImpl implements ReadinessAggregateBulkRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private volatile Boolean postgres;
+
+	@Override
+	public void addToBucket(ReadinessAggregate delta) {
+		if (!isPostgres()) {
+			addWithEntities(delta);
+			return;
+		}
+
+		// Ein fehlender Bucket lässt sich nicht sperren: Anlegen und Inkrement daher in einem Statement
+		entityManager.createNativeQuery("insert into readiness_aggregates (company_id, template_id, department, "
+				+ "participant_type, bucket_date, value_sum, answer_count, value_count_1, value_count_2, value_count_3, "
+				+ "value_count_4, value_count_5, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+				+ "on conflict (company_id, template_id, department, participant_type, bucket_date) do update set "
+				+ "value_sum = readiness_aggregates.value_sum + excluded.value_sum, "
+				+ "answer_count = readiness_aggregates.answer_count + excluded.answer_count, "
+				+ "value_count_1 = readiness_aggregates.value_count_1 + excluded.value_count_1, "
+				+ "value_count_2 = readiness_aggregates.value_count_2 + excluded.value_count_2, "
+				+ "value_count_3 = readiness_aggregates.value_count_3 + excluded.value_count_3, "
+				+ "value_count_4 = readiness_aggregates.value_count_4 + excluded.value_count_4, "
+				+ "value_count_5 = readiness_aggregates.value_count_5 + excluded.value_count_5, "
+				+ "updated_at = excluded.updated_at")
+			.setParameter(1, delta.getCompany().getId())
+			.setParameter(2, delta.getTemplate().getId())
+			.setParameter(3, delta.getDepartment().name())
+			.setParameter(4, delta.getParticipantType().name())
+			.setParameter(5, delta.getBucketDate())
+			.setParameter(6, delta.getValueSum())
+			.setParameter(7, delta.getAnswerCount())
+			.setParameter(8, delta.getValueCount1())
+			.setParameter(9, delta.getValueCount2())
+			.setParameter(10, delta.getValueCount3())
+			.setParameter(11, delta.getValueCount4())
+			.setParameter(12, delta.getValueCount5())
+			.setParameter(13, LocalDateTime.now())
+			.executeUpdate();
+	}
+
+	/**
+	 * Fallback ohne ON CONFLICT (z.B. H2 in Tests): bestehenden Bucket gesperrt laden, sonst neu anlegen
+	 */
+	private void addWithEntities(ReadinessAggregate delta) {
+		List<ReadinessAggregate> existing = entityManager.createQuery(
+				"select a from ReadinessAggregate a where a.company.id = :companyId and a.template.id = :templateId "
+					+ "and a.department = :department and a.participantType = :participantType "
+					+ "and a.bucketDate = :bucketDate", ReadinessAggregate.class)
+			.setParameter("companyId", delta.getCompany().getId())
+			.setParameter("templateId", delta.getTemplate().getId())
+			.setParameter("department", delta.getDepartment())
+			.setParameter("participantType", delta.getParticipantType())
+			.setParameter("bucketDate", delta.getBucketDate())
+			.setLockMode(LockModeType.PESSIMISTIC_WRITE)
+			.getResultList();
+		if (existing.isEmpty()) {
+			entityManager.persist(delta);
+			return;
+		}
+
+		// Managed Entity: Änderung wird beim Flush geschrieben
+		ReadinessAggregate aggregate = existing.get(0);
+		aggregate.setValueSum(aggregate.getValueSum() + delta.getValueSum());
+		aggregate.setAnswerCount(aggregate.getAnswerCount() + delta.getAnswerCount());
+		aggregate.setValueCount1(aggregate.getValueCount1() + delta.getValueCount1());
+		aggregate.setValueCount2(aggregate.getValueCount2() + delta.getValueCount2());
+		aggregate.setValueCount3(aggregate.getValueCount3() + delta.getValueCount3());
+		aggregate.setValueCount4(aggregate.getValueCount4() + delta.getValueCount4());
+		aggregate.setValueCount5(aggregate.getValueCount5() + delta.getValueCount5());
+	}
+
+	private boolean isPostgres() {
+		Boolean result = postgres;
+		if (result == null) {
+			result = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+				.getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+			postgres = result;
+		}
+		return result;
+	}
+}
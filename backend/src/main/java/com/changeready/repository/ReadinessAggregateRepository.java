@@ -0,0 +1,42 @@
+package com.changeready.repository;
+
+import com.changeready.entity.Department;
+import com.changeready.entity.ReadinessAggregate;
+import com.changeready.entity.SurveyInstance;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReadinessAggregateRepository extends JpaRepository<ReadinessAggregate, Long>, ReadinessAggregateBulkRepository {
+
+	/**
+	 * Findet alle Aggregate einer Company
+	 * @param companyId Company-ID
+	 * @return Liste von ReadinessAggregates der Company
+	 */
+	List<ReadinessAggregate> findByCompanyId(Long companyId);
+
+	/**
+	 * Findet einen Aggregat-Bucket und sperrt ihn für das Dekrement (verhindert Lost Updates bei parallelen Änderungen)
+	 * Anlegen/Inkrementieren läuft atomar über {@link #addToBucket}
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<ReadinessAggregate> findByCompanyIdAndTemplateIdAndDepartmentAndParticipantTypeAndBucketDate(
+		Long companyId,
+		Long templateId,
+		Department department,
+		SurveyInstance.ParticipantType participantType,
+		LocalDate bucketDate
+	);
+
+	/**
+	 * Löscht alle Aggregate einer Company (für Rebuild)
+	 */
+	void deleteByCompanyId(Long companyId);
+}
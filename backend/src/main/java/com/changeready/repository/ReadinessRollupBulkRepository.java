@@ -0,0 +1,21 @@
+package com.changeready.repository;
+
+import com.changeready.entity.ReadinessRollup;
+
+/**
+ * Atomarer Schreibpfad für Tages-Rollups (parallele Abgaben in dasselbe Segment)
+ */
+public interface ReadinessRollupBulkRepository {
+
+	/**
+	 * Addiert ein Delta auf den Tag seines Segments (Schlüssel: uk_readiness_rollup_day). Ein neuer Tag setzt mit
+	 * seiner Präfix-Summe auf dem letzten Tag davor auf, ein Tag ohne gewertete Antworten wird entfernt.
+	 * Auf PostgreSQL sperrt der Aufruf das Segment bis zum Transaktionsende und schreibt per INSERT ... ON CONFLICT
+	 * DO UPDATE, sonst gesperrtes Laden plus JPA-Write. Die Folgetage verschiebt der Aufrufer danach über
+	 * {@link ReadinessRollupRepository#shiftCumulativeAfter}.
+	 * @param delta Nicht persistierter Rollup mit Tages-Schlüssel (Company, Segment, Tag) und den zu addierenden
+	 *              Tages-Summen (negativ beim Entfernen einer Abgabe)
+	 * @return false, wenn ein negatives Delta keinen Tag vorfand (nichts zu entfernen, Folgetage nicht verschieben)
+	 */
+	boolean addToDay(ReadinessRollup delta);
+}
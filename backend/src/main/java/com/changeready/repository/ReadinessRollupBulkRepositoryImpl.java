@@ -0,0 +1,157 @@
+package com.changeready.repository;
+
+import com.changeready.entity.ReadinessRollup;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementierung des Fragments {@link ReadinessRollupBulkRepository} (von Spring Data über das Suffix "Impl" gefunden)
+ */
+class ReadinessRollupBulkRepositoryImpl implements ReadinessRollupBulkRepository {
+
+	private static final String DAY_KEY = "company_id = :companyId and segment_type = :segmentType "
+		+ "and segment_key = :segmentKey and rollup_date = :day";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private volatile Boolean postgres;
+
+	@Override
+	public boolean addToDay(ReadinessRollup delta) {
+		if (!isPostgres()) {
+			return addWithEntities(delta);
+		}
+
+		// Segment-Sperre bis Transaktionsende: Präfix-Summe eines neuen Tages und shiftCumulativeAfter
+		// paralleler Änderungen (auch an älteren Tagen) laufen damit nacheinander
+		entityManager.createNativeQuery("select 1 from pg_advisory_xact_lock(hashtext(:segment))")
+			.setParameter("segment", delta.getCompany().getId() + ":" + delta.getSegmentType().name() + ":" + delta.getSegmentKey())
+			.getSingleResult();
+
+		if (delta.getDayAnswerCount() < 0) {
+			int updated = entityManager.createNativeQuery("update readiness_rollups set "
+					+ "day_value_sum = day_value_sum + :valueSum, day_answer_count = day_answer_count + :answerCount, "
+					+ "cumulative_value_sum = cumulative_value_sum + :valueSum, "
+					+ "cumulative_answer_count = cumulative_answer_count + :answerCount, updated_at = :now "
+					+ "where " + DAY_KEY)
+				.setParameter("valueSum", delta.getDayValueSum())
+				.setParameter("answerCount", delta.getDayAnswerCount())
+				.setParameter("now", LocalDateTime.now())
+				.setParameter("companyId", delta.getCompany().getId())
+				.setParameter("segmentType", delta.getSegmentType().name())
+				.setParameter("segmentKey", delta.getSegmentKey())
+				.setParameter("day", delta.getRollupDate())
+				.executeUpdate();
+			if (updated == 0) {
+				return false;
+			}
+			entityManager.createNativeQuery("delete from readiness_rollups where " + DAY_KEY + " and day_answer_count <= 0")
+				.setParameter("companyId", delta.getCompany().getId())
+				.setParameter("segmentType", delta.getSegmentType().name())
+				.setParameter("segmentKey", delta.getSegmentKey())
+				.setParameter("day", delta.getRollupDate())
+				.executeUpdate();
+			return true;
+		}
+
+		// Neuer Tag startet auf der Präfix-Summe des letzten Tages davor, ein bestehender addiert nur das Delta
+		entityManager.createNativeQuery("insert into readiness_rollups (company_id, segment_type, segment_key, rollup_date, "
+				+ "day_value_sum, day_answer_count, cumulative_value_sum, cumulative_answer_count, updated_at) values ("
+				+ ":companyId, :segmentType, :segmentKey, :day, :valueSum, :answerCount, "
+				+ "coalesce((select p.cumulative_value_sum from readiness_rollups p where p.company_id = :companyId "
+				+ "and p.segment_type = :segmentType and p.segment_key = :segmentKey and p.rollup_date < :day "
+				+ "order by p.rollup_date desc limit 1), 0) + :valueSum, "
+				+ "coalesce((select p.cumulative_answer_count from readiness_rollups p where p.company_id = :companyId "
+				+ "and p.segment_type = :segmentType and p.segment_key = :segmentKey and p.rollup_date < :day "
+				+ "order by p.rollup_date desc limit 1), 0) + :answerCount, :now) "
+				+ "on conflict (company_id, segment_type, segment_key, rollup_date) do update set "
+				+ "day_value_sum = readiness_rollups.day_value_sum + excluded.day_value_sum, "
+				+ "day_answer_count = readiness_rollups.day_answer_count + excluded.day_answer_count, "
+				+ "cumulative_value_sum = readiness_rollups.cumulative_value_sum + excluded.day_value_sum, "
+				+ "cumulative_answer_count = readiness_rollups.cumulative_answer_count + excluded.day_answer_count, "
+				+ "updated_at = excluded.updated_at")
+			.setParameter("companyId", delta.getCompany().getId())
+			.setParameter("segmentType", delta.getSegmentType().name())
+			.setParameter("segmentKey", delta.getSegmentKey())
+			.setParameter("day", delta.getRollupDate())
+			.setParameter("valueSum", delta.getDayValueSum())
+			.setParameter("answerCount", delta.getDayAnswerCount())
+			.setParameter("now", LocalDateTime.now())
+			.executeUpdate();
+		return true;
+	}
+
+	/**
+	 * Fallback ohne ON CONFLICT (z.B. H2 in Tests): bestehenden Tag gesperrt laden, sonst neu anlegen
+	 */
+	private boolean addWithEntities(ReadinessRollup delta) {
+		List<ReadinessRollup> existing = entityManager.createQuery(
+				"select r from ReadinessRollup r where r.company.id = :companyId and r.segmentType = :segmentType "
+					+ "and r.segmentKey = :segmentKey and r.rollupDate = :day", ReadinessRollup.class)
+			.setParameter("companyId", delta.getCompany().getId())
+			.setParameter("segmentType", delta.getSegmentType())
+			.setParameter("segmentKey", delta.getSegmentKey())
+			.setParameter("day", delta.getRollupDate())
+			.setLockMode(LockModeType.PESSIMISTIC_WRITE)
+			.getResultList();
+
+		ReadinessRollup rollup;
+		if (existing.isEmpty()) {
+			if (delta.getDayAnswerCount() < 0) {
+				return false;
+			}
+			List<ReadinessRollup> previous = entityManager.createQuery(
+					"select r from ReadinessRollup r where r.company.id = :companyId and r.segmentType = :segmentType "
+						+ "and r.segmentKey = :segmentKey and r.rollupDate < :day order by r.rollupDate desc", ReadinessRollup.class)
+				.setParameter("companyId", delta.getCompany().getId())
+				.setParameter("segmentType", delta.getSegmentType())
+				.setParameter("segmentKey", delta.getSegmentKey())
+				.setParameter("day", delta.getRollupDate())
+				.setMaxResults(1)
+				.getResultList();
+			long previousSum = 0;
+			long previousCount = 0;
+			if (!previous.isEmpty()) {
+				// Bulk-Updates (shiftCumulativeAfter) umgehen den Persistence Context
+				entityManager.refresh(previous.get(0));
+				previousSum = previous.get(0).getCumulativeValueSum();
+				previousCount = previous.get(0).getCumulativeAnswerCount();
+			}
+			rollup = delta;
+			rollup.setCumulativeValueSum(previousSum + delta.getDayValueSum());
+			rollup.setCumulativeAnswerCount(previousCount + delta.getDayAnswerCount());
+			entityManager.persist(rollup);
+			return true;
+		}
+
+		// Managed Entity: Änderung wird beim Flush geschrieben (vorher auffrischen, sonst würde eine per
+		// shiftCumulativeAfter verschobene Präfix-Summe veraltet zurückgeschrieben)
+		rollup = existing.get(0);
+		entityManager.refresh(rollup);
+		rollup.setDayValueSum(rollup.getDayValueSum() + delta.getDayValueSum());
+		rollup.setDayAnswerCount(rollup.getDayAnswerCount() + delta.getDayAnswerCount());
+		rollup.setCumulativeValueSum(rollup.getCumulativeValueSum() + delta.getDayValueSum());
+		rollup.setCumulativeAnswerCount(rollup.getCumulativeAnswerCount() + delta.getDayAnswerCount());
+		if (rollup.getDayAnswerCount() <= 0) {
+			entityManager.remove(rollup);
+		}
+		return true;
+	}
+
+	private boolean isPostgres() {
+		Boolean result = postgres;
+		if (result == null) {
+			result = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+				.getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+			postgres = result;
+		}
+		return result;
+	}
+}
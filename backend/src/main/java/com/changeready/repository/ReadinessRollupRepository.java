@@ -0,0 +1,71 @@
+package com.changeready.repository;
+
+import com.changeready.entity.ReadinessRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReadinessRollupRepository extends JpaRepository<ReadinessRollup, Long>, ReadinessRollupBulkRepository {
+
+	/**
+	 * Letzter Rollup eines Segments vor einem Stichtag (Index-Seek, O(log n))
+	 * @param before Stichtag (exklusiv)
+	 * @return Rollup mit den kumulierten Summen "Stand Stichtag"
+	 */
+	Optional<ReadinessRollup> findFirstByCompanyIdAndSegmentTypeAndSegmentKeyAndRollupDateBeforeOrderByRollupDateDesc(
+		Long companyId,
+		ReadinessRollup.SegmentType segmentType,
+		String segmentKey,
+		LocalDate before
+	);
+
+	/**
+	 * Letzter Rollup vor einem Stichtag für mehrere Segmente eines Typs (ein Index-Seek pro Segment)
+	 * @param before Stichtag (exklusiv)
+	 * @return höchstens ein Rollup pro Segment (Segmente ohne Daten vor dem Stichtag fehlen)
+	 */
+	@Query("select r from ReadinessRollup r " +
+		"where r.company.id = :companyId and r.segmentType = :segmentType and r.segmentKey in :segmentKeys " +
+		"and r.rollupDate = (select max(r2.rollupDate) from ReadinessRollup r2 " +
+		"where r2.company.id = r.company.id and r2.segmentType = r.segmentType and r2.segmentKey = r.segmentKey " +
+		"and r2.rollupDate < :before)")
+	List<ReadinessRollup> findLatestBefore(
+		@Param("companyId") Long companyId,
+		@Param("segmentType") ReadinessRollup.SegmentType segmentType,
+		@Param("segmentKeys") Collection<String> segmentKeys,
+		@Param("before") LocalDate before
+	);
+
+	/**
+	 * Verschiebt die kumulierten Summen aller späteren Tage eines Segments (nachträgliche Änderung eines Tages)
+	 * @param after Tag der Änderung (exklusiv)
+	 */
+	@Modifying
+	@Query("update ReadinessRollup r set r.cumulativeValueSum = r.cumulativeValueSum + :valueSum, " +
+		"r.cumulativeAnswerCount = r.cumulativeAnswerCount + :answerCount " +
+		"where r.company.id = :companyId and r.segmentType = :segmentType and r.segmentKey = :segmentKey " +
+		"and r.rollupDate > :after")
+	int shiftCumulativeAfter(
+		@Param("companyId") Long companyId,
+		@Param("segmentType") ReadinessRollup.SegmentType segmentType,
+		@Param("segmentKey") String segmentKey,
+		@Param("after") LocalDate after,
+		@Param("valueSum") long valueSum,
+		@Param("answerCount") long answerCount
+	);
+
+	/**
+	 * Löscht alle Rollups einer Company (für Rebuild)
+	 */
+	@Modifying
+	@Query("delete from ReadinessRollup r where r.company.id = :companyId")
+	int deleteByCompanyId(@Param("companyId") Long companyId);
+}
@@ -0,0 +1,9 @@
+package com.changeready.repository;
+
+import com.changeready.entity.SetupMarker;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SetupMarkerRepository extends JpaRepository<SetupMarker, String> {
+}
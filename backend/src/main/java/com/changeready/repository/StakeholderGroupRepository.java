@@ -24,5 +24,11 @@ public interface StakeholderGroupRepository extends JpaRepository<StakeholderGro
 	 * @return Optional StakeholderGroup
 	 */
 	Optional<StakeholderGroup> findByIdAndCompanyId(Long id, Long companyId);
+
+	/**
+	 * Findet alle Gruppen ohne Department-Zuordnung (Backfill aus dem Gruppennamen)
+	 * @return Liste von StakeholderGroups ohne Department
+	 */
+	List<StakeholderGroup> findByDepartmentIsNull();
 }
 
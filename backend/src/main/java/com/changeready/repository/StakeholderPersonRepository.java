@@ -1,7 +1,11 @@
 package com.changeready.repository;
 
 import com.changeready.entity.StakeholderPerson;
+import com.changeready.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,6 +20,40 @@ public interface StakeholderPersonRepository extends JpaRepository<StakeholderPe
 	 */
 	List<StakeholderPerson> findByGroupId(Long groupId);
 
+	/**
+	 * Findet alle Stakeholder-Personen einer Company (über alle Gruppen, eine Abfrage statt einer pro Gruppe)
+	 * @param companyId Company-ID
+	 * @return Liste von StakeholderPersons der Company
+	 */
+	List<StakeholderPerson> findByGroupCompanyId(Long companyId);
+
+	/**
+	 * Findet alle Personen der Gruppen ohne Department-Zuordnung einer Company (nur diese werden personenbasiert bewertet)
+	 * @param companyId Company-ID
+	 * @return Liste von StakeholderPersons
+	 */
+	List<StakeholderPerson> findByGroupCompanyIdAndGroupDepartmentIsNull(Long companyId);
+
+	/**
+	 * Zählt alle Stakeholder-Personen einer Company (über alle Gruppen)
+	 * @param companyId Company-ID
+	 * @return Anzahl Personen
+	 */
+	long countByGroupCompanyId(Long companyId);
+
+	/**
+	 * Verknüpft alle Personen der Company mit passender E-Mail mit dem User
+	 * @param companyId Company-ID
+	 * @param email E-Mail des Users
+	 * @param user User
+	 * @return Anzahl geänderter Personen
+	 */
+	@Modifying
+	@Query("update StakeholderPerson p set p.user = :user " +
+		"where p.email = :email and (p.user is null or p.user <> :user) " +
+		"and p.group.id in (select g.id from StakeholderGroup g where g.company.id = :companyId)")
+	int linkByEmail(@Param("companyId") Long companyId, @Param("email") String email, @Param("user") User user);
+
 	/**
 	 * Löscht alle Personen einer Stakeholder-Gruppe
 	 */
@@ -0,0 +1,28 @@
+package com.changeready.repository;
+
+import java.util.Collection;
+
+/**
+ * Mengen-Schreibpfad für Antworten (Autosave einer ganzen Fragebogen-Seite in einem Statement)
+ */
+public interface SurveyAnswerBulkRepository {
+
+	/**
+	 * Zu speichernder Antwort-Wert einer Frage
+	 * @param questionId Frage-ID (pro Aufruf eindeutig)
+	 * @param value Likert-Wert 1-5
+	 * @param reverseItem Reverse-Item laut Template
+	 * @param version Antwort-Version der Instanz, mit der der Wert geschrieben wurde
+	 */
+	record AnswerValue(String questionId, int value, boolean reverseItem, long version) {
+	}
+
+	/**
+	 * Legt Antworten an oder aktualisiert sie (Schlüssel: uk_survey_answer_instance_question).
+	 * Auf PostgreSQL ein einziges INSERT ... ON CONFLICT DO UPDATE, sonst ein Lade-Query plus JPA-Writes.
+	 * @param instanceId SurveyInstance-ID
+	 * @param answers Antworten mit eindeutigen Frage-IDs
+	 * @return Anzahl geschriebener Zeilen
+	 */
+	int upsertAnswers(Long instanceId, Collection<AnswerValue> answers);
+}
@@ -0,0 +1,118 @@
+package com.changeready.repository;
+
+import com.changeready.entity.SurveyAnswer;
+import com.changeready.entity.SurveyInstance;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementierung des Fragments {@link SurveyAnswerBulkRepository} (von Spring Data über das Suffix "Impl" gefunden)
+ */
+class SurveyAnswerBulkRepositoryImpl implements SurveyAnswerBulkRepository {
+
+	/**
+	 * Zeilen pro Statement (7 Parameter pro Zeile, deutlich unter dem Limit von 32767 Bind-Parametern)
+	 */
+	private static final int ROWS_PER_STATEMENT = 1000;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private volatile Boolean postgres;
+
+	@Override
+	public int upsertAnswers(Long instanceId, Collection<AnswerValue> answers) {
+		if (answers.isEmpty()) {
+			return 0;
+		}
+		if (!isPostgres()) {
+			return upsertWithEntities(instanceId, answers);
+		}
+
+		List<AnswerValue> rows = new ArrayList<>(answers);
+		LocalDateTime now = LocalDateTime.now();
+		int written = 0;
+		for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+			List<AnswerValue> chunk = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+			StringBuilder sql = new StringBuilder(
+				"insert into survey_answers (instance_id, question_id, value, reverse_item, changed_version, created_at, updated_at) values ");
+			for (int i = 0; i < chunk.size(); i++) {
+				sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?)");
+			}
+			// created_at bleibt bei bestehenden Antworten unverändert
+			sql.append(" on conflict (instance_id, question_id) do update set value = excluded.value, "
+				+ "reverse_item = excluded.reverse_item, changed_version = excluded.changed_version, "
+				+ "updated_at = excluded.updated_at");
+
+			Query query = entityManager.createNativeQuery(sql.toString());
+			int position = 1;
+			for (AnswerValue answer : chunk) {
+				query.setParameter(position++, instanceId);
+				query.setParameter(position++, answer.questionId());
+				query.setParameter(position++, answer.value());
+				query.setParameter(position++, answer.reverseItem());
+				query.setParameter(position++, answer.version());
+				query.setParameter(position++, now);
+				query.setParameter(position++, now);
+			}
+			written += query.executeUpdate();
+		}
+		return written;
+	}
+
+	/**
+	 * Fallback ohne ON CONFLICT (z.B. H2 in Tests): bestehende Antworten mit einer Abfrage laden, dann per JPA schreiben
+	 */
+	private int upsertWithEntities(Long instanceId, Collection<AnswerValue> answers) {
+		List<String> questionIds = answers.stream().map(AnswerValue::questionId).toList();
+		Map<String, SurveyAnswer> existingByQuestion = new HashMap<>();
+		for (SurveyAnswer answer : entityManager.createQuery(
+				"select a from SurveyAnswer a where a.instance.id = :instanceId and a.questionId in :questionIds",
+				SurveyAnswer.class)
+			.setParameter("instanceId", instanceId)
+			.setParameter("questionIds", questionIds)
+			.getResultList()) {
+			existingByQuestion.put(answer.getQuestionId(), answer);
+		}
+
+		SurveyInstance instance = entityManager.getReference(SurveyInstance.class, instanceId);
+		for (AnswerValue value : answers) {
+			SurveyAnswer answer = existingByQuestion.get(value.questionId());
+			if (answer == null) {
+				answer = new SurveyAnswer();
+				answer.setInstance(instance);
+				answer.setQuestionId(value.questionId());
+				answer.setValue(value.value());
+				answer.setReverseItem(value.reverseItem());
+				answer.setChangedVersion(value.version());
+				entityManager.persist(answer);
+			} else {
+				// Managed Entity: Änderung wird beim Flush geschrieben
+				answer.setValue(value.value());
+				answer.setReverseItem(value.reverseItem());
+				answer.setChangedVersion(value.version());
+			}
+		}
+		return answers.size();
+	}
+
+	private boolean isPostgres() {
+		Boolean result = postgres;
+		if (result == null) {
+			result = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+				.getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+			postgres = result;
+		}
+		return result;
+	}
+}
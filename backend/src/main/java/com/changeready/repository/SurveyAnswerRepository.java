@@ -1,14 +1,29 @@
 package com.changeready.repository;
 
 import com.changeready.entity.SurveyAnswer;
+import com.changeready.entity.SurveyInstance;
+import com.changeready.repository.projection.CubeAnswerRow;
+import com.changeready.repository.projection.DailyReadinessTotals;
+import com.changeready.repository.projection.DepartmentQuestionReadinessTotals;
+import com.changeready.repository.projection.DepartmentReadinessTotals;
+import com.changeready.repository.projection.InstanceAnswerCount;
+import com.changeready.repository.projection.QuestionReadinessTotals;
+import com.changeready.repository.projection.ReadinessValueBucket;
+import com.changeready.repository.projection.UserDailyReadinessTotals;
+import com.changeready.repository.projection.UserReadinessTotals;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface SurveyAnswerRepository extends JpaRepository<SurveyAnswer, Long> {
+public interface SurveyAnswerRepository extends JpaRepository<SurveyAnswer, Long>, SurveyAnswerBulkRepository {
 
 	/**
 	 * Findet alle Antworten einer SurveyInstance
@@ -17,6 +32,44 @@ public interface SurveyAnswerRepository extends JpaRepository<SurveyAnswer, Long
 	 */
 	List<SurveyAnswer> findByInstanceId(Long instanceId);
 
+	/**
+	 * Findet alle Antworten einer Instanz, die nach einer Antwort-Version geschrieben wurden (Delta-Abfrage)
+	 * @param instanceId SurveyInstance-ID
+	 * @param version Antwort-Version (exklusiv)
+	 * @return Liste geänderter SurveyAnswers
+	 */
+	List<SurveyAnswer> findByInstanceIdAndChangedVersionGreaterThan(Long instanceId, long version);
+
+	/**
+	 * Lädt nur die Frage-IDs der vorhandenen Antworten einer Instanz (ohne Entities)
+	 * @param instanceId SurveyInstance-ID
+	 * @return Frage-IDs
+	 */
+	@Query("select a.questionId from SurveyAnswer a where a.instance.id = :instanceId")
+	List<String> findQuestionIdsByInstanceId(@Param("instanceId") Long instanceId);
+
+	/**
+	 * Zählt die gespeicherten Antworten einer Instanz
+	 * @param instanceId SurveyInstance-ID
+	 * @return Anzahl Antworten
+	 */
+	long countByInstanceId(Long instanceId);
+
+	/**
+	 * Zählt die gespeicherten Antworten aller Instanzen eines Users per GROUP BY (statt Antworten pro Instanz zu laden)
+	 * Instanzen ohne Antworten sind nicht enthalten
+	 * @param userId User-ID
+	 * @param companyId Company-ID
+	 * @return Anzahl Antworten pro Instanz
+	 */
+	@Query("select a.instance.id as instanceId, count(a) as answerCount from SurveyAnswer a " +
+		"where a.instance.user.id = :userId and a.instance.company.id = :companyId " +
+		"group by a.instance.id")
+	List<InstanceAnswerCount> countByInstanceForUser(
+		@Param("userId") Long userId,
+		@Param("companyId") Long companyId
+	);
+
 	/**
 	 * Findet eine spezifische Antwort einer Instanz für eine Frage
 	 * @param instanceId SurveyInstance-ID
@@ -38,5 +91,181 @@ public interface SurveyAnswerRepository extends JpaRepository<SurveyAnswer, Long
 	 * @param instanceId SurveyInstance-ID
 	 */
 	void deleteByInstanceId(Long instanceId);
-}
 
+	/**
+	 * Löscht die Antworten einer Instanz zu mehreren Fragen in einem Statement ("Keine Angabe" beim Autosave)
+	 * @param instanceId SurveyInstance-ID
+	 * @param questionIds Frage-IDs
+	 * @return Anzahl gelöschter Antworten
+	 */
+	@Modifying
+	@Query("delete from SurveyAnswer a where a.instance.id = :instanceId and a.questionId in :questionIds")
+	int deleteByInstanceIdAndQuestionIds(@Param("instanceId") Long instanceId, @Param("questionIds") Collection<String> questionIds);
+
+	// Set-basierte Aggregationen: SUM/COUNT direkt in der Datenbank statt SurveyAnswer-Entities zu laden
+
+	/**
+	 * Gewerteter Antwort-Wert: Reverse-Items werden invertiert (6 - value)
+	 */
+	String SCORED_VALUE = "case when a.reverseItem = true then 6 - a.value else a.value end";
+
+	/**
+	 * Aggregiert Antwort-Werte pro Department
+	 * @param companyId Company-ID
+	 * @param status Status der Instanzen (i.d.R. SUBMITTED)
+	 * @return Summe/Anzahl pro Department
+	 */
+	@Query("select i.department as department, sum(" + SCORED_VALUE + ") as valueSum, count(a) as answerCount " +
+		"from SurveyAnswer a join a.instance i " +
+		"where i.company.id = :companyId and i.status = :status " +
+		"group by i.department")
+	List<DepartmentReadinessTotals> aggregateByDepartment(
+		@Param("companyId") Long companyId,
+		@Param("status") SurveyInstance.SurveyInstanceStatus status
+	);
+
+	/**
+	 * Aggregiert Antwort-Werte pro User für eine Menge von Usern
+	 * @param companyId Company-ID
+	 * @param status Status der Instanzen (i.d.R. SUBMITTED)
+	 * @param userIds User-IDs
+	 * @return Summe/Anzahl pro User (User ohne Antworten fehlen)
+	 */
+	@Query("select i.user.id as userId, sum(" + SCORED_VALUE + ") as valueSum, count(a) as answerCount " +
+		"from SurveyAnswer a join a.instance i " +
+		"where i.company.id = :companyId and i.status = :status and i.user.id in :userIds " +
+		"group by i.user.id")
+	List<UserReadinessTotals> aggregateByUser(
+		@Param("companyId") Long companyId,
+		@Param("status") SurveyInstance.SurveyInstanceStatus status,
+		@Param("userIds") Collection<Long> userIds
+	);
+
+	/**
+	 * Aggregiert Antwort-Werte pro User und Abgabetag (Quelle für die User-Rollups)
+	 * @param companyId Company-ID
+	 * @param status Status der Instanzen (i.d.R. SUBMITTED)
+	 * @return Summe/Anzahl pro User und Tag
+	 */
+	@Query("select i.user.id as userId, cast(i.submittedAt as LocalDate) as day, " +
+		"sum(" + SCORED_VALUE + ") as valueSum, count(a) as answerCount " +
+		"from SurveyAnswer a join a.instance i " +
+		"where i.company.id = :companyId and i.status = :status " +
+		"group by i.user.id, cast(i.submittedAt as LocalDate)")
+	List<UserDailyReadinessTotals> aggregateByUserAndDay(
+		@Param("companyId") Long companyId,
+		@Param("status") SurveyInstance.SurveyInstanceStatus status
+	);
+
+	/**
+	 * Aggregiert Antwort-Werte einer Menge von Usern pro Abgabetag
+	 * @param companyId Company-ID
+	 * @param status Status der Instanzen (i.d.R. SUBMITTED)
+	 * @param userIds User-IDs
+	 * @param from Untergrenze für submittedAt (inklusiv)
+	 * @return Summe/Anzahl pro Tag, aufsteigend sortiert
+	 */
+	@Query("select cast(i.submittedAt as LocalDate) as day, sum(" + SCORED_VALUE + ") as valueSum, count(a) as answerCount " +
+		"from SurveyAnswer a join a.instance i " +
+		"where i.company.id = :companyId and i.status = :status and i.user.id in :userIds " +
+		"and i.submittedAt >= :from " +
+		"group by cast(i.submittedAt as LocalDate) " +
+		"order by cast(i.submittedAt as LocalDate)")
+	List<DailyReadinessTotals> aggregateByDayForUsers(
+		@Param("companyId") Long companyId,
+		@Param("status") SurveyInstance.SurveyInstanceStatus status,
+		@Param("userIds") Collection<Long> userIds,
+		@Param("from") LocalDateTime from
+	);
+
+	/**
+	 * Aggregiert Roh-Antwort-Werte eines Templates pro Frage-ID (Reverse-Items invertiert der Aufrufer über den TemplateIndex)
+	 * @param templateId Template-ID
+	 * @param companyId Company-ID
+	 * @param status Status der Instanzen (i.d.R. SUBMITTED)
+	 * @return Summe/Anzahl pro Frage
+	 */
+	@Query("select a.questionId as questionId, sum(a.value) as valueSum, count(a) as answerCount " +
+		"from SurveyAnswer a join a.instance i " +
+		"where i.template.id = :templateId and i.company.id = :companyId and i.status = :status " +
+		"group by a.questionId")
+	List<QuestionReadinessTotals> aggregateByQuestion(
+		@Param("templateId") Long templateId,
+		@Param("companyId") Long companyId,
+		@Param("status") SurveyInstance.SurveyInstanceStatus status
+	);
+
+	/**
+	 * Aggregiert Antwort-Werte eines Templates pro Department und Frage-ID
+	 * @param templateId Template-ID
+	 * @param companyId Company-ID
+	 * @param status Status der Instanzen (i.d.R. SUBMITTED)
+	 * @return Summe/Anzahl pro Department und Frage
+	 */
+	@Query("select i.department as department, a.questionId as questionId, sum(a.value) as valueSum, count(a) as answerCount " +
+		"from SurveyAnswer a join a.instance i " +
+		"where i.template.id = :templateId and i.company.id = :companyId and i.status = :status " +
+		"group by i.department, a.questionId")
+	List<DepartmentQuestionReadinessTotals> aggregateByDepartmentAndQuestion(
+		@Param("templateId") Long templateId,
+		@Param("companyId") Long companyId,
+		@Param("status") SurveyInstance.SurveyInstanceStatus status
+	);
+
+	/**
+	 * Zählt Antworten pro (Template, Department, ParticipantType, Abgabetag, Wert, Reverse-Flag)
+	 * Liefert alle Daten für die Readiness-Aggregate einer Company in einer Abfrage
+	 * @param companyId Company-ID
+	 * @param status Status der Instanzen (i.d.R. SUBMITTED)
+	 * @return Anzahl Antworten pro Bucket und Wert
+	 */
+	@Query("select i.template.id as templateId, i.department as department, i.participantType as participantType, " +
+		"cast(i.submittedAt as LocalDate) as day, a.value as value, a.reverseItem as reverseItem, count(a) as answerCount " +
+		"from SurveyAnswer a join a.instance i " +
+		"where i.company.id = :companyId and i.status = :status and i.submittedAt is not null " +
+		"group by i.template.id, i.department, i.participantType, cast(i.submittedAt as LocalDate), a.value, a.reverseItem")
+	List<ReadinessValueBucket> aggregateValueBuckets(
+		@Param("companyId") Long companyId,
+		@Param("status") SurveyInstance.SurveyInstanceStatus status
+	);
+
+	/**
+	 * Lädt alle Antworten abgeschlossener Instanzen einer Company als flache Zeilen (sortiert nach Instanz)
+	 * Grundlage für den spaltenbasierten Answer-Cube
+	 * @param companyId Company-ID
+	 * @param status Status der Instanzen (i.d.R. SUBMITTED)
+	 * @return Antwort-Zeilen, gruppiert nach Instanz
+	 */
+	@Query("select i.id as instanceId, i.template.id as templateId, i.department as department, " +
+		"i.participantType as participantType, i.submittedAt as submittedAt, a.questionId as questionId, a.value as value " +
+		"from SurveyAnswer a join a.instance i " +
+		"where i.company.id = :companyId and i.status = :status and i.submittedAt is not null " +
+		"order by i.id")
+	List<CubeAnswerRow> findCubeRows(
+		@Param("companyId") Long companyId,
+		@Param("status") SurveyInstance.SurveyInstanceStatus status
+	);
+
+	/**
+	 * Markiert noch nicht klassifizierte Antworten eines Templates als Reverse-Item (Nachzug für Bestandsdaten)
+	 * @param templateId Template-ID
+	 * @param questionIds Frage-IDs der Reverse-Items
+	 * @return Anzahl aktualisierter Antworten
+	 */
+	@Modifying
+	@Query("update SurveyAnswer a set a.reverseItem = true " +
+		"where a.reverseItem is null and a.questionId in :questionIds " +
+		"and a.instance.id in (select i.id from SurveyInstance i where i.template.id = :templateId)")
+	int markReverseItems(@Param("templateId") Long templateId, @Param("questionIds") Collection<String> questionIds);
+
+	/**
+	 * Markiert alle übrigen noch nicht klassifizierten Antworten eines Templates als reguläre Items
+	 * @param templateId Template-ID
+	 * @return Anzahl aktualisierter Antworten
+	 */
+	@Modifying
+	@Query("update SurveyAnswer a set a.reverseItem = false " +
+		"where a.reverseItem is null " +
+		"and a.instance.id in (select i.id from SurveyInstance i where i.template.id = :templateId)")
+	int markRegularItems(@Param("templateId") Long templateId);
+}
@@ -1,7 +1,14 @@
 package com.changeready.repository;
 
+import com.changeready.entity.Department;
 import com.changeready.entity.SurveyInstance;
+import com.changeready.repository.projection.DepartmentInstanceCount;
+import com.changeready.repository.projection.InstanceReadinessTotals;
+import com.changeready.repository.projection.SurveyInstanceSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,6 +24,22 @@ public interface SurveyInstanceRepository extends JpaRepository<SurveyInstance,
 	 */
 	List<SurveyInstance> findByUserIdAndCompanyId(Long userId, Long companyId);
 
+	/**
+	 * Listen-Ansicht aller Instanzen eines Users in einer Query (Template-ID/-Name per Join statt Lazy Load)
+	 * @param userId User-ID
+	 * @param companyId Company-ID
+	 * @return Zusammenfassungen der SurveyInstances des Users
+	 */
+	@Query("select i.id as id, t.id as templateId, t.name as templateName, t.updatedAt as templateUpdatedAt, " +
+		"i.participantType as participantType, i.department as department, i.status as status, " +
+		"i.createdAt as createdAt, i.updatedAt as updatedAt, i.submittedAt as submittedAt " +
+		"from SurveyInstance i join i.template t " +
+		"where i.user.id = :userId and i.company.id = :companyId")
+	List<SurveyInstanceSummary> findSummariesByUserIdAndCompanyId(
+		@Param("userId") Long userId,
+		@Param("companyId") Long companyId
+	);
+
 	/**
 	 * Findet alle Instanzen einer Company mit bestimmten Status
 	 * @param companyId Company-ID
@@ -39,5 +62,128 @@ public interface SurveyInstanceRepository extends JpaRepository<SurveyInstance,
 	 * @return Liste von SurveyInstances der Company
 	 */
 	List<SurveyInstance> findByCompanyId(Long companyId);
-}
 
+	/**
+	 * Zählt alle Instanzen einer Company mit bestimmten Status
+	 * @param companyId Company-ID
+	 * @param status Status (DRAFT oder SUBMITTED)
+	 * @return Anzahl der Instanzen
+	 */
+	long countByCompanyIdAndStatus(Long companyId, SurveyInstance.SurveyInstanceStatus status);
+
+	/**
+	 * Zählt alle Instanzen eines Departments innerhalb einer Company mit bestimmten Status
+	 * @param companyId Company-ID
+	 * @param status Status (DRAFT oder SUBMITTED)
+	 * @param department Department
+	 * @return Anzahl der Instanzen
+	 */
+	long countByCompanyIdAndStatusAndDepartment(Long companyId, SurveyInstance.SurveyInstanceStatus status, Department department);
+
+	/**
+	 * Zählt alle Instanzen eines Templates innerhalb einer Company mit bestimmten Status
+	 * @param templateId Template-ID
+	 * @param companyId Company-ID
+	 * @param status Status (DRAFT oder SUBMITTED)
+	 * @return Anzahl der Instanzen
+	 */
+	long countByTemplateIdAndCompanyIdAndStatus(Long templateId, Long companyId, SurveyInstance.SurveyInstanceStatus status);
+
+	/**
+	 * Zählt Instanzen eines Templates pro Department
+	 * @param templateId Template-ID
+	 * @param companyId Company-ID
+	 * @param status Status (DRAFT oder SUBMITTED)
+	 * @return Anzahl der Instanzen pro Department
+	 */
+	@Query("select i.department as department, count(i) as instanceCount " +
+		"from SurveyInstance i " +
+		"where i.template.id = :templateId and i.company.id = :companyId and i.status = :status " +
+		"group by i.department")
+	List<DepartmentInstanceCount> countByDepartmentForTemplate(
+		@Param("templateId") Long templateId,
+		@Param("companyId") Long companyId,
+		@Param("status") SurveyInstance.SurveyInstanceStatus status
+	);
+
+	/**
+	 * Lädt alle Instanzen einer Company mit ihren aggregierten Antwort-Werten in einer Abfrage
+	 * (Basis für die Berechnung aller Stakeholder-Gruppen in einem Durchlauf)
+	 * @param companyId Company-ID
+	 * @param status Status der Instanzen (i.d.R. SUBMITTED)
+	 * @return Summe/Anzahl pro Instanz mit Department, User und Abgabezeitpunkt
+	 */
+	@Query("select i.id as instanceId, i.department as department, i.user.id as userId, i.submittedAt as submittedAt, " +
+		"sum(" + SurveyAnswerRepository.SCORED_VALUE + ") as valueSum, count(a) as answerCount " +
+		"from SurveyInstance i left join SurveyAnswer a on a.instance = i " +
+		"where i.company.id = :companyId and i.status = :status " +
+		"group by i.id, i.department, i.user.id, i.submittedAt")
+	List<InstanceReadinessTotals> aggregateByInstance(
+		@Param("companyId") Long companyId,
+		@Param("status") SurveyInstance.SurveyInstanceStatus status
+	);
+
+	/**
+	 * Zählt Instanzen pro Department innerhalb einer Company (über alle Templates)
+	 * @param companyId Company-ID
+	 * @param status Status der Instanzen
+	 * @return Anzahl der Instanzen pro Department
+	 */
+	@Query("select i.department as department, count(i) as instanceCount " +
+		"from SurveyInstance i " +
+		"where i.company.id = :companyId and i.status = :status " +
+		"group by i.department")
+	List<DepartmentInstanceCount> countByDepartment(
+		@Param("companyId") Long companyId,
+		@Param("status") SurveyInstance.SurveyInstanceStatus status
+	);
+
+	/**
+	 * Erhöht die Antwort-Version nur, wenn sie noch der Basis-Version des Clients entspricht (Compare-and-Set ohne Sperre)
+	 * @param id Instanz-ID
+	 * @param baseVersion Vom Client zuletzt gesehene Version
+	 * @param status Erwarteter Status (DRAFT)
+	 * @return 1 bei Erfolg, 0 wenn die Version veraltet ist oder die Instanz nicht (mehr) den Status hat
+	 */
+	@Modifying
+	@Query("update SurveyInstance i set i.answersVersion = i.answersVersion + 1 " +
+		"where i.id = :id and i.answersVersion = :baseVersion and i.status = :status")
+	int incrementAnswersVersion(
+		@Param("id") Long id,
+		@Param("baseVersion") long baseVersion,
+		@Param("status") SurveyInstance.SurveyInstanceStatus status
+	);
+
+	/**
+	 * Erhöht die Antwort-Version ohne Versionsvergleich (Writes ohne Basis-Version)
+	 * @param id Instanz-ID
+	 * @param status Erwarteter Status (DRAFT)
+	 * @return 1 bei Erfolg, 0 wenn die Instanz nicht (mehr) den Status hat
+	 */
+	@Modifying
+	@Query("update SurveyInstance i set i.answersVersion = i.answersVersion + 1 where i.id = :id and i.status = :status")
+	int incrementAnswersVersion(@Param("id") Long id, @Param("status") SurveyInstance.SurveyInstanceStatus status);
+
+	/**
+	 * Setzt die Antwort-Version auf den Stand des Write-Behind-Puffers (Flush gepufferter Autosave-Werte)
+	 * @param id Instanz-ID
+	 * @param version Im Puffer geführte Version
+	 * @param status Erwarteter Status (DRAFT)
+	 * @return 1 bei Erfolg, 0 wenn die Instanz nicht (mehr) existiert bzw. den Status hat
+	 */
+	@Modifying
+	@Query("update SurveyInstance i set i.answersVersion = :version where i.id = :id and i.status = :status")
+	int updateAnswersVersion(
+		@Param("id") Long id,
+		@Param("version") long version,
+		@Param("status") SurveyInstance.SurveyInstanceStatus status
+	);
+
+	/**
+	 * Lädt die aktuelle Antwort-Version direkt aus der Datenbank (unabhängig von geladenen Entities)
+	 * @param id Instanz-ID
+	 * @return Antwort-Version
+	 */
+	@Query("select i.answersVersion from SurveyInstance i where i.id = :id")
+	long findAnswersVersion(@Param("id") Long id);
+}
@@ -1,10 +1,15 @@
 package com.changeready.repository;
 
 import com.changeready.entity.SurveyTemplate;
+import com.changeready.repository.projection.SurveyTemplateSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SurveyTemplateRepository extends JpaRepository<SurveyTemplate, Long> {
@@ -30,5 +35,45 @@ public interface SurveyTemplateRepository extends JpaRepository<SurveyTemplate,
 	 * @return Liste von aktiven Templates der Company
 	 */
 	List<SurveyTemplate> findByCompanyIdAndActive(Long companyId, Boolean active);
+
+	/**
+	 * Findet globale (company = null) und company-spezifische Templates in einer Query
+	 * Sortierung: globale Templates zuerst, dann nach ID
+	 * @param companyId Company-ID (null = nur globale Templates)
+	 * @param active true für aktive Templates
+	 * @return Liste von Templates
+	 */
+	@Query("select t from SurveyTemplate t " +
+		"where t.active = :active and (t.company is null or t.company.id = :companyId) " +
+		"order by case when t.company is null then 0 else 1 end, t.id")
+	List<SurveyTemplate> findVisibleByCompanyIdAndActive(
+		@Param("companyId") Long companyId,
+		@Param("active") Boolean active
+	);
+
+	/**
+	 * Wie {@link #findVisibleByCompanyIdAndActive}, aber nur Metadaten (ohne categoriesJson)
+	 * @param companyId Company-ID (null = nur globale Templates)
+	 * @param active true für aktive Templates
+	 * @return Template-Metadaten
+	 */
+	@Query("select t.id as id, t.name as name, t.description as description, t.version as version, " +
+		"t.active as active, t.createdAt as createdAt, t.updatedAt as updatedAt from SurveyTemplate t " +
+		"where t.active = :active and (t.company is null or t.company.id = :companyId) " +
+		"order by case when t.company is null then 0 else 1 end, t.id")
+	List<SurveyTemplateSummary> findVisibleSummariesByCompanyIdAndActive(
+		@Param("companyId") Long companyId,
+		@Param("active") Boolean active
+	);
+
+	/**
+	 * Lädt nur den Stand (updatedAt) eines für die Company sichtbaren Templates (global oder eigene Company)
+	 * @param id Template-ID
+	 * @param companyId Company-ID (null = nur globale Templates)
+	 * @return updatedAt oder leer, wenn das Template nicht existiert bzw. nicht sichtbar ist
+	 */
+	@Query("select t.updatedAt from SurveyTemplate t " +
+		"where t.id = :id and (t.company is null or t.company.id = :companyId)")
+	Optional<LocalDateTime> findVisibleUpdatedAt(@Param("id") Long id, @Param("companyId") Long companyId);
 }
 
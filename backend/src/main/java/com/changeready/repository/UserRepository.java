@@ -4,12 +4,20 @@ import com.changeready.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 	Optional<User> findByEmail(String email);
+
+	/**
+	 * Findet alle User zu einer Menge von E-Mail-Adressen (Batch-Mapping von Stakeholder-Personen)
+	 * @param emails E-Mail-Adressen
+	 * @return User mit passender E-Mail (unbekannte Adressen fehlen)
+	 */
+	List<User> findByEmailIn(Collection<String> emails);
 	
 	List<User> findByCompanyId(Long companyId);
 	
@@ -0,0 +1,26 @@
+package com.changeready.repository.projection;
+
+import com.changeready.entity.Department;
+import com.changeready.entity.SurveyInstance;
+
+import java.time.LocalDateTime;
+
+/**
+ * Einzelne Antwort inkl. Instanz-Merkmale (ohne Entity-Graph) für den Aufbau des Answer-Cubes
+ */
+public interface CubeAnswerRow {
+
+	Long getInstanceId();
+
+	Long getTemplateId();
+
+	Department getDepartment();
+
+	SurveyInstance.ParticipantType getParticipantType();
+
+	LocalDateTime getSubmittedAt();
+
+	String getQuestionId();
+
+	Integer getValue();
+}
@@ -0,0 +1,11 @@
+package com.changeready.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Aggregierte Antwort-Werte pro Abgabetag (submittedAt als Datum)
+ */
+public interface DailyReadinessTotals extends ReadinessTotals {
+
+	LocalDate getDay();
+}
@@ -0,0 +1,13 @@
+package com.changeready.repository.projection;
+
+import com.changeready.entity.Department;
+
+/**
+ * Anzahl Survey-Instanzen pro Department
+ */
+public interface DepartmentInstanceCount {
+
+	Department getDepartment();
+
+	Long getInstanceCount();
+}
@@ -0,0 +1,11 @@
+package com.changeready.repository.projection;
+
+import com.changeready.entity.Department;
+
+/**
+ * Aggregierte Antwort-Werte pro Department und Frage-ID
+ */
+public interface DepartmentQuestionReadinessTotals extends QuestionReadinessTotals {
+
+	Department getDepartment();
+}
@@ -0,0 +1,11 @@
+package com.changeready.repository.projection;
+
+import com.changeready.entity.Department;
+
+/**
+ * Aggregierte Antwort-Werte pro Department
+ */
+public interface DepartmentReadinessTotals extends ReadinessTotals {
+
+	Department getDepartment();
+}
@@ -0,0 +1,11 @@
+package com.changeready.repository.projection;
+
+/**
+ * Anzahl gespeicherter Antworten pro Survey-Instanz
+ */
+public interface InstanceAnswerCount {
+
+	Long getInstanceId();
+
+	Long getAnswerCount();
+}
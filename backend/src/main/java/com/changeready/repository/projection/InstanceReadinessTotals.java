@@ -0,0 +1,20 @@
+package com.changeready.repository.projection;
+
+import com.changeready.entity.Department;
+
+import java.time.LocalDateTime;
+
+/**
+ * Aggregierte Antwort-Werte pro Survey-Instanz inkl. Segment-Merkmalen (Department, User, Abgabezeitpunkt)
+ * Instanzen ohne Antworten sind mit Summe null und Anzahl 0 enthalten
+ */
+public interface InstanceReadinessTotals extends ReadinessTotals {
+
+	Long getInstanceId();
+
+	Department getDepartment();
+
+	Long getUserId();
+
+	LocalDateTime getSubmittedAt();
+}
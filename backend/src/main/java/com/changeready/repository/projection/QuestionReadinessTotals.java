@@ -0,0 +1,9 @@
+package com.changeready.repository.projection;
+
+/**
+ * Aggregierte Antwort-Werte pro Frage-ID
+ */
+public interface QuestionReadinessTotals extends ReadinessTotals {
+
+	String getQuestionId();
+}
@@ -0,0 +1,29 @@
+package com.changeready.repository.projection;
+
+/**
+ * Projektion für per SQL aggregierte Antwort-Werte (SUM/COUNT von survey_answers.value)
+ * Basis für alle gruppierten Readiness-Abfragen
+ */
+public interface ReadinessTotals {
+
+	/**
+	 * Summe der Antwort-Werte (1-5)
+	 */
+	Long getValueSum();
+
+	/**
+	 * Anzahl der Antworten
+	 */
+	Long getAnswerCount();
+
+	/**
+	 * Durchschnitt der Antwort-Werte (0.0 wenn keine Antworten)
+	 */
+	default double getAverage() {
+		Long count = getAnswerCount();
+		if (count == null || count == 0) {
+			return 0.0;
+		}
+		return (double) getValueSum() / count;
+	}
+}
@@ -0,0 +1,30 @@
+package com.changeready.repository.projection;
+
+import com.changeready.entity.Department;
+import com.changeready.entity.SurveyInstance;
+
+import java.time.LocalDate;
+
+/**
+ * Anzahl Antworten pro (Template, Department, ParticipantType, Abgabetag, Antwort-Wert, Reverse-Flag)
+ * Grundlage für den Aufbau der Readiness-Aggregate in einer einzigen Abfrage
+ */
+public interface ReadinessValueBucket {
+
+	Long getTemplateId();
+
+	Department getDepartment();
+
+	SurveyInstance.ParticipantType getParticipantType();
+
+	LocalDate getDay();
+
+	Integer getValue();
+
+	/**
+	 * Reverse-Item-Flag der Antworten (null für noch nicht klassifizierte Bestandsdaten)
+	 */
+	Boolean getReverseItem();
+
+	Long getAnswerCount();
+}
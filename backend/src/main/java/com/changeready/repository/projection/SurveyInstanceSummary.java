@@ -0,0 +1,35 @@
+package com.changeready.repository.projection;
+
+import com.changeready.entity.Department;
+import com.changeready.entity.SurveyInstance;
+
+import java.time.LocalDateTime;
+
+/**
+ * Listen-Ansicht einer Survey-Instanz inkl. Template-ID/-Name (ohne Laden von Template-Entity und Antworten)
+ */
+public interface SurveyInstanceSummary {
+
+	Long getId();
+
+	Long getTemplateId();
+
+	String getTemplateName();
+
+	/**
+	 * Stand des Templates, gegen den der gecachte Template-Index validiert wird
+	 */
+	LocalDateTime getTemplateUpdatedAt();
+
+	SurveyInstance.ParticipantType getParticipantType();
+
+	Department getDepartment();
+
+	SurveyInstance.SurveyInstanceStatus getStatus();
+
+	LocalDateTime getCreatedAt();
+
+	LocalDateTime getUpdatedAt();
+
+	LocalDateTime getSubmittedAt();
+}
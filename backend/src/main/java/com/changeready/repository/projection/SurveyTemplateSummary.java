@@ -0,0 +1,23 @@
+package com.changeready.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Template-Metadaten ohne categoriesJson
+ */
+public interface SurveyTemplateSummary {
+
+	Long getId();
+
+	String getName();
+
+	String getDescription();
+
+	String getVersion();
+
+	Boolean getActive();
+
+	LocalDateTime getCreatedAt();
+
+	LocalDateTime getUpdatedAt();
+}
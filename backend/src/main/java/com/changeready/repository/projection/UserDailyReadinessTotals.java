@@ -0,0 +1,9 @@
+package com.changeready.repository.projection;
+
+/**
+ * Aggregierte Antwort-Werte pro User und Abgabetag
+ */
+public interface UserDailyReadinessTotals extends DailyReadinessTotals {
+
+	Long getUserId();
+}
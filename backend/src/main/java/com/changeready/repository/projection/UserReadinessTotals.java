@@ -0,0 +1,9 @@
+package com.changeready.repository.projection;
+
+/**
+ * Aggregierte Antwort-Werte pro User (Teilnehmer der Survey-Instanzen)
+ */
+public interface UserReadinessTotals extends ReadinessTotals {
+
+	Long getUserId();
+}
@@ -36,6 +36,13 @@ public class UserPrincipal implements UserDetails {
 		);
 	}
 
+	/**
+	 * Technischer Principal ohne Rechte für Hintergrundberechnungen: die Services lesen daraus nur die Company
+	 */
+	public static UserPrincipal forCompany(Long companyId) {
+		return new UserPrincipal(null, null, null, null, companyId, false, Collections.emptyList());
+	}
+
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
 		return authorities;
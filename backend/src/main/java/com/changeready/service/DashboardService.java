@@ -1,5 +1,6 @@
 package com.changeready.service;
 
+import com.changeready.analytics.TimeSeriesQuery;
 import com.changeready.dto.dashboard.DashboardKpisResponse;
 import com.changeready.dto.dashboard.TrendDataResponse;
 import com.changeready.security.UserPrincipal;
@@ -14,8 +15,14 @@ public interface DashboardService {
 
 	/**
 	 * Lädt Trend-Daten für den Readiness-Verlauf
-	 * Gibt historische Datenpunkte zurück (letzte 30 Tage)
+	 * Gibt einen Datenpunkt pro Abgabetag über den gesamten Zeitraum zurück
 	 */
 	TrendDataResponse getTrendData(UserPrincipal userPrincipal);
+
+	/**
+	 * Lädt Trend-Daten für einen Zeitraum in der angefragten Granularität (Tag/Woche/Monat),
+	 * optional per LTTB auf eine maximale Punktanzahl reduziert
+	 */
+	TrendDataResponse getTrendData(UserPrincipal userPrincipal, TimeSeriesQuery query);
 }
 
@@ -1,105 +1,140 @@
 package com.changeready.service;
 
+import com.changeready.analytics.ReadinessAccumulator;
+import com.changeready.analytics.StakeholderReadiness;
+import com.changeready.analytics.TimeSeries;
+import com.changeready.analytics.TimeSeriesQuery;
+import com.changeready.cache.ReadinessResultCache;
+import com.changeready.concurrent.SectionExecutor;
 import com.changeready.dto.dashboard.DashboardKpisResponse;
 import com.changeready.dto.dashboard.TrendDataPointResponse;
 import com.changeready.dto.dashboard.TrendDataResponse;
-import com.changeready.entity.SurveyAnswer;
+import com.changeready.entity.ReadinessAggregate;
 import com.changeready.entity.SurveyInstance;
 import com.changeready.entity.StakeholderGroup;
 import com.changeready.entity.StakeholderPerson;
 import com.changeready.repository.SurveyInstanceRepository;
-import com.changeready.repository.SurveyAnswerRepository;
 import com.changeready.repository.StakeholderGroupRepository;
 import com.changeready.repository.StakeholderPersonRepository;
-import com.changeready.repository.UserRepository;
 import com.changeready.security.UserPrincipal;
+import com.changeready.snapshot.CompanyDataSnapshotProvider;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
 public class DashboardServiceImpl implements DashboardService {
 
 	private final SurveyInstanceRepository surveyInstanceRepository;
-	private final SurveyAnswerRepository surveyAnswerRepository;
 	private final StakeholderGroupRepository stakeholderGroupRepository;
 	private final StakeholderPersonRepository stakeholderPersonRepository;
-	private final UserRepository userRepository;
+	private final StakeholderReadinessResolver stakeholderReadinessResolver;
 	private final MeasureService measureService;
 	private final ReadinessCalculationService readinessCalculationService;
+	private final CompanyDataSnapshotProvider companyDataSnapshotProvider;
+	private final SectionExecutor sectionExecutor;
+	private final ReadinessResultCache resultCache;
 
 	public DashboardServiceImpl(
 		SurveyInstanceRepository surveyInstanceRepository,
-		SurveyAnswerRepository surveyAnswerRepository,
 		StakeholderGroupRepository stakeholderGroupRepository,
 		StakeholderPersonRepository stakeholderPersonRepository,
-		UserRepository userRepository,
+		StakeholderReadinessResolver stakeholderReadinessResolver,
 		MeasureService measureService,
-		ReadinessCalculationService readinessCalculationService
+		ReadinessCalculationService readinessCalculationService,
+		CompanyDataSnapshotProvider companyDataSnapshotProvider,
+		SectionExecutor sectionExecutor,
+		ReadinessResultCache resultCache
 	) {
 		this.surveyInstanceRepository = surveyInstanceRepository;
-		this.surveyAnswerRepository = surveyAnswerRepository;
 		this.stakeholderGroupRepository = stakeholderGroupRepository;
 		this.stakeholderPersonRepository = stakeholderPersonRepository;
-		this.userRepository = userRepository;
+		this.stakeholderReadinessResolver = stakeholderReadinessResolver;
 		this.measureService = measureService;
 		this.readinessCalculationService = readinessCalculationService;
+		this.companyDataSnapshotProvider = companyDataSnapshotProvider;
+		this.sectionExecutor = sectionExecutor;
+		this.resultCache = resultCache;
 	}
 
 	@Override
 	public DashboardKpisResponse getKpis(UserPrincipal userPrincipal) {
+		return resultCache.get(userPrincipal.getCompanyId(), "dashboard.kpis", null, ReadinessResultCache.ALL,
+			() -> computeKpis(userPrincipal));
+	}
+
+	private DashboardKpisResponse computeKpis(UserPrincipal userPrincipal) {
 		Long companyId = userPrincipal.getCompanyId();
 		
-		DashboardKpisResponse response = new DashboardKpisResponse();
-		
-		// Survey-Statistiken
-		List<SurveyInstance> allInstances = surveyInstanceRepository.findByCompanyId(companyId);
-		response.setTotalSurveys(allInstances.size());
+		// Unabhängige Kennzahlen parallel berechnen
+		SectionExecutor.Section<long[]> surveyCounts = sectionExecutor.submit("surveys", () -> new long[] {
+			surveyInstanceRepository.countByCompanyIdAndStatus(companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED),
+			surveyInstanceRepository.countByCompanyIdAndStatus(companyId, SurveyInstance.SurveyInstanceStatus.DRAFT)
+		});
+		SectionExecutor.Section<Double> overallReadiness = sectionExecutor.submit("readiness", () -> {
+			// Overall Readiness (Source of Truth): Aus den Readiness-Aggregaten aller SUBMITTED Survey-Instanzen
+			List<ReadinessAggregate> aggregates = companyDataSnapshotProvider.get(companyId).getAggregates();
+			return roundPercent0(readinessCalculationService.calculateAggregateReadiness(aggregates));
+		});
+		SectionExecutor.Section<int[]> stakeholderStats = sectionExecutor.submit("stakeholders",
+			() -> calculateStakeholderStats(companyId));
+		SectionExecutor.Section<Integer> activeMeasures = sectionExecutor.submit("measures",
+			() -> measureService.getActiveMeasures(userPrincipal).size());
 		
-		long completedSurveys = allInstances.stream()
-			.filter(instance -> instance.getStatus() == SurveyInstance.SurveyInstanceStatus.SUBMITTED)
-			.count();
-		response.setCompletedSurveys((int) completedSurveys);
+		DashboardKpisResponse response = new DashboardKpisResponse();
 		
-		long openSurveys = allInstances.stream()
-			.filter(instance -> instance.getStatus() == SurveyInstance.SurveyInstanceStatus.DRAFT)
-			.count();
-		response.setOpenSurveys((int) openSurveys);
+		// Survey-Statistiken (Count-Queries statt alle Instanzen zu laden)
+		long[] counts = surveyCounts.join();
+		int completedSurveys = (int) counts[0];
+		int openSurveys = (int) counts[1];
+		response.setTotalSurveys(completedSurveys + openSurveys);
+		response.setCompletedSurveys(completedSurveys);
+		response.setOpenSurveys(openSurveys);
 
-		// Overall Readiness (Source of Truth): Aus allen SUBMITTED Survey-Instanzen der Company
-		List<SurveyInstance> submittedInstances = allInstances.stream()
-			.filter(instance -> instance.getStatus() == SurveyInstance.SurveyInstanceStatus.SUBMITTED)
-			.collect(Collectors.toList());
-		if (!submittedInstances.isEmpty()) {
-			List<SurveyAnswer> allAnswers = new ArrayList<>();
-			for (SurveyInstance instance : submittedInstances) {
-				allAnswers.addAll(surveyAnswerRepository.findByInstanceId(instance.getId()));
-			}
-			double readinessRaw = allAnswers.isEmpty() ? 0.0 : readinessCalculationService.calculateReadiness(allAnswers);
-			response.setOverallReadiness(roundPercent0(readinessRaw));
-		} else {
-			response.setOverallReadiness(0.0);
-		}
+		response.setOverallReadiness(overallReadiness.join());
 		
 		// Stakeholder-Statistiken
+		int[] stats = stakeholderStats.join();
+		response.setTotalStakeholders(stats[0]);
+		response.setPromoters(stats[1]);
+		response.setNeutrals(stats[2]);
+		response.setCritics(stats[3]);
+		
+		// Active Measures
+		response.setActiveMeasures(activeMeasures.join());
+		
+		return response;
+	}
+
+	/**
+	 * Stakeholder-Statistiken einer Company
+	 * @return [total, promoters, neutrals, critics]
+	 */
+	private int[] calculateStakeholderStats(Long companyId) {
 		List<StakeholderGroup> groups = stakeholderGroupRepository.findByCompanyId(companyId);
+		// Personen aller Gruppen und deren Readiness gebündelt laden statt pro Gruppe/Person
+		Map<Long, List<StakeholderPerson>> personsByGroupId = stakeholderPersonRepository.findByGroupCompanyId(companyId).stream()
+			.collect(Collectors.groupingBy(person -> person.getGroup().getId()));
+		StakeholderReadiness stakeholderReadiness = stakeholderReadinessResolver.resolve(companyId,
+			personsByGroupId.values().stream().flatMap(List::stream).collect(Collectors.toList()), null);
 		int totalStakeholders = 0;
 		int promoters = 0;
 		int neutrals = 0;
 		int critics = 0;
 		
 		for (StakeholderGroup group : groups) {
-			// Personen der Gruppe laden
-			List<StakeholderPerson> persons = stakeholderPersonRepository.findByGroupId(group.getId());
+			List<StakeholderPerson> persons = personsByGroupId.getOrDefault(group.getId(), List.of());
 			totalStakeholders += persons.size();
 			
-			// Readiness für diese Gruppe berechnen
-			double groupReadiness = calculateGroupReadiness(group, persons, companyId);
+			// Readiness für diese Gruppe berechnen (Personen per E-Mail auf User gemappt)
+			double groupReadiness = persons.isEmpty()
+				? 0.0
+				: readinessCalculationService.calculateReadiness(stakeholderReadiness.current(persons));
 			if (groupReadiness > 0) {
 				// Kategorisierung
 				String category = readinessCalculationService.calculatePromoterNeutralCritic(groupReadiness);
@@ -113,108 +148,59 @@ public class DashboardServiceImpl implements DashboardService {
 			}
 		}
 		
-		response.setTotalStakeholders(totalStakeholders);
-		response.setPromoters(promoters);
-		response.setNeutrals(neutrals);
-		response.setCritics(critics);
-		
-		// Active Measures
-		List<com.changeready.dto.measure.MeasureResponse> activeMeasures = measureService.getActiveMeasures(userPrincipal);
-		response.setActiveMeasures(activeMeasures.size());
-		
-		return response;
+		return new int[] {totalStakeholders, promoters, neutrals, critics};
 	}
 
-	/**
-	 * Berechnet Readiness für eine Stakeholder-Gruppe
-	 * Basierend auf Survey-Antworten von Personen, die zu dieser Gruppe gehören
-	 */
-	private double calculateGroupReadiness(StakeholderGroup group, List<StakeholderPerson> persons, Long companyId) {
-		if (persons.isEmpty()) {
-			return 0.0;
-		}
-		
-		// Sammle alle Survey-Antworten von Personen dieser Gruppe
-		List<SurveyAnswer> allAnswers = new ArrayList<>();
-		
-		for (StakeholderPerson person : persons) {
-			// Versuche Person zu User zu mappen (via email)
-			if (person.getEmail() != null && !person.getEmail().isEmpty()) {
-				userRepository.findByEmail(person.getEmail())
-					.ifPresent(user -> {
-						// Lade alle SUBMITTED Survey-Instanzen dieses Users
-						List<SurveyInstance> userInstances = surveyInstanceRepository
-							.findByUserIdAndCompanyId(user.getId(), companyId)
-							.stream()
-							.filter(instance -> instance.getStatus() == SurveyInstance.SurveyInstanceStatus.SUBMITTED)
-							.collect(Collectors.toList());
-						
-						// Sammle alle Antworten dieser Instanzen
-						for (SurveyInstance instance : userInstances) {
-							List<SurveyAnswer> answers = surveyAnswerRepository.findByInstanceId(instance.getId());
-							allAnswers.addAll(answers);
-						}
-					});
-			}
-		}
-		
-		// Berechne Readiness aus allen gesammelten Antworten
-		if (allAnswers.isEmpty()) {
-			return 0.0;
-		}
-		
-		return readinessCalculationService.calculateReadiness(allAnswers);
+	@Override
+	public TrendDataResponse getTrendData(UserPrincipal userPrincipal) {
+		return getTrendData(userPrincipal, TimeSeriesQuery.ALL);
 	}
 
 	@Override
-	public TrendDataResponse getTrendData(UserPrincipal userPrincipal) {
+	public TrendDataResponse getTrendData(UserPrincipal userPrincipal, TimeSeriesQuery query) {
+		return resultCache.get(userPrincipal.getCompanyId(), "dashboard.trend", query, ReadinessResultCache.SURVEYS,
+			() -> computeTrendData(userPrincipal, query));
+	}
+
+	private TrendDataResponse computeTrendData(UserPrincipal userPrincipal, TimeSeriesQuery query) {
 		Long companyId = userPrincipal.getCompanyId();
 		
-		// Lade alle SUBMITTED Survey-Instanzen der Company
-		List<SurveyInstance> submittedInstances = surveyInstanceRepository
-			.findByCompanyIdAndStatus(companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED);
+		// Readiness-Aggregate der Company aus dem Request-Snapshot (bereits pro Abgabetag vorberechnet)
+		List<ReadinessAggregate> aggregates = companyDataSnapshotProvider.get(companyId).getAggregates();
 		
-		if (submittedInstances.isEmpty()) {
+		// Akkumuliere Buckets pro Datum im angefragten Zeitraum in einem Durchlauf
+		Map<LocalDate, ReadinessAccumulator> accumulatorByDate = new TreeMap<>();
+		for (ReadinessAggregate aggregate : aggregates) {
+			if (query.contains(aggregate.getBucketDate())) {
+				accumulatorByDate.computeIfAbsent(aggregate.getBucketDate(), k -> new ReadinessAccumulator()).add(aggregate);
+			}
+		}
+		
+		if (accumulatorByDate.isEmpty()) {
 			TrendDataResponse response = new TrendDataResponse();
 			response.setDataPoints(new ArrayList<>());
 			response.setInsight("Noch keine Daten verfügbar");
 			return response;
 		}
 		
-		// Gruppiere nach Datum (submittedAt) und berechne Readiness pro Tag
-		Map<LocalDate, List<SurveyInstance>> instancesByDate = submittedInstances.stream()
-			.filter(instance -> instance.getSubmittedAt() != null)
-			.collect(Collectors.groupingBy(instance -> instance.getSubmittedAt().toLocalDate()));
-		
-		// Erstelle Trend-Datenpunkte
+		// Tages-Buckets auf die Granularität verdichten und Readiness pro Bucket berechnen (sortiert nach Datum)
 		List<TrendDataPointResponse> dataPoints = new ArrayList<>();
-		
-		for (Map.Entry<LocalDate, List<SurveyInstance>> entry : instancesByDate.entrySet()) {
-			LocalDate date = entry.getKey();
-			List<SurveyInstance> instances = entry.getValue();
-			
-			// Sammle alle Antworten dieser Instanzen
-			List<SurveyAnswer> allAnswers = new ArrayList<>();
-			for (SurveyInstance instance : instances) {
-				List<SurveyAnswer> answers = surveyAnswerRepository.findByInstanceId(instance.getId());
-				allAnswers.addAll(answers);
-			}
-			
-			// Berechne Readiness für diesen Tag
-			if (!allAnswers.isEmpty()) {
-				double readinessRaw = readinessCalculationService.calculateReadiness(allAnswers);
-				double readinessRounded = roundPercent0(readinessRaw);
-				
-				TrendDataPointResponse point = new TrendDataPointResponse();
-				point.setDate(date);
-				point.setActualValue(readinessRounded);
-				point.setTargetValue(null); // Target-Werte werden später hinzugefügt
-				dataPoints.add(point);
-			}
+		for (Map.Entry<LocalDate, ReadinessAccumulator> entry : TimeSeries.rollUp(accumulatorByDate, query.granularity()).entrySet()) {
+			TrendDataPointResponse point = new TrendDataPointResponse();
+			point.setDate(entry.getKey());
+			point.setActualValue(readinessCalculationService.calculateReadiness(entry.getValue()));
+			point.setTargetValue(null); // Target-Werte werden später hinzugefügt
+			dataPoints.add(point);
 		}
 		
-		// Sortiere nach Datum
-		dataPoints.sort(Comparator.comparing(TrendDataPointResponse::getDate));
+		// Optional auf maxPoints reduzieren (auf ungerundeten Werten, damit die Kurvenform erhalten bleibt)
+		if (query.maxPoints() != null) {
+			dataPoints = TimeSeries.largestTriangleThreeBuckets(dataPoints, query.maxPoints(),
+				point -> point.getDate().toEpochDay(), TrendDataPointResponse::getActualValue);
+		}
+		for (TrendDataPointResponse point : dataPoints) {
+			point.setActualValue(roundPercent0(point.getActualValue()));
+		}
 		
 		// Berechne Insight
 		String insight = calculateInsight(dataPoints);
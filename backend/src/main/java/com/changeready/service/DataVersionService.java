@@ -0,0 +1,18 @@
+package com.changeready.service;
+
+public interface DataVersionService {
+
+	/**
+	 * Liefert die aktuelle Datenversion einer Company
+	 * @param companyId Company-ID
+	 * @return Datenversion (0 wenn die Company nicht existiert)
+	 */
+	long getVersion(Long companyId);
+
+	/**
+	 * Zählt die Datenversion einer Company hoch (alle ETags der Company werden ungültig)
+	 * Muss innerhalb der Transaktion der Änderung aufgerufen werden, damit Version und Daten gemeinsam committet werden
+	 * @param companyId Company-ID
+	 */
+	void bump(Long companyId);
+}
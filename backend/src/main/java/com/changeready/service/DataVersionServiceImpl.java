@@ -0,0 +1,43 @@
+package com.changeready.service;
+
+import com.changeready.event.CompanyDataChangedEvent;
+import com.changeready.repository.CompanyRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class DataVersionServiceImpl implements DataVersionService {
+
+	private final CompanyRepository companyRepository;
+
+	public DataVersionServiceImpl(CompanyRepository companyRepository) {
+		this.companyRepository = companyRepository;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public long getVersion(Long companyId) {
+		if (companyId == null) {
+			return 0L;
+		}
+		return companyRepository.findDataVersionById(companyId).orElse(0L);
+	}
+
+	@Override
+	@Transactional
+	public void bump(Long companyId) {
+		if (companyId != null) {
+			companyRepository.incrementDataVersion(companyId);
+		}
+	}
+
+	/**
+	 * Zählt die Datenversion bei jeder Datenänderung noch vor dem Commit hoch (Version und Daten werden gemeinsam sichtbar)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+	public void onCompanyDataChanged(CompanyDataChangedEvent event) {
+		bump(event.companyId());
+	}
+}
@@ -35,17 +35,20 @@ public class InviteService {
 	private final CompanyRepository companyRepository;
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final StakeholderUserLinkService stakeholderUserLinkService;
 
 	public InviteService(
 		InviteRepository inviteRepository,
 		CompanyRepository companyRepository,
 		UserRepository userRepository,
-		PasswordEncoder passwordEncoder
+		PasswordEncoder passwordEncoder,
+		StakeholderUserLinkService stakeholderUserLinkService
 	) {
 		this.inviteRepository = inviteRepository;
 		this.companyRepository = companyRepository;
 		this.userRepository = userRepository;
 		this.passwordEncoder = passwordEncoder;
+		this.stakeholderUserLinkService = stakeholderUserLinkService;
 	}
 
 	/**
@@ -139,6 +142,9 @@ public class InviteService {
 
 		userRepository.save(user);
 
+		// Bestehende Stakeholder-Personen mit dieser E-Mail verknüpfen
+		stakeholderUserLinkService.linkUser(user);
+
 		// Markiere Invite als akzeptiert
 		invite.setStatus(Invite.InviteStatus.ACCEPTED);
 		invite.setAcceptedAt(LocalDateTime.now());
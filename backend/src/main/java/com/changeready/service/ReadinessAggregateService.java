@@ -0,0 +1,40 @@
+package com.changeready.service;
+
+import com.changeready.entity.ReadinessAggregate;
+import com.changeready.entity.SurveyAnswer;
+import com.changeready.entity.SurveyInstance;
+
+import java.util.List;
+
+public interface ReadinessAggregateService {
+
+	/**
+	 * Addiert die Antworten einer abgesendeten Survey-Instanz in den passenden Aggregat-Bucket
+	 * Muss innerhalb der Transaktion von submitInstance aufgerufen werden
+	 * @param instance Abgesendete Instanz (submittedAt gesetzt)
+	 * @param answers Antworten der Instanz
+	 */
+	void recordSubmission(SurveyInstance instance, List<SurveyAnswer> answers);
+
+	/**
+	 * Entfernt die Antworten einer abgesendeten Survey-Instanz wieder aus dem Aggregat-Bucket
+	 * Muss innerhalb der Transaktion von deleteInstance aufgerufen werden
+	 * @param instance Zu löschende Instanz
+	 * @param answers Antworten der Instanz
+	 */
+	void removeSubmission(SurveyInstance instance, List<SurveyAnswer> answers);
+
+	/**
+	 * Lädt alle Aggregat-Buckets einer Company
+	 * @param companyId Company-ID
+	 * @return Liste von ReadinessAggregates
+	 */
+	List<ReadinessAggregate> getAggregates(Long companyId);
+
+	/**
+	 * Baut die Aggregate einer Company aus allen SUBMITTED Instanzen neu auf (Backfill)
+	 * @param companyId Company-ID
+	 * @return Anzahl geschriebener Aggregat-Buckets
+	 */
+	int rebuild(Long companyId);
+}
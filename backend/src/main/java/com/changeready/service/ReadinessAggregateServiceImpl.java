@@ -0,0 +1,147 @@
+package com.changeready.service;
+
+import com.changeready.analytics.ReadinessAccumulator;
+import com.changeready.entity.ReadinessAggregate;
+import com.changeready.entity.SurveyAnswer;
+import com.changeready.entity.SurveyInstance;
+import com.changeready.repository.CompanyRepository;
+import com.changeready.repository.ReadinessAggregateRepository;
+import com.changeready.repository.SurveyAnswerRepository;
+import com.changeready.repository.SurveyTemplateRepository;
+import com.changeready.repository.projection.ReadinessValueBucket;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+public class ReadinessAggregateServiceImpl implements ReadinessAggregateService {
+
+	private final ReadinessAggregateRepository aggregateRepository;
+	private final SurveyAnswerRepository answerRepository;
+	private final CompanyRepository companyRepository;
+	private final SurveyTemplateRepository templateRepository;
+
+	public ReadinessAggregateServiceImpl(
+		ReadinessAggregateRepository aggregateRepository,
+		SurveyAnswerRepository answerRepository,
+		CompanyRepository companyRepository,
+		SurveyTemplateRepository templateRepository
+	) {
+		this.aggregateRepository = aggregateRepository;
+		this.answerRepository = answerRepository;
+		this.companyRepository = companyRepository;
+		this.templateRepository = templateRepository;
+	}
+
+	@Override
+	@Transactional
+	public void recordSubmission(SurveyInstance instance, List<SurveyAnswer> answers) {
+		apply(instance, answers, 1);
+	}
+
+	@Override
+	@Transactional
+	public void removeSubmission(SurveyInstance instance, List<SurveyAnswer> answers) {
+		apply(instance, answers, -1);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<ReadinessAggregate> getAggregates(Long companyId) {
+		return aggregateRepository.findByCompanyId(companyId);
+	}
+
+	@Override
+	@Transactional
+	public int rebuild(Long companyId) {
+		aggregateRepository.deleteByCompanyId(companyId);
+		aggregateRepository.flush();
+
+		// Eine GROUP BY-Abfrage liefert alle Bucket-Werte der Company (statt Antworten pro Instanz zu laden)
+		List<ReadinessValueBucket> valueBuckets = answerRepository
+			.aggregateValueBuckets(companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED);
+
+		Map<List<Object>, ReadinessAggregate> aggregates = new LinkedHashMap<>();
+		for (ReadinessValueBucket bucket : valueBuckets) {
+			if (bucket.getValue() == null || bucket.getDay() == null) {
+				continue;
+			}
+			List<Object> key = List.of(bucket.getTemplateId(), bucket.getDepartment(), bucket.getParticipantType(), bucket.getDay());
+			ReadinessAggregate aggregate = aggregates.computeIfAbsent(key, k -> {
+				ReadinessAggregate created = new ReadinessAggregate();
+				created.setCompany(companyRepository.getReferenceById(companyId));
+				created.setTemplate(templateRepository.getReferenceById(bucket.getTemplateId()));
+				created.setDepartment(bucket.getDepartment());
+				created.setParticipantType(bucket.getParticipantType());
+				created.setBucketDate(bucket.getDay());
+				return created;
+			});
+			// Histogramm/Summe der Aggregate enthalten gewertete Werte (Reverse-Items invertiert)
+			int scoredValue = ReadinessAccumulator.score(bucket.getValue(), Boolean.TRUE.equals(bucket.getReverseItem()));
+			aggregate.add(scoredValue, Objects.requireNonNullElse(bucket.getAnswerCount(), 0L));
+		}
+
+		aggregateRepository.saveAll(aggregates.values());
+		return aggregates.size();
+	}
+
+	private void apply(SurveyInstance instance, List<SurveyAnswer> answers, int sign) {
+		// Nur abgesendete Instanzen mit Antworten fließen in die Auswertung ein
+		if (instance.getSubmittedAt() == null || answers == null || answers.isEmpty()) {
+			return;
+		}
+
+		LocalDate bucketDate = instance.getSubmittedAt().toLocalDate();
+		if (sign > 0) {
+			// Delta aufsummieren und atomar addieren: parallele Erst-Abgaben in denselben Bucket legen ihn nur einmal an
+			ReadinessAggregate delta = new ReadinessAggregate();
+			delta.setCompany(instance.getCompany());
+			delta.setTemplate(instance.getTemplate());
+			delta.setDepartment(instance.getDepartment());
+			delta.setParticipantType(instance.getParticipantType());
+			delta.setBucketDate(bucketDate);
+			for (SurveyAnswer answer : answers) {
+				if (answer.getValue() != null) {
+					delta.apply(ReadinessAccumulator.score(answer.getValue(), Boolean.TRUE.equals(answer.getReverseItem())), 1);
+				}
+			}
+			if (delta.getAnswerCount() > 0) {
+				aggregateRepository.addToBucket(delta);
+			}
+			return;
+		}
+
+		ReadinessAggregate aggregate = aggregateRepository
+			.findByCompanyIdAndTemplateIdAndDepartmentAndParticipantTypeAndBucketDate(
+				instance.getCompany().getId(),
+				instance.getTemplate().getId(),
+				instance.getDepartment(),
+				instance.getParticipantType(),
+				bucketDate
+			)
+			.orElse(null);
+
+		if (aggregate == null) {
+			// Nichts zu entfernen (z.B. Instanz vor Einführung der Aggregate abgesendet und noch nicht nachgezogen)
+			return;
+		}
+
+		for (SurveyAnswer answer : answers) {
+			if (answer.getValue() != null) {
+				aggregate.apply(ReadinessAccumulator.score(answer.getValue(), Boolean.TRUE.equals(answer.getReverseItem())), sign);
+			}
+		}
+
+		if (aggregate.getAnswerCount() <= 0) {
+			// Leerer Bucket: Zeile entfernen statt Null-Zeilen anzusammeln
+			aggregateRepository.delete(aggregate);
+			return;
+		}
+		aggregateRepository.save(aggregate);
+	}
+}
@@ -1,18 +1,43 @@
 package com.changeready.service;
 
-import com.changeready.entity.SurveyAnswer;
+import com.changeready.analytics.ReadinessAccumulator;
+import com.changeready.entity.ReadinessAggregate;
+import com.changeready.repository.projection.ReadinessTotals;
 
-import java.util.List;
+import java.util.Collection;
 
 public interface ReadinessCalculationService {
 
 	/**
-	 * Berechnet Readiness aus Survey-Antworten
+	 * Berechnet Readiness aus einem Akkumulator gewerteter Antworten (Reverse-Items bereits invertiert)
 	 * Formel: ((Durchschnitt - 1) / 4) * 100
-	 * @param answers Liste von Survey-Antworten (Werte 1-5)
+	 * @param accumulator Summe/Anzahl der gewerteten Antwort-Werte (1-5)
+	 * @return Readiness-Wert (0-100%), 0 wenn keine Antworten
+	 */
+	double calculateReadiness(ReadinessAccumulator accumulator);
+
+	/**
+	 * Berechnet Readiness aus vorberechneten Aggregat-Buckets (Summe und Anzahl der Antwort-Werte)
+	 * Gleiche Formel wie calculateReadiness, ohne einzelne Antworten zu laden
+	 * @param aggregates ReadinessAggregates
 	 * @return Readiness-Wert (0-100%)
 	 */
-	double calculateReadiness(List<SurveyAnswer> answers);
+	double calculateAggregateReadiness(Collection<ReadinessAggregate> aggregates);
+
+	/**
+	 * Berechnet Readiness aus Summe und Anzahl der Antwort-Werte
+	 * @param valueSum Summe der Antwort-Werte (1-5)
+	 * @param answerCount Anzahl der Antworten
+	 * @return Readiness-Wert (0-100%), 0 wenn keine Antworten
+	 */
+	double calculateReadiness(long valueSum, long answerCount);
+
+	/**
+	 * Berechnet Readiness aus per SQL aggregierten Summen (z.B. pro Department oder User)
+	 * @param totals Aggregierte Summe/Anzahl-Projektionen
+	 * @return Readiness-Wert (0-100%) über alle übergebenen Gruppen
+	 */
+	double calculateTotalsReadiness(Collection<? extends ReadinessTotals> totals);
 
 	/**
 	 * Kategorisiert Readiness-Wert in Promoter/Neutral/Kritiker
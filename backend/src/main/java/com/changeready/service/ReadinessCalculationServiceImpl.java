@@ -1,26 +1,61 @@
 package com.changeready.service;
 
-import com.changeready.entity.SurveyAnswer;
+import com.changeready.analytics.ReadinessAccumulator;
+import com.changeready.entity.ReadinessAggregate;
+import com.changeready.repository.projection.ReadinessTotals;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.Collection;
 
 @Service
 public class ReadinessCalculationServiceImpl implements ReadinessCalculationService {
 
 	@Override
-	public double calculateReadiness(List<SurveyAnswer> answers) {
-		if (answers == null || answers.isEmpty()) {
+	public double calculateReadiness(ReadinessAccumulator accumulator) {
+		if (accumulator == null || accumulator.isEmpty()) {
 			return 0.0;
 		}
+		return toReadiness(accumulator.getAverage());
+	}
+
+	@Override
+	public double calculateAggregateReadiness(Collection<ReadinessAggregate> aggregates) {
+		if (aggregates == null || aggregates.isEmpty()) {
+			return 0.0;
+		}
+
+		ReadinessAccumulator accumulator = new ReadinessAccumulator();
+		for (ReadinessAggregate aggregate : aggregates) {
+			accumulator.add(aggregate);
+		}
+		return calculateReadiness(accumulator);
+	}
+
+	@Override
+	public double calculateReadiness(long valueSum, long answerCount) {
+		if (answerCount <= 0) {
+			return 0.0;
+		}
+		return toReadiness((double) valueSum / answerCount);
+	}
 
-		// Durchschnitt aller Antwort-Werte berechnen
-		double sum = 0.0;
-		for (SurveyAnswer answer : answers) {
-			sum += answer.getValue();
+	@Override
+	public double calculateTotalsReadiness(Collection<? extends ReadinessTotals> totals) {
+		if (totals == null || totals.isEmpty()) {
+			return 0.0;
+		}
+
+		ReadinessAccumulator accumulator = new ReadinessAccumulator();
+		for (ReadinessTotals total : totals) {
+			accumulator.addTotals(
+				total.getValueSum() != null ? total.getValueSum() : 0L,
+				total.getAnswerCount() != null ? total.getAnswerCount() : 0L
+			);
 		}
-		double average = sum / answers.size();
+		return calculateReadiness(accumulator);
+	}
 
+	private double toReadiness(double average) {
 		// Formel: ((Durchschnitt - 1) / 4) * 100
 		// Beispiel: Durchschnitt 3.5 → ((3.5 - 1) / 4) * 100 = (2.5 / 4) * 100 = 62.5%
 		double readiness = ((average - 1.0) / 4.0) * 100.0;
@@ -0,0 +1,78 @@
+package com.changeready.service;
+
+import com.changeready.analytics.ReadinessAccumulator;
+import com.changeready.entity.ReadinessRollup;
+import com.changeready.entity.SurveyAnswer;
+import com.changeready.entity.SurveyInstance;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ReadinessRollupService {
+
+	/**
+	 * Schreibt die Antworten einer abgesendeten Survey-Instanz in die Tages-Rollups (Company, Department, User)
+	 * Muss innerhalb der Transaktion von submitInstance aufgerufen werden
+	 * @param instance Abgesendete Instanz (submittedAt gesetzt)
+	 * @param answers Antworten der Instanz
+	 */
+	void recordSubmission(SurveyInstance instance, List<SurveyAnswer> answers);
+
+	/**
+	 * Entfernt die Antworten einer abgesendeten Survey-Instanz wieder aus den Tages-Rollups
+	 * Muss innerhalb der Transaktion von deleteInstance aufgerufen werden
+	 * @param instance Zu löschende Instanz
+	 * @param answers Antworten der Instanz
+	 */
+	void removeSubmission(SurveyInstance instance, List<SurveyAnswer> answers);
+
+	/**
+	 * Summe/Anzahl aller gewerteten Antworten eines Segments, die vor einem Stichtag abgegeben wurden
+	 * @param companyId Company-ID
+	 * @param segmentType Segment-Typ
+	 * @param segmentKey Segment-Schlüssel (siehe {@link ReadinessRollup#companyKey()} etc.)
+	 * @param before Stichtag (exklusiv, tagesgenau)
+	 * @return Totals "Stand Stichtag" (leer wenn keine Daten)
+	 */
+	ReadinessAccumulator getTotalsBefore(Long companyId, ReadinessRollup.SegmentType segmentType, String segmentKey, LocalDate before);
+
+	/**
+	 * Summe/Anzahl der gewerteten Antworten einer Menge von Usern, die vor einem Stichtag abgegeben wurden
+	 * @param companyId Company-ID
+	 * @param userIds User-IDs
+	 * @param before Stichtag (exklusiv, tagesgenau)
+	 * @return Totals "Stand Stichtag" über alle User
+	 */
+	ReadinessAccumulator getUserTotalsBefore(Long companyId, Collection<Long> userIds, LocalDate before);
+
+	/**
+	 * Wie {@link #getUserTotalsBefore}, aber pro User (eine Abfrage für alle User)
+	 * @param companyId Company-ID
+	 * @param userIds User-IDs
+	 * @param before Stichtag (exklusiv, tagesgenau)
+	 * @return Totals "Stand Stichtag" pro User-ID (User ohne Antworten vor dem Stichtag fehlen)
+	 */
+	Map<Long, ReadinessAccumulator> getUserTotalsBeforeByUser(Long companyId, Collection<Long> userIds, LocalDate before);
+
+	/**
+	 * Summe/Anzahl der gewerteten Antworten eines Segments, die im Zeitraum [from, to) abgegeben wurden
+	 * (Differenz zweier Präfix-Summen)
+	 * @param companyId Company-ID
+	 * @param segmentType Segment-Typ
+	 * @param segmentKey Segment-Schlüssel
+	 * @param from Beginn (inklusiv)
+	 * @param to Ende (exklusiv)
+	 * @return Totals des Zeitraums
+	 */
+	ReadinessAccumulator getTotalsBetween(Long companyId, ReadinessRollup.SegmentType segmentType, String segmentKey,
+		LocalDate from, LocalDate to);
+
+	/**
+	 * Baut die Rollups einer Company aus allen SUBMITTED Instanzen neu auf (Backfill/Abgleich)
+	 * @param companyId Company-ID
+	 * @return Anzahl geschriebener Rollup-Zeilen
+	 */
+	int rebuild(Long companyId);
+}
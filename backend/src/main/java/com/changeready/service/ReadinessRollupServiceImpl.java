@@ -0,0 +1,205 @@
+package com.changeready.service;
+
+import com.changeready.analytics.ReadinessAccumulator;
+import com.changeready.entity.Company;
+import com.changeready.entity.ReadinessRollup;
+import com.changeready.entity.SurveyAnswer;
+import com.changeready.entity.SurveyInstance;
+import com.changeready.repository.CompanyRepository;
+import com.changeready.repository.ReadinessRollupRepository;
+import com.changeready.repository.SurveyAnswerRepository;
+import com.changeready.repository.projection.ReadinessValueBucket;
+import com.changeready.repository.projection.UserDailyReadinessTotals;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+@Service
+public class ReadinessRollupServiceImpl implements ReadinessRollupService {
+
+	private final ReadinessRollupRepository rollupRepository;
+	private final SurveyAnswerRepository answerRepository;
+	private final CompanyRepository companyRepository;
+
+	public ReadinessRollupServiceImpl(
+		ReadinessRollupRepository rollupRepository,
+		SurveyAnswerRepository answerRepository,
+		CompanyRepository companyRepository
+	) {
+		this.rollupRepository = rollupRepository;
+		this.answerRepository = answerRepository;
+		this.companyRepository = companyRepository;
+	}
+
+	@Override
+	@Transactional
+	public void recordSubmission(SurveyInstance instance, List<SurveyAnswer> answers) {
+		apply(instance, answers, 1);
+	}
+
+	@Override
+	@Transactional
+	public void removeSubmission(SurveyInstance instance, List<SurveyAnswer> answers) {
+		apply(instance, answers, -1);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public ReadinessAccumulator getTotalsBefore(Long companyId, ReadinessRollup.SegmentType segmentType, String segmentKey,
+		LocalDate before) {
+		ReadinessAccumulator totals = new ReadinessAccumulator();
+		rollupRepository
+			.findFirstByCompanyIdAndSegmentTypeAndSegmentKeyAndRollupDateBeforeOrderByRollupDateDesc(companyId, segmentType, segmentKey, before)
+			.ifPresent(rollup -> totals.addTotals(rollup.getCumulativeValueSum(), rollup.getCumulativeAnswerCount()));
+		return totals;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public ReadinessAccumulator getUserTotalsBefore(Long companyId, Collection<Long> userIds, LocalDate before) {
+		ReadinessAccumulator totals = new ReadinessAccumulator();
+		for (ReadinessAccumulator userTotals : getUserTotalsBeforeByUser(companyId, userIds, before).values()) {
+			totals.merge(userTotals);
+		}
+		return totals;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Long, ReadinessAccumulator> getUserTotalsBeforeByUser(Long companyId, Collection<Long> userIds, LocalDate before) {
+		Map<Long, ReadinessAccumulator> totalsByUser = new HashMap<>();
+		if (userIds == null || userIds.isEmpty()) {
+			return totalsByUser;
+		}
+		List<String> segmentKeys = userIds.stream().distinct().map(ReadinessRollup::userKey).toList();
+		for (ReadinessRollup rollup : rollupRepository.findLatestBefore(companyId, ReadinessRollup.SegmentType.USER, segmentKeys, before)) {
+			ReadinessAccumulator totals = new ReadinessAccumulator();
+			totals.addTotals(rollup.getCumulativeValueSum(), rollup.getCumulativeAnswerCount());
+			totalsByUser.put(Long.valueOf(rollup.getSegmentKey()), totals);
+		}
+		return totalsByUser;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public ReadinessAccumulator getTotalsBetween(Long companyId, ReadinessRollup.SegmentType segmentType, String segmentKey,
+		LocalDate from, LocalDate to) {
+		ReadinessAccumulator end = getTotalsBefore(companyId, segmentType, segmentKey, to);
+		ReadinessAccumulator start = getTotalsBefore(companyId, segmentType, segmentKey, from);
+		ReadinessAccumulator delta = new ReadinessAccumulator();
+		delta.addTotals(end.getValueSum() - start.getValueSum(), end.getCount() - start.getCount());
+		return delta;
+	}
+
+	@Override
+	@Transactional
+	public int rebuild(Long companyId) {
+		rollupRepository.deleteByCompanyId(companyId);
+
+		// Tages-Summen pro Segment sammeln (TreeMap: aufsteigend nach Tag für die Präfix-Summen)
+		Map<ReadinessRollup.SegmentType, Map<String, TreeMap<LocalDate, long[]>>> days = new TreeMap<>();
+		for (ReadinessValueBucket bucket : answerRepository.aggregateValueBuckets(companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED)) {
+			if (bucket.getValue() == null || bucket.getDay() == null) {
+				continue;
+			}
+			long count = Objects.requireNonNullElse(bucket.getAnswerCount(), 0L);
+			long sum = (long) ReadinessAccumulator.score(bucket.getValue(), Boolean.TRUE.equals(bucket.getReverseItem())) * count;
+			addDay(days, ReadinessRollup.SegmentType.COMPANY, ReadinessRollup.companyKey(), bucket.getDay(), sum, count);
+			addDay(days, ReadinessRollup.SegmentType.DEPARTMENT, ReadinessRollup.departmentKey(bucket.getDepartment()), bucket.getDay(), sum, count);
+		}
+		for (UserDailyReadinessTotals userDay : answerRepository.aggregateByUserAndDay(companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED)) {
+			if (userDay.getDay() == null) {
+				continue;
+			}
+			addDay(days, ReadinessRollup.SegmentType.USER, ReadinessRollup.userKey(userDay.getUserId()), userDay.getDay(),
+				Objects.requireNonNullElse(userDay.getValueSum(), 0L), Objects.requireNonNullElse(userDay.getAnswerCount(), 0L));
+		}
+
+		Company company = companyRepository.getReferenceById(companyId);
+		List<ReadinessRollup> rollups = new ArrayList<>();
+		days.forEach((segmentType, segments) -> segments.forEach((segmentKey, byDay) -> {
+			long cumulativeSum = 0;
+			long cumulativeCount = 0;
+			for (Map.Entry<LocalDate, long[]> day : byDay.entrySet()) {
+				cumulativeSum += day.getValue()[0];
+				cumulativeCount += day.getValue()[1];
+				ReadinessRollup rollup = new ReadinessRollup();
+				rollup.setCompany(company);
+				rollup.setSegmentType(segmentType);
+				rollup.setSegmentKey(segmentKey);
+				rollup.setRollupDate(day.getKey());
+				rollup.setDayValueSum(day.getValue()[0]);
+				rollup.setDayAnswerCount(day.getValue()[1]);
+				rollup.setCumulativeValueSum(cumulativeSum);
+				rollup.setCumulativeAnswerCount(cumulativeCount);
+				rollups.add(rollup);
+			}
+		}));
+
+		rollupRepository.saveAll(rollups);
+		return rollups.size();
+	}
+
+	private static void addDay(Map<ReadinessRollup.SegmentType, Map<String, TreeMap<LocalDate, long[]>>> days,
+		ReadinessRollup.SegmentType segmentType, String segmentKey, LocalDate day, long valueSum, long answerCount) {
+		long[] totals = days.computeIfAbsent(segmentType, k -> new TreeMap<>())
+			.computeIfAbsent(segmentKey, k -> new TreeMap<>())
+			.computeIfAbsent(day, k -> new long[2]);
+		totals[0] += valueSum;
+		totals[1] += answerCount;
+	}
+
+	private void apply(SurveyInstance instance, List<SurveyAnswer> answers, int sign) {
+		// Nur abgesendete Instanzen mit Antworten fließen in die Auswertung ein
+		if (instance.getSubmittedAt() == null || answers == null || answers.isEmpty()) {
+			return;
+		}
+
+		ReadinessAccumulator totals = new ReadinessAccumulator();
+		for (SurveyAnswer answer : answers) {
+			if (answer.getValue() != null) {
+				totals.add(answer.getValue(), Boolean.TRUE.equals(answer.getReverseItem()));
+			}
+		}
+		if (totals.isEmpty()) {
+			return;
+		}
+
+		LocalDate day = instance.getSubmittedAt().toLocalDate();
+		long valueSum = sign * totals.getValueSum();
+		long answerCount = sign * totals.getCount();
+		applyDelta(instance.getCompany(), ReadinessRollup.SegmentType.COMPANY, ReadinessRollup.companyKey(), day, valueSum, answerCount);
+		applyDelta(instance.getCompany(), ReadinessRollup.SegmentType.DEPARTMENT, ReadinessRollup.departmentKey(instance.getDepartment()),
+			day, valueSum, answerCount);
+		applyDelta(instance.getCompany(), ReadinessRollup.SegmentType.USER, ReadinessRollup.userKey(instance.getUser().getId()),
+			day, valueSum, answerCount);
+	}
+
+	/**
+	 * Addiert eine Änderung auf den Tag und verschiebt die Präfix-Summen aller späteren Tage des Segments
+	 */
+	private void applyDelta(Company company, ReadinessRollup.SegmentType segmentType, String segmentKey, LocalDate day,
+		long valueSum, long answerCount) {
+		ReadinessRollup delta = new ReadinessRollup();
+		delta.setCompany(company);
+		delta.setSegmentType(segmentType);
+		delta.setSegmentKey(segmentKey);
+		delta.setRollupDate(day);
+		delta.setDayValueSum(valueSum);
+		delta.setDayAnswerCount(answerCount);
+		if (!rollupRepository.addToDay(delta)) {
+			// Nichts zu entfernen (z.B. Instanz vor Einführung der Rollups abgesendet und noch nicht nachgezogen)
+			return;
+		}
+		// Leere Tage entfernt addToDay, die Präfix-Summen der Folgetage bleiben über shiftCumulativeAfter korrekt
+		rollupRepository.shiftCumulativeAfter(company.getId(), segmentType, segmentKey, day, valueSum, answerCount);
+	}
+}
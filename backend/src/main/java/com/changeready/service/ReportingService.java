@@ -1,10 +1,12 @@
 package com.changeready.service;
 
+import com.changeready.analytics.TimeSeriesQuery;
 import com.changeready.dto.dashboard.TrendDataResponse;
 import com.changeready.dto.reporting.DepartmentReadinessResponse;
 import com.changeready.dto.reporting.ManagementSummaryResponse;
 import com.changeready.dto.reporting.ReportingDataResponse;
 import com.changeready.dto.reporting.SurveyResultResponse;
+import com.changeready.dto.reporting.TemplateDepartmentHeatmapResponse;
 import com.changeready.dto.reporting.TemplateDepartmentResultResponse;
 import com.changeready.security.UserPrincipal;
 
@@ -32,6 +34,11 @@ public interface ReportingService {
 	 */
 	TrendDataResponse getTrendData(UserPrincipal userPrincipal);
 
+	/**
+	 * Lädt Trend-Daten für Chart in Zeitraum/Granularität der Abfrage (optional auf maxPoints reduziert)
+	 */
+	TrendDataResponse getTrendData(UserPrincipal userPrincipal, TimeSeriesQuery query);
+
 	/**
 	 * Lädt Template-spezifische Results (kategorisiert nach Category/Subcategory)
 	 * @param templateId Template-ID
@@ -47,5 +54,14 @@ public interface ReportingService {
 	 * @return Liste von TemplateDepartmentResultResponse pro Department
 	 */
 	List<TemplateDepartmentResultResponse> getTemplateDepartmentResults(Long templateId, UserPrincipal userPrincipal);
+
+	/**
+	 * Lädt Template-spezifische Department-Results als kompakte Heatmap (Department × Subcategory)
+	 * Parallele Arrays statt verschachtelter Result-Objekte (für die Department-Vergleichsansicht)
+	 * @param templateId Template-ID
+	 * @param userPrincipal Aktueller User
+	 * @return Heatmap mit Zeilen pro Department und Spalten pro Subcategory
+	 */
+	TemplateDepartmentHeatmapResponse getTemplateDepartmentHeatmap(Long templateId, UserPrincipal userPrincipal);
 }
 
@@ -1,33 +1,44 @@
 package com.changeready.service;
 
+import com.changeready.analytics.AnswerCube;
+import com.changeready.analytics.AnswerCubeManager;
+import com.changeready.analytics.ReadinessAccumulator;
+import com.changeready.analytics.ResultMatrix;
+import com.changeready.analytics.SlotTotals;
+import com.changeready.analytics.TimeSeriesQuery;
+import com.changeready.cache.ReadinessResultCache;
+import com.changeready.concurrent.SectionExecutor;
 import com.changeready.dto.dashboard.TrendDataResponse;
 import com.changeready.dto.measure.MeasureResponse;
-import com.changeready.dto.reporting.CategoryStructure;
 import com.changeready.dto.reporting.DepartmentReadinessResponse;
 import com.changeready.dto.reporting.ManagementSummaryResponse;
 import com.changeready.dto.reporting.ReportingDataResponse;
 import com.changeready.dto.reporting.SurveyResultResponse;
+import com.changeready.dto.reporting.TemplateDepartmentHeatmapResponse;
 import com.changeready.dto.reporting.TemplateDepartmentResultResponse;
-import com.changeready.entity.SurveyAnswer;
+import com.changeready.entity.Department;
+import com.changeready.entity.ReadinessAggregate;
+import com.changeready.entity.ReadinessRollup;
 import com.changeready.entity.SurveyInstance;
 import com.changeready.entity.SurveyTemplate;
 import com.changeready.repository.SurveyInstanceRepository;
 import com.changeready.repository.SurveyAnswerRepository;
 import com.changeready.repository.SurveyTemplateRepository;
-import com.changeready.repository.StakeholderPersonRepository;
-import com.changeready.repository.StakeholderGroupRepository;
+import com.changeready.repository.projection.DepartmentInstanceCount;
+import com.changeready.repository.projection.DepartmentQuestionReadinessTotals;
+import com.changeready.repository.projection.QuestionReadinessTotals;
 import com.changeready.security.UserPrincipal;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.changeready.snapshot.CompanyDataSnapshot;
+import com.changeready.snapshot.CompanyDataSnapshotProvider;
+import com.changeready.template.TemplateIndex;
+import com.changeready.template.TemplateIndexCache;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class ReportingServiceImpl implements ReportingService {
@@ -35,78 +46,91 @@ public class ReportingServiceImpl implements ReportingService {
 	private final SurveyInstanceRepository surveyInstanceRepository;
 	private final SurveyAnswerRepository surveyAnswerRepository;
 	private final SurveyTemplateRepository surveyTemplateRepository;
-	private final StakeholderPersonRepository stakeholderPersonRepository;
-	private final StakeholderGroupRepository stakeholderGroupRepository;
 	private final MeasureService measureService;
 	private final ReadinessCalculationService readinessCalculationService;
 	private final DashboardService dashboardService;
-	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final CompanyDataSnapshotProvider companyDataSnapshotProvider;
+	private final TemplateIndexCache templateIndexCache;
+	private final AnswerCubeManager answerCubeManager;
+	private final SectionExecutor sectionExecutor;
+	private final ReadinessRollupService readinessRollupService;
+	private final ReadinessResultCache resultCache;
 
 	public ReportingServiceImpl(
 		SurveyInstanceRepository surveyInstanceRepository,
 		SurveyAnswerRepository surveyAnswerRepository,
 		SurveyTemplateRepository surveyTemplateRepository,
-		StakeholderPersonRepository stakeholderPersonRepository,
-		StakeholderGroupRepository stakeholderGroupRepository,
 		MeasureService measureService,
 		ReadinessCalculationService readinessCalculationService,
-		DashboardService dashboardService
+		DashboardService dashboardService,
+		CompanyDataSnapshotProvider companyDataSnapshotProvider,
+		TemplateIndexCache templateIndexCache,
+		AnswerCubeManager answerCubeManager,
+		SectionExecutor sectionExecutor,
+		ReadinessRollupService readinessRollupService,
+		ReadinessResultCache resultCache
 	) {
 		this.surveyInstanceRepository = surveyInstanceRepository;
 		this.surveyAnswerRepository = surveyAnswerRepository;
 		this.surveyTemplateRepository = surveyTemplateRepository;
-		this.stakeholderPersonRepository = stakeholderPersonRepository;
-		this.stakeholderGroupRepository = stakeholderGroupRepository;
 		this.measureService = measureService;
 		this.readinessCalculationService = readinessCalculationService;
 		this.dashboardService = dashboardService;
+		this.companyDataSnapshotProvider = companyDataSnapshotProvider;
+		this.templateIndexCache = templateIndexCache;
+		this.answerCubeManager = answerCubeManager;
+		this.sectionExecutor = sectionExecutor;
+		this.readinessRollupService = readinessRollupService;
+		this.resultCache = resultCache;
 	}
 
 	@Override
 	public ReportingDataResponse getReportingData(UserPrincipal userPrincipal) {
+		// Abschnitte sind unabhängig: parallel berechnen (Daten teilen sich über den Request-Snapshot)
+		SectionExecutor.Section<ManagementSummaryResponse> summary =
+			sectionExecutor.submit("summary", () -> getManagementSummary(userPrincipal));
+		SectionExecutor.Section<List<DepartmentReadinessResponse>> departments =
+			sectionExecutor.submit("departments", () -> getDepartmentReadiness(userPrincipal));
+		SectionExecutor.Section<TrendDataResponse> trend =
+			sectionExecutor.submit("trend", () -> getTrendData(userPrincipal));
+		
 		ReportingDataResponse response = new ReportingDataResponse();
-		response.setSummary(getManagementSummary(userPrincipal));
-		response.setDepartments(getDepartmentReadiness(userPrincipal));
-		response.setTrend(getTrendData(userPrincipal));
+		response.setSummary(summary.join());
+		response.setDepartments(departments.join());
+		response.setTrend(trend.join());
 		return response;
 	}
 
 	@Override
 	public ManagementSummaryResponse getManagementSummary(UserPrincipal userPrincipal) {
+		return resultCache.get(userPrincipal.getCompanyId(), "reporting.summary", null, ReadinessResultCache.ALL,
+			() -> computeManagementSummary(userPrincipal));
+	}
+
+	private ManagementSummaryResponse computeManagementSummary(UserPrincipal userPrincipal) {
 		Long companyId = userPrincipal.getCompanyId();
 		
 		ManagementSummaryResponse response = new ManagementSummaryResponse();
 		
-		// Overall Readiness: Berechne aus allen SUBMITTED Survey-Instanzen
-		List<SurveyInstance> submittedInstances = surveyInstanceRepository
-			.findByCompanyIdAndStatus(companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED);
-		
-		double overallReadinessRaw = 0.0;
-		if (!submittedInstances.isEmpty()) {
-			List<SurveyAnswer> allAnswers = new ArrayList<>();
-			for (SurveyInstance instance : submittedInstances) {
-				List<SurveyAnswer> answers = surveyAnswerRepository.findByInstanceId(instance.getId());
-				allAnswers.addAll(answers);
-			}
-			
-			if (!allAnswers.isEmpty()) {
-				overallReadinessRaw = readinessCalculationService.calculateReadiness(allAnswers);
-			}
+		// Overall Readiness über die Readiness-Aggregate des Request-Snapshots
+		CompanyDataSnapshot snapshot = companyDataSnapshotProvider.get(companyId);
+		ReadinessAccumulator current = new ReadinessAccumulator();
+		for (ReadinessAggregate aggregate : snapshot.getAggregates()) {
+			current.add(aggregate);
 		}
+		double overallReadinessRaw = readinessCalculationService.calculateReadiness(current);
 		response.setOverallReadiness(roundPercent0(overallReadinessRaw));
 		
 		// Readiness Trend: Vergleich aktueller Wert mit Wert vor 30 Tagen
-		double previousReadiness = calculateReadiness30DaysAgo(companyId);
+		// Stand Stichtag (tagesgenau) über die Präfix-Summe des Company-Rollups statt eines Durchlaufs über die Historie
+		ReadinessAccumulator previous = readinessRollupService.getTotalsBefore(
+			companyId, ReadinessRollup.SegmentType.COMPANY, ReadinessRollup.companyKey(), LocalDate.now().minusDays(30));
+		double previousReadiness = readinessCalculationService.calculateReadiness(previous);
 		int trend = readinessCalculationService.calculateTrend(overallReadinessRaw, previousReadiness);
 		response.setReadinessTrend(trend);
 		
-		// Stakeholder Count: Anzahl aller Stakeholder-Personen
-		int stakeholderCount = 0;
-		List<com.changeready.entity.StakeholderGroup> groups = stakeholderGroupRepository.findByCompanyId(companyId);
-		for (com.changeready.entity.StakeholderGroup group : groups) {
-			stakeholderCount += stakeholderPersonRepository.findByGroupId(group.getId()).size();
-		}
-		response.setStakeholderCount(stakeholderCount);
+		// Stakeholder Count: Anzahl aller Stakeholder-Personen (eine Count-Abfrage im Snapshot)
+		response.setStakeholderCount((int) snapshot.getStakeholderCount());
 		
 		// Active Measures Count
 		List<MeasureResponse> activeMeasures = measureService.getActiveMeasures(userPrincipal);
@@ -116,78 +140,44 @@ public class ReportingServiceImpl implements ReportingService {
 		return response;
 	}
 
-	/**
-	 * Berechnet Readiness-Wert von vor 30 Tagen
-	 */
-	private double calculateReadiness30DaysAgo(Long companyId) {
-		LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-		
-		List<SurveyInstance> oldInstances = surveyInstanceRepository.findByCompanyId(companyId)
-			.stream()
-			.filter(instance -> instance.getStatus() == SurveyInstance.SurveyInstanceStatus.SUBMITTED)
-			.filter(instance -> instance.getSubmittedAt() != null)
-			.filter(instance -> instance.getSubmittedAt().isBefore(thirtyDaysAgo))
-			.collect(Collectors.toList());
-		
-		if (oldInstances.isEmpty()) {
-			return 0.0;
-		}
-		
-		List<SurveyAnswer> allAnswers = new ArrayList<>();
-		for (SurveyInstance instance : oldInstances) {
-			List<SurveyAnswer> answers = surveyAnswerRepository.findByInstanceId(instance.getId());
-			allAnswers.addAll(answers);
-		}
-		
-		if (allAnswers.isEmpty()) {
-			return 0.0;
-		}
-		
-		return readinessCalculationService.calculateReadiness(allAnswers);
-	}
-
 	@Override
 	public List<DepartmentReadinessResponse> getDepartmentReadiness(UserPrincipal userPrincipal) {
+		return resultCache.get(userPrincipal.getCompanyId(), "reporting.departments", null, ReadinessResultCache.SURVEYS,
+			() -> computeDepartmentReadiness(userPrincipal));
+	}
+
+	private List<DepartmentReadinessResponse> computeDepartmentReadiness(UserPrincipal userPrincipal) {
 		Long companyId = userPrincipal.getCompanyId();
 		
-		// Lade alle SUBMITTED Survey-Instanzen der Company
-		List<SurveyInstance> submittedInstances = surveyInstanceRepository
-			.findByCompanyIdAndStatus(companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED);
+		// Readiness-Aggregate der Company aus dem Request-Snapshot
+		List<ReadinessAggregate> aggregates = companyDataSnapshotProvider.get(companyId).getAggregates();
 		
-		if (submittedInstances.isEmpty()) {
+		if (aggregates.isEmpty()) {
 			return new ArrayList<>();
 		}
 		
-		// Gruppiere nach Department
-		Map<com.changeready.entity.Department, List<SurveyInstance>> instancesByDepartment = submittedInstances.stream()
-			.collect(Collectors.groupingBy(SurveyInstance::getDepartment));
+		// Akkumuliere pro Department in einem Durchlauf
+		Map<Department, ReadinessAccumulator> accumulatorByDepartment = new EnumMap<>(Department.class);
+		for (ReadinessAggregate aggregate : aggregates) {
+			accumulatorByDepartment.computeIfAbsent(aggregate.getDepartment(), k -> new ReadinessAccumulator()).add(aggregate);
+		}
 		
 		List<DepartmentReadinessResponse> departmentReadiness = new ArrayList<>();
 		
-		for (Map.Entry<com.changeready.entity.Department, List<SurveyInstance>> entry : instancesByDepartment.entrySet()) {
-			com.changeready.entity.Department department = entry.getKey();
-			List<SurveyInstance> instances = entry.getValue();
-			
-			// Sammle alle Antworten dieser Abteilung
-			List<SurveyAnswer> allAnswers = new ArrayList<>();
-			for (SurveyInstance instance : instances) {
-				List<SurveyAnswer> answers = surveyAnswerRepository.findByInstanceId(instance.getId());
-				allAnswers.addAll(answers);
-			}
+		for (Map.Entry<Department, ReadinessAccumulator> entry : accumulatorByDepartment.entrySet()) {
+			Department department = entry.getKey();
 			
 			// Berechne Readiness für diese Abteilung
-			if (!allAnswers.isEmpty()) {
-				double readinessRaw = readinessCalculationService.calculateReadiness(allAnswers);
-				String color = getReadinessColor(readinessRaw);
-				
-				DepartmentReadinessResponse response = new DepartmentReadinessResponse();
-				response.setId(department.name()); // Department name als ID (z.B. "EINKAUF")
-				response.setName(department.getDisplayName());
-				response.setReadiness(roundPercent0(readinessRaw));
-				response.setColor(color);
-				
-				departmentReadiness.add(response);
-			}
+			double readinessRaw = readinessCalculationService.calculateReadiness(entry.getValue());
+			String color = getReadinessColor(readinessRaw);
+			
+			DepartmentReadinessResponse response = new DepartmentReadinessResponse();
+			response.setId(department.name()); // Department name als ID (z.B. "EINKAUF")
+			response.setName(department.getDisplayName());
+			response.setReadiness(roundPercent0(readinessRaw));
+			response.setColor(color);
+			
+			departmentReadiness.add(response);
 		}
 		
 		return departmentReadiness;
@@ -216,8 +206,18 @@ public class ReportingServiceImpl implements ReportingService {
 		return dashboardService.getTrendData(userPrincipal);
 	}
 
+	@Override
+	public TrendDataResponse getTrendData(UserPrincipal userPrincipal, TimeSeriesQuery query) {
+		return dashboardService.getTrendData(userPrincipal, query);
+	}
+
 	@Override
 	public List<SurveyResultResponse> getTemplateResults(Long templateId, UserPrincipal userPrincipal) {
+		return resultCache.get(userPrincipal.getCompanyId(), "reporting.template-results", templateId, ReadinessResultCache.SURVEYS,
+			() -> computeTemplateResults(templateId, userPrincipal));
+	}
+
+	private List<SurveyResultResponse> computeTemplateResults(Long templateId, UserPrincipal userPrincipal) {
 		Long companyId = userPrincipal.getCompanyId();
 		
 		// Template laden und Company-Zugehörigkeit prüfen
@@ -228,105 +228,118 @@ public class ReportingServiceImpl implements ReportingService {
 			throw new RuntimeException("Survey template does not belong to your company");
 		}
 		
-		// Lade alle SUBMITTED Instanzen dieses Templates für die Company
-		List<SurveyInstance> submittedInstances = surveyInstanceRepository
-			.findByTemplateIdAndCompanyId(templateId, companyId)
-			.stream()
-			.filter(instance -> instance.getStatus() == SurveyInstance.SurveyInstanceStatus.SUBMITTED)
-			.collect(Collectors.toList());
+		// Anzahl SUBMITTED Instanzen dieses Templates für die Company
+		long submittedCount = surveyInstanceRepository
+			.countByTemplateIdAndCompanyIdAndStatus(templateId, companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED);
 		
-		if (submittedInstances.isEmpty()) {
+		if (submittedCount == 0) {
 			return new ArrayList<>();
 		}
 		
-		// Parse categoriesJson
-		List<CategoryStructure> categories = parseCategoriesJson(template.getCategoriesJson());
+		// Kompilierte Template-Struktur (einmal pro Template-Version geparst)
+		TemplateIndex index = templateIndexCache.get(template);
 		
-		// Sammle alle Antworten aller Instanzen
-		Map<String, List<Integer>> answersByQuestionId = new HashMap<>();
-		for (SurveyInstance instance : submittedInstances) {
-			List<SurveyAnswer> answers = surveyAnswerRepository.findByInstanceId(instance.getId());
-			for (SurveyAnswer answer : answers) {
-				answersByQuestionId.computeIfAbsent(answer.getQuestionId(), k -> new ArrayList<>())
-					.add(answer.getValue());
-			}
-		}
+		// Summe/Anzahl pro Frage-Slot (aus dem Answer-Cube oder per GROUP BY in der Datenbank)
+		SlotTotals totals = loadQuestionTotals(index, companyId);
 		
 		// Berechne Results pro Category/Subcategory
-		List<SurveyResultResponse> results = new ArrayList<>();
+		return buildSubcategoryResults(ResultMatrix.of(index, new SlotTotals[] {totals}), 0, submittedCount);
+	}
+
+	@Override
+	public List<TemplateDepartmentResultResponse> getTemplateDepartmentResults(Long templateId, UserPrincipal userPrincipal) {
+		DepartmentMatrix departmentMatrix = loadDepartmentMatrix(templateId, userPrincipal.getCompanyId());
+		if (departmentMatrix == null) {
+			return new ArrayList<>();
+		}
 		
-		for (CategoryStructure category : categories) {
-			// Null-Sicherheit: Prüfe category und subcategories
-			if (category == null || category.getSubcategories() == null) {
-				continue;
-			}
+		List<TemplateDepartmentResultResponse> departmentResults = new ArrayList<>();
+		
+		for (Map.Entry<Department, Long> entry : departmentMatrix.instanceCountByDepartment().entrySet()) {
+			Department department = entry.getKey();
+			long departmentInstanceCount = entry.getValue();
 			
-			for (com.changeready.dto.reporting.SubcategoryStructure subcategory : category.getSubcategories()) {
-				// Null-Sicherheit: Prüfe subcategory und questions
-				if (subcategory == null || subcategory.getQuestions() == null) {
-					continue;
-				}
-				
-				// Sammle Antworten für diese Subcategory
-				List<Integer> subcategoryAnswers = new ArrayList<>();
-				List<String> reverseItems = new ArrayList<>();
-				int totalQuestions = 0;
-				
-				for (com.changeready.dto.reporting.QuestionStructure question : subcategory.getQuestions()) {
-					// Null-Sicherheit: Prüfe question
-					if (question == null) {
-						continue;
-					}
-					
-					totalQuestions++;
-					if (question.getReverse() != null && question.getReverse()) {
-						// Null-Sicherheit: Prüfe question.getId()
-						if (question.getId() != null) {
-							reverseItems.add(question.getId());
-						}
-					}
-					
-					// Null-Sicherheit: Prüfe question.getId() vor Map-Zugriff
-					if (question.getId() != null) {
-						List<Integer> questionAnswers = answersByQuestionId.get(question.getId());
-						if (questionAnswers != null) {
-							subcategoryAnswers.addAll(questionAnswers);
-						}
-					}
-				}
+			// Results pro Category/Subcategory für dieses Department direkt aus der Matrix-Zeile
+			List<SurveyResultResponse> departmentCategoryResults = buildSubcategoryResults(
+				departmentMatrix.matrix(),
+				department.ordinal(),
+				departmentInstanceCount
+			);
+			
+			if (!departmentCategoryResults.isEmpty()) {
+				TemplateDepartmentResultResponse deptResult = new TemplateDepartmentResultResponse();
+				deptResult.setDepartment(department.name());
+				deptResult.setDepartmentName(department.getDisplayName());
+				deptResult.setParticipantCount((int) departmentInstanceCount);
+				deptResult.setResults(departmentCategoryResults);
 				
-				// Berechne Durchschnitt wenn Antworten vorhanden
-				if (!subcategoryAnswers.isEmpty()) {
-					double average = subcategoryAnswers.stream()
-						.mapToInt(Integer::intValue)
-						.average()
-						.orElse(0.0);
-					
-					// Runde auf 2 Dezimalstellen
-					average = Math.round(average * 100.0) / 100.0;
-					
-					SurveyResultResponse result = new SurveyResultResponse();
-					// Null-Sicherheit: Verwende leeren String falls name null
-					result.setCategory(category.getName() != null ? category.getName() : "");
-					result.setSubcategory(subcategory.getName() != null ? subcategory.getName() : 
-						(category.getName() != null ? category.getName() : ""));
-					result.setAverage(average);
-					result.setAnsweredCount(subcategoryAnswers.size());
-					result.setTotalCount(totalQuestions * submittedInstances.size());
-					result.setReverseItems(reverseItems);
-					
-					results.add(result);
-				}
+				departmentResults.add(deptResult);
 			}
 		}
 		
-		return results;
+		return departmentResults;
 	}
 
 	@Override
-	public List<TemplateDepartmentResultResponse> getTemplateDepartmentResults(Long templateId, UserPrincipal userPrincipal) {
-		Long companyId = userPrincipal.getCompanyId();
+	public TemplateDepartmentHeatmapResponse getTemplateDepartmentHeatmap(Long templateId, UserPrincipal userPrincipal) {
+		TemplateDepartmentHeatmapResponse response = new TemplateDepartmentHeatmapResponse();
+		response.setTemplateId(templateId);
+		response.setCategories(new ArrayList<>());
+		response.setSubcategories(new ArrayList<>());
+		response.setDepartments(new ArrayList<>());
+		response.setDepartmentNames(new ArrayList<>());
+		response.setParticipantCounts(new ArrayList<>());
+		response.setAverages(new ArrayList<>());
+		response.setAnsweredCounts(new ArrayList<>());
+		
+		DepartmentMatrix departmentMatrix = loadDepartmentMatrix(templateId, userPrincipal.getCompanyId());
+		if (departmentMatrix == null) {
+			return response;
+		}
+		
+		ResultMatrix matrix = departmentMatrix.matrix();
+		TemplateIndex index = departmentMatrix.index();
 		
+		// Spalten: alle Subcategories des Templates in Template-Reihenfolge
+		for (int subcategory = 0; subcategory < index.getSubcategoryCount(); subcategory++) {
+			response.getCategories().add(index.categoryName(index.categoryOf(subcategory)));
+			response.getSubcategories().add(index.subcategoryName(subcategory));
+		}
+		
+		// Zeilen: Departments mit Antworten, Zellen als parallele Arrays (null = keine Antworten)
+		for (Map.Entry<Department, Long> entry : departmentMatrix.instanceCountByDepartment().entrySet()) {
+			int row = entry.getKey().ordinal();
+			if (!matrix.hasAnswers(row)) {
+				continue;
+			}
+			Double[] averages = new Double[matrix.getSubcategoryCount()];
+			int[] answeredCounts = new int[matrix.getSubcategoryCount()];
+			for (int subcategory = 0; subcategory < matrix.getSubcategoryCount(); subcategory++) {
+				long answered = matrix.answerCount(row, subcategory);
+				answeredCounts[subcategory] = (int) answered;
+				averages[subcategory] = answered > 0 ? Math.round(matrix.average(row, subcategory) * 100.0) / 100.0 : null;
+			}
+			response.getDepartments().add(entry.getKey().name());
+			response.getDepartmentNames().add(entry.getKey().getDisplayName());
+			response.getParticipantCounts().add(entry.getValue().intValue());
+			response.getAverages().add(averages);
+			response.getAnsweredCounts().add(answeredCounts);
+		}
+		
+		return response;
+	}
+
+	/**
+	 * Kompilierte Template-Struktur, Instanzen pro Department und Department × Subcategory-Matrix eines Templates
+	 */
+	private record DepartmentMatrix(TemplateIndex index, Map<Department, Long> instanceCountByDepartment, ResultMatrix matrix) {
+	}
+
+	/**
+	 * Lädt die Department × Subcategory-Matrix eines Templates
+	 * @return Matrix oder null wenn keine SUBMITTED Instanzen bzw. keine Template-Struktur vorhanden sind
+	 */
+	private DepartmentMatrix loadDepartmentMatrix(Long templateId, Long companyId) {
 		// Template laden und Company-Zugehörigkeit prüfen
 		SurveyTemplate template = surveyTemplateRepository.findById(templateId)
 			.orElseThrow(() -> new RuntimeException("Survey template not found: " + templateId));
@@ -335,148 +348,110 @@ public class ReportingServiceImpl implements ReportingService {
 			throw new RuntimeException("Survey template does not belong to your company");
 		}
 		
-		// Lade alle SUBMITTED Instanzen dieses Templates für die Company
-		List<SurveyInstance> submittedInstances = surveyInstanceRepository
-			.findByTemplateIdAndCompanyId(templateId, companyId)
-			.stream()
-			.filter(instance -> instance.getStatus() == SurveyInstance.SurveyInstanceStatus.SUBMITTED)
-			.collect(Collectors.toList());
-		
-		if (submittedInstances.isEmpty()) {
-			return new ArrayList<>();
+		// Anzahl SUBMITTED Instanzen dieses Templates pro Department
+		Map<Department, Long> instanceCountByDepartment = new EnumMap<>(Department.class);
+		for (DepartmentInstanceCount count : surveyInstanceRepository
+			.countByDepartmentForTemplate(templateId, companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED)) {
+			if (count.getDepartment() != null) {
+				instanceCountByDepartment.put(count.getDepartment(), count.getInstanceCount());
+			}
 		}
 		
-		// Gruppiere nach Department
-		Map<com.changeready.entity.Department, List<SurveyInstance>> instancesByDepartment = submittedInstances.stream()
-			.filter(instance -> instance.getDepartment() != null)
-			.collect(Collectors.groupingBy(SurveyInstance::getDepartment));
+		if (instanceCountByDepartment.isEmpty()) {
+			return null;
+		}
 		
-		// Parse categoriesJson einmal für alle Departments (fehlertolerant)
-		List<CategoryStructure> categories = parseCategoriesJson(template.getCategoriesJson());
+		// Kompilierte Template-Struktur einmal für alle Departments (fehlertolerant)
+		TemplateIndex index = templateIndexCache.get(template);
 		
 		// Wenn keine Categories geparst werden konnten, leere Results zurückgeben
-		if (categories == null || categories.isEmpty()) {
-			return new ArrayList<>();
+		if (index.isEmpty()) {
+			return null;
 		}
 		
-		List<TemplateDepartmentResultResponse> departmentResults = new ArrayList<>();
+		return new DepartmentMatrix(index, instanceCountByDepartment, loadDepartmentSubcategoryMatrix(index, companyId));
+	}
+
+	/**
+	 * Summe/Anzahl pro Frage-Slot eines Templates: aus dem Answer-Cube (falls aktiviert), sonst per GROUP BY
+	 */
+	private SlotTotals loadQuestionTotals(TemplateIndex index, Long companyId) {
+		SlotTotals cubeTotals = answerCubeManager.getCube(companyId)
+			.map(cube -> cube.aggregateBySlot(index, AnswerCube.ALL, AnswerCube.ALL, Integer.MIN_VALUE, Integer.MAX_VALUE))
+			.orElse(null);
+		if (cubeTotals != null) {
+			return cubeTotals;
+		}
 		
-		for (Map.Entry<com.changeready.entity.Department, List<SurveyInstance>> entry : instancesByDepartment.entrySet()) {
-			com.changeready.entity.Department department = entry.getKey();
-			List<SurveyInstance> departmentInstances = entry.getValue();
-			
-			// Sammle alle Antworten dieses Departments
-			Map<String, List<Integer>> answersByQuestionId = new HashMap<>();
-			for (SurveyInstance instance : departmentInstances) {
-				List<SurveyAnswer> answers = surveyAnswerRepository.findByInstanceId(instance.getId());
-				for (SurveyAnswer answer : answers) {
-					answersByQuestionId.computeIfAbsent(answer.getQuestionId(), k -> new ArrayList<>())
-						.add(answer.getValue());
-				}
-			}
-			
-			// Berechne Results pro Category/Subcategory für dieses Department
-			List<SurveyResultResponse> departmentCategoryResults = new ArrayList<>();
-			
-			for (CategoryStructure category : categories) {
-				// Null-Sicherheit: Prüfe category und subcategories
-				if (category == null || category.getSubcategories() == null) {
-					continue;
-				}
-				
-				for (com.changeready.dto.reporting.SubcategoryStructure subcategory : category.getSubcategories()) {
-					// Null-Sicherheit: Prüfe subcategory und questions
-					if (subcategory == null || subcategory.getQuestions() == null) {
-						continue;
-					}
-					
-					List<Integer> subcategoryAnswers = new ArrayList<>();
-					List<String> reverseItems = new ArrayList<>();
-					int totalQuestions = 0;
-					
-					for (com.changeready.dto.reporting.QuestionStructure question : subcategory.getQuestions()) {
-						// Null-Sicherheit: Prüfe question
-						if (question == null) {
-							continue;
-						}
-						
-						totalQuestions++;
-						if (question.getReverse() != null && question.getReverse()) {
-							// Null-Sicherheit: Prüfe question.getId()
-							if (question.getId() != null) {
-								reverseItems.add(question.getId());
-							}
-						}
-						
-						// Null-Sicherheit: Prüfe question.getId() vor Map-Zugriff
-						if (question.getId() != null) {
-							List<Integer> questionAnswers = answersByQuestionId.get(question.getId());
-							if (questionAnswers != null) {
-								subcategoryAnswers.addAll(questionAnswers);
-							}
-						}
-					}
-					
-					if (!subcategoryAnswers.isEmpty()) {
-						double average = subcategoryAnswers.stream()
-							.mapToInt(Integer::intValue)
-							.average()
-							.orElse(0.0);
-						average = Math.round(average * 100.0) / 100.0;
-						
-						SurveyResultResponse result = new SurveyResultResponse();
-						// Null-Sicherheit: Verwende leeren String falls name null
-						result.setCategory(category.getName() != null ? category.getName() : "");
-						result.setSubcategory(subcategory.getName() != null ? subcategory.getName() : 
-							(category.getName() != null ? category.getName() : ""));
-						result.setAverage(average);
-						result.setAnsweredCount(subcategoryAnswers.size());
-						result.setTotalCount(totalQuestions * departmentInstances.size());
-						result.setReverseItems(reverseItems);
-						
-						departmentCategoryResults.add(result);
-					}
-				}
-			}
-			
-			if (!departmentCategoryResults.isEmpty()) {
-				TemplateDepartmentResultResponse deptResult = new TemplateDepartmentResultResponse();
-				deptResult.setDepartment(department.name());
-				deptResult.setDepartmentName(department.getDisplayName());
-				deptResult.setParticipantCount(departmentInstances.size());
-				deptResult.setResults(departmentCategoryResults);
-				
-				departmentResults.add(deptResult);
+		SlotTotals totals = new SlotTotals(index.getQuestionCount());
+		for (QuestionReadinessTotals questionTotals : surveyAnswerRepository
+			.aggregateByQuestion(index.getTemplateId(), companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED)) {
+			int slot = index.slotOf(questionTotals.getQuestionId());
+			if (slot >= 0) {
+				totals.add(slot, questionTotals.getValueSum(), questionTotals.getAnswerCount());
 			}
 		}
-		
-		return departmentResults;
+		return totals;
 	}
 
 	/**
-	 * Parst categoriesJson String zu CategoryStructure Liste
-	 * Fehlertoleranz: Bei Parsing-Fehlern wird leere Liste zurückgegeben (Empty State)
-	 * statt RuntimeException zu werfen, um 500-Fehler zu vermeiden
+	 * Summe/Anzahl pro Department (Ordinal) und Subcategory: aus dem Answer-Cube (falls aktiviert), sonst in einem
+	 * Durchlauf über die GROUP BY-Zeilen (Department, Frage) direkt in die Matrix
 	 */
-	private List<CategoryStructure> parseCategoriesJson(String categoriesJson) {
-		if (categoriesJson == null || categoriesJson.isEmpty()) {
-			return new ArrayList<>();
+	private ResultMatrix loadDepartmentSubcategoryMatrix(TemplateIndex index, Long companyId) {
+		SlotTotals[] cubeTotals = answerCubeManager.getCube(companyId)
+			.map(cube -> cube.aggregateByDepartmentAndSlot(index, Integer.MIN_VALUE, Integer.MAX_VALUE))
+			.orElse(null);
+		if (cubeTotals != null) {
+			return ResultMatrix.of(index, cubeTotals);
 		}
 		
-		try {
-			List<CategoryStructure> categories = objectMapper.readValue(categoriesJson, new TypeReference<List<CategoryStructure>>() {});
-			// Null-Sicherheit: Stelle sicher dass keine null-Elemente zurückgegeben werden
-			if (categories == null) {
-				return new ArrayList<>();
+		ResultMatrix matrix = new ResultMatrix(index, Department.values().length);
+		for (DepartmentQuestionReadinessTotals questionTotals : surveyAnswerRepository
+			.aggregateByDepartmentAndQuestion(index.getTemplateId(), companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED)) {
+			int slot = index.slotOf(questionTotals.getQuestionId());
+			if (questionTotals.getDepartment() != null && slot >= 0) {
+				matrix.add(questionTotals.getDepartment().ordinal(), slot, questionTotals.getValueSum(), questionTotals.getAnswerCount());
 			}
-			return categories;
-		} catch (Exception e) {
-			// Fehlertoleranz: Bei Parsing-Fehlern (ungültiges JSON, Schema-Änderungen) 
-			// wird leere Liste zurückgegeben statt RuntimeException
-			// Logging für Debugging, aber kein 500-Fehler für User
-			System.err.println("Warning: Failed to parse categoriesJson: " + e.getMessage());
-			return new ArrayList<>();
 		}
+		return matrix;
 	}
-}
 
+	/**
+	 * Berechnet Durchschnitt/Anzahl pro Category/Subcategory aus einer Zeile der Ergebnis-Matrix
+	 * @param matrix Summe/Anzahl der gewerteten Antworten pro Zeile und Subcategory
+	 * @param row Zeile der Matrix
+	 * @param instanceCount Anzahl berücksichtigter Instanzen (für totalCount)
+	 */
+	private List<SurveyResultResponse> buildSubcategoryResults(
+		ResultMatrix matrix,
+		int row,
+		long instanceCount
+	) {
+		List<SurveyResultResponse> results = new ArrayList<>();
+		TemplateIndex index = matrix.getIndex();
+		
+		for (int subcategory = 0; subcategory < matrix.getSubcategoryCount(); subcategory++) {
+			long answeredCount = matrix.answerCount(row, subcategory);
+			
+			// Berechne Durchschnitt wenn Antworten vorhanden
+			if (answeredCount > 0) {
+				// Runde auf 2 Dezimalstellen
+				double average = Math.round(matrix.average(row, subcategory) * 100.0) / 100.0;
+				int questionCount = index.subcategoryEnd(subcategory) - index.subcategoryStart(subcategory);
+				
+				SurveyResultResponse result = new SurveyResultResponse();
+				result.setCategory(index.categoryName(index.categoryOf(subcategory)));
+				result.setSubcategory(index.subcategoryName(subcategory));
+				result.setAverage(average);
+				result.setAnsweredCount((int) answeredCount);
+				result.setTotalCount((int) (questionCount * instanceCount));
+				result.setReverseItems(index.reverseQuestionIds(subcategory));
+				
+				results.add(result);
+			}
+		}
+		
+		return results;
+	}
+}
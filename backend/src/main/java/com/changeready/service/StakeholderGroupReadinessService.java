@@ -0,0 +1,60 @@
+package com.changeready.service;
+
+import com.changeready.entity.Department;
+import com.changeready.entity.StakeholderGroup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface StakeholderGroupReadinessService {
+
+	/**
+	 * Berechnet Readiness, Readiness vor 30 Tagen, Teilnehmerzahl und Kategorie aller Gruppen einer Company.
+	 * Gruppen mit Department werden über die Readiness-Aggregate bewertet, alle anderen über die verknüpften Personen
+	 * (ein Durchlauf über die SUBMITTED Instanzen)
+	 * @param companyId Company-ID
+	 * @param groups Gruppen der Company
+	 * @return Ergebnis pro Gruppen-ID
+	 */
+	Map<Long, GroupReadiness> computeAll(Long companyId, List<StakeholderGroup> groups);
+
+	/**
+	 * Leitet die Department-Zuordnung aus einem Gruppennamen ab (z.B. "Lager & Logistik" -> LAGER_LOGISTIK)
+	 * Nur für Vorbelegung beim Anlegen/Umbenennen und den einmaligen Backfill; ausgewertet wird die gespeicherte Spalte
+	 * @param groupName Gruppenname
+	 * @return Department oder empty wenn der Name keinem Department entspricht
+	 */
+	Optional<Department> suggestDepartment(String groupName);
+
+	/**
+	 * Readiness-Kennzahlen einer Stakeholder-Gruppe
+	 * @param participantCount Teilnehmer (Abgaben des Departments bzw. Personen der Gruppe)
+	 * @param readiness Aktuelle Readiness (0-100, ungerundet)
+	 * @param previousReadiness Readiness vor 30 Tagen (0-100, ungerundet)
+	 * @param category promoter/neutral/critic
+	 * @param trend Differenz in Prozentpunkten
+	 * @param status ready/attention/critical
+	 */
+	record GroupReadiness(
+		int participantCount,
+		double readiness,
+		double previousReadiness,
+		String category,
+		int trend,
+		String status
+	) {
+
+		public int promoters() {
+			return "promoter".equals(category) ? participantCount : 0;
+		}
+
+		public int neutrals() {
+			return "neutral".equals(category) ? participantCount : 0;
+		}
+
+		public int critics() {
+			return "promoter".equals(category) || "neutral".equals(category) ? 0 : participantCount;
+		}
+	}
+}
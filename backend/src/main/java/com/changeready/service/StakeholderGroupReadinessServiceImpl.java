@@ -0,0 +1,159 @@
+package com.changeready.service;
+
+import com.changeready.analytics.ReadinessAccumulator;
+import com.changeready.analytics.StakeholderReadiness;
+import com.changeready.entity.Department;
+import com.changeready.entity.ReadinessAggregate;
+import com.changeready.entity.StakeholderGroup;
+import com.changeready.entity.StakeholderPerson;
+import com.changeready.entity.SurveyInstance;
+import com.changeready.repository.StakeholderPersonRepository;
+import com.changeready.repository.SurveyInstanceRepository;
+import com.changeready.repository.projection.DepartmentInstanceCount;
+import com.changeready.repository.projection.InstanceReadinessTotals;
+import com.changeready.snapshot.CompanyDataSnapshotProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+public class StakeholderGroupReadinessServiceImpl implements StakeholderGroupReadinessService {
+
+	/**
+	 * Vergleichszeitraum für den Trend
+	 */
+	private static final int TREND_DAYS = 30;
+
+	private final SurveyInstanceRepository surveyInstanceRepository;
+	private final StakeholderPersonRepository personRepository;
+	private final ReadinessCalculationService readinessCalculationService;
+	private final CompanyDataSnapshotProvider companyDataSnapshotProvider;
+
+	public StakeholderGroupReadinessServiceImpl(
+		SurveyInstanceRepository surveyInstanceRepository,
+		StakeholderPersonRepository personRepository,
+		ReadinessCalculationService readinessCalculationService,
+		CompanyDataSnapshotProvider companyDataSnapshotProvider
+	) {
+		this.surveyInstanceRepository = surveyInstanceRepository;
+		this.personRepository = personRepository;
+		this.readinessCalculationService = readinessCalculationService;
+		this.companyDataSnapshotProvider = companyDataSnapshotProvider;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Long, GroupReadiness> computeAll(Long companyId, List<StakeholderGroup> groups) {
+		Map<Long, GroupReadiness> result = new LinkedHashMap<>();
+		if (groups.isEmpty()) {
+			return result;
+		}
+		LocalDate previousBefore = LocalDate.now().minusDays(TREND_DAYS);
+		boolean hasDepartmentGroups = groups.stream().anyMatch(group -> group.getDepartment() != null);
+		boolean hasPersonGroups = groups.stream().anyMatch(group -> group.getDepartment() == null);
+
+		// Department-Gruppen: direkt aus den Readiness-Aggregaten (Snapshot pro Request), Teilnehmer per gruppierter Zählung
+		Map<Department, ReadinessAccumulator> currentByDepartment = new EnumMap<>(Department.class);
+		Map<Department, ReadinessAccumulator> previousByDepartment = new EnumMap<>(Department.class);
+		Map<Department, Integer> instancesByDepartment = new EnumMap<>(Department.class);
+		if (hasDepartmentGroups) {
+			for (ReadinessAggregate aggregate : companyDataSnapshotProvider.get(companyId).getAggregates()) {
+				currentByDepartment.computeIfAbsent(aggregate.getDepartment(), k -> new ReadinessAccumulator()).add(aggregate);
+				if (aggregate.getBucketDate().isBefore(previousBefore)) {
+					previousByDepartment.computeIfAbsent(aggregate.getDepartment(), k -> new ReadinessAccumulator()).add(aggregate);
+				}
+			}
+			for (DepartmentInstanceCount count : surveyInstanceRepository.countByDepartment(companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED)) {
+				instancesByDepartment.put(count.getDepartment(), count.getInstanceCount().intValue());
+			}
+		}
+
+		// Personen-Gruppen: ein Durchlauf über alle Instanzen, partitioniert nach User (aktuell und Stand Stichtag)
+		Map<Long, List<StakeholderPerson>> personsByGroupId = Map.of();
+		Map<Long, ReadinessAccumulator> currentByUser = new HashMap<>();
+		Map<Long, ReadinessAccumulator> previousByUser = new HashMap<>();
+		if (hasPersonGroups) {
+			personsByGroupId = personRepository.findByGroupCompanyIdAndGroupDepartmentIsNull(companyId).stream()
+				.collect(Collectors.groupingBy(person -> person.getGroup().getId()));
+			if (!personsByGroupId.isEmpty()) {
+				for (InstanceReadinessTotals row : surveyInstanceRepository.aggregateByInstance(companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED)) {
+					if (row.getUserId() == null) {
+						continue;
+					}
+					long valueSum = row.getValueSum() != null ? row.getValueSum() : 0L;
+					long answerCount = row.getAnswerCount() != null ? row.getAnswerCount() : 0L;
+					add(currentByUser, row.getUserId(), valueSum, answerCount);
+					// Tagesgenau wie die Rollups: Abgaben vor dem Stichtag zählen zum Vergleichsstand
+					if (row.getSubmittedAt() != null && row.getSubmittedAt().toLocalDate().isBefore(previousBefore)) {
+						add(previousByUser, row.getUserId(), valueSum, answerCount);
+					}
+				}
+			}
+		}
+		StakeholderReadiness linkedReadiness = new StakeholderReadiness(currentByUser, previousByUser);
+
+		for (StakeholderGroup group : groups) {
+			Department department = group.getDepartment();
+			int participantCount;
+			ReadinessAccumulator current;
+			ReadinessAccumulator previous;
+			if (department != null) {
+				participantCount = instancesByDepartment.getOrDefault(department, 0);
+				current = currentByDepartment.get(department);
+				previous = previousByDepartment.get(department);
+			} else {
+				List<StakeholderPerson> persons = personsByGroupId.getOrDefault(group.getId(), List.of());
+				participantCount = persons.size();
+				current = linkedReadiness.current(persons);
+				previous = linkedReadiness.previous(persons);
+			}
+			double readiness = readinessCalculationService.calculateReadiness(current);
+			double previousReadiness = readinessCalculationService.calculateReadiness(previous);
+			result.put(group.getId(), new GroupReadiness(
+				participantCount,
+				readiness,
+				previousReadiness,
+				readinessCalculationService.calculatePromoterNeutralCritic(readiness),
+				readinessCalculationService.calculateTrend(readiness, previousReadiness),
+				readinessCalculationService.calculateStatus(readiness)
+			));
+		}
+		return result;
+	}
+
+	@Override
+	public Optional<Department> suggestDepartment(String groupName) {
+		if (groupName == null || groupName.isBlank()) {
+			return Optional.empty();
+		}
+		String key = normalizeKey(groupName);
+		return switch (key) {
+			case "einkauf" -> Optional.of(Department.EINKAUF);
+			case "vertrieb" -> Optional.of(Department.VERTRIEB);
+			case "lagerlogistik", "lagerundlogistik", "lagerlogistikund" -> Optional.of(Department.LAGER_LOGISTIK);
+			case "it" -> Optional.of(Department.IT);
+			case "geschaeftsfuehrung", "geschaftsfuhrung", "geschaeftsfuehrungund" -> Optional.of(Department.GESCHAEFTSFUEHRUNG);
+			default -> Optional.empty();
+		};
+	}
+
+	private String normalizeKey(String input) {
+		String s = input.trim().toLowerCase();
+		s = s.replace("ä", "ae").replace("ö", "oe").replace("ü", "ue").replace("ß", "ss");
+		s = s.replace("&", "und");
+		s = s.replaceAll("[^a-z0-9]+", "");
+		return s;
+	}
+
+	private static <K> void add(Map<K, ReadinessAccumulator> totals, K key, long valueSum, long answerCount) {
+		totals.computeIfAbsent(key, k -> new ReadinessAccumulator()).addTotals(valueSum, answerCount);
+	}
+}
@@ -0,0 +1,138 @@
+package com.changeready.service;
+
+import com.changeready.dto.stakeholder.StakeholderPersonImportRow;
+import com.changeready.exception.ValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Minimaler CSV-Parser für den Personen-Import (RFC 4180: Anführungszeichen, "" als Escape, Zeilenumbrüche in Feldern).
+ *
+ * Erste Zeile ist der Header mit den Spalten name (Pflicht), role, email sowie groupId und/oder group.
+ * Trennzeichen ist "," oder ";" (Excel mit deutscher Locale), erkannt anhand der Header-Zeile.
+ */
+public final class StakeholderPersonCsvParser {
+
+	private StakeholderPersonCsvParser() {
+	}
+
+	public static List<StakeholderPersonImportRow> parse(String csv) {
+		if (csv == null || csv.isBlank()) {
+			throw new ValidationException("CSV is empty");
+		}
+		// BOM (Excel-Export) entfernen
+		String content = csv.charAt(0) == '﻿' ? csv.substring(1) : csv;
+		char delimiter = detectDelimiter(content);
+		List<List<String>> records = records(content, delimiter);
+
+		List<String> header = records.get(0);
+		int groupIdColumn = -1;
+		int groupNameColumn = -1;
+		int nameColumn = -1;
+		int roleColumn = -1;
+		int emailColumn = -1;
+		for (int i = 0; i < header.size(); i++) {
+			switch (header.get(i).trim().toLowerCase(Locale.ROOT).replace("_", "")) {
+				case "groupid" -> groupIdColumn = i;
+				case "group", "groupname" -> groupNameColumn = i;
+				case "name" -> nameColumn = i;
+				case "role" -> roleColumn = i;
+				case "email" -> emailColumn = i;
+				default -> {
+					// Unbekannte Spalten werden ignoriert
+				}
+			}
+		}
+		if (nameColumn < 0) {
+			throw new ValidationException("CSV header must contain a 'name' column");
+		}
+		if (groupIdColumn < 0 && groupNameColumn < 0) {
+			throw new ValidationException("CSV header must contain a 'groupId' or 'group' column");
+		}
+
+		List<StakeholderPersonImportRow> rows = new ArrayList<>();
+		for (int line = 1; line < records.size(); line++) {
+			List<String> record = records.get(line);
+			if (record.size() == 1 && record.get(0).isBlank()) {
+				continue; // Leerzeile
+			}
+			StakeholderPersonImportRow row = new StakeholderPersonImportRow();
+			String groupId = field(record, groupIdColumn);
+			if (groupId != null) {
+				try {
+					row.setGroupId(Long.parseLong(groupId));
+				} catch (NumberFormatException e) {
+					// Nur diese Zeile ist ungültig, die übrigen Zeilen werden trotzdem importiert
+					row.setError("Invalid groupId '" + groupId + "'");
+				}
+			}
+			row.setGroupName(field(record, groupNameColumn));
+			row.setName(field(record, nameColumn));
+			row.setRole(field(record, roleColumn));
+			row.setEmail(field(record, emailColumn));
+			rows.add(row);
+		}
+		return rows;
+	}
+
+	private static char detectDelimiter(String content) {
+		int end = content.indexOf('\n');
+		String headerLine = end >= 0 ? content.substring(0, end) : content;
+		return headerLine.chars().filter(c -> c == ';').count() > headerLine.chars().filter(c -> c == ',').count() ? ';' : ',';
+	}
+
+	private static List<List<String>> records(String content, char delimiter) {
+		List<List<String>> records = new ArrayList<>();
+		List<String> record = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < content.length(); i++) {
+			char c = content.charAt(i);
+			if (quoted) {
+				if (c == '"') {
+					if (i + 1 < content.length() && content.charAt(i + 1) == '"') {
+						field.append('"');
+						i++;
+					} else {
+						quoted = false;
+					}
+				} else {
+					field.append(c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == delimiter) {
+				record.add(field.toString());
+				field.setLength(0);
+			} else if (c == '\n' || c == '\r') {
+				if (c == '\r' && i + 1 < content.length() && content.charAt(i + 1) == '\n') {
+					i++;
+				}
+				record.add(field.toString());
+				field.setLength(0);
+				records.add(record);
+				record = new ArrayList<>();
+			} else {
+				field.append(c);
+			}
+		}
+		if (quoted) {
+			throw new ValidationException("Unterminated quoted field in CSV");
+		}
+		if (field.length() > 0 || !record.isEmpty()) {
+			record.add(field.toString());
+			records.add(record);
+		}
+		return records;
+	}
+
+	private static String field(List<String> record, int column) {
+		if (column < 0 || column >= record.size()) {
+			return null;
+		}
+		String value = record.get(column).trim();
+		return value.isEmpty() ? null : value;
+	}
+}
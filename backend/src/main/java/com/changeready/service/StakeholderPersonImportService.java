@@ -0,0 +1,20 @@
+package com.changeready.service;
+
+import com.changeready.dto.stakeholder.StakeholderPersonImportResponse;
+import com.changeready.dto.stakeholder.StakeholderPersonImportRow;
+import com.changeready.security.UserPrincipal;
+
+import java.util.List;
+
+public interface StakeholderPersonImportService {
+
+	/**
+	 * Importiert Personen gruppenübergreifend für die Company des Benutzers.
+	 * Zeilen werden im Speicher validiert und company-weit über die E-Mail dedupliziert (innerhalb des Imports
+	 * und gegen bestehende Personen); gültige Zeilen werden per JDBC-Batch geschrieben.
+	 * @param rows Import-Zeilen (JSON oder geparste CSV)
+	 * @param userPrincipal Aktueller Benutzer
+	 * @return Ergebnis pro Zeile und Summen
+	 */
+	StakeholderPersonImportResponse importPersons(List<StakeholderPersonImportRow> rows, UserPrincipal userPrincipal);
+}
@@ -0,0 +1,208 @@
+package com.changeready.service;
+
+import com.changeready.dto.stakeholder.StakeholderPersonCreateRequest;
+import com.changeready.dto.stakeholder.StakeholderPersonImportResponse;
+import com.changeready.dto.stakeholder.StakeholderPersonImportResult;
+import com.changeready.dto.stakeholder.StakeholderPersonImportRow;
+import com.changeready.entity.StakeholderGroup;
+import com.changeready.entity.StakeholderPerson;
+import com.changeready.event.CompanyDataChangedEvent;
+import com.changeready.exception.ValidationException;
+import com.changeready.repository.StakeholderGroupRepository;
+import com.changeready.repository.StakeholderPersonRepository;
+import com.changeready.security.UserPrincipal;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class StakeholderPersonImportServiceImpl implements StakeholderPersonImportService {
+
+	private static final String CREATED = "created";
+	private static final String DUPLICATE = "duplicate";
+	private static final String INVALID = "invalid";
+
+	private final StakeholderGroupRepository groupRepository;
+	private final StakeholderPersonRepository personRepository;
+	private final StakeholderUserLinkService stakeholderUserLinkService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Validator validator;
+
+	@Value("${app.stakeholders.import.max-rows:5000}")
+	private int maxRows;
+
+	public StakeholderPersonImportServiceImpl(
+		StakeholderGroupRepository groupRepository,
+		StakeholderPersonRepository personRepository,
+		StakeholderUserLinkService stakeholderUserLinkService,
+		ApplicationEventPublisher eventPublisher,
+		Validator validator
+	) {
+		this.groupRepository = groupRepository;
+		this.personRepository = personRepository;
+		this.stakeholderUserLinkService = stakeholderUserLinkService;
+		this.eventPublisher = eventPublisher;
+		this.validator = validator;
+	}
+
+	@Override
+	@Transactional
+	public StakeholderPersonImportResponse importPersons(List<StakeholderPersonImportRow> rows, UserPrincipal userPrincipal) {
+		if (rows == null || rows.isEmpty()) {
+			throw new ValidationException("Import contains no rows");
+		}
+		if (rows.size() > maxRows) {
+			throw new ValidationException("Import exceeds the maximum of " + maxRows + " rows");
+		}
+		Long companyId = userPrincipal.getCompanyId();
+
+		// 1. Gruppen der Company einmalig laden (Auflösung per ID oder Name ohne weitere Abfragen)
+		List<StakeholderGroup> groups = groupRepository.findByCompanyId(companyId);
+		Map<Long, StakeholderGroup> groupById = new HashMap<>();
+		Map<String, List<StakeholderGroup>> groupsByName = new HashMap<>();
+		for (StakeholderGroup group : groups) {
+			groupById.put(group.getId(), group);
+			groupsByName.computeIfAbsent(normalize(group.getName()), key -> new ArrayList<>()).add(group);
+		}
+
+		// 2. Bestehende E-Mails der Company (eine Abfrage für alle Gruppen); eine Person wird company-weit
+		//    über ihre E-Mail erkannt, auch wenn sie bereits in einer anderen Gruppe steht
+		Set<String> knownEmails = new HashSet<>();
+		for (StakeholderPerson person : personRepository.findByGroupCompanyId(companyId)) {
+			if (person.getEmail() != null && !person.getEmail().isBlank()) {
+				knownEmails.add(normalize(person.getEmail()));
+			}
+		}
+
+		// 3. Validieren und deduplizieren im Speicher
+		List<StakeholderPersonImportResult> results = new ArrayList<>(rows.size());
+		List<StakeholderPerson> persons = new ArrayList<>();
+		List<StakeholderPersonImportResult> createdResults = new ArrayList<>();
+		for (int i = 0; i < rows.size(); i++) {
+			StakeholderPersonImportRow row = rows.get(i);
+			StakeholderPersonImportResult result = new StakeholderPersonImportResult();
+			result.setRow(i + 1);
+			results.add(result);
+			if (row == null) {
+				result.setStatus(INVALID);
+				result.setMessage("Empty row");
+				continue;
+			}
+			String email = row.getEmail() != null && !row.getEmail().isBlank() ? row.getEmail().trim() : null;
+			result.setEmail(email);
+			if (row.getError() != null) {
+				result.setStatus(INVALID);
+				result.setMessage(row.getError());
+				continue;
+			}
+
+			StakeholderGroup group;
+			try {
+				group = resolveGroup(row, groupById, groupsByName);
+			} catch (ValidationException e) {
+				result.setStatus(INVALID);
+				result.setMessage(e.getMessage());
+				continue;
+			}
+			result.setGroupId(group.getId());
+
+			StakeholderPersonCreateRequest request = new StakeholderPersonCreateRequest();
+			request.setName(row.getName() != null ? row.getName().trim() : null);
+			request.setRole(row.getRole() != null && !row.getRole().isBlank() ? row.getRole().trim() : null);
+			request.setEmail(email);
+			String violations = validate(request);
+			if (violations != null) {
+				result.setStatus(INVALID);
+				result.setMessage(violations);
+				continue;
+			}
+
+			// Personen ohne E-Mail können nicht dedupliziert werden und werden immer angelegt
+			if (email != null && !knownEmails.add(normalize(email))) {
+				result.setStatus(DUPLICATE);
+				result.setMessage("Person with email already exists in company");
+				continue;
+			}
+
+			StakeholderPerson person = new StakeholderPerson();
+			person.setGroup(group);
+			person.setName(request.getName());
+			person.setRole(request.getRole());
+			person.setEmail(email);
+			persons.add(person);
+			createdResults.add(result);
+		}
+
+		// 4. User-Verknüpfung mit einer Abfrage, dann Batch-Insert (IDs aus der Sequence, hibernate.jdbc.batch_size)
+		if (!persons.isEmpty()) {
+			stakeholderUserLinkService.linkPersons(companyId, persons);
+			List<StakeholderPerson> saved = personRepository.saveAll(persons);
+			for (int i = 0; i < saved.size(); i++) {
+				createdResults.get(i).setStatus(CREATED);
+				createdResults.get(i).setPersonId(saved.get(i).getId());
+			}
+			eventPublisher.publishEvent(CompanyDataChangedEvent.of(companyId, CompanyDataChangedEvent.Scope.STAKEHOLDERS));
+		}
+
+		int duplicates = (int) results.stream().filter(result -> DUPLICATE.equals(result.getStatus())).count();
+		int invalid = (int) results.stream().filter(result -> INVALID.equals(result.getStatus())).count();
+		return new StakeholderPersonImportResponse(rows.size(), persons.size(), duplicates, invalid, results);
+	}
+
+	private StakeholderGroup resolveGroup(
+		StakeholderPersonImportRow row,
+		Map<Long, StakeholderGroup> groupById,
+		Map<String, List<StakeholderGroup>> groupsByName
+	) {
+		if (row.getGroupId() != null) {
+			StakeholderGroup group = groupById.get(row.getGroupId());
+			if (group == null) {
+				throw new ValidationException("Stakeholder group not found: " + row.getGroupId());
+			}
+			return group;
+		}
+		if (row.getGroupName() == null || row.getGroupName().isBlank()) {
+			throw new ValidationException("groupId or groupName is required");
+		}
+		List<StakeholderGroup> candidates = groupsByName.getOrDefault(normalize(row.getGroupName()), List.of());
+		if (candidates.isEmpty()) {
+			throw new ValidationException("Stakeholder group not found: " + row.getGroupName());
+		}
+		if (candidates.size() > 1) {
+			throw new ValidationException("Stakeholder group name is ambiguous, use groupId: " + row.getGroupName());
+		}
+		return candidates.get(0);
+	}
+
+	/**
+	 * Gleiche Regeln wie beim Einzel-Anlegen (StakeholderPersonCreateRequest)
+	 * @return Fehlermeldungen oder null wenn gültig
+	 */
+	private String validate(StakeholderPersonCreateRequest request) {
+		Set<ConstraintViolation<StakeholderPersonCreateRequest>> violations = validator.validate(request);
+		if (violations.isEmpty()) {
+			return null;
+		}
+		return violations.stream()
+			.sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+			.map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+			.collect(Collectors.joining("; "));
+	}
+
+	private static String normalize(String value) {
+		return value.trim().toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,20 @@
+package com.changeready.service;
+
+import com.changeready.analytics.StakeholderReadiness;
+import com.changeready.entity.StakeholderPerson;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+public interface StakeholderReadinessResolver {
+
+	/**
+	 * Lädt die Readiness-Totals der mit Stakeholder-Personen verknüpften User gebündelt
+	 * (konstante Anzahl Abfragen unabhängig von Gruppen- und Personenanzahl)
+	 * @param companyId Company-ID
+	 * @param persons Personen (z.B. alle Personen der Company)
+	 * @param previousBefore Optionaler Vergleichs-Stichtag (exklusiv, tagesgenau) für Trends, null = ohne
+	 * @return Aufgelöste Totals pro Person/Personengruppe
+	 */
+	StakeholderReadiness resolve(Long companyId, Collection<StakeholderPerson> persons, LocalDate previousBefore);
+}
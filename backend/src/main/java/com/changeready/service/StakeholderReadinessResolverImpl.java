@@ -0,0 +1,89 @@
+package com.changeready.service;
+
+import com.changeready.analytics.ReadinessAccumulator;
+import com.changeready.analytics.StakeholderReadiness;
+import com.changeready.entity.StakeholderPerson;
+import com.changeready.entity.SurveyInstance;
+import com.changeready.repository.SurveyAnswerRepository;
+import com.changeready.repository.projection.UserReadinessTotals;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class StakeholderReadinessResolverImpl implements StakeholderReadinessResolver {
+
+	/**
+	 * Maximale Anzahl Parameter pro IN-Liste (große Companies werden in wenigen Blöcken abgefragt)
+	 */
+	private static final int BATCH_SIZE = 1000;
+
+	private final SurveyAnswerRepository surveyAnswerRepository;
+	private final ReadinessRollupService readinessRollupService;
+
+	public StakeholderReadinessResolverImpl(
+		SurveyAnswerRepository surveyAnswerRepository,
+		ReadinessRollupService readinessRollupService
+	) {
+		this.surveyAnswerRepository = surveyAnswerRepository;
+		this.readinessRollupService = readinessRollupService;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public StakeholderReadiness resolve(Long companyId, Collection<StakeholderPerson> persons, LocalDate previousBefore) {
+		// 1. User-IDs aus der persistierten Verknüpfung (kein E-Mail-Lookup)
+		Set<Long> userIds = new LinkedHashSet<>();
+		for (StakeholderPerson person : persons) {
+			Long userId = StakeholderReadiness.userId(person);
+			if (userId != null) {
+				userIds.add(userId);
+			}
+		}
+		if (userIds.isEmpty()) {
+			return new StakeholderReadiness(Collections.emptyMap(), Collections.emptyMap());
+		}
+
+		// 2. Summe/Anzahl aller SUBMITTED Antworten pro User per GROUP BY
+		Map<Long, ReadinessAccumulator> currentByUser = new HashMap<>();
+		for (List<Long> batch : batches(userIds)) {
+			for (UserReadinessTotals totals : surveyAnswerRepository
+				.aggregateByUser(companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED, batch)) {
+				ReadinessAccumulator accumulator = new ReadinessAccumulator();
+				accumulator.addTotals(
+					totals.getValueSum() != null ? totals.getValueSum() : 0L,
+					totals.getAnswerCount() != null ? totals.getAnswerCount() : 0L
+				);
+				currentByUser.put(totals.getUserId(), accumulator);
+			}
+		}
+
+		// 3. Optional: Stand zum Stichtag aus den User-Rollups
+		Map<Long, ReadinessAccumulator> previousByUser = new HashMap<>();
+		if (previousBefore != null) {
+			for (List<Long> batch : batches(userIds)) {
+				previousByUser.putAll(readinessRollupService.getUserTotalsBeforeByUser(companyId, batch, previousBefore));
+			}
+		}
+
+		return new StakeholderReadiness(currentByUser, previousByUser);
+	}
+
+	private static <T> List<List<T>> batches(Collection<T> values) {
+		List<List<T>> batches = new ArrayList<>();
+		List<T> list = new ArrayList<>(values);
+		for (int from = 0; from < list.size(); from += BATCH_SIZE) {
+			batches.add(list.subList(from, Math.min(from + BATCH_SIZE, list.size())));
+		}
+		return batches;
+	}
+}
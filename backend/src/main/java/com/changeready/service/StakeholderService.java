@@ -1,5 +1,7 @@
 package com.changeready.service;
 
+import com.changeready.analytics.TimeSeriesQuery;
+import com.changeready.dto.stakeholder.ReadinessHistoryPointResponse;
 import com.changeready.dto.stakeholder.StakeholderGroupCreateRequest;
 import com.changeready.dto.stakeholder.StakeholderGroupDetailResponse;
 import com.changeready.dto.stakeholder.StakeholderGroupResponse;
@@ -13,6 +15,11 @@ import java.util.List;
 
 public interface StakeholderService {
 
+	/**
+	 * Zeitraum der Readiness-Historie in der Gruppen-Detailansicht (Tage)
+	 */
+	int HISTORY_DAYS = 30;
+
 	/**
 	 * Lädt alle Stakeholder-Gruppen für die Company des Benutzers
 	 */
@@ -28,6 +35,12 @@ public interface StakeholderService {
 	 */
 	StakeholderGroupDetailResponse getGroupDetail(Long groupId, UserPrincipal userPrincipal);
 
+	/**
+	 * Lädt die Readiness-Historie einer Stakeholder-Gruppe in Zeitraum/Granularität der Abfrage
+	 * (optional per LTTB auf maxPoints reduziert)
+	 */
+	List<ReadinessHistoryPointResponse> getGroupHistory(Long groupId, TimeSeriesQuery query, UserPrincipal userPrincipal);
+
 	/**
 	 * Lädt Personen einer Stakeholder-Gruppe
 	 */
@@ -1,5 +1,13 @@
 package com.changeready.service;
 
+import com.changeready.analytics.AnswerCube;
+import com.changeready.analytics.AnswerCubeManager;
+import com.changeready.analytics.ReadinessAccumulator;
+import com.changeready.analytics.StakeholderReadiness;
+import com.changeready.analytics.TimeSeries;
+import com.changeready.analytics.TimeSeriesQuery;
+import com.changeready.cache.ReadinessResultCache;
+import com.changeready.dto.stakeholder.ReadinessHistoryPointResponse;
 import com.changeready.dto.stakeholder.StakeholderGroupCreateRequest;
 import com.changeready.dto.stakeholder.StakeholderGroupDetailResponse;
 import com.changeready.dto.stakeholder.StakeholderGroupResponse;
@@ -9,17 +17,22 @@ import com.changeready.dto.stakeholder.StakeholderPersonCreateRequest;
 import com.changeready.dto.stakeholder.StakeholderPersonResponse;
 import com.changeready.entity.Company;
 import com.changeready.entity.Department;
-import com.changeready.entity.SurveyAnswer;
+import com.changeready.entity.ReadinessAggregate;
+import com.changeready.entity.ReadinessRollup;
 import com.changeready.entity.SurveyInstance;
 import com.changeready.entity.StakeholderGroup;
 import com.changeready.entity.StakeholderPerson;
+import com.changeready.event.CompanyDataChangedEvent;
 import com.changeready.repository.CompanyRepository;
 import com.changeready.repository.SurveyAnswerRepository;
 import com.changeready.repository.SurveyInstanceRepository;
 import com.changeready.repository.StakeholderGroupRepository;
 import com.changeready.repository.StakeholderPersonRepository;
-import com.changeready.repository.UserRepository;
+import com.changeready.repository.projection.DailyReadinessTotals;
+import com.changeready.repository.projection.DepartmentReadinessTotals;
 import com.changeready.security.UserPrincipal;
+import com.changeready.snapshot.CompanyDataSnapshotProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -27,10 +40,11 @@ import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
@@ -43,8 +57,15 @@ public class StakeholderServiceImpl implements StakeholderService {
 	private final CompanyRepository companyRepository;
 	private final SurveyInstanceRepository surveyInstanceRepository;
 	private final SurveyAnswerRepository surveyAnswerRepository;
-	private final UserRepository userRepository;
+	private final StakeholderReadinessResolver stakeholderReadinessResolver;
 	private final ReadinessCalculationService readinessCalculationService;
+	private final AnswerCubeManager answerCubeManager;
+	private final ReadinessRollupService readinessRollupService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ReadinessResultCache resultCache;
+	private final StakeholderUserLinkService stakeholderUserLinkService;
+	private final StakeholderGroupReadinessService groupReadinessService;
+	private final CompanyDataSnapshotProvider companyDataSnapshotProvider;
 
 	public StakeholderServiceImpl(
 		StakeholderGroupRepository groupRepository,
@@ -52,152 +73,70 @@ public class StakeholderServiceImpl implements StakeholderService {
 		CompanyRepository companyRepository,
 		SurveyInstanceRepository surveyInstanceRepository,
 		SurveyAnswerRepository surveyAnswerRepository,
-		UserRepository userRepository,
-		ReadinessCalculationService readinessCalculationService
+		StakeholderReadinessResolver stakeholderReadinessResolver,
+		ReadinessCalculationService readinessCalculationService,
+		AnswerCubeManager answerCubeManager,
+		ReadinessRollupService readinessRollupService,
+		ApplicationEventPublisher eventPublisher,
+		ReadinessResultCache resultCache,
+		StakeholderUserLinkService stakeholderUserLinkService,
+		StakeholderGroupReadinessService groupReadinessService,
+		CompanyDataSnapshotProvider companyDataSnapshotProvider
 	) {
 		this.groupRepository = groupRepository;
 		this.personRepository = personRepository;
 		this.companyRepository = companyRepository;
 		this.surveyInstanceRepository = surveyInstanceRepository;
 		this.surveyAnswerRepository = surveyAnswerRepository;
-		this.userRepository = userRepository;
+		this.stakeholderReadinessResolver = stakeholderReadinessResolver;
 		this.readinessCalculationService = readinessCalculationService;
+		this.answerCubeManager = answerCubeManager;
+		this.readinessRollupService = readinessRollupService;
+		this.eventPublisher = eventPublisher;
+		this.resultCache = resultCache;
+		this.stakeholderUserLinkService = stakeholderUserLinkService;
+		this.groupReadinessService = groupReadinessService;
+		this.companyDataSnapshotProvider = companyDataSnapshotProvider;
 	}
 
 	@Override
 	public List<StakeholderGroupResponse> getGroups(UserPrincipal userPrincipal) {
+		return resultCache.get(userPrincipal.getCompanyId(), "stakeholder.groups", null, ReadinessResultCache.SURVEYS_AND_STAKEHOLDERS,
+			() -> computeGroups(userPrincipal));
+	}
+
+	private List<StakeholderGroupResponse> computeGroups(UserPrincipal userPrincipal) {
 		Long companyId = userPrincipal.getCompanyId();
 		List<StakeholderGroup> groups = groupRepository.findByCompanyId(companyId);
+
+		// Alle Gruppen in einem Durchlauf über die abgegebenen Instanzen berechnen
+		Map<Long, StakeholderGroupReadinessService.GroupReadiness> readinessByGroupId =
+			groupReadinessService.computeAll(companyId, groups);
 		
 		return groups.stream()
 			.map(group -> {
-				List<StakeholderPerson> persons = personRepository.findByGroupId(group.getId());
-				int participantCount = persons.size();
-
-				// Optional: Department-Mapping über Gruppenname (z.B. "Einkauf" -> EINKAUF)
-				Optional<Department> mappedDepartment = resolveDepartmentFromGroupName(group.getName());
-				if (mappedDepartment.isPresent()) {
-					List<SurveyInstance> deptInstances = getSubmittedInstancesForDepartment(companyId, mappedDepartment.get(), null, null);
-					participantCount = deptInstances.size();
-				}
-				
-				// Berechne Readiness für diese Gruppe
-				double readinessRaw = mappedDepartment.isPresent()
-					? calculateDepartmentReadiness(companyId, mappedDepartment.get(), null, null)
-					: calculateGroupReadiness(group, persons, companyId);
-				
-				// Berechne Promoter/Neutral/Critics
-				String category = readinessCalculationService.calculatePromoterNeutralCritic(readinessRaw);
-				int promoters = 0;
-				int neutrals = 0;
-				int critics = 0;
-				
-				if ("promoter".equals(category)) {
-					promoters = participantCount;
-				} else if ("neutral".equals(category)) {
-					neutrals = participantCount;
-				} else {
-					critics = participantCount;
-				}
-				
-				// Berechne Trend (aktueller Wert vs. Wert vor 30 Tagen)
-				double previousReadinessRaw = mappedDepartment.isPresent()
-					? calculateDepartmentReadiness(companyId, mappedDepartment.get(), null, LocalDateTime.now().minusDays(30))
-					: calculateGroupReadiness30DaysAgo(group, persons, companyId);
-				int trend = readinessCalculationService.calculateTrend(readinessRaw, previousReadinessRaw);
-				
-				// Berechne Status
-				String status = readinessCalculationService.calculateStatus(readinessRaw);
-				
+				StakeholderGroupReadinessService.GroupReadiness readiness = readinessByGroupId.get(group.getId());
 				StakeholderGroupResponse response = toGroupResponse(group);
-				response.setParticipantCount(participantCount);
-				response.setReadiness(roundPercent0(readinessRaw));
-				response.setTrend(trend);
-				response.setPromoters(promoters);
-				response.setNeutrals(neutrals);
-				response.setCritics(critics);
-				response.setStatus(status);
+				response.setParticipantCount(readiness.participantCount());
+				response.setReadiness(roundPercent0(readiness.readiness()));
+				response.setTrend(readiness.trend());
+				response.setPromoters(readiness.promoters());
+				response.setNeutrals(readiness.neutrals());
+				response.setCritics(readiness.critics());
+				response.setStatus(readiness.status());
 				
 				return response;
 			})
 			.collect(Collectors.toList());
 	}
 
-	/**
-	 * Berechnet Readiness für eine Stakeholder-Gruppe
-	 */
-	private double calculateGroupReadiness(StakeholderGroup group, List<StakeholderPerson> persons, Long companyId) {
-		if (persons.isEmpty()) {
-			return 0.0;
-		}
-		
-		List<SurveyAnswer> allAnswers = new ArrayList<>();
-		
-		for (StakeholderPerson person : persons) {
-			if (person.getEmail() != null && !person.getEmail().isEmpty()) {
-				userRepository.findByEmail(person.getEmail())
-					.ifPresent(user -> {
-						List<SurveyInstance> userInstances = surveyInstanceRepository
-							.findByUserIdAndCompanyId(user.getId(), companyId)
-							.stream()
-							.filter(instance -> instance.getStatus() == SurveyInstance.SurveyInstanceStatus.SUBMITTED)
-							.collect(Collectors.toList());
-						
-						for (SurveyInstance instance : userInstances) {
-							List<SurveyAnswer> answers = surveyAnswerRepository.findByInstanceId(instance.getId());
-							allAnswers.addAll(answers);
-						}
-					});
-			}
-		}
-		
-		if (allAnswers.isEmpty()) {
-			return 0.0;
-		}
-		
-		return readinessCalculationService.calculateReadiness(allAnswers);
-	}
-
-	/**
-	 * Berechnet Readiness für eine Gruppe von vor 30 Tagen
-	 */
-	private double calculateGroupReadiness30DaysAgo(StakeholderGroup group, List<StakeholderPerson> persons, Long companyId) {
-		if (persons.isEmpty()) {
-			return 0.0;
-		}
-		
-		LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-		List<SurveyAnswer> allAnswers = new ArrayList<>();
-		
-		for (StakeholderPerson person : persons) {
-			if (person.getEmail() != null && !person.getEmail().isEmpty()) {
-				userRepository.findByEmail(person.getEmail())
-					.ifPresent(user -> {
-						List<SurveyInstance> userInstances = surveyInstanceRepository
-							.findByUserIdAndCompanyId(user.getId(), companyId)
-							.stream()
-							.filter(instance -> instance.getStatus() == SurveyInstance.SurveyInstanceStatus.SUBMITTED)
-							.filter(instance -> instance.getSubmittedAt() != null)
-							.filter(instance -> instance.getSubmittedAt().isBefore(thirtyDaysAgo))
-							.collect(Collectors.toList());
-						
-						for (SurveyInstance instance : userInstances) {
-							List<SurveyAnswer> answers = surveyAnswerRepository.findByInstanceId(instance.getId());
-							allAnswers.addAll(answers);
-						}
-					});
-			}
-		}
-		
-		if (allAnswers.isEmpty()) {
-			return 0.0;
-		}
-		
-		return readinessCalculationService.calculateReadiness(allAnswers);
-	}
-
 	@Override
 	public StakeholderKpisResponse getKpis(UserPrincipal userPrincipal) {
+		return resultCache.get(userPrincipal.getCompanyId(), "stakeholder.kpis", null, ReadinessResultCache.SURVEYS_AND_STAKEHOLDERS,
+			() -> computeKpis(userPrincipal));
+	}
+
+	private StakeholderKpisResponse computeKpis(UserPrincipal userPrincipal) {
 		Long companyId = userPrincipal.getCompanyId();
 		List<StakeholderGroup> groups = groupRepository.findByCompanyId(companyId);
 		
@@ -206,30 +145,11 @@ public class StakeholderServiceImpl implements StakeholderService {
 		int neutrals = 0;
 		int critics = 0;
 		
-		for (StakeholderGroup group : groups) {
-			List<StakeholderPerson> persons = personRepository.findByGroupId(group.getId());
-			int participantCount = persons.size();
-
-			Optional<Department> mappedDepartment = resolveDepartmentFromGroupName(group.getName());
-			if (mappedDepartment.isPresent()) {
-				participantCount = getSubmittedInstancesForDepartment(companyId, mappedDepartment.get(), null, null).size();
-			}
-			total += participantCount;
-			
-			// Berechne Readiness für diese Gruppe
-			double readinessRaw = mappedDepartment.isPresent()
-				? calculateDepartmentReadiness(companyId, mappedDepartment.get(), null, null)
-				: calculateGroupReadiness(group, persons, companyId);
-			
-			// Kategorisiere basierend auf Readiness
-			String category = readinessCalculationService.calculatePromoterNeutralCritic(readinessRaw);
-			if ("promoter".equals(category)) {
-				promoters += participantCount;
-			} else if ("neutral".equals(category)) {
-				neutrals += participantCount;
-			} else {
-				critics += participantCount;
-			}
+		for (StakeholderGroupReadinessService.GroupReadiness readiness : groupReadinessService.computeAll(companyId, groups).values()) {
+			total += readiness.participantCount();
+			promoters += readiness.promoters();
+			neutrals += readiness.neutrals();
+			critics += readiness.critics();
 		}
 		
 		StakeholderKpisResponse response = new StakeholderKpisResponse();
@@ -249,15 +169,18 @@ public class StakeholderServiceImpl implements StakeholderService {
 		List<StakeholderPerson> persons = personRepository.findByGroupId(groupId);
 		int participantCount = persons.size();
 
-		Optional<Department> mappedDepartment = resolveDepartmentFromGroupName(group.getName());
+		Optional<Department> mappedDepartment = Optional.ofNullable(group.getDepartment());
 		if (mappedDepartment.isPresent()) {
-			participantCount = getSubmittedInstancesForDepartment(companyId, mappedDepartment.get(), null, null).size();
+			participantCount = countSubmittedInstancesForDepartment(companyId, mappedDepartment.get());
 		}
+		StakeholderReadiness stakeholderReadiness = mappedDepartment.isPresent()
+			? null
+			: stakeholderReadinessResolver.resolve(companyId, persons, LocalDate.now().minusDays(30));
 		
 		// Berechne aktuelle Readiness
 		double readinessRaw = mappedDepartment.isPresent()
-			? calculateDepartmentReadiness(companyId, mappedDepartment.get(), null, null)
-			: calculateGroupReadiness(group, persons, companyId);
+			? calculateDepartmentReadiness(companyId, mappedDepartment.get(), null)
+			: readinessCalculationService.calculateReadiness(stakeholderReadiness.current(persons));
 		
 		// Berechne Promoter/Neutral/Critics
 		String category = readinessCalculationService.calculatePromoterNeutralCritic(readinessRaw);
@@ -275,17 +198,17 @@ public class StakeholderServiceImpl implements StakeholderService {
 		
 		// Berechne Trend
 		double previousReadinessRaw = mappedDepartment.isPresent()
-			? calculateDepartmentReadiness(companyId, mappedDepartment.get(), null, LocalDateTime.now().minusDays(30))
-			: calculateGroupReadiness30DaysAgo(group, persons, companyId);
+			? calculateDepartmentReadiness(companyId, mappedDepartment.get(), LocalDate.now().minusDays(30))
+			: readinessCalculationService.calculateReadiness(stakeholderReadiness.previous(persons));
 		int trend = readinessCalculationService.calculateTrend(readinessRaw, previousReadinessRaw);
 		
 		// Berechne Status
 		String status = readinessCalculationService.calculateStatus(readinessRaw);
 		
-		// Berechne Readiness-Historie (letzte 30 Tage)
-		List<com.changeready.dto.stakeholder.ReadinessHistoryPointResponse> history = mappedDepartment.isPresent()
-			? calculateDepartmentReadinessHistory(companyId, mappedDepartment.get())
-			: calculateReadinessHistory(group, persons, companyId);
+		// Berechne Readiness-Historie (letzte 30 Tage, Tagesauflösung)
+		List<ReadinessHistoryPointResponse> history = mappedDepartment.isPresent()
+			? calculateDepartmentReadinessHistory(companyId, mappedDepartment.get(), TimeSeriesQuery.lastDays(HISTORY_DAYS))
+			: calculateReadinessHistory(stakeholderReadiness.userIds(persons), companyId, TimeSeriesQuery.lastDays(HISTORY_DAYS));
 		
 		StakeholderGroupDetailResponse response = new StakeholderGroupDetailResponse();
 		response.setId(group.getId());
@@ -305,153 +228,129 @@ public class StakeholderServiceImpl implements StakeholderService {
 		return response;
 	}
 
+	@Override
+	public List<ReadinessHistoryPointResponse> getGroupHistory(
+		Long groupId,
+		TimeSeriesQuery query,
+		UserPrincipal userPrincipal
+	) {
+		Long companyId = userPrincipal.getCompanyId();
+		StakeholderGroup group = groupRepository.findByIdAndCompanyId(groupId, companyId)
+			.orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Stakeholder group not found: " + groupId));
+
+		if (group.getDepartment() != null) {
+			return calculateDepartmentReadinessHistory(companyId, group.getDepartment(), query);
+		}
+		List<StakeholderPerson> persons = personRepository.findByGroupId(groupId);
+		List<Long> userIds = persons.stream()
+			.map(StakeholderReadiness::userId)
+			.filter(Objects::nonNull)
+			.distinct()
+			.collect(Collectors.toList());
+		return calculateReadinessHistory(userIds, companyId, query);
+	}
+
 	/**
-	 * Berechnet Readiness-Historie für eine Gruppe (letzte 30 Tage)
+	 * Berechnet Readiness-Historie für eine personenbasierte Gruppe im Zeitraum der Abfrage
 	 */
-	private List<com.changeready.dto.stakeholder.ReadinessHistoryPointResponse> calculateReadinessHistory(
-		StakeholderGroup group,
-		List<StakeholderPerson> persons,
-		Long companyId
+	private List<ReadinessHistoryPointResponse> calculateReadinessHistory(
+		List<Long> userIds,
+		Long companyId,
+		TimeSeriesQuery query
 	) {
-		if (persons.isEmpty()) {
+		if (userIds.isEmpty()) {
 			return new ArrayList<>();
 		}
 		
-		LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-		
-		// Sammle alle SUBMITTED Survey-Instanzen der Personen dieser Gruppe
-		List<SurveyInstance> allInstances = new ArrayList<>();
-		
-		for (StakeholderPerson person : persons) {
-			if (person.getEmail() != null && !person.getEmail().isEmpty()) {
-				userRepository.findByEmail(person.getEmail())
-					.ifPresent(user -> {
-						List<SurveyInstance> userInstances = surveyInstanceRepository
-							.findByUserIdAndCompanyId(user.getId(), companyId)
-							.stream()
-							.filter(instance -> instance.getStatus() == SurveyInstance.SurveyInstanceStatus.SUBMITTED)
-							.filter(instance -> instance.getSubmittedAt() != null)
-							.filter(instance -> instance.getSubmittedAt().isAfter(thirtyDaysAgo))
-							.collect(Collectors.toList());
-						
-						allInstances.addAll(userInstances);
-					});
+		// Summe/Anzahl pro Abgabetag der Personen dieser Gruppe (bereits nach Datum sortiert)
+		LocalDateTime from = query.from() != null ? query.from().atStartOfDay() : LocalDateTime.of(1970, 1, 1, 0, 0);
+		List<DailyReadinessTotals> dailyTotals = surveyAnswerRepository
+			.aggregateByDayForUsers(companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED, userIds, from);
+		
+		Map<LocalDate, ReadinessAccumulator> daily = new TreeMap<>();
+		for (DailyReadinessTotals day : dailyTotals) {
+			if (query.contains(day.getDay())) {
+				ReadinessAccumulator accumulator = new ReadinessAccumulator();
+				accumulator.addTotals(day.getValueSum(), day.getAnswerCount());
+				daily.put(day.getDay(), accumulator);
 			}
 		}
-		
-		if (allInstances.isEmpty()) {
-			return new ArrayList<>();
-		}
-		
-		// Gruppiere nach Datum
-		Map<LocalDate, List<SurveyInstance>> instancesByDate = allInstances.stream()
-			.collect(Collectors.groupingBy(instance -> instance.getSubmittedAt().toLocalDate()));
-		
-		// Erstelle Historie-Punkte
-		List<com.changeready.dto.stakeholder.ReadinessHistoryPointResponse> history = new ArrayList<>();
-		
-		for (Map.Entry<LocalDate, List<SurveyInstance>> entry : instancesByDate.entrySet()) {
-			LocalDate date = entry.getKey();
-			List<SurveyInstance> instances = entry.getValue();
-			
-			// Sammle alle Antworten dieser Instanzen
-			List<SurveyAnswer> allAnswers = new ArrayList<>();
-			for (SurveyInstance instance : instances) {
-				List<SurveyAnswer> answers = surveyAnswerRepository.findByInstanceId(instance.getId());
-				allAnswers.addAll(answers);
-			}
-			
-			if (!allAnswers.isEmpty()) {
-				double readiness = readinessCalculationService.calculateReadiness(allAnswers);
-				
-				com.changeready.dto.stakeholder.ReadinessHistoryPointResponse point =
-					new com.changeready.dto.stakeholder.ReadinessHistoryPointResponse();
-				point.setDate(date);
-				point.setReadiness(readiness);
-				history.add(point);
-			}
-		}
-		
-		// Sortiere nach Datum
-		history.sort(Comparator.comparing(com.changeready.dto.stakeholder.ReadinessHistoryPointResponse::getDate));
-		
-		return history;
+		return toHistory(daily, query, false);
 	}
 
-	private Optional<Department> resolveDepartmentFromGroupName(String groupName) {
-		if (groupName == null || groupName.isBlank()) {
-			return Optional.empty();
+	/**
+	 * Berechnet Readiness-Historie einer Department-Gruppe aus den vorberechneten Tages-Aggregaten (keine Antwort-Abfrage)
+	 */
+	private List<ReadinessHistoryPointResponse> calculateDepartmentReadinessHistory(
+		Long companyId,
+		Department department,
+		TimeSeriesQuery query
+	) {
+		Map<LocalDate, ReadinessAccumulator> daily = new TreeMap<>();
+		for (ReadinessAggregate aggregate : companyDataSnapshotProvider.get(companyId).getAggregates()) {
+			if (aggregate.getDepartment() == department && query.contains(aggregate.getBucketDate())) {
+				daily.computeIfAbsent(aggregate.getBucketDate(), k -> new ReadinessAccumulator()).add(aggregate);
+			}
 		}
-		String key = normalizeKey(groupName);
-		return switch (key) {
-			case "einkauf" -> Optional.of(Department.EINKAUF);
-			case "vertrieb" -> Optional.of(Department.VERTRIEB);
-			case "lagerlogistik", "lagerundlogistik", "lagerlogistikund" -> Optional.of(Department.LAGER_LOGISTIK);
-			case "it" -> Optional.of(Department.IT);
-			case "geschaeftsfuehrung", "geschaftsfuhrung", "geschaeftsfuehrungund" -> Optional.of(Department.GESCHAEFTSFUEHRUNG);
-			default -> Optional.empty();
-		};
+		return toHistory(daily, query, true);
 	}
 
-	private String normalizeKey(String input) {
-		String s = input.trim().toLowerCase();
-		s = s.replace("ä", "ae").replace("ö", "oe").replace("ü", "ue").replace("ß", "ss");
-		s = s.replace("&", "und");
-		s = s.replaceAll("[^a-z0-9]+", "");
-		return s;
-	}
-
-	private List<SurveyInstance> getSubmittedInstancesForDepartment(Long companyId, Department department, LocalDateTime after, LocalDateTime before) {
-		return surveyInstanceRepository.findByCompanyIdAndStatus(companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED)
-			.stream()
-			.filter(i -> i.getDepartment() == department)
-			.filter(i -> i.getSubmittedAt() != null)
-			.filter(i -> after == null || i.getSubmittedAt().isAfter(after))
-			.filter(i -> before == null || i.getSubmittedAt().isBefore(before))
-			.collect(Collectors.toList());
-	}
-
-	private double calculateDepartmentReadiness(Long companyId, Department department, LocalDateTime after, LocalDateTime before) {
-		List<SurveyInstance> instances = getSubmittedInstancesForDepartment(companyId, department, after, before);
-		if (instances.isEmpty()) {
-			return 0.0;
+	/**
+	 * Verdichtet Tages-Totals auf die Granularität der Abfrage und reduziert optional per LTTB auf maxPoints
+	 * @param round true = Readiness auf ganze Prozent runden
+	 */
+	private List<ReadinessHistoryPointResponse> toHistory(
+		Map<LocalDate, ReadinessAccumulator> daily,
+		TimeSeriesQuery query,
+		boolean round
+	) {
+		List<ReadinessHistoryPointResponse> history = new ArrayList<>();
+		for (Map.Entry<LocalDate, ReadinessAccumulator> bucket : TimeSeries.rollUp(daily, query.granularity()).entrySet()) {
+			ReadinessHistoryPointResponse point = new ReadinessHistoryPointResponse();
+			point.setDate(bucket.getKey());
+			point.setReadiness(readinessCalculationService.calculateReadiness(bucket.getValue()));
+			history.add(point);
 		}
-		List<SurveyAnswer> allAnswers = new ArrayList<>();
-		for (SurveyInstance instance : instances) {
-			allAnswers.addAll(surveyAnswerRepository.findByInstanceId(instance.getId()));
+		if (query.maxPoints() != null) {
+			history = TimeSeries.largestTriangleThreeBuckets(history, query.maxPoints(),
+				point -> point.getDate().toEpochDay(),
+				ReadinessHistoryPointResponse::getReadiness);
 		}
-		if (allAnswers.isEmpty()) {
-			return 0.0;
+		if (round) {
+			history.forEach(point -> point.setReadiness(roundPercent0(point.getReadiness())));
 		}
-		return readinessCalculationService.calculateReadiness(allAnswers);
+		return history;
 	}
 
-	private List<com.changeready.dto.stakeholder.ReadinessHistoryPointResponse> calculateDepartmentReadinessHistory(Long companyId, Department department) {
-		LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-		List<SurveyInstance> instances = getSubmittedInstancesForDepartment(companyId, department, thirtyDaysAgo, null);
-		if (instances.isEmpty()) {
-			return new ArrayList<>();
+	private int countSubmittedInstancesForDepartment(Long companyId, Department department) {
+		return (int) surveyInstanceRepository
+			.countByCompanyIdAndStatusAndDepartment(companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED, department);
+	}
+
+	/**
+	 * @param before null für die aktuelle Readiness, sonst Stand vor diesem Tag (aus den Tages-Rollups)
+	 */
+	private double calculateDepartmentReadiness(Long companyId, Department department, LocalDate before) {
+		if (before != null) {
+			// Stand Stichtag: ein Index-Seek auf die Präfix-Summe des Departments
+			return readinessCalculationService.calculateReadiness(readinessRollupService.getTotalsBefore(
+				companyId, ReadinessRollup.SegmentType.DEPARTMENT, ReadinessRollup.departmentKey(department), before));
 		}
-		Map<LocalDate, List<SurveyInstance>> instancesByDate = instances.stream()
-			.collect(Collectors.groupingBy(i -> i.getSubmittedAt().toLocalDate()));
-
-		List<com.changeready.dto.stakeholder.ReadinessHistoryPointResponse> history = new ArrayList<>();
-		for (Map.Entry<LocalDate, List<SurveyInstance>> entry : instancesByDate.entrySet()) {
-			List<SurveyAnswer> answers = new ArrayList<>();
-			for (SurveyInstance instance : entry.getValue()) {
-				answers.addAll(surveyAnswerRepository.findByInstanceId(instance.getId()));
-			}
-			if (!answers.isEmpty()) {
-				double readinessRaw = readinessCalculationService.calculateReadiness(answers);
-				com.changeready.dto.stakeholder.ReadinessHistoryPointResponse point =
-					new com.changeready.dto.stakeholder.ReadinessHistoryPointResponse();
-				point.setDate(entry.getKey());
-				point.setReadiness(roundPercent0(readinessRaw));
-				history.add(point);
+		// Aktuelle Readiness direkt aus dem Answer-Cube (falls aktiviert)
+		Optional<ReadinessAccumulator> cubeTotals = answerCubeManager.getCube(companyId)
+			.map(cube -> cube.aggregateTotals(AnswerCube.departmentMask(department), AnswerCube.ALL, Integer.MIN_VALUE, Integer.MAX_VALUE));
+		if (cubeTotals.isPresent()) {
+			return readinessCalculationService.calculateReadiness(cubeTotals.get());
+		}
+		List<DepartmentReadinessTotals> totals = surveyAnswerRepository
+			.aggregateByDepartment(companyId, SurveyInstance.SurveyInstanceStatus.SUBMITTED);
+		ReadinessAccumulator accumulator = new ReadinessAccumulator();
+		for (DepartmentReadinessTotals departmentTotals : totals) {
+			if (departmentTotals.getDepartment() == department) {
+				accumulator.addTotals(departmentTotals.getValueSum(), departmentTotals.getAnswerCount());
 			}
 		}
-		history.sort(Comparator.comparing(com.changeready.dto.stakeholder.ReadinessHistoryPointResponse::getDate));
-		return history;
+		return readinessCalculationService.calculateReadiness(accumulator);
 	}
 
 	private double roundPercent0(double value) {
@@ -467,6 +366,7 @@ public class StakeholderServiceImpl implements StakeholderService {
 			.orElseThrow(() -> new RuntimeException("Stakeholder group not found: " + groupId));
 		
 		List<StakeholderPerson> persons = personRepository.findByGroupId(groupId);
+		StakeholderReadiness stakeholderReadiness = stakeholderReadinessResolver.resolve(companyId, persons, null);
 		
 		return persons.stream()
 			.map(person -> {
@@ -474,7 +374,7 @@ public class StakeholderServiceImpl implements StakeholderService {
 				
 				// Berechne category (promoter/neutral/critic) basierend auf Readiness dieser Person
 				if (person.getEmail() != null && !person.getEmail().isEmpty()) {
-					double personReadiness = calculatePersonReadiness(person, companyId);
+					double personReadiness = readinessCalculationService.calculateReadiness(stakeholderReadiness.current(person));
 					if (personReadiness > 0) {
 						String category = readinessCalculationService.calculatePromoterNeutralCritic(personReadiness);
 						response.setCategory(category);
@@ -490,41 +390,6 @@ public class StakeholderServiceImpl implements StakeholderService {
 			.collect(Collectors.toList());
 	}
 
-	/**
-	 * Berechnet Readiness für eine einzelne Stakeholder-Person
-	 */
-	private double calculatePersonReadiness(StakeholderPerson person, Long companyId) {
-		if (person.getEmail() == null || person.getEmail().isEmpty()) {
-			return 0.0;
-		}
-		
-		return userRepository.findByEmail(person.getEmail())
-			.map(user -> {
-				List<SurveyInstance> userInstances = surveyInstanceRepository
-					.findByUserIdAndCompanyId(user.getId(), companyId)
-					.stream()
-					.filter(instance -> instance.getStatus() == SurveyInstance.SurveyInstanceStatus.SUBMITTED)
-					.collect(Collectors.toList());
-				
-				if (userInstances.isEmpty()) {
-					return 0.0;
-				}
-				
-				List<SurveyAnswer> allAnswers = new ArrayList<>();
-				for (SurveyInstance instance : userInstances) {
-					List<SurveyAnswer> answers = surveyAnswerRepository.findByInstanceId(instance.getId());
-					allAnswers.addAll(answers);
-				}
-				
-				if (allAnswers.isEmpty()) {
-					return 0.0;
-				}
-				
-				return readinessCalculationService.calculateReadiness(allAnswers);
-			})
-			.orElse(0.0);
-	}
-
 	@Override
 	@Transactional
 	public StakeholderGroupResponse createGroup(StakeholderGroupCreateRequest request, UserPrincipal userPrincipal) {
@@ -542,9 +407,13 @@ public class StakeholderServiceImpl implements StakeholderService {
 		group.setIcon(icon);
 		group.setImpact(request.getImpact());
 		group.setDescription(request.getDescription());
+		group.setDepartment(request.isDepartmentSet()
+			? request.getDepartment()
+			: groupReadinessService.suggestDepartment(request.getName()).orElse(null));
 		group.setCompany(company);
 
 		group = groupRepository.save(group);
+		eventPublisher.publishEvent(CompanyDataChangedEvent.of(group.getCompany().getId(), CompanyDataChangedEvent.Scope.STAKEHOLDERS));
 
 		return toGroupResponse(group);
 	}
@@ -569,8 +438,13 @@ public class StakeholderServiceImpl implements StakeholderService {
 		if (request.getDescription() != null) {
 			group.setDescription(request.getDescription());
 		}
+		// Gespeicherte Zuordnung bleibt erhalten (auch bei Umbenennung), außer sie wird explizit gesetzt oder entfernt
+		if (request.isDepartmentSet()) {
+			group.setDepartment(request.getDepartment());
+		}
 
 		group = groupRepository.save(group);
+		eventPublisher.publishEvent(CompanyDataChangedEvent.of(group.getCompany().getId(), CompanyDataChangedEvent.Scope.STAKEHOLDERS));
 
 		return toGroupResponse(group);
 	}
@@ -588,8 +462,10 @@ public class StakeholderServiceImpl implements StakeholderService {
 		person.setName(request.getName());
 		person.setRole(request.getRole());
 		person.setEmail(request.getEmail());
+		stakeholderUserLinkService.linkPerson(person);
 
 		person = personRepository.save(person);
+		eventPublisher.publishEvent(CompanyDataChangedEvent.of(group.getCompany().getId(), CompanyDataChangedEvent.Scope.STAKEHOLDERS));
 
 		return toPersonResponse(person);
 	}
@@ -605,6 +481,7 @@ public class StakeholderServiceImpl implements StakeholderService {
 		// Erst Personen löschen (FK), dann Gruppe
 		personRepository.deleteByGroupId(groupId);
 		groupRepository.delete(group);
+		eventPublisher.publishEvent(CompanyDataChangedEvent.of(companyId, CompanyDataChangedEvent.Scope.STAKEHOLDERS));
 	}
 
 	// Helper-Methoden für Mapping
@@ -615,6 +492,7 @@ public class StakeholderServiceImpl implements StakeholderService {
 		response.setName(group.getName());
 		response.setIcon(group.getIcon());
 		response.setImpact(group.getImpact().getDisplayName());
+		response.setDepartment(group.getDepartment() != null ? group.getDepartment().name() : null);
 		// TODO: Readiness, trend, promoters, neutrals, critics, status werden später berechnet
 		response.setParticipantCount(0);
 		response.setReadiness(0.0);
@@ -0,0 +1,88 @@
+package com.changeready.service;
+
+import com.changeready.entity.Company;
+import com.changeready.event.UserEmailChangedEvent;
+import com.changeready.repository.CompanyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Gleicht die Verknüpfung Stakeholder-Person ↔ User im Hintergrund ab.
+ *
+ * - Nach E-Mail-Änderungen eines Users (nach dem Commit, auf eigenem Thread): Abgleich der betroffenen Company.
+ * - Regelmäßig (app.stakeholders.user-link.reconcile.cron): Abgleich aller Companies gegen sonstige Abweichungen
+ *   (z.B. manuell geänderte E-Mails in der Datenbank).
+ * - Geänderte Verknüpfungen lösen im Abgleich (eigene Transaktion) ein CompanyDataChangedEvent (STAKEHOLDERS) aus;
+ *   damit steigt die Datenversion der Company und ETags/Result-Cache liefern keine veraltete Stakeholder-Readiness.
+ */
+@Component
+public class StakeholderUserLinkReconciler implements DisposableBean {
+
+	private static final Logger logger = LoggerFactory.getLogger(StakeholderUserLinkReconciler.class);
+
+	private final StakeholderUserLinkService stakeholderUserLinkService;
+	private final CompanyRepository companyRepository;
+	private final boolean enabled;
+	private final ThreadPoolTaskScheduler scheduler;
+
+	public StakeholderUserLinkReconciler(
+		StakeholderUserLinkService stakeholderUserLinkService,
+		CompanyRepository companyRepository,
+		@Value("${app.stakeholders.user-link.reconcile.enabled:true}") boolean enabled
+	) {
+		this.stakeholderUserLinkService = stakeholderUserLinkService;
+		this.companyRepository = companyRepository;
+		this.enabled = enabled;
+		this.scheduler = new ThreadPoolTaskScheduler();
+		this.scheduler.setPoolSize(1);
+		this.scheduler.setThreadNamePrefix("user-link-");
+		this.scheduler.setDaemon(true);
+		this.scheduler.initialize();
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onUserEmailChanged(UserEmailChangedEvent event) {
+		if (!enabled || event.companyId() == null) {
+			return;
+		}
+		scheduler.execute(() -> reconcile(event.companyId()));
+	}
+
+	@Scheduled(cron = "${app.stakeholders.user-link.reconcile.cron:0 15 3 * * *}")
+	public void reconcileAll() {
+		if (!enabled) {
+			return;
+		}
+		int changed = 0;
+		for (Company company : companyRepository.findAll()) {
+			changed += reconcile(company.getId());
+		}
+		logger.info("Reconciled stakeholder user links: {} changed", changed);
+	}
+
+	private int reconcile(Long companyId) {
+		try {
+			int changed = stakeholderUserLinkService.reconcile(companyId);
+			if (changed > 0) {
+				logger.info("Updated {} stakeholder user links for company {}", changed, companyId);
+			}
+			return changed;
+		} catch (Exception e) {
+			// Eine fehlerhafte Company soll den Abgleich der übrigen nicht verhindern
+			logger.error("Failed to reconcile stakeholder user links for company {}. Reason: {}", companyId, e.getMessage(), e);
+			return 0;
+		}
+	}
+
+	@Override
+	public void destroy() {
+		scheduler.shutdown();
+	}
+}
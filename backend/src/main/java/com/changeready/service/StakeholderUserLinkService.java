@@ -0,0 +1,36 @@
+package com.changeready.service;
+
+import com.changeready.entity.StakeholderPerson;
+import com.changeready.entity.User;
+
+import java.util.Collection;
+
+public interface StakeholderUserLinkService {
+
+	/**
+	 * Verknüpft eine (neue) Person mit dem User gleicher E-Mail ihrer Company (vor dem Speichern aufrufen)
+	 * @param person Person mit gesetzter Gruppe
+	 */
+	void linkPerson(StakeholderPerson person);
+
+	/**
+	 * Verknüpft mehrere (neue) Personen einer Company mit einer einzigen User-Abfrage (z.B. Bulk-Import)
+	 * @param companyId Company-ID
+	 * @param persons Personen mit gesetzter Gruppe der Company
+	 */
+	void linkPersons(Long companyId, Collection<StakeholderPerson> persons);
+
+	/**
+	 * Verknüpft alle Personen der Company des Users mit gleicher E-Mail (nach dem Anlegen eines Users)
+	 * @param user Gespeicherter User
+	 * @return Anzahl neu verknüpfter Personen
+	 */
+	int linkUser(User user);
+
+	/**
+	 * Gleicht alle Verknüpfungen einer Company mit den aktuellen E-Mails ab (z.B. nach E-Mail-Änderungen)
+	 * @param companyId Company-ID
+	 * @return Anzahl geänderter Verknüpfungen
+	 */
+	int reconcile(Long companyId);
+}
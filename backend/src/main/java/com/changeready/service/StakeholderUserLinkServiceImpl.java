@@ -0,0 +1,117 @@
+package com.changeready.service;
+
+import com.changeready.entity.StakeholderPerson;
+import com.changeready.entity.User;
+import com.changeready.event.CompanyDataChangedEvent;
+import com.changeready.repository.StakeholderPersonRepository;
+import com.changeready.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Service
+public class StakeholderUserLinkServiceImpl implements StakeholderUserLinkService {
+
+	private final StakeholderPersonRepository personRepository;
+	private final UserRepository userRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	public StakeholderUserLinkServiceImpl(
+		StakeholderPersonRepository personRepository,
+		UserRepository userRepository,
+		ApplicationEventPublisher eventPublisher
+	) {
+		this.personRepository = personRepository;
+		this.userRepository = userRepository;
+		this.eventPublisher = eventPublisher;
+	}
+
+	@Override
+	public void linkPerson(StakeholderPerson person) {
+		Long companyId = person.getGroup().getCompany().getId();
+		User user = null;
+		if (person.getEmail() != null && !person.getEmail().isEmpty()) {
+			user = userRepository.findByEmail(person.getEmail())
+				.filter(candidate -> candidate.getCompany().getId().equals(companyId))
+				.orElse(null);
+		}
+		person.setUser(user);
+	}
+
+	@Override
+	public void linkPersons(Long companyId, Collection<StakeholderPerson> persons) {
+		Map<String, User> userByEmail = usersByEmail(companyId, persons);
+		for (StakeholderPerson person : persons) {
+			person.setUser(person.getEmail() != null ? userByEmail.get(person.getEmail()) : null);
+		}
+	}
+
+	@Override
+	@Transactional
+	public int linkUser(User user) {
+		if (user.getEmail() == null || user.getEmail().isEmpty()) {
+			return 0;
+		}
+		Long companyId = user.getCompany().getId();
+		int linked = personRepository.linkByEmail(companyId, user.getEmail(), user);
+		if (linked > 0) {
+			// Gruppen-Readiness der Company ändert sich durch die neue Zuordnung
+			eventPublisher.publishEvent(CompanyDataChangedEvent.of(companyId, CompanyDataChangedEvent.Scope.STAKEHOLDERS));
+		}
+		return linked;
+	}
+
+	@Override
+	@Transactional
+	public int reconcile(Long companyId) {
+		List<StakeholderPerson> persons = personRepository.findByGroupCompanyId(companyId);
+
+		// Soll-Zuordnung: User gleicher E-Mail innerhalb der Company
+		Map<String, User> userByEmail = usersByEmail(companyId, persons);
+
+		int changed = 0;
+		for (StakeholderPerson person : persons) {
+			User expected = person.getEmail() != null ? userByEmail.get(person.getEmail()) : null;
+			Long currentUserId = person.getUser() != null ? person.getUser().getId() : null;
+			Long expectedUserId = expected != null ? expected.getId() : null;
+			if (!Objects.equals(currentUserId, expectedUserId)) {
+				// Managed Entity: Änderung wird beim Commit geschrieben
+				person.setUser(expected);
+				changed++;
+			}
+		}
+		if (changed > 0) {
+			eventPublisher.publishEvent(CompanyDataChangedEvent.of(companyId, CompanyDataChangedEvent.Scope.STAKEHOLDERS));
+		}
+		return changed;
+	}
+
+	/**
+	 * Lädt die User der Company zu den E-Mails der Personen in einer Abfrage
+	 */
+	private Map<String, User> usersByEmail(Long companyId, Collection<StakeholderPerson> persons) {
+		Set<String> emails = new LinkedHashSet<>();
+		for (StakeholderPerson person : persons) {
+			if (person.getEmail() != null && !person.getEmail().isEmpty()) {
+				emails.add(person.getEmail());
+			}
+		}
+		Map<String, User> userByEmail = new HashMap<>();
+		if (!emails.isEmpty()) {
+			for (User user : userRepository.findByEmailIn(emails)) {
+				if (user.getCompany().getId().equals(companyId)) {
+					userByEmail.put(user.getEmail(), user);
+				}
+			}
+		}
+		return userByEmail;
+	}
+}
@@ -0,0 +1,432 @@
+package com.changeready.service;
+
+import com.changeready.entity.SurveyInstance;
+import com.changeready.repository.SurveyAnswerBulkRepository;
+import com.changeready.repository.SurveyAnswerRepository;
+import com.changeready.repository.SurveyInstanceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+/**
+ * Optionaler Write-Behind-Puffer für das Autosave von DRAFT-Antworten (app.surveys.autosave.write-behind.enabled).
+ *
+ * - Pro Instanz werden die zuletzt gespeicherten Werte pro Frage gehalten; wiederholte Writes derselben Frage
+ *   überschreiben sich im Speicher statt in der Datenbank.
+ * - Geschrieben wird pro Instanz als ein Delete plus ein Upsert: periodisch (flush-interval), sobald eine Instanz
+ *   max-answers-per-instance bzw. der Puffer insgesamt max-answers erreicht, vor dem Absenden (submitInstance)
+ *   und beim Herunterfahren.
+ * - Lesende Zugriffe (getInstance, answeredQuestions) überlagern die gespeicherten Antworten mit {@link #pending}.
+ * - Die Antwort-Version (answersVersion) führt der Puffer pro Instanz im Speicher: das Compare-and-Set des Autosaves
+ *   läuft gegen die gepufferte Version, geschrieben wird sie erst mit dem Flush. Ein Autosave schreibt so nichts in
+ *   die Datenbank. Der Flush schreibt nur, solange die Instanz DRAFT ist (sonst werden die Werte verworfen).
+ * - Schlägt ein Flush im Hintergrund fehl, bleiben die Werte im Puffer (erneuter Versuch beim nächsten Flush). Bis ein
+ *   Flush der Instanz wieder gelingt, erhalten Schreibaufrufe einen Fehler (503); ihre Werte werden trotzdem gepuffert.
+ * - Während des Absendens ist die Instanz bis zum Transaktionsende für weitere Writes gesperrt (409), nach dem Commit
+ *   noch bis zum nächsten periodischen Flush, damit keine Werte nach der Aktualisierung von Aggregaten, Rollups und
+ *   Cube angenommen werden.
+ */
+@Component
+public class SurveyAnswerWriteBuffer implements DisposableBean {
+
+	private static final Logger logger = LoggerFactory.getLogger(SurveyAnswerWriteBuffer.class);
+
+	/**
+	 * Gepufferter Wert einer Frage
+	 * @param value Likert-Wert oder null für "Keine Angabe" (Antwort löschen)
+	 * @param reverseItem Reverse-Item laut Template
+	 * @param version Antwort-Version der Instanz, mit der der Wert gespeichert wurde
+	 * @param updatedAt Zeitpunkt des letzten Writes
+	 */
+	public record PendingAnswer(Integer value, boolean reverseItem, long version, LocalDateTime updatedAt) {
+	}
+
+	private final SurveyAnswerRepository answerRepository;
+	private final SurveyInstanceRepository instanceRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean enabled;
+	private final Duration flushInterval;
+	private final int maxAnswersPerInstance;
+	private final int maxAnswers;
+	private final Map<Long, InstanceBuffer> buffers = new ConcurrentHashMap<>();
+	private final AtomicInteger bufferedAnswers = new AtomicInteger();
+	private final ThreadPoolTaskScheduler scheduler;
+	private final Counter coalesced;
+	private final Counter flushed;
+	private final Counter failed;
+
+	public SurveyAnswerWriteBuffer(
+		SurveyAnswerRepository answerRepository,
+		SurveyInstanceRepository instanceRepository,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${app.surveys.autosave.write-behind.enabled:false}") boolean enabled,
+		@Value("${app.surveys.autosave.write-behind.flush-interval:PT5S}") Duration flushInterval,
+		@Value("${app.surveys.autosave.write-behind.max-answers-per-instance:200}") int maxAnswersPerInstance,
+		@Value("${app.surveys.autosave.write-behind.max-answers:50000}") int maxAnswers
+	) {
+		this.answerRepository = answerRepository;
+		this.instanceRepository = instanceRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.enabled = enabled;
+		this.flushInterval = flushInterval;
+		this.maxAnswersPerInstance = maxAnswersPerInstance;
+		this.maxAnswers = maxAnswers;
+		// Scheduler nur bei aktiviertem Puffer (Default: deaktiviert, kein zusätzlicher Thread)
+		if (enabled) {
+			this.scheduler = new ThreadPoolTaskScheduler();
+			this.scheduler.setPoolSize(1);
+			this.scheduler.setThreadNamePrefix("answer-flush-");
+			this.scheduler.setDaemon(true);
+			this.scheduler.initialize();
+			this.scheduler.scheduleWithFixedDelay(this::flushAll, Instant.now().plus(flushInterval), flushInterval);
+		} else {
+			this.scheduler = null;
+		}
+		Gauge.builder("survey.autosave.buffer.answers", bufferedAnswers, AtomicInteger::get).register(meterRegistry);
+		this.coalesced = Counter.builder("survey.autosave.buffer.writes").tag("result", "coalesced").register(meterRegistry);
+		this.flushed = Counter.builder("survey.autosave.buffer.flushes").tag("result", "success").register(meterRegistry);
+		this.failed = Counter.builder("survey.autosave.buffer.flushes").tag("result", "failure").register(meterRegistry);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Übernimmt Antworten einer DRAFT-Instanz in den Puffer (Compare-and-Set gegen die gepufferte Antwort-Version)
+	 * @param instanceId SurveyInstance-ID
+	 * @param baseVersion Version, auf der der Client aufsetzt (null: ohne Prüfung auf die aktuelle Version)
+	 * @param storedVersion Lädt die gespeicherte Version, solange für die Instanz noch keine gepuffert ist
+	 * @param answers Antworten pro Frage-ID (value null = "Keine Angabe") für die neue Version
+	 * @return Neue Antwort-Version, empty wenn baseVersion veraltet ist (dann wird nichts gepuffert)
+	 * @throws ResponseStatusException 409, wenn die Instanz gerade abgesendet wird bzw. wurde;
+	 *         503, wenn der letzte Flush der Instanz fehlgeschlagen ist (die Werte sind dann trotzdem gepuffert)
+	 */
+	public OptionalLong write(Long instanceId, Long baseVersion, LongSupplier storedVersion,
+		LongFunction<Map<String, PendingAnswer>> answers) {
+		if (!enabled) {
+			throw new IllegalStateException("Answer write-behind is disabled");
+		}
+		InstanceBuffer buffer = buffers.computeIfAbsent(instanceId, id -> new InstanceBuffer());
+		long version;
+		boolean flushNow;
+		RuntimeException failure;
+		synchronized (buffer) {
+			if (buffer.removed) {
+				// Puffer wurde nach einem Flush gerade freigegeben: mit neuem Puffer erneut versuchen
+				return write(instanceId, baseVersion, storedVersion, answers);
+			}
+			if (buffer.sealed) {
+				throw new ResponseStatusException(CONFLICT, "Survey instance is being submitted");
+			}
+			if (buffer.version == null) {
+				// Neuer Puffer: der vorherige ist erst nach dem Commit seines Flushs freigegeben, die Version ist aktuell
+				buffer.version = storedVersion.getAsLong();
+			}
+			if (baseVersion != null && baseVersion != buffer.version) {
+				releaseIfIdle(instanceId, buffer);
+				return OptionalLong.empty();
+			}
+			version = buffer.version + 1;
+			buffer.version = version;
+			for (Map.Entry<String, PendingAnswer> entry : answers.apply(version).entrySet()) {
+				if (buffer.answers.put(entry.getKey(), entry.getValue()) == null) {
+					bufferedAnswers.incrementAndGet();
+				} else {
+					coalesced.increment();
+				}
+			}
+			flushNow = buffer.answers.size() >= maxAnswersPerInstance;
+			failure = buffer.failure;
+		}
+		if (failure != null) {
+			// Werte sind gepuffert und werden mit dem nächsten erfolgreichen Flush geschrieben
+			throw new ResponseStatusException(SERVICE_UNAVAILABLE,
+				"Previously saved answers could not be persisted yet, please retry", failure);
+		}
+		if (flushNow) {
+			scheduler.execute(() -> flushInBackground(instanceId));
+		}
+		if (bufferedAnswers.get() >= maxAnswers) {
+			scheduler.execute(this::flushAll);
+		}
+		return OptionalLong.of(version);
+	}
+
+	/**
+	 * @return Gepufferte Antwort-Version der Instanz, empty wenn der Puffer sie nicht führt (dann gilt die gespeicherte)
+	 */
+	public OptionalLong version(Long instanceId) {
+		InstanceBuffer buffer = buffers.get(instanceId);
+		if (buffer == null) {
+			return OptionalLong.empty();
+		}
+		synchronized (buffer) {
+			return buffer.version == null ? OptionalLong.empty() : OptionalLong.of(buffer.version);
+		}
+	}
+
+	/**
+	 * @return Gepufferte, noch nicht geschriebene Antworten der Instanz (Kopie, leer wenn nichts gepuffert ist)
+	 */
+	public Map<String, PendingAnswer> pending(Long instanceId) {
+		InstanceBuffer buffer = buffers.get(instanceId);
+		if (buffer == null) {
+			return Collections.emptyMap();
+		}
+		synchronized (buffer) {
+			// Gerade laufender Flush: Werte sind noch nicht committet und müssen weiterhin überlagert werden
+			Map<String, PendingAnswer> pending = new LinkedHashMap<>(buffer.inFlight);
+			pending.putAll(buffer.answers);
+			return pending;
+		}
+	}
+
+	/**
+	 * Schreibt die gepufferten Antworten der Instanz in der laufenden Transaktion vor dem Absenden.
+	 * Bis zum Ende der Transaktion werden weitere Writes der Instanz abgelehnt (409), nach einem Rollback wieder
+	 * angenommen. Nach dem Commit bleibt die Sperre bis zum nächsten periodischen Flush bestehen: ein Autosave, der den
+	 * Status noch vor dem Absenden gelesen hat, erhält so weiterhin 409.
+	 * Fehler werden an den Aufrufer weitergegeben; die Werte bleiben dann im Puffer.
+	 */
+	public void flushForSubmit(Long instanceId) {
+		if (!enabled) {
+			return;
+		}
+		InstanceBuffer buffer = seal(instanceId);
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			try {
+				flush(instanceId, buffer);
+			} finally {
+				unseal(instanceId, buffer);
+			}
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_COMMITTED) {
+					markSubmitted(buffer);
+				} else {
+					unseal(instanceId, buffer);
+				}
+			}
+		});
+		flush(instanceId, buffer);
+	}
+
+	private InstanceBuffer seal(Long instanceId) {
+		while (true) {
+			InstanceBuffer buffer = buffers.computeIfAbsent(instanceId, id -> new InstanceBuffer());
+			synchronized (buffer) {
+				if (!buffer.removed) {
+					buffer.sealed = true;
+					return buffer;
+				}
+			}
+		}
+	}
+
+	private void markSubmitted(InstanceBuffer buffer) {
+		synchronized (buffer) {
+			buffer.submittedAt = Instant.now();
+		}
+	}
+
+	private void unseal(Long instanceId, InstanceBuffer buffer) {
+		synchronized (buffer) {
+			buffer.sealed = false;
+			releaseIfIdle(instanceId, buffer);
+		}
+	}
+
+	/**
+	 * Verwirft die gepufferten Antworten einer Instanz (Instanz wird gelöscht)
+	 */
+	public void discard(Long instanceId) {
+		InstanceBuffer buffer = buffers.remove(instanceId);
+		if (buffer != null) {
+			synchronized (buffer) {
+				buffer.discarded = true;
+				buffer.removed = true;
+				bufferedAnswers.addAndGet(-buffer.answers.size());
+				buffer.answers.clear();
+			}
+		}
+	}
+
+	/**
+	 * Schreibt alle gepufferten Instanzen, jede in einer eigenen Transaktion, und gibt abgesendete Instanzen frei
+	 */
+	public void flushAll() {
+		Instant submittedBefore = Instant.now().minus(flushInterval);
+		for (Map.Entry<Long, InstanceBuffer> entry : new ArrayList<>(buffers.entrySet())) {
+			InstanceBuffer buffer = entry.getValue();
+			synchronized (buffer) {
+				if (buffer.submittedAt != null && buffer.submittedAt.isBefore(submittedBefore)) {
+					buffer.removed = true;
+					buffers.remove(entry.getKey(), buffer);
+				}
+			}
+			flushInBackground(entry.getKey());
+		}
+	}
+
+	private void flushInBackground(Long instanceId) {
+		InstanceBuffer buffer = buffers.get(instanceId);
+		if (buffer == null) {
+			return;
+		}
+		try {
+			transactionTemplate.executeWithoutResult(status -> flush(instanceId, buffer));
+		} catch (RuntimeException e) {
+			synchronized (buffer) {
+				buffer.failure = e;
+			}
+			logger.warn("Failed to flush buffered answers for survey instance {}. Reason: {}", instanceId, e.getMessage());
+		}
+	}
+
+	private void flush(Long instanceId, InstanceBuffer buffer) {
+		// Flushes einer Instanz nacheinander: die Zeilensperren des Upserts ordnen dann auch die Commits
+		synchronized (buffer.flushLock) {
+			Map<String, PendingAnswer> batch;
+			long version;
+			synchronized (buffer) {
+				if (buffer.answers.isEmpty() || buffer.discarded) {
+					return;
+				}
+				version = buffer.version;
+				batch = new LinkedHashMap<>(buffer.answers);
+				buffer.inFlight.putAll(batch);
+				buffer.answers.clear();
+				bufferedAnswers.addAndGet(-batch.size());
+			}
+
+			// Werte bleiben bis zum Ende der Transaktion als "in flight" lesbar und werden bei Rollback zurückgelegt
+			if (TransactionSynchronizationManager.isSynchronizationActive()) {
+				TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+					@Override
+					public void afterCompletion(int status) {
+						complete(instanceId, buffer, batch, status == STATUS_COMMITTED);
+					}
+				});
+				persist(instanceId, batch, version);
+				return;
+			}
+			boolean committed = false;
+			try {
+				persist(instanceId, batch, version);
+				committed = true;
+			} finally {
+				complete(instanceId, buffer, batch, committed);
+			}
+		}
+	}
+
+	private void persist(Long instanceId, Map<String, PendingAnswer> batch, long version) {
+		// Version zuerst: das Update sperrt die Instanzzeile und greift nur für DRAFT, ein paralleles Absenden oder
+		// Löschen wird so abgewartet und die Werte danach verworfen statt geschrieben
+		if (instanceRepository.updateAnswersVersion(instanceId, version, SurveyInstance.SurveyInstanceStatus.DRAFT) == 0) {
+			logger.warn("Dropping {} buffered answers of survey instance {}: instance is no longer a draft",
+				batch.size(), instanceId);
+			return;
+		}
+		List<String> removedQuestionIds = new ArrayList<>();
+		List<SurveyAnswerBulkRepository.AnswerValue> values = new ArrayList<>();
+		for (Map.Entry<String, PendingAnswer> entry : batch.entrySet()) {
+			PendingAnswer answer = entry.getValue();
+			if (answer.value() == null) {
+				removedQuestionIds.add(entry.getKey());
+			} else {
+				values.add(new SurveyAnswerBulkRepository.AnswerValue(
+					entry.getKey(), answer.value(), answer.reverseItem(), answer.version()));
+			}
+		}
+		if (!removedQuestionIds.isEmpty()) {
+			answerRepository.deleteByInstanceIdAndQuestionIds(instanceId, removedQuestionIds);
+		}
+		answerRepository.upsertAnswers(instanceId, values);
+	}
+
+	private void complete(Long instanceId, InstanceBuffer buffer, Map<String, PendingAnswer> batch, boolean committed) {
+		(committed ? flushed : failed).increment();
+		synchronized (buffer) {
+			buffer.inFlight.keySet().removeAll(batch.keySet());
+			if (!committed && !buffer.discarded) {
+				// Neuere Writes während des Flushs haben Vorrang vor den nicht geschriebenen Werten
+				for (Map.Entry<String, PendingAnswer> entry : batch.entrySet()) {
+					if (buffer.answers.putIfAbsent(entry.getKey(), entry.getValue()) == null) {
+						bufferedAnswers.incrementAndGet();
+					}
+				}
+			}
+			if (committed) {
+				buffer.failure = null;
+			}
+			releaseIfIdle(instanceId, buffer);
+		}
+	}
+
+	/**
+	 * Gibt einen leeren Puffer frei (Aufruf nur mit gehaltenem Lock auf den Puffer)
+	 */
+	private void releaseIfIdle(Long instanceId, InstanceBuffer buffer) {
+		if (buffer.answers.isEmpty() && buffer.inFlight.isEmpty() && buffer.failure == null && !buffer.sealed) {
+			buffer.removed = true;
+			buffers.remove(instanceId, buffer);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (scheduler != null) {
+			scheduler.shutdown();
+		}
+		if (enabled && !buffers.isEmpty()) {
+			logger.info("Flushing buffered answers of {} survey instances before shutdown", buffers.size());
+			flushAll();
+		}
+	}
+
+	private static final class InstanceBuffer {
+		private final Object flushLock = new Object();
+		private final Map<String, PendingAnswer> answers = new LinkedHashMap<>();
+		private final Map<String, PendingAnswer> inFlight = new LinkedHashMap<>();
+		private Long version;
+		private RuntimeException failure;
+		private boolean sealed;
+		private Instant submittedAt;
+		private boolean discarded;
+		private boolean removed;
+	}
+}
@@ -3,9 +3,12 @@ package com.changeready.service;
 import com.changeready.dto.survey.SurveyInstanceCreateRequest;
 import com.changeready.dto.survey.SurveyInstanceDetailResponse;
 import com.changeready.dto.survey.SurveyInstanceResponse;
+import com.changeready.dto.survey.SurveyAnswerSaveResponse;
 import com.changeready.dto.survey.SurveyAnswerUpdateRequest;
 import com.changeready.dto.survey.SurveyTemplateResponse;
+import com.changeready.dto.survey.SurveyTemplateSummaryResponse;
 import com.changeready.security.UserPrincipal;
+import com.changeready.template.TemplateStructurePayload;
 
 import java.util.List;
 
@@ -18,6 +21,21 @@ public interface SurveyService {
 	 */
 	List<SurveyTemplateResponse> getTemplates(UserPrincipal userPrincipal);
 
+	/**
+	 * Lädt alle aktiven Survey-Templates für die Company des Benutzers ohne Kategorien-Struktur
+	 * @param userPrincipal Aktueller Benutzer
+	 * @return Metadaten inkl. Content-Hash der Struktur
+	 */
+	List<SurveyTemplateSummaryResponse> getTemplateSummaries(UserPrincipal userPrincipal);
+
+	/**
+	 * Lädt die vorab serialisierte Kategorien-Struktur eines Templates (global oder der eigenen Company)
+	 * @param templateId Template-ID
+	 * @param userPrincipal Aktueller Benutzer
+	 * @return Struktur mit Content-Hash, JSON- und gzip-Bytes
+	 */
+	TemplateStructurePayload getTemplateStructure(Long templateId, UserPrincipal userPrincipal);
+
 	/**
 	 * Erstellt eine neue Survey-Instanz
 	 * @param request Create-Request mit templateId, participantType, department
@@ -41,13 +59,24 @@ public interface SurveyService {
 	 */
 	SurveyInstanceDetailResponse getInstance(Long instanceId, UserPrincipal userPrincipal);
 
+	/**
+	 * Lädt eine Survey-Instanz als Delta: nur Antworten, die nach sinceVersion geschrieben wurden (ohne Template)
+	 * @param instanceId Instanz-ID
+	 * @param sinceVersion Zuletzt gesehene Antwort-Version, null = vollständige Antwort
+	 * @param userPrincipal Aktueller Benutzer
+	 * @return SurveyInstanceDetailResponse mit geänderten Antworten und aktueller Version
+	 */
+	SurveyInstanceDetailResponse getInstance(Long instanceId, Long sinceVersion, UserPrincipal userPrincipal);
+
 	/**
 	 * Speichert oder aktualisiert Antworten einer Survey-Instanz (Autosave)
 	 * @param instanceId Instanz-ID
 	 * @param request Antwort-Updates
 	 * @param userPrincipal Aktueller Benutzer
+	 * @return Neue Antwort-Version
+	 * @throws com.changeready.exception.StaleAnswersException wenn die Basis-Version veraltet ist
 	 */
-	void saveAnswers(Long instanceId, SurveyAnswerUpdateRequest request, UserPrincipal userPrincipal);
+	SurveyAnswerSaveResponse saveAnswers(Long instanceId, SurveyAnswerUpdateRequest request, UserPrincipal userPrincipal);
 
 	/**
 	 * Sendet eine Survey-Instanz ab (Status: SUBMITTED)
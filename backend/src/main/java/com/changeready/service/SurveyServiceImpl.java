@@ -1,28 +1,51 @@
 package com.changeready.service;
 
+import com.changeready.analytics.AnswerCubeManager;
 import com.changeready.dto.survey.SurveyAnswerItem;
 import com.changeready.dto.survey.SurveyAnswerResponse;
+import com.changeready.dto.survey.SurveyAnswerSaveResponse;
 import com.changeready.dto.survey.SurveyAnswerUpdateRequest;
 import com.changeready.dto.survey.SurveyInstanceCreateRequest;
 import com.changeready.dto.survey.SurveyInstanceDetailResponse;
 import com.changeready.dto.survey.SurveyInstanceResponse;
 import com.changeready.dto.survey.SurveyTemplateResponse;
+import com.changeready.dto.survey.SurveyTemplateSummaryResponse;
 import com.changeready.entity.SurveyAnswer;
 import com.changeready.entity.SurveyInstance;
 import com.changeready.entity.SurveyTemplate;
 import com.changeready.entity.User;
+import com.changeready.event.CompanyDataChangedEvent;
 import com.changeready.exception.ResourceNotFoundException;
+import com.changeready.exception.StaleAnswersException;
+import com.changeready.exception.ValidationException;
+import com.changeready.repository.SurveyAnswerBulkRepository;
 import com.changeready.repository.SurveyAnswerRepository;
 import com.changeready.repository.SurveyInstanceRepository;
 import com.changeready.repository.SurveyTemplateRepository;
 import com.changeready.repository.UserRepository;
+import com.changeready.repository.projection.InstanceAnswerCount;
+import com.changeready.repository.projection.SurveyInstanceSummary;
+import com.changeready.repository.projection.SurveyTemplateSummary;
 import com.changeready.security.UserPrincipal;
+import com.changeready.snapshot.CompanyDataSnapshotProvider;
+import com.changeready.template.TemplateIndex;
+import com.changeready.template.TemplateIndexCache;
+import com.changeready.template.TemplateStructureCache;
+import com.changeready.template.TemplateStructurePayload;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.CONFLICT;
@@ -34,39 +57,99 @@ public class SurveyServiceImpl implements SurveyService {
 	private final SurveyInstanceRepository instanceRepository;
 	private final SurveyAnswerRepository answerRepository;
 	private final UserRepository userRepository;
+	private final ReadinessAggregateService readinessAggregateService;
+	private final ReadinessRollupService readinessRollupService;
+	private final TemplateIndexCache templateIndexCache;
+	private final TemplateStructureCache templateStructureCache;
+	private final AnswerCubeManager answerCubeManager;
+	private final CompanyDataSnapshotProvider companyDataSnapshotProvider;
+	private final ApplicationEventPublisher eventPublisher;
+	private final SurveyAnswerWriteBuffer answerWriteBuffer;
 
 	public SurveyServiceImpl(
 		SurveyTemplateRepository templateRepository,
 		SurveyInstanceRepository instanceRepository,
 		SurveyAnswerRepository answerRepository,
-		UserRepository userRepository
+		UserRepository userRepository,
+		ReadinessAggregateService readinessAggregateService,
+		ReadinessRollupService readinessRollupService,
+		TemplateIndexCache templateIndexCache,
+		TemplateStructureCache templateStructureCache,
+		AnswerCubeManager answerCubeManager,
+		CompanyDataSnapshotProvider companyDataSnapshotProvider,
+		ApplicationEventPublisher eventPublisher,
+		SurveyAnswerWriteBuffer answerWriteBuffer
 	) {
 		this.templateRepository = templateRepository;
 		this.instanceRepository = instanceRepository;
 		this.answerRepository = answerRepository;
 		this.userRepository = userRepository;
+		this.readinessAggregateService = readinessAggregateService;
+		this.readinessRollupService = readinessRollupService;
+		this.templateIndexCache = templateIndexCache;
+		this.templateStructureCache = templateStructureCache;
+		this.answerCubeManager = answerCubeManager;
+		this.companyDataSnapshotProvider = companyDataSnapshotProvider;
+		this.eventPublisher = eventPublisher;
+		this.answerWriteBuffer = answerWriteBuffer;
 	}
 
 	@Override
 	public List<SurveyTemplateResponse> getTemplates(UserPrincipal userPrincipal) {
 		Long companyId = userPrincipal.getCompanyId();
 		
-		// Lade globale Templates (company = null) und company-spezifische Templates
-		List<SurveyTemplate> globalTemplates = templateRepository.findByActive(true)
-			.stream()
-			.filter(t -> t.getCompany() == null)
+		// Globale Templates (company = null) und company-spezifische Templates in einer Query
+		return templateRepository.findVisibleByCompanyIdAndActive(companyId, true).stream()
+			.map(this::toTemplateResponse)
 			.collect(Collectors.toList());
+	}
+
+	@Override
+	public List<SurveyTemplateSummaryResponse> getTemplateSummaries(UserPrincipal userPrincipal) {
+		List<SurveyTemplateSummary> summaries = templateRepository.findVisibleSummariesByCompanyIdAndActive(
+			userPrincipal.getCompanyId(), true);
 		
-		List<SurveyTemplate> companyTemplates = templateRepository.findByCompanyIdAndActive(companyId, true);
-		
-		// Kombiniere beide Listen
-		List<SurveyTemplate> allTemplates = globalTemplates.stream()
-			.collect(Collectors.toList());
-		allTemplates.addAll(companyTemplates);
+		// Content-Hash aus dem Struktur-Cache; nicht (mehr) gecachte Templates gebündelt in einer Query nachladen
+		Map<Long, TemplateStructurePayload> payloads = new HashMap<>();
+		List<Long> missingIds = new ArrayList<>();
+		for (SurveyTemplateSummary summary : summaries) {
+			TemplateStructurePayload payload = templateStructureCache.getIfCurrent(summary.getId(), summary.getUpdatedAt());
+			if (payload != null) {
+				payloads.put(summary.getId(), payload);
+			} else {
+				missingIds.add(summary.getId());
+			}
+		}
+		if (!missingIds.isEmpty()) {
+			for (SurveyTemplate template : templateRepository.findAllById(missingIds)) {
+				payloads.put(template.getId(), templateStructureCache.get(template));
+			}
+		}
 		
-		return allTemplates.stream()
-			.map(this::toTemplateResponse)
-			.collect(Collectors.toList());
+		List<SurveyTemplateSummaryResponse> responses = new ArrayList<>(summaries.size());
+		for (SurveyTemplateSummary summary : summaries) {
+			TemplateStructurePayload payload = payloads.get(summary.getId());
+			responses.add(new SurveyTemplateSummaryResponse(
+				summary.getId(),
+				summary.getName(),
+				summary.getDescription(),
+				summary.getVersion(),
+				summary.getActive(),
+				payload != null ? payload.getContentHash() : null,
+				summary.getCreatedAt(),
+				summary.getUpdatedAt()
+			));
+		}
+		return responses;
+	}
+
+	@Override
+	public TemplateStructurePayload getTemplateStructure(Long templateId, UserPrincipal userPrincipal) {
+		// Sichtbarkeit und Stand per Projection prüfen; categoriesJson wird nur bei Cache-Miss geladen
+		LocalDateTime updatedAt = templateRepository.findVisibleUpdatedAt(templateId, userPrincipal.getCompanyId())
+			.orElseThrow(() -> new ResourceNotFoundException("Survey template not found: " + templateId));
+		return templateStructureCache.get(templateId, updatedAt, () -> templateRepository.findById(templateId)
+			.orElseThrow(() -> new ResourceNotFoundException("Survey template not found: " + templateId)));
 	}
 
 	@Override
@@ -101,24 +184,58 @@ public class SurveyServiceImpl implements SurveyService {
 		instance.setStatus(SurveyInstance.SurveyInstanceStatus.DRAFT);
 		
 		instance = instanceRepository.save(instance);
+		// Neue DRAFT-Instanz ändert die offenen Surveys in den Dashboard-KPIs
+		eventPublisher.publishEvent(CompanyDataChangedEvent.of(instance.getCompany().getId(), CompanyDataChangedEvent.Scope.SURVEYS));
 		
 		return toInstanceResponse(instance);
 	}
 
 	@Override
 	public List<SurveyInstanceResponse> getInstances(UserPrincipal userPrincipal) {
-		List<SurveyInstance> instances = instanceRepository.findByUserIdAndCompanyId(
+		// Zwei Queries unabhängig von der Anzahl Instanzen: Projection mit Template-Join + Antwort-Anzahl per GROUP BY
+		List<SurveyInstanceSummary> summaries = instanceRepository.findSummariesByUserIdAndCompanyId(
 			userPrincipal.getId(),
 			userPrincipal.getCompanyId()
 		);
+		if (summaries.isEmpty()) {
+			return new ArrayList<>();
+		}
+		Map<Long, Long> answerCounts = new HashMap<>();
+		for (InstanceAnswerCount count : answerRepository.countByInstanceForUser(userPrincipal.getId(), userPrincipal.getCompanyId())) {
+			answerCounts.put(count.getInstanceId(), count.getAnswerCount());
+		}
 		
-		return instances.stream()
-			.map(this::toInstanceResponse)
-			.collect(Collectors.toList());
+		List<SurveyInstanceResponse> responses = new ArrayList<>(summaries.size());
+		for (SurveyInstanceSummary summary : summaries) {
+			SurveyInstanceResponse response = new SurveyInstanceResponse();
+			response.setId(summary.getId());
+			response.setTemplateId(summary.getTemplateId());
+			response.setTemplateName(summary.getTemplateName());
+			response.setParticipantType(summary.getParticipantType());
+			response.setDepartment(summary.getDepartment());
+			response.setStatus(summary.getStatus());
+			response.setCreatedAt(summary.getCreatedAt());
+			response.setUpdatedAt(summary.getUpdatedAt());
+			response.setSubmittedAt(summary.getSubmittedAt());
+			
+			// Fragenanzahl aus dem gecachten Template-Index (Template wird nur bei Cache-Miss geladen)
+			TemplateIndex templateIndex = templateIndexCache.get(summary.getTemplateId(), summary.getTemplateUpdatedAt(),
+				() -> templateRepository.findById(summary.getTemplateId())
+					.orElseThrow(() -> new ResourceNotFoundException("Survey template not found")));
+			response.setTotalQuestions(templateIndex.getQuestionCount(summary.getParticipantType()));
+			response.setAnsweredQuestions(answeredCount(summary.getId(), answerCounts.getOrDefault(summary.getId(), 0L)));
+			responses.add(response);
+		}
+		return responses;
 	}
 
 	@Override
 	public SurveyInstanceDetailResponse getInstance(Long instanceId, UserPrincipal userPrincipal) {
+		return getInstance(instanceId, null, userPrincipal);
+	}
+
+	@Override
+	public SurveyInstanceDetailResponse getInstance(Long instanceId, Long sinceVersion, UserPrincipal userPrincipal) {
 		SurveyInstance instance = instanceRepository.findById(instanceId)
 			.orElseThrow(() -> new ResourceNotFoundException("Survey instance not found: " + instanceId));
 		
@@ -134,11 +251,13 @@ public class SurveyServiceImpl implements SurveyService {
 			throw new ResourceNotFoundException("Survey instance not found: " + instanceId);
 		}
 		
-		// Antworten laden
-		List<SurveyAnswer> answers = answerRepository.findByInstanceId(instanceId);
-		List<SurveyAnswerResponse> answerResponses = answers.stream()
-			.map(this::toAnswerResponse)
-			.collect(Collectors.toList());
+		// Delta: nur geänderte Antworten, ohne Template (hat der Client bereits)
+		if (sinceVersion != null) {
+			return toDeltaResponse(instance, sinceVersion);
+		}
+		
+		// Antworten laden (inkl. noch gepufferter Autosave-Werte)
+		List<SurveyAnswerResponse> answerResponses = withPendingAnswers(instanceId, answerRepository.findByInstanceId(instanceId), null);
 		
 		// Template-Response erstellen
 		SurveyTemplateResponse templateResponse = toTemplateResponse(instance.getTemplate());
@@ -151,6 +270,7 @@ public class SurveyServiceImpl implements SurveyService {
 		response.setDepartment(instance.getDepartment());
 		response.setStatus(instance.getStatus());
 		response.setAnswers(answerResponses);
+		response.setAnswersVersion(answerWriteBuffer.version(instanceId).orElse(instance.getAnswersVersion()));
 		response.setCreatedAt(instance.getCreatedAt());
 		response.setUpdatedAt(instance.getUpdatedAt());
 		response.setSubmittedAt(instance.getSubmittedAt());
@@ -158,9 +278,37 @@ public class SurveyServiceImpl implements SurveyService {
 		return response;
 	}
 
+	/**
+	 * Delta-Antwort: Antworten mit Version > sinceVersion plus alle aktuell beantworteten Frage-IDs,
+	 * damit der Client auch entfernte Antworten ("Keine Angabe") erkennt
+	 */
+	private SurveyInstanceDetailResponse toDeltaResponse(SurveyInstance instance, long sinceVersion) {
+		Long instanceId = instance.getId();
+		List<SurveyAnswerResponse> changed = withPendingAnswers(instanceId,
+			answerRepository.findByInstanceIdAndChangedVersionGreaterThan(instanceId, sinceVersion), sinceVersion);
+		
+		Set<String> answeredQuestionIds = answeredQuestionIds(instanceId, answerWriteBuffer.pending(instanceId));
+		
+		SurveyInstanceDetailResponse response = new SurveyInstanceDetailResponse();
+		response.setId(instanceId);
+		response.setParticipantType(instance.getParticipantType());
+		response.setDepartment(instance.getDepartment());
+		response.setStatus(instance.getStatus());
+		response.setAnswers(changed);
+		// Gepufferte Version bzw. direkt aus der Datenbank: die geladene Entity kann im selben Request bereits veraltet sein
+		response.setAnswersVersion(answerWriteBuffer.version(instanceId)
+			.orElseGet(() -> instanceRepository.findAnswersVersion(instanceId)));
+		response.setSinceVersion(sinceVersion);
+		response.setAnsweredQuestionIds(new ArrayList<>(answeredQuestionIds));
+		response.setCreatedAt(instance.getCreatedAt());
+		response.setUpdatedAt(instance.getUpdatedAt());
+		response.setSubmittedAt(instance.getSubmittedAt());
+		return response;
+	}
+
 	@Override
 	@Transactional
-	public void saveAnswers(Long instanceId, SurveyAnswerUpdateRequest request, UserPrincipal userPrincipal) {
+	public SurveyAnswerSaveResponse saveAnswers(Long instanceId, SurveyAnswerUpdateRequest request, UserPrincipal userPrincipal) {
 		SurveyInstance instance = instanceRepository.findById(instanceId)
 			.orElseThrow(() -> new ResourceNotFoundException("Survey instance not found: " + instanceId));
 		
@@ -179,32 +327,79 @@ public class SurveyServiceImpl implements SurveyService {
 			throw new ResponseStatusException(CONFLICT, "Cannot update answers for submitted survey instance");
 		}
 		
-		// Antworten speichern/aktualisieren
+		// Reverse-Flags aus der kompilierten Template-Struktur (für die gewertete Readiness in SQL)
+		TemplateIndex templateIndex = templateIndexCache.get(instance.getTemplate());
+		
+		// Pro Frage zählt der letzte Eintrag des Requests
+		Map<String, Integer> valueByQuestion = new LinkedHashMap<>();
 		for (SurveyAnswerItem item : request.getAnswers()) {
-			// "Keine Angabe": Null bedeutet Antwort entfernen (nicht in Auswertung einfließen lassen)
-			if (item.getValue() == null) {
-				answerRepository.findByInstanceIdAndQuestionId(instanceId, item.getQuestionId())
-					.ifPresent(answerRepository::delete);
-				continue;
+			valueByQuestion.put(item.getQuestionId(), item.getValue());
+		}
+		
+		// Write-Behind: Compare-and-Set gegen die im Puffer geführte Version, geschrieben wird gebündelt im Hintergrund
+		// bzw. beim Absenden (ein Autosave schreibt dann nichts in die Datenbank)
+		if (answerWriteBuffer.isEnabled()) {
+			// Der Write wird vor dem Schreiben bestätigt: unbekannte Fragen hier ablehnen statt beim Flush
+			for (String questionId : valueByQuestion.keySet()) {
+				if (!templateIndex.isEmpty() && templateIndex.slotOf(questionId) < 0) {
+					throw new ValidationException("Unknown question: " + questionId);
+				}
 			}
-
-			answerRepository.findByInstanceIdAndQuestionId(instanceId, item.getQuestionId())
-				.ifPresentOrElse(
-					// Update bestehende Antwort
-					existingAnswer -> {
-						existingAnswer.setValue(item.getValue());
-						answerRepository.save(existingAnswer);
-					},
-					// Erstelle neue Antwort
-					() -> {
-						SurveyAnswer answer = new SurveyAnswer();
-						answer.setInstance(instance);
-						answer.setQuestionId(item.getQuestionId());
-						answer.setValue(item.getValue());
-						answerRepository.save(answer);
+			LocalDateTime now = LocalDateTime.now();
+			OptionalLong version = answerWriteBuffer.write(instanceId, request.getBaseVersion(),
+				() -> instanceRepository.findAnswersVersion(instanceId),
+				newVersion -> {
+					Map<String, SurveyAnswerWriteBuffer.PendingAnswer> pending = new LinkedHashMap<>();
+					for (Map.Entry<String, Integer> entry : valueByQuestion.entrySet()) {
+						pending.put(entry.getKey(), new SurveyAnswerWriteBuffer.PendingAnswer(
+							entry.getValue(), templateIndex.isReverse(entry.getKey()), newVersion, now));
 					}
-				);
+					return pending;
+				});
+			if (version.isEmpty()) {
+				throw new StaleAnswersException("Answers were changed since version " + request.getBaseVersion(),
+					toDeltaResponse(instance, request.getBaseVersion()));
+			}
+			return new SurveyAnswerSaveResponse(version.getAsLong());
+		}
+		
+		// Optimistische Versionierung: Compare-and-Set auf der Instanz statt Zeilensperren auf den Antworten.
+		// Das Update greift nur für DRAFT-Instanzen, so kann ein paralleles Absenden keine Antworten "überholen".
+		long version;
+		if (request.getBaseVersion() != null) {
+			if (instanceRepository.incrementAnswersVersion(instanceId, request.getBaseVersion(),
+				SurveyInstance.SurveyInstanceStatus.DRAFT) == 0) {
+				if (instanceRepository.findAnswersVersion(instanceId) == request.getBaseVersion()) {
+					throw new ResponseStatusException(CONFLICT, "Survey instance is already submitted");
+				}
+				throw new StaleAnswersException("Answers were changed since version " + request.getBaseVersion(),
+					toDeltaResponse(instance, request.getBaseVersion()));
+			}
+			version = request.getBaseVersion() + 1;
+		} else {
+			if (instanceRepository.incrementAnswersVersion(instanceId, SurveyInstance.SurveyInstanceStatus.DRAFT) == 0) {
+				throw new ResponseStatusException(CONFLICT, "Survey instance is already submitted");
+			}
+			version = instanceRepository.findAnswersVersion(instanceId);
+		}
+		
+		// Antworten als Menge schreiben: ein Delete für "Keine Angabe" und ein Upsert für alle übrigen
+		List<String> removedQuestionIds = new ArrayList<>();
+		List<SurveyAnswerBulkRepository.AnswerValue> values = new ArrayList<>();
+		for (Map.Entry<String, Integer> entry : valueByQuestion.entrySet()) {
+			// "Keine Angabe": Null bedeutet Antwort entfernen (nicht in Auswertung einfließen lassen)
+			if (entry.getValue() == null) {
+				removedQuestionIds.add(entry.getKey());
+			} else {
+				values.add(new SurveyAnswerBulkRepository.AnswerValue(
+					entry.getKey(), entry.getValue(), templateIndex.isReverse(entry.getKey()), version));
+			}
+		}
+		if (!removedQuestionIds.isEmpty()) {
+			answerRepository.deleteByInstanceIdAndQuestionIds(instanceId, removedQuestionIds);
 		}
+		answerRepository.upsertAnswers(instanceId, values);
+		return new SurveyAnswerSaveResponse(version);
 	}
 
 	@Override
@@ -228,10 +423,22 @@ public class SurveyServiceImpl implements SurveyService {
 			throw new ResponseStatusException(CONFLICT, "Survey instance is already submitted");
 		}
 		
+		// Gepufferte Autosave-Werte in derselben Transaktion schreiben (sonst fehlen sie in der Auswertung)
+		answerWriteBuffer.flushForSubmit(instanceId);
+		
 		// Status auf SUBMITTED setzen
 		instance.setStatus(SurveyInstance.SurveyInstanceStatus.SUBMITTED);
 		instance.setSubmittedAt(LocalDateTime.now());
 		instanceRepository.save(instance);
+
+		// Readiness-Aggregate und Tages-Rollups in derselben Transaktion fortschreiben
+		List<SurveyAnswer> submittedAnswers = answerRepository.findByInstanceId(instanceId);
+		readinessAggregateService.recordSubmission(instance, submittedAnswers);
+		readinessRollupService.recordSubmission(instance, submittedAnswers);
+		// Geladenen Answer-Cube der Company nach dem Commit fortschreiben
+		answerCubeManager.onSubmitted(instance, submittedAnswers);
+		companyDataSnapshotProvider.invalidate(instance.getCompany().getId());
+		eventPublisher.publishEvent(CompanyDataChangedEvent.of(instance.getCompany().getId(), CompanyDataChangedEvent.Scope.SURVEYS));
 	}
 
 	@Override
@@ -246,7 +453,19 @@ public class SurveyServiceImpl implements SurveyService {
 			throw new ResourceNotFoundException("Survey instance not found: " + instanceId);
 		}
 
-		// Datenintegrität: Antworten zuerst löschen (FK -> survey_instances)
+		// Readiness-Aggregate und Tages-Rollups bereinigen (nur abgesendete Instanzen sind dort enthalten)
+		if (instance.getStatus() == SurveyInstance.SurveyInstanceStatus.SUBMITTED) {
+			List<SurveyAnswer> submittedAnswers = answerRepository.findByInstanceId(instanceId);
+			readinessAggregateService.removeSubmission(instance, submittedAnswers);
+			readinessRollupService.removeSubmission(instance, submittedAnswers);
+			answerCubeManager.onDeleted(instance);
+			companyDataSnapshotProvider.invalidate(instance.getCompany().getId());
+		}
+		// Auch DRAFT-Instanzen zählen in die Dashboard-KPIs (offene Surveys)
+		eventPublisher.publishEvent(CompanyDataChangedEvent.of(instance.getCompany().getId(), CompanyDataChangedEvent.Scope.SURVEYS));
+
+		// Datenintegrität: Antworten zuerst löschen (FK -> survey_instances), gepufferte Werte verwerfen
+		answerWriteBuffer.discard(instanceId);
 		answerRepository.deleteByInstanceId(instanceId);
 
 		// Hard Delete: Instance entfernen
@@ -263,6 +482,7 @@ public class SurveyServiceImpl implements SurveyService {
 		response.setVersion(template.getVersion());
 		response.setActive(template.getActive());
 		response.setCategoriesJson(template.getCategoriesJson());
+		response.setContentHash(templateStructureCache.get(template).getContentHash());
 		response.setCreatedAt(template.getCreatedAt());
 		response.setUpdatedAt(template.getUpdatedAt());
 		return response;
@@ -280,53 +500,75 @@ public class SurveyServiceImpl implements SurveyService {
 		response.setUpdatedAt(instance.getUpdatedAt());
 		response.setSubmittedAt(instance.getSubmittedAt());
 		
-		// Berechne totalQuestions aus Template categoriesJson
-		// Vereinfachter Ansatz: Zähle Frage-IDs im JSON
-		int totalQuestions = countQuestionsInTemplate(instance.getTemplate().getCategoriesJson(), instance.getParticipantType());
+		// Berechne totalQuestions aus dem kompilierten Template-Index (vorberechnet pro ParticipantType)
+		int totalQuestions = templateIndexCache.get(instance.getTemplate()).getQuestionCount(instance.getParticipantType());
 		response.setTotalQuestions(totalQuestions);
 		
-		// Berechne answeredQuestions aus gespeicherten Antworten
-		long answeredCount = answerRepository.findByInstanceId(instance.getId()).size();
-		response.setAnsweredQuestions((int) answeredCount);
+		// Berechne answeredQuestions aus gespeicherten (und noch gepufferten) Antworten
+		response.setAnsweredQuestions(answeredCount(instance.getId(), answerRepository.countByInstanceId(instance.getId())));
 		
 		return response;
 	}
 	
 	/**
-	 * Zählt die Fragen in einem Template basierend auf categoriesJson und participantType
-	 * Vereinfachter Ansatz: Zählt Frage-IDs im JSON-String
+	 * Anzahl beantworteter Fragen inkl. gepufferter Autosave-Werte
+	 * Die Frage-IDs werden nur geladen, wenn für die Instanz tatsächlich Werte gepuffert sind (Write-Behind)
+	 */
+	private int answeredCount(Long instanceId, long storedCount) {
+		Map<String, SurveyAnswerWriteBuffer.PendingAnswer> pending = answerWriteBuffer.pending(instanceId);
+		if (pending.isEmpty()) {
+			return (int) storedCount;
+		}
+		return answeredQuestionIds(instanceId, pending).size();
+	}
+	
+	/**
+	 * Frage-IDs der gespeicherten Antworten, überlagert mit gepufferten Werten (null = entfernt)
 	 */
-	private int countQuestionsInTemplate(String categoriesJson, SurveyInstance.ParticipantType participantType) {
-		if (categoriesJson == null || categoriesJson.isEmpty()) {
-			return 0;
+	private Set<String> answeredQuestionIds(Long instanceId, Map<String, SurveyAnswerWriteBuffer.PendingAnswer> pending) {
+		Set<String> answered = new LinkedHashSet<>(answerRepository.findQuestionIdsByInstanceId(instanceId));
+		for (Map.Entry<String, SurveyAnswerWriteBuffer.PendingAnswer> entry : pending.entrySet()) {
+			if (entry.getValue().value() == null) {
+				answered.remove(entry.getKey());
+			} else {
+				answered.add(entry.getKey());
+			}
+		}
+		return answered;
+	}
+	
+	/**
+	 * Überlagert gespeicherte Antworten mit den gepufferten Autosave-Werten der Instanz (Write-Behind)
+	 * @param sinceVersion null = alle gepufferten Werte, sonst nur Werte mit höherer Version (Delta)
+	 */
+	private List<SurveyAnswerResponse> withPendingAnswers(Long instanceId, List<SurveyAnswer> answers, Long sinceVersion) {
+		Map<String, SurveyAnswerWriteBuffer.PendingAnswer> pending = answerWriteBuffer.pending(instanceId);
+		if (sinceVersion != null) {
+			pending.values().removeIf(answer -> answer.version() <= sinceVersion);
+		}
+		if (pending.isEmpty()) {
+			return answers.stream()
+				.map(this::toAnswerResponse)
+				.collect(Collectors.toList());
 		}
 		
-		try {
-			// Zähle Vorkommen von Frage-IDs (Pattern: "id": "..." in questions-Array)
-			// Vereinfachter Ansatz: Zähle "id" Vorkommen die auf Fragen hinweisen
-			// Pattern: Fragen haben "id": "..." innerhalb von questions-Arrays
-			int count = 0;
-			String[] questionIdParts = categoriesJson.split("\"id\"\\s*:");
-			// Jede Frage hat ein "id" Feld, also Anzahl = parts.length - 1
-			// Aber wir müssen nur die in "questions" Arrays zählen
-			// Einfacher Ansatz: Zähle alle "id" Vorkommen und subtrahiere die in anderen Kontexten
-			count = Math.max(0, questionIdParts.length - 1);
-			
-			// Filter nach participantType: Wenn != PMA, filtere Fragen mit "onlyPMA": true
-			if (participantType != SurveyInstance.ParticipantType.PMA) {
-				// Zähle Fragen mit "onlyPMA": true und subtrahiere sie
-				String[] onlyPmaParts = categoriesJson.split("\"onlyPMA\"\\s*:\\s*true");
-				int onlyPmaCount = Math.max(0, onlyPmaParts.length - 1);
-				count = Math.max(0, count - onlyPmaCount);
+		Map<String, SurveyAnswerResponse> byQuestion = new LinkedHashMap<>();
+		for (SurveyAnswer answer : answers) {
+			byQuestion.put(answer.getQuestionId(), toAnswerResponse(answer));
+		}
+		for (Map.Entry<String, SurveyAnswerWriteBuffer.PendingAnswer> entry : pending.entrySet()) {
+			SurveyAnswerWriteBuffer.PendingAnswer answer = entry.getValue();
+			if (answer.value() == null) {
+				byQuestion.remove(entry.getKey());
+				continue;
 			}
-			
-			return count;
-		} catch (Exception e) {
-			// Bei Parsing-Fehler: Fallback auf 0
-			return 0;
+			SurveyAnswerResponse existing = byQuestion.get(entry.getKey());
+			byQuestion.put(entry.getKey(), new SurveyAnswerResponse(entry.getKey(), answer.value(),
+				existing != null ? existing.getCreatedAt() : answer.updatedAt(), answer.updatedAt()));
 		}
+		return new ArrayList<>(byQuestion.values());
 	}
-
+	
 	private SurveyAnswerResponse toAnswerResponse(SurveyAnswer answer) {
 		SurveyAnswerResponse response = new SurveyAnswerResponse();
 		response.setQuestionId(answer.getQuestionId());
@@ -7,12 +7,14 @@ import com.changeready.dto.user.UserResponse;
 import com.changeready.entity.Company;
 import com.changeready.entity.Role;
 import com.changeready.entity.User;
+import com.changeready.event.UserEmailChangedEvent;
 import com.changeready.exception.ResourceNotFoundException;
 import com.changeready.exception.UnauthorizedException;
 import com.changeready.exception.ValidationException;
 import com.changeready.repository.CompanyRepository;
 import com.changeready.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -32,19 +34,25 @@ public class UserServiceImpl implements UserService {
 	private final PasswordEncoder passwordEncoder;
 	private final AuthService authService;
 	private final AuditLogger auditLogger;
+	private final StakeholderUserLinkService stakeholderUserLinkService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public UserServiceImpl(
 		UserRepository userRepository,
 		CompanyRepository companyRepository,
 		PasswordEncoder passwordEncoder,
 		AuthService authService,
-		AuditLogger auditLogger
+		AuditLogger auditLogger,
+		StakeholderUserLinkService stakeholderUserLinkService,
+		ApplicationEventPublisher eventPublisher
 	) {
 		this.userRepository = userRepository;
 		this.companyRepository = companyRepository;
 		this.passwordEncoder = passwordEncoder;
 		this.authService = authService;
 		this.auditLogger = auditLogger;
+		this.stakeholderUserLinkService = stakeholderUserLinkService;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -104,6 +112,9 @@ public class UserServiceImpl implements UserService {
 		user.setActive(true);
 
 		User savedUser = userRepository.save(user);
+
+		// Link existing stakeholder persons with the same email (within the company)
+		stakeholderUserLinkService.linkUser(savedUser);
 		
 		// SEC-012: Audit log user creation
 		auditLogger.logUserCreated(
@@ -162,6 +173,9 @@ public class UserServiceImpl implements UserService {
 		user.setActive(true); // Always active when created
 
 		User savedUser = userRepository.save(user);
+
+		// Link existing stakeholder persons with the same email (within the company)
+		stakeholderUserLinkService.linkUser(savedUser);
 		
 		// SEC-012: Audit log company admin creation
 		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -243,11 +257,13 @@ public class UserServiceImpl implements UserService {
 		// This prevents mass assignment of sensitive fields
 
 		// Update email if provided and different
+		boolean emailChanged = false;
 		if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
 			if (userRepository.existsByEmail(request.getEmail())) {
 				throw new ValidationException("User with email '" + request.getEmail() + "' already exists");
 			}
 			user.setEmail(request.getEmail());
+			emailChanged = true;
 		}
 
 		// Update password if provided
@@ -262,6 +278,10 @@ public class UserServiceImpl implements UserService {
 		// Separate privileged endpoints would be required for those operations
 
 		User updatedUser = userRepository.save(user);
+		if (emailChanged) {
+			// Stakeholder person links are reconciled in the background after commit
+			eventPublisher.publishEvent(new UserEmailChangedEvent(companyId, updatedUser.getId()));
+		}
 		return mapToResponse(updatedUser);
 	}
 
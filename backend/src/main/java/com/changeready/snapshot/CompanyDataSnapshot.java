@@ -0,0 +1,58 @@
+package com.changeready.snapshot;
+
+import com.changeready.entity.ReadinessAggregate;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Daten einer Company, die innerhalb eines Requests von mehreren Teil-Berechnungen gebraucht werden
+ * (Management Summary, Department-Readiness, Trend, KPIs).
+ *
+ * Jeder Teil wird beim ersten Zugriff genau einmal geladen und danach wiederverwendet.
+ * Threadsicher, damit parallel laufende Teil-Berechnungen denselben Snapshot teilen können.
+ */
+public class CompanyDataSnapshot {
+
+	private final Long companyId;
+	private final Supplier<List<ReadinessAggregate>> aggregatesLoader;
+	private final LongSupplier stakeholderCountLoader;
+
+	private List<ReadinessAggregate> aggregates;
+	private Long stakeholderCount;
+
+	public CompanyDataSnapshot(
+		Long companyId,
+		Supplier<List<ReadinessAggregate>> aggregatesLoader,
+		LongSupplier stakeholderCountLoader
+	) {
+		this.companyId = companyId;
+		this.aggregatesLoader = aggregatesLoader;
+		this.stakeholderCountLoader = stakeholderCountLoader;
+	}
+
+	public Long getCompanyId() {
+		return companyId;
+	}
+
+	/**
+	 * @return Readiness-Aggregate aller SUBMITTED Instanzen der Company (unveränderlich)
+	 */
+	public synchronized List<ReadinessAggregate> getAggregates() {
+		if (aggregates == null) {
+			aggregates = List.copyOf(aggregatesLoader.get());
+		}
+		return aggregates;
+	}
+
+	/**
+	 * @return Anzahl aller Stakeholder-Personen der Company
+	 */
+	public synchronized long getStakeholderCount() {
+		if (stakeholderCount == null) {
+			stakeholderCount = stakeholderCountLoader.getAsLong();
+		}
+		return stakeholderCount;
+	}
+}
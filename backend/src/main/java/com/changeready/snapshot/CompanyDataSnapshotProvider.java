@@ -0,0 +1,70 @@
+package com.changeready.snapshot;
+
+import com.changeready.repository.StakeholderPersonRepository;
+import com.changeready.service.ReadinessAggregateService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Liefert den {@link CompanyDataSnapshot} einer Company für den aktuellen Request.
+ *
+ * Der Snapshot wird als Request-Attribut abgelegt, sodass alle Teil-Berechnungen eines Requests
+ * (z.B. /reporting/data: Summary, Departments, Trend) dieselben Daten verwenden statt sie mehrfach zu laden.
+ * Außerhalb eines Requests (Scheduler, Startup) wird jeweils ein frischer Snapshot erzeugt.
+ */
+@Component
+public class CompanyDataSnapshotProvider {
+
+	private static final String ATTRIBUTE_PREFIX = CompanyDataSnapshot.class.getName() + ".";
+
+	private final ReadinessAggregateService readinessAggregateService;
+	private final StakeholderPersonRepository stakeholderPersonRepository;
+
+	public CompanyDataSnapshotProvider(
+		ReadinessAggregateService readinessAggregateService,
+		StakeholderPersonRepository stakeholderPersonRepository
+	) {
+		this.readinessAggregateService = readinessAggregateService;
+		this.stakeholderPersonRepository = stakeholderPersonRepository;
+	}
+
+	/**
+	 * @return Snapshot der Company für den aktuellen Request (einmal pro Request und Company erzeugt)
+	 */
+	public CompanyDataSnapshot get(Long companyId) {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes == null) {
+			return create(companyId);
+		}
+
+		String key = ATTRIBUTE_PREFIX + companyId;
+		// Sperre auf die Request-Attribute selbst (getSessionMutex würde eine Session erzeugen)
+		synchronized (attributes) {
+			CompanyDataSnapshot snapshot = (CompanyDataSnapshot) attributes.getAttribute(key, RequestAttributes.SCOPE_REQUEST);
+			if (snapshot == null) {
+				snapshot = create(companyId);
+				attributes.setAttribute(key, snapshot, RequestAttributes.SCOPE_REQUEST);
+			}
+			return snapshot;
+		}
+	}
+
+	/**
+	 * Verwirft den Snapshot einer Company im aktuellen Request (nach Schreibzugriffen auf die Readiness-Daten)
+	 */
+	public void invalidate(Long companyId) {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes != null) {
+			attributes.removeAttribute(ATTRIBUTE_PREFIX + companyId, RequestAttributes.SCOPE_REQUEST);
+		}
+	}
+
+	private CompanyDataSnapshot create(Long companyId) {
+		return new CompanyDataSnapshot(
+			companyId,
+			() -> readinessAggregateService.getAggregates(companyId),
+			() -> stakeholderPersonRepository.countByGroupCompanyId(companyId)
+		);
+	}
+}
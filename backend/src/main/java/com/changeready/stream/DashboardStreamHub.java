@@ -0,0 +1,412 @@
+package com.changeready.stream;
+
+import com.changeready.dto.dashboard.DashboardKpisResponse;
+import com.changeready.dto.dashboard.DashboardStreamEvent;
+import com.changeready.dto.reporting.DepartmentReadinessResponse;
+import com.changeready.event.CompanyDataChangedEvent;
+import com.changeready.security.UserPrincipal;
+import com.changeready.service.DashboardService;
+import com.changeready.service.ReportingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Live-Dashboard per Server-Sent Events: verteilt KPI- und Readiness-Änderungen einer Company an alle verbundenen Clients.
+ *
+ * - Eine Berechnung pro Company und Änderung (Debounce app.dashboard.stream.debounce, über Cache und Single-Flight),
+ *   das Ergebnis wird an alle Verbindungen der Company verteilt. Unveränderte Stände werden nicht gesendet.
+ * - Leerlaufende Verbindungen belegen keinen Thread (asynchroner Servlet-Request), nur den Emitter-Eintrag.
+ * - Backpressure: pro Client höchstens eine ausstehende Nachricht ("latest wins"). Ein langsamer Client blockiert nur
+ *   seinen eigenen virtuellen Sende-Thread und überspringt Zwischenstände, statt Nachrichten aufzustauen.
+ * - Heartbeat-Kommentare alle app.dashboard.stream.heartbeat-interval halten Proxies offen und erkennen tote Verbindungen.
+ * - Verbindungslimit pro Company (app.dashboard.stream.max-connections-per-company), darüber 429.
+ */
+@Component
+public class DashboardStreamHub implements DisposableBean {
+
+	private static final Logger logger = LoggerFactory.getLogger(DashboardStreamHub.class);
+
+	static final String EVENT_NAME = "dashboard";
+	private static final Message HEARTBEAT = new Message(null, null, null);
+
+	private final DashboardService dashboardService;
+	private final ReportingService reportingService;
+	private final int maxConnectionsPerCompany;
+	private final Duration emitterTimeout;
+	private final Duration debounce;
+	private final ThreadPoolTaskScheduler scheduler;
+	private final SimpleAsyncTaskExecutor senders;
+	private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+	private final Map<Long, ScheduledFuture<?>> pending = new ConcurrentHashMap<>();
+	private final Counter sent;
+	private final Counter conflated;
+	private final Counter failed;
+	private final Counter rejected;
+
+	public DashboardStreamHub(
+		DashboardService dashboardService,
+		ReportingService reportingService,
+		MeterRegistry meterRegistry,
+		@Value("${app.dashboard.stream.max-connections-per-company:200}") int maxConnectionsPerCompany,
+		@Value("${app.dashboard.stream.emitter-timeout:PT30M}") Duration emitterTimeout,
+		@Value("${app.dashboard.stream.debounce:PT1S}") Duration debounce
+	) {
+		this.dashboardService = dashboardService;
+		this.reportingService = reportingService;
+		this.maxConnectionsPerCompany = maxConnectionsPerCompany;
+		this.emitterTimeout = emitterTimeout;
+		this.debounce = debounce;
+		this.scheduler = new ThreadPoolTaskScheduler();
+		this.scheduler.setPoolSize(1);
+		this.scheduler.setThreadNamePrefix("dashboard-stream-");
+		this.scheduler.setDaemon(true);
+		this.scheduler.initialize();
+		this.senders = new SimpleAsyncTaskExecutor("dashboard-stream-send-");
+		this.senders.setVirtualThreads(true);
+		this.sent = Counter.builder("dashboard.stream.messages").tag("result", "sent").register(meterRegistry);
+		this.conflated = Counter.builder("dashboard.stream.messages").tag("result", "conflated").register(meterRegistry);
+		this.failed = Counter.builder("dashboard.stream.messages").tag("result", "failed").register(meterRegistry);
+		this.rejected = Counter.builder("dashboard.stream.connections.rejected").register(meterRegistry);
+		Gauge.builder("dashboard.stream.connections", this, DashboardStreamHub::getConnectionCount).register(meterRegistry);
+	}
+
+	/**
+	 * Registriert eine neue SSE-Verbindung und sendet sofort den aktuellen Stand der Company
+	 * @throws ResponseStatusException 429 wenn das Verbindungslimit der Company erreicht ist
+	 */
+	public SseEmitter subscribe(UserPrincipal userPrincipal) {
+		Long companyId = userPrincipal.getCompanyId();
+		if (companyId == null) {
+			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "User is not assigned to a company");
+		}
+
+		Channel channel = channels.computeIfAbsent(companyId, Channel::new);
+		Subscriber subscriber = new Subscriber(channel, new SseEmitter(emitterTimeout.toMillis()));
+		synchronized (channel) {
+			if (channel.subscribers.size() >= maxConnectionsPerCompany) {
+				rejected.increment();
+				throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many dashboard streams for this company");
+			}
+			channel.subscribers.add(subscriber);
+		}
+		subscriber.emitter.onCompletion(subscriber::close);
+		subscriber.emitter.onTimeout(subscriber::close);
+		subscriber.emitter.onError(e -> subscriber.close());
+
+		// Initialer Stand: zuletzt verteilter Stand oder (z.B. erste Verbindung) frisch über den Cache berechnet
+		Snapshot snapshot;
+		long version;
+		synchronized (channel) {
+			snapshot = channel.last;
+			version = channel.version;
+		}
+		if (snapshot == null) {
+			try {
+				snapshot = load(companyId);
+			} catch (RuntimeException e) {
+				subscriber.close();
+				throw e;
+			}
+			synchronized (channel) {
+				if (channel.last == null) {
+					channel.last = snapshot;
+				}
+				snapshot = channel.last;
+				version = channel.version;
+			}
+		}
+		subscriber.offer(new Message(EVENT_NAME, String.valueOf(version), snapshot.toEvent(version, true, snapshot.departments.values())));
+		return subscriber.emitter;
+	}
+
+	/**
+	 * Plant nach dem Commit einer Survey-Änderung die Verteilung des neuen Stands (nur bei verbundenen Clients)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCompanyDataChanged(CompanyDataChangedEvent event) {
+		if (event.companyId() == null || !event.scopes().contains(CompanyDataChangedEvent.Scope.SURVEYS)) {
+			return;
+		}
+		Channel channel = channels.get(event.companyId());
+		if (channel == null) {
+			return;
+		}
+		if (channel.subscribers.isEmpty()) {
+			// Niemand verbunden: gemerkten Stand verwerfen, die nächste Verbindung lädt frisch
+			channel.last = null;
+			return;
+		}
+		pending.compute(event.companyId(), (id, existing) -> existing != null && !existing.isDone()
+			? existing
+			: scheduler.schedule(() -> broadcast(id), Instant.now().plus(debounce)));
+	}
+
+	/**
+	 * Hält alle Verbindungen per SSE-Kommentar offen; Clients mit ausstehender Nachricht brauchen keinen Heartbeat
+	 */
+	@Scheduled(fixedDelayString = "${app.dashboard.stream.heartbeat-interval:PT25S}")
+	public void sendHeartbeats() {
+		for (Channel channel : channels.values()) {
+			for (Subscriber subscriber : channel.subscribers) {
+				subscriber.heartbeat();
+			}
+		}
+	}
+
+	public int getConnectionCount() {
+		int count = 0;
+		for (Channel channel : channels.values()) {
+			count += channel.subscribers.size();
+		}
+		return count;
+	}
+
+	private void broadcast(Long companyId) {
+		// Vor der Berechnung freigeben: Änderungen während der Berechnung planen einen neuen Lauf
+		pending.remove(companyId);
+		Channel channel = channels.get(companyId);
+		if (channel == null || channel.subscribers.isEmpty()) {
+			return;
+		}
+
+		Snapshot current;
+		try {
+			current = load(companyId);
+		} catch (RuntimeException e) {
+			logger.warn("Failed to compute dashboard stream update for company {}. Reason: {}", companyId, e.getMessage());
+			return;
+		}
+
+		Message message;
+		synchronized (channel) {
+			Snapshot previous = channel.last;
+			if (current.equals(previous)) {
+				return;
+			}
+			channel.version++;
+			channel.last = current;
+			message = new Message(EVENT_NAME, String.valueOf(channel.version), current.deltaTo(previous, channel.version));
+		}
+		for (Subscriber subscriber : channel.subscribers) {
+			subscriber.offer(message);
+		}
+	}
+
+	private Snapshot load(Long companyId) {
+		UserPrincipal principal = UserPrincipal.forCompany(companyId);
+		DashboardKpisResponse kpis = dashboardService.getKpis(principal);
+		Map<String, DepartmentReadinessResponse> departments = new LinkedHashMap<>();
+		for (DepartmentReadinessResponse department : reportingService.getDepartmentReadiness(principal)) {
+			departments.put(department.getId(), department);
+		}
+		return new Snapshot(kpis.getTotalSurveys(), kpis.getCompletedSurveys(), kpis.getOpenSurveys(),
+			kpis.getOverallReadiness(), departments);
+	}
+
+	@Override
+	public void destroy() {
+		scheduler.shutdown();
+		for (Channel channel : channels.values()) {
+			for (Subscriber subscriber : channel.subscribers) {
+				subscriber.emitter.complete();
+			}
+		}
+	}
+
+	/**
+	 * Verteilter Dashboard-Stand einer Company
+	 */
+	private record Snapshot(
+		Integer totalSurveys,
+		Integer completedSurveys,
+		Integer openSurveys,
+		Double overallReadiness,
+		Map<String, DepartmentReadinessResponse> departments
+	) {
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Snapshot other)) {
+				return false;
+			}
+			if (!Objects.equals(totalSurveys, other.totalSurveys) || !Objects.equals(completedSurveys, other.completedSurveys)
+				|| !Objects.equals(openSurveys, other.openSurveys) || !Objects.equals(overallReadiness, other.overallReadiness)
+				|| !departments.keySet().equals(other.departments.keySet())) {
+				return false;
+			}
+			for (DepartmentReadinessResponse department : departments.values()) {
+				if (!sameDepartment(department, other.departments.get(department.getId()))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(totalSurveys, completedSurveys, openSurveys, overallReadiness, departments.keySet());
+		}
+
+		/**
+		 * Event gegenüber dem vorherigen Stand: nur geänderte Abteilungen, vollständig wenn Abteilungen hinzukamen/wegfielen
+		 */
+		private DashboardStreamEvent deltaTo(Snapshot previous, long version) {
+			if (previous == null || !departments.keySet().equals(previous.departments.keySet())) {
+				return toEvent(version, true, departments.values());
+			}
+			List<DepartmentReadinessResponse> changed = new ArrayList<>();
+			for (DepartmentReadinessResponse department : departments.values()) {
+				if (!sameDepartment(department, previous.departments.get(department.getId()))) {
+					changed.add(department);
+				}
+			}
+			return toEvent(version, false, changed);
+		}
+
+		private DashboardStreamEvent toEvent(long version, boolean full, Iterable<DepartmentReadinessResponse> departmentList) {
+			List<DepartmentReadinessResponse> list = new ArrayList<>();
+			departmentList.forEach(list::add);
+			return new DashboardStreamEvent(version, full, totalSurveys, completedSurveys, openSurveys, overallReadiness, list);
+		}
+
+		private static boolean sameDepartment(DepartmentReadinessResponse a, DepartmentReadinessResponse b) {
+			return b != null && Objects.equals(a.getReadiness(), b.getReadiness()) && Objects.equals(a.getName(), b.getName())
+				&& Objects.equals(a.getColor(), b.getColor());
+		}
+	}
+
+	/**
+	 * SSE-Nachricht; pro Versand neu gebaut, da SseEventBuilder nicht wiederverwendbar ist. name == null: Heartbeat
+	 */
+	private record Message(String name, String id, Object data) {
+
+		private SseEmitter.SseEventBuilder build() {
+			if (name == null) {
+				return SseEmitter.event().comment("heartbeat");
+			}
+			return SseEmitter.event().name(name).id(id).data(data, MediaType.APPLICATION_JSON);
+		}
+	}
+
+	/**
+	 * Verbindungen und zuletzt verteilter Stand einer Company
+	 */
+	private static final class Channel {
+
+		private final Long companyId;
+		private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+		private volatile Snapshot last;
+		private long version; // guarded by this
+
+		private Channel(Long companyId) {
+			this.companyId = companyId;
+		}
+	}
+
+	/**
+	 * Eine Verbindung mit Ein-Platz-Postfach: neue Nachrichten ersetzen eine noch nicht gesendete
+	 */
+	private final class Subscriber {
+
+		private final Channel channel;
+		private final SseEmitter emitter;
+		private final AtomicReference<Message> next = new AtomicReference<>();
+		private final AtomicBoolean draining = new AtomicBoolean();
+		private volatile boolean closed;
+
+		private Subscriber(Channel channel, SseEmitter emitter) {
+			this.channel = channel;
+			this.emitter = emitter;
+		}
+
+		private void offer(Message message) {
+			if (closed) {
+				return;
+			}
+			Message replaced = next.getAndSet(message);
+			if (replaced != null && replaced != HEARTBEAT) {
+				conflated.increment();
+			}
+			scheduleDrain();
+		}
+
+		private void heartbeat() {
+			if (!closed && next.compareAndSet(null, HEARTBEAT)) {
+				scheduleDrain();
+			}
+		}
+
+		private void scheduleDrain() {
+			if (draining.compareAndSet(false, true)) {
+				senders.execute(this::drain);
+			}
+		}
+
+		private void drain() {
+			do {
+				Message message;
+				while ((message = next.getAndSet(null)) != null) {
+					if (!send(message)) {
+						return;
+					}
+				}
+				draining.set(false);
+				// Eine zwischen leerem Postfach und Freigabe eingetroffene Nachricht selbst übernehmen
+			} while (next.get() != null && draining.compareAndSet(false, true));
+		}
+
+		private boolean send(Message message) {
+			if (closed) {
+				return false;
+			}
+			try {
+				emitter.send(message.build());
+				if (message != HEARTBEAT) {
+					sent.increment();
+				}
+				return true;
+			} catch (IOException | IllegalStateException e) {
+				// Client weg oder Emitter bereits abgeschlossen: der Container meldet den Fehler zusätzlich über onError
+				failed.increment();
+				logger.debug("Dropping dashboard stream of company {}. Reason: {}", channel.companyId, e.getMessage());
+				close();
+				return false;
+			}
+		}
+
+		private void close() {
+			closed = true;
+			next.set(null);
+			channel.subscribers.remove(this);
+		}
+	}
+}
@@ -0,0 +1,308 @@
+package com.changeready.template;
+
+import com.changeready.dto.reporting.CategoryStructure;
+import com.changeready.dto.reporting.QuestionStructure;
+import com.changeready.dto.reporting.SubcategoryStructure;
+import com.changeready.entity.SurveyInstance;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unveränderliche, kompilierte Sicht auf das categoriesJson eines SurveyTemplates.
+ *
+ * Jede Frage bekommt einen fortlaufenden int-Slot in Template-Reihenfolge, dadurch sind die Fragen einer
+ * Subcategory (und die Subcategories einer Category) zusammenhängende Bereiche über Offset-Arrays:
+ * - Fragen der Subcategory s: Slots [subcategoryOffsets[s], subcategoryOffsets[s + 1])
+ * - Subcategories der Category c: [categoryOffsets[c], categoryOffsets[c + 1])
+ *
+ * Wird von {@link TemplateIndexCache} einmal pro (templateId, updatedAt) erzeugt und threadübergreifend geteilt.
+ */
+public final class TemplateIndex {
+
+	private final Long templateId;
+	private final LocalDateTime updatedAt;
+
+	private final String[] questionIds;
+	private final Map<String, Integer> slotByQuestionId;
+	private final BitSet reverseSlots;
+	private final BitSet onlyPmaSlots;
+
+	private final String[] categoryNames;
+	private final int[] categoryOffsets;
+	private final String[] subcategoryNames;
+	private final int[] subcategoryCategory;
+	private final int[] subcategoryOffsets;
+	private final int[] slotSubcategory;
+
+	private final int[] questionCountByParticipantType;
+
+	private TemplateIndex(
+		Long templateId,
+		LocalDateTime updatedAt,
+		String[] questionIds,
+		Map<String, Integer> slotByQuestionId,
+		BitSet reverseSlots,
+		BitSet onlyPmaSlots,
+		String[] categoryNames,
+		int[] categoryOffsets,
+		String[] subcategoryNames,
+		int[] subcategoryCategory,
+		int[] subcategoryOffsets
+	) {
+		this.templateId = templateId;
+		this.updatedAt = updatedAt;
+		this.questionIds = questionIds;
+		this.slotByQuestionId = slotByQuestionId;
+		this.reverseSlots = reverseSlots;
+		this.onlyPmaSlots = onlyPmaSlots;
+		this.categoryNames = categoryNames;
+		this.categoryOffsets = categoryOffsets;
+		this.subcategoryNames = subcategoryNames;
+		this.subcategoryCategory = subcategoryCategory;
+		this.subcategoryOffsets = subcategoryOffsets;
+
+		// Umkehrung der Offsets: Subcategory pro Slot (für Aggregationen direkt aus Antwort-Zeilen)
+		this.slotSubcategory = new int[questionIds.length];
+		for (int subcategory = 0; subcategory < subcategoryNames.length; subcategory++) {
+			Arrays.fill(slotSubcategory, subcategoryOffsets[subcategory], subcategoryOffsets[subcategory + 1], subcategory);
+		}
+
+		// PMA sieht alle Fragen, alle anderen Teilnehmer-Typen nur Fragen ohne onlyPMA
+		SurveyInstance.ParticipantType[] types = SurveyInstance.ParticipantType.values();
+		this.questionCountByParticipantType = new int[types.length];
+		for (SurveyInstance.ParticipantType type : types) {
+			questionCountByParticipantType[type.ordinal()] = type == SurveyInstance.ParticipantType.PMA
+				? questionIds.length
+				: questionIds.length - onlyPmaSlots.cardinality();
+		}
+	}
+
+	/**
+	 * Kompiliert die geparste Category-Struktur in einen Index.
+	 * Null-Einträge werden übersprungen, Fragen ohne ID belegen einen Slot, sind aber nicht per ID auffindbar.
+	 */
+	public static TemplateIndex compile(Long templateId, LocalDateTime updatedAt, List<CategoryStructure> categories) {
+		List<String> questionIds = new ArrayList<>();
+		Map<String, Integer> slotByQuestionId = new HashMap<>();
+		BitSet reverseSlots = new BitSet();
+		BitSet onlyPmaSlots = new BitSet();
+
+		List<String> categoryNames = new ArrayList<>();
+		List<Integer> categoryOffsets = new ArrayList<>();
+		List<String> subcategoryNames = new ArrayList<>();
+		List<Integer> subcategoryCategory = new ArrayList<>();
+		List<Integer> subcategoryOffsets = new ArrayList<>();
+
+		List<CategoryStructure> safeCategories = categories != null ? categories : Collections.emptyList();
+		for (CategoryStructure category : safeCategories) {
+			if (category == null || category.getSubcategories() == null) {
+				continue;
+			}
+			int categoryIndex = categoryNames.size();
+			categoryNames.add(category.getName() != null ? category.getName() : "");
+			categoryOffsets.add(subcategoryNames.size());
+
+			for (SubcategoryStructure subcategory : category.getSubcategories()) {
+				if (subcategory == null || subcategory.getQuestions() == null) {
+					continue;
+				}
+				subcategoryNames.add(subcategory.getName() != null ? subcategory.getName() : categoryNames.get(categoryIndex));
+				subcategoryCategory.add(categoryIndex);
+				subcategoryOffsets.add(questionIds.size());
+
+				for (QuestionStructure question : subcategory.getQuestions()) {
+					if (question == null) {
+						continue;
+					}
+					int slot = questionIds.size();
+					questionIds.add(question.getId());
+					if (question.getId() != null) {
+						slotByQuestionId.putIfAbsent(question.getId(), slot);
+					}
+					if (Boolean.TRUE.equals(question.getReverse())) {
+						reverseSlots.set(slot);
+					}
+					if (Boolean.TRUE.equals(question.getOnlyPMA())) {
+						onlyPmaSlots.set(slot);
+					}
+				}
+			}
+		}
+		categoryOffsets.add(subcategoryNames.size());
+		subcategoryOffsets.add(questionIds.size());
+
+		return new TemplateIndex(
+			templateId,
+			updatedAt,
+			questionIds.toArray(new String[0]),
+			Collections.unmodifiableMap(slotByQuestionId),
+			reverseSlots,
+			onlyPmaSlots,
+			categoryNames.toArray(new String[0]),
+			toIntArray(categoryOffsets),
+			subcategoryNames.toArray(new String[0]),
+			toIntArray(subcategoryCategory),
+			toIntArray(subcategoryOffsets)
+		);
+	}
+
+	/**
+	 * Leerer Index für Templates ohne oder mit ungültigem categoriesJson
+	 */
+	public static TemplateIndex empty(Long templateId, LocalDateTime updatedAt) {
+		return compile(templateId, updatedAt, Collections.emptyList());
+	}
+
+	private static int[] toIntArray(List<Integer> values) {
+		int[] result = new int[values.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = values.get(i);
+		}
+		return result;
+	}
+
+	public Long getTemplateId() {
+		return templateId;
+	}
+
+	public LocalDateTime getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public boolean isEmpty() {
+		return questionIds.length == 0;
+	}
+
+	/**
+	 * @return Anzahl aller Fragen-Slots
+	 */
+	public int getQuestionCount() {
+		return questionIds.length;
+	}
+
+	/**
+	 * @return Anzahl der Fragen, die ein Teilnehmer dieses Typs beantworten kann
+	 */
+	public int getQuestionCount(SurveyInstance.ParticipantType participantType) {
+		if (participantType == null) {
+			return getQuestionCount(SurveyInstance.ParticipantType.AFFECTED);
+		}
+		return questionCountByParticipantType[participantType.ordinal()];
+	}
+
+	/**
+	 * @return Slot der Frage oder -1 wenn die Frage-ID im Template nicht existiert
+	 */
+	public int slotOf(String questionId) {
+		if (questionId == null) {
+			return -1;
+		}
+		Integer slot = slotByQuestionId.get(questionId);
+		return slot != null ? slot : -1;
+	}
+
+	public String questionId(int slot) {
+		return questionIds[slot];
+	}
+
+	public boolean isReverse(int slot) {
+		return reverseSlots.get(slot);
+	}
+
+	/**
+	 * @return true wenn die Frage im Template als Reverse-Item markiert ist (unbekannte Fragen: false)
+	 */
+	public boolean isReverse(String questionId) {
+		int slot = slotOf(questionId);
+		return slot >= 0 && reverseSlots.get(slot);
+	}
+
+	/**
+	 * @return Frage-IDs aller Reverse-Items des Templates
+	 */
+	public List<String> reverseQuestionIds() {
+		List<String> result = new ArrayList<>();
+		for (int slot = reverseSlots.nextSetBit(0); slot >= 0; slot = reverseSlots.nextSetBit(slot + 1)) {
+			if (questionIds[slot] != null) {
+				result.add(questionIds[slot]);
+			}
+		}
+		return result;
+	}
+
+	public boolean isOnlyPma(int slot) {
+		return onlyPmaSlots.get(slot);
+	}
+
+	/**
+	 * @return Kopie des Reverse-Item-Bitsets (Slots mit reverse = true)
+	 */
+	public BitSet getReverseSlots() {
+		return (BitSet) reverseSlots.clone();
+	}
+
+	public int getCategoryCount() {
+		return categoryNames.length;
+	}
+
+	public String categoryName(int category) {
+		return categoryNames[category];
+	}
+
+	public int categoryStart(int category) {
+		return categoryOffsets[category];
+	}
+
+	public int categoryEnd(int category) {
+		return categoryOffsets[category + 1];
+	}
+
+	public int getSubcategoryCount() {
+		return subcategoryNames.length;
+	}
+
+	public String subcategoryName(int subcategory) {
+		return subcategoryNames[subcategory];
+	}
+
+	public int categoryOf(int subcategory) {
+		return subcategoryCategory[subcategory];
+	}
+
+	public int subcategoryStart(int subcategory) {
+		return subcategoryOffsets[subcategory];
+	}
+
+	public int subcategoryEnd(int subcategory) {
+		return subcategoryOffsets[subcategory + 1];
+	}
+
+	/**
+	 * @return Subcategory, zu der der Frage-Slot gehört
+	 */
+	public int subcategoryOf(int slot) {
+		return slotSubcategory[slot];
+	}
+
+	/**
+	 * @return Frage-IDs der Reverse-Items einer Subcategory (in Template-Reihenfolge)
+	 */
+	public List<String> reverseQuestionIds(int subcategory) {
+		List<String> result = new ArrayList<>();
+		for (int slot = reverseSlots.nextSetBit(subcategoryStart(subcategory));
+			slot >= 0 && slot < subcategoryEnd(subcategory);
+			slot = reverseSlots.nextSetBit(slot + 1)) {
+			if (questionIds[slot] != null) {
+				result.add(questionIds[slot]);
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,112 @@
+package com.changeready.template;
+
+import com.changeready.dto.reporting.CategoryStructure;
+import com.changeready.entity.SurveyTemplate;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Begrenzter LRU-Cache für kompilierte {@link TemplateIndex}-Instanzen (genutzt von Survey- und Reporting-Service).
+ *
+ * Einträge sind per Template-ID abgelegt und werden gegen updatedAt des Templates validiert, d.h. categoriesJson
+ * wird nur einmal pro Template-Version geparst. Ein geändertes Template ersetzt einfach seinen alten Eintrag.
+ */
+@Component
+public class TemplateIndexCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(TemplateIndexCache.class);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Map<Long, TemplateIndex> cache;
+
+	public TemplateIndexCache(@Value("${app.template-index.cache.max-size:128}") int maxSize) {
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, TemplateIndex> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Liefert den kompilierten Index eines Templates (aus dem Cache oder neu kompiliert)
+	 * @param template Survey-Template (id, updatedAt und categoriesJson werden gelesen)
+	 * @return TemplateIndex, leer wenn categoriesJson fehlt oder ungültig ist
+	 */
+	public TemplateIndex get(SurveyTemplate template) {
+		Long templateId = template.getId();
+		synchronized (cache) {
+			TemplateIndex cached = cache.get(templateId);
+			if (cached != null && Objects.equals(cached.getUpdatedAt(), template.getUpdatedAt())) {
+				return cached;
+			}
+		}
+
+		// Kompilieren außerhalb des Locks: parallele Erstkompilierung ist harmlos (Ergebnis identisch)
+		TemplateIndex compiled = compile(template);
+		synchronized (cache) {
+			cache.put(templateId, compiled);
+		}
+		return compiled;
+	}
+
+	/**
+	 * Liefert den Index eines Templates, ohne das Template zu laden solange der Cache-Eintrag aktuell ist
+	 * (z.B. für Listen-Ansichten, die nur ID und updatedAt des Templates per Projection kennen)
+	 * @param templateId Template-ID
+	 * @param updatedAt Stand des Templates
+	 * @param loader Lädt das Template nur bei Cache-Miss oder veraltetem Eintrag
+	 * @return TemplateIndex, leer wenn categoriesJson fehlt oder ungültig ist
+	 */
+	public TemplateIndex get(Long templateId, LocalDateTime updatedAt, Supplier<SurveyTemplate> loader) {
+		synchronized (cache) {
+			TemplateIndex cached = cache.get(templateId);
+			if (cached != null && Objects.equals(cached.getUpdatedAt(), updatedAt)) {
+				return cached;
+			}
+		}
+		return get(loader.get());
+	}
+
+	/**
+	 * Entfernt den Index eines Templates (z.B. nach Änderung der Struktur)
+	 */
+	public void evict(Long templateId) {
+		synchronized (cache) {
+			cache.remove(templateId);
+		}
+	}
+
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	private TemplateIndex compile(SurveyTemplate template) {
+		String categoriesJson = template.getCategoriesJson();
+		if (categoriesJson == null || categoriesJson.isEmpty()) {
+			return TemplateIndex.empty(template.getId(), template.getUpdatedAt());
+		}
+
+		try {
+			List<CategoryStructure> categories = objectMapper.readValue(categoriesJson, new TypeReference<List<CategoryStructure>>() {});
+			return TemplateIndex.compile(template.getId(), template.getUpdatedAt(), categories);
+		} catch (Exception e) {
+			// Fehlertoleranz: ungültiges JSON ergibt einen leeren Index (Empty State statt 500-Fehler)
+			logger.warn("Failed to parse categoriesJson of template {}: {}", template.getId(), e.getMessage());
+			return TemplateIndex.empty(template.getId(), template.getUpdatedAt());
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.changeready.template;
+
+import com.changeready.entity.SurveyTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Begrenzter LRU-Cache für vorab serialisierte Template-Strukturen ({@link TemplateStructurePayload}).
+ *
+ * Wie beim {@link TemplateIndexCache} sind Einträge per Template-ID abgelegt und werden gegen updatedAt validiert:
+ * Hash und gzip werden nur einmal pro Template-Version berechnet, Requests liefern danach nur noch fertige Bytes aus.
+ */
+@Component
+public class TemplateStructureCache {
+
+	private final Map<Long, TemplateStructurePayload> cache;
+
+	public TemplateStructureCache(@Value("${app.template-structure.cache.max-size:128}") int maxSize) {
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, TemplateStructurePayload> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Liefert die Struktur eines Templates (aus dem Cache oder neu serialisiert)
+	 * @param template Survey-Template (id, updatedAt und categoriesJson werden gelesen)
+	 * @return Payload mit Content-Hash, JSON- und gzip-Bytes
+	 */
+	public TemplateStructurePayload get(SurveyTemplate template) {
+		TemplateStructurePayload cached = getIfCurrent(template.getId(), template.getUpdatedAt());
+		if (cached != null) {
+			return cached;
+		}
+
+		// Serialisieren außerhalb des Locks: parallele Erstberechnung ist harmlos (Ergebnis identisch)
+		TemplateStructurePayload payload = build(template);
+		synchronized (cache) {
+			cache.put(template.getId(), payload);
+		}
+		return payload;
+	}
+
+	/**
+	 * Liefert die Struktur eines Templates, ohne das Template zu laden solange der Cache-Eintrag aktuell ist
+	 * @param templateId Template-ID
+	 * @param updatedAt Stand des Templates
+	 * @param loader Lädt das Template nur bei Cache-Miss oder veraltetem Eintrag
+	 */
+	public TemplateStructurePayload get(Long templateId, LocalDateTime updatedAt, Supplier<SurveyTemplate> loader) {
+		TemplateStructurePayload cached = getIfCurrent(templateId, updatedAt);
+		return cached != null ? cached : get(loader.get());
+	}
+
+	/**
+	 * @return Aktueller Cache-Eintrag oder null bei Cache-Miss bzw. geändertem Template
+	 */
+	public TemplateStructurePayload getIfCurrent(Long templateId, LocalDateTime updatedAt) {
+		synchronized (cache) {
+			TemplateStructurePayload cached = cache.get(templateId);
+			return cached != null && Objects.equals(cached.getUpdatedAt(), updatedAt) ? cached : null;
+		}
+	}
+
+	/**
+	 * Entfernt die Struktur eines Templates (z.B. nach Änderung)
+	 */
+	public void evict(Long templateId) {
+		synchronized (cache) {
+			cache.remove(templateId);
+		}
+	}
+
+	private static TemplateStructurePayload build(SurveyTemplate template) {
+		// categoriesJson wird unverändert ausgeliefert (leere Struktur als "[]")
+		String categoriesJson = template.getCategoriesJson();
+		byte[] json = (categoriesJson == null || categoriesJson.isBlank() ? "[]" : categoriesJson)
+			.getBytes(StandardCharsets.UTF_8);
+		return new TemplateStructurePayload(template.getId(), template.getUpdatedAt(), sha256(json), json, gzip(json));
+	}
+
+	private static String sha256(byte[] bytes) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 ist in jeder JVM vorhanden
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static byte[] gzip(byte[] bytes) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(bytes);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+}
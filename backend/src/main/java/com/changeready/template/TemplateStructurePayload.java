@@ -0,0 +1,54 @@
+package com.changeready.template;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vorab serialisierte Kategorien-Struktur eines Templates (unverändert und gzip-komprimiert) inkl. Content-Hash.
+ *
+ * Gleicher Hash = byte-identischer Inhalt, daher kann der Hash als ETag und als Cache-Schlüssel im Client dienen.
+ */
+public final class TemplateStructurePayload {
+
+	private final Long templateId;
+	private final LocalDateTime updatedAt;
+	private final String contentHash;
+	private final byte[] json;
+	private final byte[] gzip;
+
+	TemplateStructurePayload(Long templateId, LocalDateTime updatedAt, String contentHash, byte[] json, byte[] gzip) {
+		this.templateId = templateId;
+		this.updatedAt = updatedAt;
+		this.contentHash = contentHash;
+		this.json = json;
+		this.gzip = gzip;
+	}
+
+	public Long getTemplateId() {
+		return templateId;
+	}
+
+	public LocalDateTime getUpdatedAt() {
+		return updatedAt;
+	}
+
+	/**
+	 * @return SHA-256 (hex) der JSON-Bytes
+	 */
+	public String getContentHash() {
+		return contentHash;
+	}
+
+	/**
+	 * @return JSON-Bytes (UTF-8); nicht verändern, das Array wird geteilt
+	 */
+	public byte[] getJson() {
+		return json;
+	}
+
+	/**
+	 * @return gzip-komprimierte JSON-Bytes; nicht verändern, das Array wird geteilt
+	 */
+	public byte[] getGzip() {
+		return gzip;
+	}
+}
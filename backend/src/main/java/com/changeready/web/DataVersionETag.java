@@ -0,0 +1,17 @@
+package com.changeready.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Markiert Controller bzw. Handler-Methoden, deren GET-Antworten nur von den Company-Daten abhängen.
+ * {@link DataVersionETagInterceptor} beantwortet passende If-None-Match-Requests mit 304, bevor der Handler läuft.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DataVersionETag {
+}
@@ -0,0 +1,59 @@
+package com.changeready.web;
+
+import com.changeready.security.UserPrincipal;
+import com.changeready.service.DataVersionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.LocalDate;
+
+/**
+ * Conditional GET für {@link DataVersionETag}-Handler.
+ * ETag aus Company, User, Datenversion und aktuellem Tag (Reports vergleichen mit "vor 30 Tagen").
+ */
+@Component
+public class DataVersionETagInterceptor implements HandlerInterceptor {
+
+	private final DataVersionService dataVersionService;
+
+	public DataVersionETagInterceptor(DataVersionService dataVersionService) {
+		this.dataVersionService = dataVersionService;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (!HttpMethod.GET.matches(request.getMethod()) || !(handler instanceof HandlerMethod handlerMethod)
+			|| !isDataVersioned(handlerMethod)) {
+			return true;
+		}
+
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)
+			|| principal.getCompanyId() == null) {
+			return true;
+		}
+
+		long version = dataVersionService.getVersion(principal.getCompanyId());
+		String etag = "\"" + principal.getCompanyId() + "-" + principal.getId() + "-" + version
+			+ "-" + LocalDate.now().toEpochDay() + "\"";
+
+		// Client muss bei jedem Poll revalidieren, per ETag ist das günstig
+		response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+		// Setzt den ETag-Header und bei passendem If-None-Match Status 304
+		return !new ServletWebRequest(request, response).checkNotModified(etag);
+	}
+
+	private boolean isDataVersioned(HandlerMethod handlerMethod) {
+		return handlerMethod.hasMethodAnnotation(DataVersionETag.class)
+			|| AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), DataVersionETag.class);
+	}
+}
@@ -0,0 +1,90 @@
+package com.changeready.analytics;
+
+import com.changeready.dto.reporting.CategoryStructure;
+import com.changeready.dto.reporting.QuestionStructure;
+import com.changeready.dto.reporting.SubcategoryStructure;
+import com.changeready.entity.Department;
+import com.changeready.entity.SurveyInstance;
+import com.changeready.template.TemplateIndex;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnswerCubeTest {
+
+	private static final LocalDateTime TEMPLATE_VERSION = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+	private static TemplateIndex index(LocalDateTime updatedAt) {
+		return TemplateIndex.compile(1L, updatedAt, List.of(
+			new CategoryStructure("Person", List.of(
+				new SubcategoryStructure("Motivation", List.of(
+					new QuestionStructure("q1", "q1", false, false),
+					new QuestionStructure("q2", "q2", false, false)
+				))
+			))
+		));
+	}
+
+	@Test
+	void aggregateBySlot_FiltersByDepartmentAndDay() {
+		TemplateIndex index = index(TEMPLATE_VERSION);
+		AnswerCube cube = new AnswerCube(1L);
+		LocalDate day = LocalDate.of(2025, 3, 1);
+		cube.appendInstance(10L, index, Department.IT, SurveyInstance.ParticipantType.AFFECTED, day, Map.of("q1", 4, "q2", 2));
+		cube.appendInstance(11L, index, Department.VERTRIEB, SurveyInstance.ParticipantType.PMA, day.plusDays(1), Map.of("q1", 5));
+
+		SlotTotals all = cube.aggregateBySlot(index, AnswerCube.ALL, AnswerCube.ALL, Integer.MIN_VALUE, Integer.MAX_VALUE);
+		assertEquals(9, all.valueSum(0));
+		assertEquals(2, all.answerCount(0));
+		assertEquals(2, all.valueSum(1));
+
+		SlotTotals it = cube.aggregateBySlot(index, AnswerCube.departmentMask(Department.IT), AnswerCube.ALL,
+			Integer.MIN_VALUE, Integer.MAX_VALUE);
+		assertEquals(4, it.valueSum(0));
+		assertEquals(1, it.answerCount(0));
+
+		SlotTotals firstDay = cube.aggregateBySlot(index, AnswerCube.ALL, AnswerCube.ALL,
+			(int) day.toEpochDay(), (int) day.toEpochDay());
+		assertEquals(1, firstDay.answerCount(0));
+
+		SlotTotals[] byDepartment = cube.aggregateByDepartmentAndSlot(index, Integer.MIN_VALUE, Integer.MAX_VALUE);
+		assertEquals(5, byDepartment[Department.VERTRIEB.ordinal()].valueSum(0));
+	}
+
+	@Test
+	void removeInstance_ExcludesRowsAndAllowsCompaction() {
+		TemplateIndex index = index(TEMPLATE_VERSION);
+		AnswerCube cube = new AnswerCube(1L);
+		LocalDate day = LocalDate.of(2025, 3, 1);
+		cube.appendInstance(10L, index, Department.IT, SurveyInstance.ParticipantType.AFFECTED, day, Map.of("q1", 4));
+		cube.appendInstance(11L, index, Department.IT, SurveyInstance.ParticipantType.AFFECTED, day, Map.of("q1", 2));
+		cube.appendInstance(12L, index, Department.IT, SurveyInstance.ParticipantType.AFFECTED, day, Map.of("q1", 1));
+
+		assertFalse(cube.appendInstance(10L, index, Department.IT, SurveyInstance.ParticipantType.AFFECTED, day, Map.of("q1", 4)));
+		assertTrue(cube.removeInstance(10L));
+		assertTrue(cube.removeInstance(11L));
+		assertFalse(cube.removeInstance(11L));
+
+		assertEquals(1, cube.getInstanceCount());
+		assertEquals(1, cube.getLiveRowCount());
+		ReadinessAccumulator totals = cube.aggregateTotals(AnswerCube.ALL, AnswerCube.ALL, Integer.MIN_VALUE, Integer.MAX_VALUE);
+		assertEquals(1, totals.getValueSum());
+		assertEquals(1, totals.getCount());
+		assertTrue(cube.containsInstance(12L));
+	}
+
+	@Test
+	void aggregateBySlot_ReturnsNullForOtherTemplateVersion() {
+		AnswerCube cube = new AnswerCube(1L);
+		cube.appendInstance(10L, index(TEMPLATE_VERSION), Department.IT, SurveyInstance.ParticipantType.AFFECTED,
+			LocalDate.of(2025, 3, 1), Map.of("q1", 4));
+
+		assertNull(cube.aggregateBySlot(index(TEMPLATE_VERSION.plusDays(1)), AnswerCube.ALL, AnswerCube.ALL,
+			Integer.MIN_VALUE, Integer.MAX_VALUE));
+	}
+}
@@ -0,0 +1,53 @@
+package com.changeready.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadinessAccumulatorTest {
+
+	@Test
+	void add_InvertsReverseItems() {
+		ReadinessAccumulator accumulator = new ReadinessAccumulator();
+		accumulator.add(5, false);
+		accumulator.add(1, true);
+
+		assertEquals(10, accumulator.getValueSum());
+		assertEquals(2, accumulator.getCount());
+		assertEquals(2, accumulator.getHistogram(5));
+		assertEquals(5.0, accumulator.getAverage());
+	}
+
+	@Test
+	void merge_CombinesPartialResults() {
+		ReadinessAccumulator first = new ReadinessAccumulator();
+		first.add(2, false);
+		ReadinessAccumulator second = new ReadinessAccumulator();
+		second.add(4, 3);
+
+		first.merge(second);
+
+		assertEquals(14, first.getValueSum());
+		assertEquals(4, first.getCount());
+		assertEquals(1, first.getHistogram(2));
+		assertEquals(3, first.getHistogram(4));
+	}
+
+	@Test
+	void addSlots_InvertsReverseSlotSums() {
+		SlotTotals totals = new SlotTotals(2);
+		totals.add(0, 8, 2);
+		totals.add(1, 2, 2);
+		BitSet reverseSlots = new BitSet();
+		reverseSlots.set(1);
+
+		ReadinessAccumulator accumulator = new ReadinessAccumulator();
+		accumulator.addSlots(totals, reverseSlots, 0, 2);
+
+		// Slot 1: 2 Antworten mit Wert 1 → invertiert 2 x 5 = 10
+		assertEquals(18, accumulator.getValueSum());
+		assertEquals(4, accumulator.getCount());
+	}
+}
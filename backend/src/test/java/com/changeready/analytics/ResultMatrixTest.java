@@ -0,0 +1,62 @@
+package com.changeready.analytics;
+
+import com.changeready.dto.reporting.CategoryStructure;
+import com.changeready.dto.reporting.QuestionStructure;
+import com.changeready.dto.reporting.SubcategoryStructure;
+import com.changeready.template.TemplateIndex;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultMatrixTest {
+
+	private static TemplateIndex index() {
+		return TemplateIndex.compile(1L, LocalDateTime.of(2025, 1, 1, 0, 0), List.of(
+			new CategoryStructure("Person", List.of(
+				new SubcategoryStructure("Motivation", List.of(
+					new QuestionStructure("q1", "q1", false, false),
+					new QuestionStructure("q2", "q2", true, false)
+				)),
+				new SubcategoryStructure("Wissen", List.of(
+					new QuestionStructure("q3", "q3", false, false)
+				))
+			))
+		));
+	}
+
+	@Test
+	void add_AccumulatesSlotsIntoSubcategoryCellsAndInvertsReverseItems() {
+		TemplateIndex index = index();
+		ResultMatrix matrix = new ResultMatrix(index, 2);
+
+		matrix.add(0, index.slotOf("q1"), 8, 2);
+		// Reverse-Item: 2 Antworten mit Wert 1 → invertiert 2 x 5 = 10
+		matrix.add(0, index.slotOf("q2"), 2, 2);
+		matrix.add(1, index.slotOf("q3"), 3, 1);
+
+		assertEquals(18, matrix.valueSum(0, 0));
+		assertEquals(4, matrix.answerCount(0, 0));
+		assertEquals(4.5, matrix.average(0, 0));
+		assertEquals(0, matrix.answerCount(0, 1));
+		assertEquals(3.0, matrix.average(1, 1));
+		assertEquals(0, matrix.answerCount(1, 0));
+	}
+
+	@Test
+	void of_BuildsRowsFromSlotTotals() {
+		TemplateIndex index = index();
+		SlotTotals first = new SlotTotals(index.getQuestionCount());
+		first.add(index.slotOf("q3"), 4, 1);
+		SlotTotals second = new SlotTotals(index.getQuestionCount());
+
+		ResultMatrix matrix = ResultMatrix.of(index, new SlotTotals[] {first, second});
+
+		assertEquals(2, matrix.getRowCount());
+		assertEquals(4, matrix.valueSum(0, 1));
+		assertTrue(matrix.hasAnswers(0));
+		assertFalse(matrix.hasAnswers(1));
+	}
+}
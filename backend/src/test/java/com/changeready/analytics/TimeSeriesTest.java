@@ -0,0 +1,62 @@
+package com.changeready.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeSeriesTest {
+
+	private static ReadinessAccumulator totals(long valueSum, long count) {
+		ReadinessAccumulator accumulator = new ReadinessAccumulator();
+		accumulator.addTotals(valueSum, count);
+		return accumulator;
+	}
+
+	@Test
+	void rollUp_MergesDaysIntoWeeksAndMonths() {
+		Map<LocalDate, ReadinessAccumulator> daily = new TreeMap<>();
+		daily.put(LocalDate.of(2024, 1, 29), totals(10, 2)); // Montag
+		daily.put(LocalDate.of(2024, 2, 4), totals(5, 1));   // Sonntag derselben Woche
+		daily.put(LocalDate.of(2024, 2, 5), totals(8, 2));   // Montag der Folgewoche
+
+		SortedMap<LocalDate, ReadinessAccumulator> weeks = TimeSeries.rollUp(daily, TimeSeries.Granularity.WEEK);
+		assertEquals(List.of(LocalDate.of(2024, 1, 29), LocalDate.of(2024, 2, 5)), new ArrayList<>(weeks.keySet()));
+		assertEquals(15, weeks.get(LocalDate.of(2024, 1, 29)).getValueSum());
+		assertEquals(3, weeks.get(LocalDate.of(2024, 1, 29)).getCount());
+
+		SortedMap<LocalDate, ReadinessAccumulator> months = TimeSeries.rollUp(daily, TimeSeries.Granularity.MONTH);
+		assertEquals(List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1)), new ArrayList<>(months.keySet()));
+		assertEquals(13, months.get(LocalDate.of(2024, 2, 1)).getValueSum());
+	}
+
+	@Test
+	void largestTriangleThreeBuckets_KeepsEndpointsAndPeak() {
+		List<double[]> points = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			points.add(new double[] {i, i == 42 ? 100 : 50});
+		}
+
+		List<double[]> sampled = TimeSeries.largestTriangleThreeBuckets(points, 10, point -> point[0], point -> point[1]);
+
+		assertEquals(10, sampled.size());
+		assertSame(points.get(0), sampled.get(0));
+		assertSame(points.get(99), sampled.get(9));
+		assertTrue(sampled.contains(points.get(42)));
+		for (int i = 1; i < sampled.size(); i++) {
+			assertTrue(sampled.get(i)[0] > sampled.get(i - 1)[0]);
+		}
+	}
+
+	@Test
+	void largestTriangleThreeBuckets_ReturnsInputWhenAlreadySmallEnough() {
+		List<double[]> points = List.of(new double[] {0, 1}, new double[] {1, 2}, new double[] {2, 3});
+		assertSame(points, TimeSeries.largestTriangleThreeBuckets(points, 5, point -> point[0], point -> point[1]));
+	}
+}
@@ -0,0 +1,54 @@
+package com.changeready.cache;
+
+import com.changeready.event.CompanyDataChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadinessResultCacheTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ReadinessResultCache cache = new ReadinessResultCache(true, 2, Duration.ofMinutes(10), meterRegistry,
+		Clock.fixed(Instant.parse("2025-03-01T10:00:00Z"), ZoneId.of("UTC")));
+
+	@Test
+	void get_ReturnsCachedValueUntilMatchingScopeChanges() {
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.get(1L, "dashboard.trend", null, ReadinessResultCache.SURVEYS, loads::incrementAndGet);
+		cache.get(1L, "dashboard.trend", null, ReadinessResultCache.SURVEYS, loads::incrementAndGet);
+		assertEquals(1, loads.get());
+
+		// Stakeholder-Änderungen betreffen den Trend nicht, Survey-Änderungen schon
+		cache.onCompanyDataChanged(CompanyDataChangedEvent.of(1L, CompanyDataChangedEvent.Scope.STAKEHOLDERS));
+		cache.get(1L, "dashboard.trend", null, ReadinessResultCache.SURVEYS, loads::incrementAndGet);
+		assertEquals(1, loads.get());
+
+		cache.onCompanyDataChanged(new CompanyDataChangedEvent(1L, EnumSet.of(CompanyDataChangedEvent.Scope.SURVEYS)));
+		cache.get(1L, "dashboard.trend", null, ReadinessResultCache.SURVEYS, loads::incrementAndGet);
+		assertEquals(2, loads.get());
+
+		assertEquals(2.0, meterRegistry.get("readiness.cache.requests").tag("result", "hit").counter().count());
+		assertEquals(1.0, meterRegistry.get("readiness.cache.evictions").tag("cause", "invalidation").counter().count());
+	}
+
+	@Test
+	void get_EvictsLeastRecentlyUsedEntriesBeyondMaxSize() {
+		cache.get(1L, "a", null, ReadinessResultCache.ALL, () -> "a");
+		cache.get(2L, "b", null, ReadinessResultCache.ALL, () -> "b");
+		cache.get(1L, "a", null, ReadinessResultCache.ALL, () -> "a");
+		cache.get(3L, "c", null, ReadinessResultCache.ALL, () -> "c");
+
+		assertEquals(2, cache.size());
+		assertEquals("b2", cache.get(2L, "b", null, ReadinessResultCache.ALL, () -> "b2"));
+		assertEquals(2.0, meterRegistry.get("readiness.cache.evictions").tag("cause", "size").counter().count());
+	}
+}
@@ -0,0 +1,63 @@
+package com.changeready.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+	@Test
+	void execute_CollapsesConcurrentCallsWithSameKey() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		SingleFlight singleFlight = new SingleFlight("test", meterRegistry);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger executions = new AtomicInteger();
+
+		CompletableFuture<Integer> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("kpis", () -> {
+			started.countDown();
+			await(release);
+			return executions.incrementAndGet();
+		}));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		CompletableFuture<Integer> follower = CompletableFuture.supplyAsync(
+			() -> singleFlight.execute("kpis", executions::incrementAndGet));
+		// Follower muss sich an die laufende Berechnung hängen, bevor sie freigegeben wird
+		while (meterRegistry.get("test.calls").tag("result", "collapsed").counter().count() < 1) {
+			Thread.sleep(5);
+		}
+		release.countDown();
+
+		assertEquals(1, leader.get(5, TimeUnit.SECONDS));
+		assertEquals(1, follower.get(5, TimeUnit.SECONDS));
+		assertEquals(1, executions.get());
+
+		// Nach Abschluss wird der Schlüssel freigegeben
+		assertEquals(2, singleFlight.execute("kpis", executions::incrementAndGet));
+	}
+
+	@Test
+	void execute_PropagatesFailureAndReleasesKey() {
+		SingleFlight singleFlight = new SingleFlight("test", new SimpleMeterRegistry());
+
+		assertThrows(IllegalStateException.class, () -> singleFlight.execute("kpis", () -> {
+			throw new IllegalStateException("boom");
+		}));
+		assertEquals("ok", singleFlight.execute("kpis", () -> "ok"));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.changeready.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SectionExecutorTest {
+
+	private final SectionExecutor executor = new SectionExecutor(1, Duration.ofMillis(200));
+
+	@AfterEach
+	void tearDown() {
+		executor.destroy();
+	}
+
+	@Test
+	void join_TimesOutWhileWaitingForPermitAndCancelsBlockedSection() throws InterruptedException {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		SectionExecutor.Section<String> blocking = executor.submit("blocking", () -> {
+			try {
+				Thread.sleep(Duration.ofMinutes(1));
+				return "never";
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+				throw new IllegalStateException(e);
+			}
+		});
+
+		// submit() blockiert nicht, obwohl der einzige Platz belegt ist; die Wartezeit zählt zum Timeout
+		long start = System.nanoTime();
+		SectionExecutor.Section<String> queued = executor.submit("queued", () -> "ok");
+		assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(100));
+		assertThrows(ResponseStatusException.class, queued::join);
+
+		assertThrows(ResponseStatusException.class, blocking::join);
+		assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+
+		// Platz ist nach dem Abbruch wieder frei
+		assertEquals("ok", executor.submit("next", () -> "ok").join());
+	}
+}
@@ -0,0 +1,72 @@
+package com.changeready.config;
+
+import com.changeready.entity.Department;
+import com.changeready.entity.SetupMarker;
+import com.changeready.entity.StakeholderGroup;
+import com.changeready.repository.SetupMarkerRepository;
+import com.changeready.repository.StakeholderGroupRepository;
+import com.changeready.service.StakeholderGroupReadinessService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InitialStakeholderGroupDepartmentSetupTest {
+
+	@Mock
+	private StakeholderGroupRepository groupRepository;
+
+	@Mock
+	private StakeholderGroupReadinessService groupReadinessService;
+
+	@Mock
+	private SetupMarkerRepository setupMarkerRepository;
+
+	@InjectMocks
+	private InitialStakeholderGroupDepartmentSetup setup;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(setup, "enabled", true);
+	}
+
+	@Test
+	void run_MapsGroupsOnceAndStoresMarker() {
+		StakeholderGroup group = new StakeholderGroup();
+		group.setName("IT");
+		when(setupMarkerRepository.existsById(any())).thenReturn(false);
+		when(groupRepository.findByDepartmentIsNull()).thenReturn(List.of(group));
+		when(groupReadinessService.suggestDepartment("IT")).thenReturn(Optional.of(Department.IT));
+
+		setup.run();
+
+		assertEquals(Department.IT, group.getDepartment());
+		verify(groupRepository).saveAll(List.of(group));
+		ArgumentCaptor<SetupMarker> marker = ArgumentCaptor.forClass(SetupMarker.class);
+		verify(setupMarkerRepository).save(marker.capture());
+		assertNotNull(marker.getValue().getName());
+	}
+
+	@Test
+	void run_SkipsWhenMarkerExists() {
+		// Später bewusst entfernte Zuordnungen ("department": null) dürfen nicht erneut abgeleitet werden
+		when(setupMarkerRepository.existsById(any())).thenReturn(true);
+
+		setup.run();
+
+		verifyNoInteractions(groupRepository, groupReadinessService);
+		verify(setupMarkerRepository, never()).save(any());
+	}
+}
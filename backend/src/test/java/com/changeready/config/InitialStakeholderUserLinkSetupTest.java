@@ -0,0 +1,63 @@
+package com.changeready.config;
+
+import com.changeready.entity.Company;
+import com.changeready.entity.SetupMarker;
+import com.changeready.repository.CompanyRepository;
+import com.changeready.repository.SetupMarkerRepository;
+import com.changeready.service.StakeholderUserLinkService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InitialStakeholderUserLinkSetupTest {
+
+	@Mock
+	private CompanyRepository companyRepository;
+
+	@Mock
+	private StakeholderUserLinkService stakeholderUserLinkService;
+
+	@Mock
+	private SetupMarkerRepository setupMarkerRepository;
+
+	@InjectMocks
+	private InitialStakeholderUserLinkSetup setup;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(setup, "enabled", true);
+	}
+
+	@Test
+	void run_ReconcilesAllCompaniesOnceAndStoresMarker() {
+		Company company = new Company();
+		company.setId(1L);
+		when(setupMarkerRepository.existsById(any())).thenReturn(false);
+		when(companyRepository.findAll()).thenReturn(List.of(company));
+
+		setup.run();
+
+		verify(stakeholderUserLinkService).reconcile(1L);
+		verify(setupMarkerRepository).save(any(SetupMarker.class));
+	}
+
+	@Test
+	void run_SkipsWhenMarkerExists() {
+		// Personen ohne passenden User bleiben dauerhaft unverknüpft, Abweichungen gleicht der nächtliche Reconciler ab
+		when(setupMarkerRepository.existsById(any())).thenReturn(true);
+
+		setup.run();
+
+		verifyNoInteractions(companyRepository, stakeholderUserLinkService);
+	}
+}
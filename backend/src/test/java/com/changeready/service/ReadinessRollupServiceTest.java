@@ -0,0 +1,147 @@
+package com.changeready.service;
+
+import com.changeready.entity.Company;
+import com.changeready.entity.Department;
+import com.changeready.entity.ReadinessRollup;
+import com.changeready.entity.SurveyAnswer;
+import com.changeready.entity.SurveyInstance;
+import com.changeready.entity.User;
+import com.changeready.repository.CompanyRepository;
+import com.changeready.repository.ReadinessRollupRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ReadinessRollupServiceTest {
+
+	private static final LocalDate DAY_1 = LocalDate.of(2026, 3, 2);
+	private static final LocalDate DAY_2 = LocalDate.of(2026, 3, 3);
+	private static final LocalDate DAY_3 = LocalDate.of(2026, 3, 4);
+	private static final LocalDate DAY_4 = LocalDate.of(2026, 3, 5);
+
+	@Autowired
+	private ReadinessRollupService rollupService;
+
+	@Autowired
+	private ReadinessRollupRepository rollupRepository;
+
+	@Autowired
+	private CompanyRepository companyRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Company company;
+
+	@BeforeEach
+	void setUp() {
+		company = new Company();
+		company.setName("Rollup Test GmbH");
+		company = companyRepository.saveAndFlush(company);
+	}
+
+	@Test
+	void recordSubmission_NewDayStartsOnPreviousPrefixAndShiftsLaterDays() {
+		rollupService.recordSubmission(instance(1L, DAY_1), answers(4));
+		rollupService.recordSubmission(instance(1L, DAY_3), answers(2));
+		rollupService.recordSubmission(instance(1L, DAY_2), answers(5));
+		rollupService.recordSubmission(instance(2L, DAY_3), answers(3));
+		rollupService.recordSubmission(instance(2L, DAY_4), answers(1));
+
+		Map<LocalDate, ReadinessRollup> days = companyDays();
+		assertThat(days).containsOnlyKeys(DAY_1, DAY_2, DAY_3, DAY_4);
+		assertDay(days.get(DAY_1), 4, 1, 4, 1);
+		assertDay(days.get(DAY_2), 5, 1, 9, 2);
+		assertDay(days.get(DAY_3), 5, 2, 14, 4);
+		assertDay(days.get(DAY_4), 1, 1, 15, 5);
+		assertThat(rollupService.getTotalsBefore(company.getId(), ReadinessRollup.SegmentType.COMPANY,
+			ReadinessRollup.companyKey(), DAY_3).getValueSum()).isEqualTo(9);
+	}
+
+	@Test
+	void removeSubmission_PastDayShiftsLaterDays() {
+		SurveyInstance first = instance(1L, DAY_1);
+		rollupService.recordSubmission(first, answers(4));
+		rollupService.recordSubmission(instance(2L, DAY_1), answers(3));
+		rollupService.recordSubmission(instance(1L, DAY_2), answers(2));
+
+		rollupService.removeSubmission(first, answers(4));
+
+		Map<LocalDate, ReadinessRollup> days = companyDays();
+		assertDay(days.get(DAY_1), 3, 1, 3, 1);
+		assertDay(days.get(DAY_2), 2, 1, 5, 2);
+	}
+
+	@Test
+	void removeSubmission_DropsDayWithoutAnswers() {
+		SurveyInstance first = instance(1L, DAY_1);
+		rollupService.recordSubmission(first, answers(4, 5));
+		rollupService.recordSubmission(instance(2L, DAY_2), answers(2));
+
+		rollupService.removeSubmission(first, answers(4, 5));
+		// Nie erfasste Abgabe: nichts zu entfernen
+		rollupService.removeSubmission(instance(3L, DAY_3), answers(1));
+
+		Map<LocalDate, ReadinessRollup> days = companyDays();
+		assertThat(days).containsOnlyKeys(DAY_2);
+		assertDay(days.get(DAY_2), 2, 1, 2, 1);
+		assertThat(rollupService.getUserTotalsBeforeByUser(company.getId(), List.of(1L, 2L), DAY_3))
+			.containsOnlyKeys(2L);
+	}
+
+	private SurveyInstance instance(Long userId, LocalDate day) {
+		User user = new User();
+		user.setId(userId);
+		SurveyInstance instance = new SurveyInstance();
+		instance.setCompany(company);
+		instance.setUser(user);
+		instance.setDepartment(Department.IT);
+		instance.setSubmittedAt(day.atTime(10, 0));
+		return instance;
+	}
+
+	private static List<SurveyAnswer> answers(int... values) {
+		return Arrays.stream(values).mapToObj(value -> {
+			SurveyAnswer answer = new SurveyAnswer();
+			answer.setValue(value);
+			answer.setReverseItem(false);
+			return answer;
+		}).toList();
+	}
+
+	private Map<LocalDate, ReadinessRollup> companyDays() {
+		// Bulk-Updates umgehen den Persistence Context: Stand aus der Datenbank lesen
+		entityManager.flush();
+		entityManager.clear();
+		Map<LocalDate, ReadinessRollup> days = new TreeMap<>();
+		for (ReadinessRollup rollup : rollupRepository.findAll()) {
+			if (rollup.getCompany().getId().equals(company.getId()) && rollup.getSegmentType() == ReadinessRollup.SegmentType.COMPANY) {
+				days.put(rollup.getRollupDate(), rollup);
+			}
+		}
+		return days;
+	}
+
+	private static void assertDay(ReadinessRollup rollup, long daySum, long dayCount, long cumulativeSum, long cumulativeCount) {
+		assertThat(rollup).isNotNull();
+		assertThat(rollup.getDayValueSum()).isEqualTo(daySum);
+		assertThat(rollup.getDayAnswerCount()).isEqualTo(dayCount);
+		assertThat(rollup.getCumulativeValueSum()).isEqualTo(cumulativeSum);
+		assertThat(rollup.getCumulativeAnswerCount()).isEqualTo(cumulativeCount);
+	}
+}
@@ -0,0 +1,60 @@
+package com.changeready.service;
+
+import com.changeready.dto.stakeholder.StakeholderPersonImportRow;
+import com.changeready.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StakeholderPersonCsvParserTest {
+
+	@Test
+	void parse_ReadsHeaderColumnsInAnyOrder() {
+		List<StakeholderPersonImportRow> rows = StakeholderPersonCsvParser.parse(
+			"email,name,groupId,role\r\n"
+				+ "anna@example.com,Anna Muster,7,Teamleitung\r\n"
+				+ "\r\n"
+				+ ",Ben,8,\r\n");
+
+		assertEquals(2, rows.size());
+		assertEquals(7L, rows.get(0).getGroupId());
+		assertEquals("Anna Muster", rows.get(0).getName());
+		assertEquals("Teamleitung", rows.get(0).getRole());
+		assertEquals("anna@example.com", rows.get(0).getEmail());
+		assertNull(rows.get(1).getEmail());
+		assertNull(rows.get(1).getRole());
+	}
+
+	@Test
+	void parse_DetectsSemicolonAndHandlesQuotedFields() {
+		List<StakeholderPersonImportRow> rows = StakeholderPersonCsvParser.parse(
+			"﻿group;name;role\n"
+				+ "Vertrieb;\"Muster; Anna\";\"Leitung \"\"Nord\"\"\"\n");
+
+		assertEquals(1, rows.size());
+		assertNull(rows.get(0).getGroupId());
+		assertEquals("Vertrieb", rows.get(0).getGroupName());
+		assertEquals("Muster; Anna", rows.get(0).getName());
+		assertEquals("Leitung \"Nord\"", rows.get(0).getRole());
+	}
+
+	@Test
+	void parse_RejectsMissingColumnsAndUnterminatedQuotes() {
+		assertThrows(ValidationException.class, () -> StakeholderPersonCsvParser.parse("groupId,email\n1,a@b.de\n"));
+		assertThrows(ValidationException.class, () -> StakeholderPersonCsvParser.parse("name,email\nAnna,a@b.de\n"));
+		assertThrows(ValidationException.class, () -> StakeholderPersonCsvParser.parse("groupId,name\n1,\"Anna\n"));
+	}
+
+	@Test
+	void parse_ReportsInvalidGroupIdPerRow() {
+		List<StakeholderPersonImportRow> rows = StakeholderPersonCsvParser.parse("groupId,name\nx,Anna\n2,Ben\n");
+
+		assertEquals(2, rows.size());
+		assertNull(rows.get(0).getGroupId());
+		assertNotNull(rows.get(0).getError());
+		assertEquals(2L, rows.get(1).getGroupId());
+		assertNull(rows.get(1).getError());
+	}
+}
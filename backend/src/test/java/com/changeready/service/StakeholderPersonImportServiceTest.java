@@ -0,0 +1,97 @@
+package com.changeready.service;
+
+import com.changeready.dto.stakeholder.StakeholderPersonImportResponse;
+import com.changeready.dto.stakeholder.StakeholderPersonImportRow;
+import com.changeready.entity.StakeholderGroup;
+import com.changeready.entity.StakeholderPerson;
+import com.changeready.repository.StakeholderGroupRepository;
+import com.changeready.repository.StakeholderPersonRepository;
+import com.changeready.security.UserPrincipal;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StakeholderPersonImportServiceTest {
+
+	@Mock
+	private StakeholderGroupRepository groupRepository;
+
+	@Mock
+	private StakeholderPersonRepository personRepository;
+
+	@Mock
+	private StakeholderUserLinkService stakeholderUserLinkService;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	private StakeholderPersonImportServiceImpl service;
+
+	private UserPrincipal principal;
+
+	@BeforeEach
+	void setUp() {
+		service = new StakeholderPersonImportServiceImpl(groupRepository, personRepository, stakeholderUserLinkService,
+			eventPublisher, Validation.buildDefaultValidatorFactory().getValidator());
+		ReflectionTestUtils.setField(service, "maxRows", 100);
+		principal = new UserPrincipal(1L, "admin@test.com", "password",
+			com.changeready.entity.Role.COMPANY_ADMIN, 1L, true, null);
+	}
+
+	private static StakeholderGroup group(Long id, String name) {
+		StakeholderGroup group = new StakeholderGroup();
+		group.setId(id);
+		group.setName(name);
+		return group;
+	}
+
+	private static StakeholderPersonImportRow row(Long groupId, String name, String email) {
+		StakeholderPersonImportRow row = new StakeholderPersonImportRow();
+		row.setGroupId(groupId);
+		row.setName(name);
+		row.setEmail(email);
+		return row;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void importPersons_DeduplicatesByEmailAcrossGroupsOfTheCompany() {
+		StakeholderGroup sales = group(1L, "Vertrieb");
+		StakeholderGroup it = group(2L, "IT");
+		StakeholderPerson existing = new StakeholderPerson();
+		existing.setGroup(sales);
+		existing.setEmail("anna@example.com");
+		when(groupRepository.findByCompanyId(1L)).thenReturn(List.of(sales, it));
+		when(personRepository.findByGroupCompanyId(1L)).thenReturn(List.of(existing));
+		when(personRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		StakeholderPersonImportRow invalidGroupId = row(null, "Dora", null);
+		invalidGroupId.setError("Invalid groupId 'x'");
+		StakeholderPersonImportResponse response = service.importPersons(List.of(
+			row(2L, "Anna", "ANNA@example.com"), // bereits in anderer Gruppe vorhanden
+			row(1L, "Ben", "ben@example.com"),
+			row(2L, "Ben", "ben@example.com"), // gleiche Person in zweiter Gruppe desselben Imports
+			invalidGroupId
+		), principal);
+
+		assertEquals(1, response.getCreated());
+		assertEquals(2, response.getDuplicates());
+		assertEquals(1, response.getInvalid());
+		assertEquals("duplicate", response.getResults().get(0).getStatus());
+		assertEquals("created", response.getResults().get(1).getStatus());
+		assertEquals("duplicate", response.getResults().get(2).getStatus());
+		assertEquals("invalid", response.getResults().get(3).getStatus());
+	}
+}
@@ -0,0 +1,79 @@
+package com.changeready.service;
+
+import com.changeready.entity.Company;
+import com.changeready.entity.StakeholderPerson;
+import com.changeready.entity.User;
+import com.changeready.event.CompanyDataChangedEvent;
+import com.changeready.repository.StakeholderPersonRepository;
+import com.changeready.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StakeholderUserLinkServiceTest {
+
+	@Mock
+	private StakeholderPersonRepository personRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	private StakeholderUserLinkServiceImpl service;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		Company company = new Company();
+		company.setId(1L);
+		user = new User();
+		user.setId(10L);
+		user.setEmail("anna@example.com");
+		user.setCompany(company);
+	}
+
+	private static StakeholderPerson person(String email, User linkedUser) {
+		StakeholderPerson person = new StakeholderPerson();
+		person.setEmail(email);
+		person.setUser(linkedUser);
+		return person;
+	}
+
+	@Test
+	void reconcile_ChangedLinksPublishStakeholderChange() {
+		// Datenversion (ETag) hängt am CompanyDataChangedEvent, daher muss der Hintergrund-Abgleich es auslösen
+		StakeholderPerson person = person("anna@example.com", null);
+		when(personRepository.findByGroupCompanyId(1L)).thenReturn(List.of(person));
+		when(userRepository.findByEmailIn(any())).thenReturn(List.of(user));
+
+		assertEquals(1, service.reconcile(1L));
+
+		assertSame(user, person.getUser());
+		verify(eventPublisher).publishEvent(CompanyDataChangedEvent.of(1L, CompanyDataChangedEvent.Scope.STAKEHOLDERS));
+	}
+
+	@Test
+	void reconcile_UnchangedLinksPublishNothing() {
+		when(personRepository.findByGroupCompanyId(1L)).thenReturn(List.of(person("anna@example.com", user)));
+		when(userRepository.findByEmailIn(any())).thenReturn(List.of(user));
+
+		assertEquals(0, service.reconcile(1L));
+
+		verifyNoInteractions(eventPublisher);
+	}
+}
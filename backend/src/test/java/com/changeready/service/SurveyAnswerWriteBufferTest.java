@@ -0,0 +1,214 @@
+package com.changeready.service;
+
+import com.changeready.entity.SurveyInstance;
+import com.changeready.repository.SurveyAnswerBulkRepository;
+import com.changeready.repository.SurveyAnswerRepository;
+import com.changeready.repository.SurveyInstanceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SurveyAnswerWriteBufferTest {
+
+	@Mock
+	private SurveyAnswerRepository answerRepository;
+
+	@Mock
+	private SurveyInstanceRepository instanceRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private SurveyAnswerWriteBuffer buffer;
+
+	@BeforeEach
+	void setUp() {
+		buffer = new SurveyAnswerWriteBuffer(answerRepository, instanceRepository, transactionManager, new SimpleMeterRegistry(),
+			true, Duration.ofHours(1), 200, 50000);
+		lenient().when(instanceRepository.updateAnswersVersion(anyLong(), anyLong(), eq(SurveyInstance.SurveyInstanceStatus.DRAFT)))
+			.thenReturn(1);
+	}
+
+	@AfterEach
+	void tearDown() {
+		buffer.destroy();
+	}
+
+	/**
+	 * Write ohne Basis-Version; gespeicherte Version der Instanz ist 0
+	 */
+	private OptionalLong write(Long instanceId, String questionId, Integer value) {
+		return write(instanceId, null, questionId, value);
+	}
+
+	private OptionalLong write(Long instanceId, Long baseVersion, String questionId, Integer value) {
+		Map<String, Integer> values = new LinkedHashMap<>();
+		values.put(questionId, value);
+		return write(instanceId, baseVersion, values);
+	}
+
+	private OptionalLong write(Long instanceId, Long baseVersion, Map<String, Integer> values) {
+		return buffer.write(instanceId, baseVersion, () -> 0L, version -> {
+			Map<String, SurveyAnswerWriteBuffer.PendingAnswer> pending = new LinkedHashMap<>();
+			values.forEach((questionId, value) ->
+				pending.put(questionId, new SurveyAnswerWriteBuffer.PendingAnswer(value, false, version, LocalDateTime.now())));
+			return pending;
+		});
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void flushAll_CoalescesRepeatedWritesIntoOneDeleteAndOneUpsert() {
+		write(1L, null, Map.of("A1.1", 2, "A1.2", 3));
+		Map<String, Integer> second = new LinkedHashMap<>();
+		second.put("A1.1", 5);
+		second.put("A1.2", null);
+		write(1L, null, second);
+
+		assertEquals(5, buffer.pending(1L).get("A1.1").value());
+
+		buffer.flushAll();
+
+		ArgumentCaptor<Collection<SurveyAnswerBulkRepository.AnswerValue>> upserts = ArgumentCaptor.forClass(Collection.class);
+		verify(answerRepository).upsertAnswers(eq(1L), upserts.capture());
+		assertEquals(List.of(new SurveyAnswerBulkRepository.AnswerValue("A1.1", 5, false, 2L)), List.copyOf(upserts.getValue()));
+		verify(answerRepository).deleteByInstanceIdAndQuestionIds(1L, List.of("A1.2"));
+		assertTrue(buffer.pending(1L).isEmpty());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void write_AfterFailedFlushKeepsAnswersUntilNextFlushSucceeds() {
+		when(answerRepository.upsertAnswers(eq(1L), anyCollection()))
+			.thenThrow(new IllegalStateException("database unavailable"))
+			.thenReturn(2);
+		write(1L, "A1.1", 4);
+
+		buffer.flushAll();
+
+		// Write wird mit 503 quittiert, der Wert bleibt aber gepuffert
+		assertEquals(4, buffer.pending(1L).get("A1.1").value());
+		assertThrows(ResponseStatusException.class, () -> write(1L, "A1.2", 1));
+		assertEquals(1, buffer.pending(1L).get("A1.2").value());
+
+		buffer.flushAll();
+
+		ArgumentCaptor<Collection<SurveyAnswerBulkRepository.AnswerValue>> upserts = ArgumentCaptor.forClass(Collection.class);
+		verify(answerRepository, times(2)).upsertAnswers(eq(1L), upserts.capture());
+		assertEquals(2, upserts.getValue().size());
+		assertTrue(buffer.pending(1L).isEmpty());
+	}
+
+	@Test
+	void write_RecoversAfterSuccessfulFlush() {
+		when(answerRepository.upsertAnswers(eq(1L), anyCollection()))
+			.thenThrow(new IllegalStateException("database unavailable"))
+			.thenReturn(1);
+		write(1L, "A1.1", 4);
+		buffer.flushAll();
+
+		// Erfolgreicher Flush setzt den Fehler zurück: weitere Writes laufen wieder ohne 503
+		buffer.flushAll();
+		assertDoesNotThrow(() -> write(1L, "A1.2", 1));
+		assertEquals(1, buffer.pending(1L).size());
+	}
+
+	@Test
+	void flushForSubmit_RejectsWritesUntilSubmitCompletes() {
+		write(1L, "A1.1", 4);
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			buffer.flushForSubmit(1L);
+			assertThrows(ResponseStatusException.class, () -> write(1L, "A1.2", 1));
+
+			// Rollback des Absendens: Instanz ist wieder beschreibbar, nicht geschriebene Werte bleiben gepuffert
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+				synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+			}
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		assertEquals(4, buffer.pending(1L).get("A1.1").value());
+		assertDoesNotThrow(() -> write(1L, "A1.2", 1));
+	}
+
+	@Test
+	void write_ChecksBaseVersionAgainstBufferAndPersistsVersionOnFlush() {
+		// Autosave ohne Datenbank-Write: die Version wird einmal geladen und danach im Puffer geführt
+		assertEquals(OptionalLong.of(1), write(1L, 0L, "A1.1", 4));
+		assertEquals(OptionalLong.of(2), write(1L, 1L, "A1.2", 3));
+		assertEquals(OptionalLong.empty(), write(1L, 1L, "A1.3", 2));
+		assertEquals(OptionalLong.of(2), buffer.version(1L));
+		assertFalse(buffer.pending(1L).containsKey("A1.3"));
+		verifyNoInteractions(instanceRepository, answerRepository);
+
+		buffer.flushAll();
+
+		verify(instanceRepository).updateAnswersVersion(1L, 2L, SurveyInstance.SurveyInstanceStatus.DRAFT);
+		verify(answerRepository).upsertAnswers(eq(1L), anyCollection());
+		assertEquals(OptionalLong.empty(), buffer.version(1L));
+	}
+
+	@Test
+	void flushAll_DropsAnswersOfInstanceThatIsNoLongerDraft() {
+		when(instanceRepository.updateAnswersVersion(1L, 1L, SurveyInstance.SurveyInstanceStatus.DRAFT)).thenReturn(0);
+		write(1L, "A1.1", 4);
+
+		buffer.flushAll();
+
+		verifyNoInteractions(answerRepository);
+		assertTrue(buffer.pending(1L).isEmpty());
+	}
+
+	@Test
+	void flushForSubmit_RejectsWritesAfterCommittedSubmit() {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			buffer.flushForSubmit(1L);
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+				synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+			}
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		// Autosave, der den Status noch vor dem Absenden gelesen hat
+		assertThrows(ResponseStatusException.class, () -> write(1L, "A1.1", 4));
+	}
+
+	@Test
+	void discard_DropsBufferedAnswers() {
+		write(1L, "A1.1", 4);
+
+		buffer.discard(1L);
+		buffer.flushAll();
+
+		assertTrue(buffer.pending(1L).isEmpty());
+		verifyNoInteractions(answerRepository);
+	}
+}
@@ -0,0 +1,72 @@
+package com.changeready.template;
+
+import com.changeready.dto.reporting.CategoryStructure;
+import com.changeready.dto.reporting.QuestionStructure;
+import com.changeready.dto.reporting.SubcategoryStructure;
+import com.changeready.entity.SurveyInstance;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemplateIndexTest {
+
+	private static QuestionStructure question(String id, boolean reverse, boolean onlyPma) {
+		return new QuestionStructure(id, id, reverse, onlyPma);
+	}
+
+	@Test
+	void compile_AssignsContiguousSlotsPerSubcategory() {
+		List<CategoryStructure> categories = List.of(
+			new CategoryStructure("Person", List.of(
+				new SubcategoryStructure("Motivation", List.of(question("q1", false, false), question("q2", true, false))),
+				new SubcategoryStructure(null, List.of(question("q3", false, true)))
+			)),
+			new CategoryStructure("Organisation", List.of(
+				new SubcategoryStructure("Kultur", List.of(question("q4", true, false)))
+			))
+		);
+
+		TemplateIndex index = TemplateIndex.compile(1L, LocalDateTime.now(), categories);
+
+		assertEquals(4, index.getQuestionCount());
+		assertEquals(2, index.getCategoryCount());
+		assertEquals(3, index.getSubcategoryCount());
+
+		assertEquals(0, index.subcategoryStart(0));
+		assertEquals(2, index.subcategoryEnd(0));
+		assertEquals("Person", index.subcategoryName(1));
+		assertEquals(1, index.categoryOf(2));
+		assertEquals("Organisation", index.categoryName(index.categoryOf(2)));
+
+		assertEquals(2, index.slotOf("q3"));
+		assertEquals(-1, index.slotOf("unknown"));
+		assertEquals(List.of("q2"), index.reverseQuestionIds(0));
+		assertTrue(index.isOnlyPma(2));
+	}
+
+	@Test
+	void getQuestionCount_ExcludesOnlyPmaQuestionsForNonPmaParticipants() {
+		List<CategoryStructure> categories = List.of(
+			new CategoryStructure("Person", List.of(
+				new SubcategoryStructure("Motivation", List.of(question("q1", false, false), question("q2", false, true)))
+			))
+		);
+
+		TemplateIndex index = TemplateIndex.compile(1L, LocalDateTime.now(), categories);
+
+		assertEquals(2, index.getQuestionCount(SurveyInstance.ParticipantType.PMA));
+		assertEquals(1, index.getQuestionCount(SurveyInstance.ParticipantType.AFFECTED));
+	}
+
+	@Test
+	void empty_HasNoQuestions() {
+		TemplateIndex index = TemplateIndex.empty(1L, LocalDateTime.now());
+
+		assertTrue(index.isEmpty());
+		assertEquals(0, index.getQuestionCount());
+		assertEquals(0, index.getSubcategoryCount());
+	}
+}
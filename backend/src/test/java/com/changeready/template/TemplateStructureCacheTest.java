@@ -0,0 +1,47 @@
+package com.changeready.template;
+
+import com.changeready.entity.SurveyTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemplateStructureCacheTest {
+
+	private static SurveyTemplate template(String categoriesJson, LocalDateTime updatedAt) {
+		SurveyTemplate template = new SurveyTemplate();
+		template.setId(1L);
+		template.setCategoriesJson(categoriesJson);
+		template.setUpdatedAt(updatedAt);
+		return template;
+	}
+
+	@Test
+	void get_ServesIdenticalBytesAndGzipUntilTemplateChanges() throws IOException {
+		TemplateStructureCache cache = new TemplateStructureCache(16);
+		LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+		String json = "[{\"name\":\"Person\",\"subcategories\":[]}]";
+
+		TemplateStructurePayload payload = cache.get(template(json, updatedAt));
+		assertEquals(json, new String(payload.getJson(), StandardCharsets.UTF_8));
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload.getGzip()))) {
+			assertEquals(json, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+		}
+		assertEquals(64, payload.getContentHash().length());
+
+		// Aktueller Eintrag: Template wird nicht geladen
+		assertSame(payload, cache.get(1L, updatedAt, () -> fail("template must not be loaded")));
+
+		// Geändertes Template: neuer Inhalt, neuer Hash
+		TemplateStructurePayload changed = cache.get(1L, updatedAt.plusMinutes(1),
+			() -> template("[]", updatedAt.plusMinutes(1)));
+		assertNotEquals(payload.getContentHash(), changed.getContentHash());
+		assertNull(cache.getIfCurrent(1L, updatedAt));
+	}
+}